@@ -228,10 +228,28 @@ print("✅ Índice único criado para kitchen_types.name");
 
 // Índices para restaurants
 db.restaurants.createIndex({"name": 1});
-db.restaurants.createIndex({"kitchenType.id": 1});
+// Restaurantes por tipo de cozinha (existsByKitchenTypeId antes de excluir um tipo); o id embutido também é gravado como _id
+db.restaurants.createIndex({"kitchenType._id": 1}, {name: "kitchen_type_id_idx"});
 db.restaurants.createIndex({"kitchenType.name": 1});
+db.restaurants.createIndex(
+    {"isActive": 1, "_id": 1},
+    {name: "active_restaurants_idx", partialFilterExpression: {"isActive": true}}
+);
+// Busca de item por ID (o Spring Data grava o id dos itens embutidos como _id)
+db.restaurants.createIndex({"menu.items._id": 1}, {name: "menu_item_id_idx"});
+// Busca por proximidade ($geoNear); restaurantes sem location não entram no índice
+db.restaurants.createIndex({"location": "2dsphere"}, {name: "location_2dsphere_idx"});
+// Filtro "aberto em": intervalos em minutos da semana derivados de daysOperation
+db.restaurants.createIndex(
+    {"openingIntervals.start": 1, "openingIntervals.end": 1},
+    {name: "opening_intervals_idx", partialFilterExpression: {"isActive": true}}
+);
 print("✅ Índices criados para restaurants");
 
+// Controle de concorrência otimista: restaurantes antigos começam na versão 0
+var versioned = db.restaurants.updateMany({"version": {$exists: false}}, {$set: {"version": NumberLong(0)}});
+print("✅ Versão inicializada em " + versioned.modifiedCount + " restaurants");
+
 // 4. Verificação final
 print("\n🔍 Verificação final...");
 
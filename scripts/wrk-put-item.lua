@@ -0,0 +1,24 @@
+-- PUT de itens do menu sorteados de um arquivo com "restaurantId menuId itemId" por linha; corpo lido de um JSON
+-- Uso: wrk -t8 -c1000 -d120s --latency -s scripts/wrk-put-item.lua http://localhost:8081 -- items.txt item.json
+local targets = {}
+local body
+
+function init(args)
+  for line in io.lines(args[1] or "items.txt") do
+    local restaurantId, menuId, itemId = line:match("(%S+)%s+(%S+)%s+(%S+)")
+    if itemId then
+      targets[#targets + 1] = { restaurantId, menuId, itemId }
+    end
+  end
+  assert(#targets > 0, "no menu items loaded")
+
+  local file = assert(io.open(args[2] or "item.json", "r"))
+  body = file:read("*a")
+  file:close()
+end
+
+function request()
+  local target = targets[math.random(#targets)]
+  return wrk.format("PUT", "/api/restaurants/" .. target[1] .. "/menu/" .. target[2] .. "/item/" .. target[3],
+    { ["Content-Type"] = "application/json" }, body)
+end
@@ -0,0 +1,16 @@
+-- GET /api/restaurants/{id} com IDs sorteados de um arquivo (um ID por linha)
+-- Uso: wrk -t8 -c1000 -d120s --latency -s scripts/wrk-random-id.lua http://localhost:8081 -- ids.txt
+local ids = {}
+
+function init(args)
+  for line in io.lines(args[1] or "ids.txt") do
+    if #line > 0 then
+      ids[#ids + 1] = line
+    end
+  end
+  assert(#ids > 0, "no restaurant ids loaded")
+end
+
+function request()
+  return wrk.format("GET", "/api/restaurants/" .. ids[math.random(#ids)])
+end
@@ -0,0 +1,81 @@
+package com.fiap.itmoura.tech_challenge_restaurant.application.usecases;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.util.unit.DataSize;
+
+import com.fiap.itmoura.tech_challenge_restaurant.application.cache.RestaurantCache;
+import com.fiap.itmoura.tech_challenge_restaurant.application.cache.RestaurantCacheProperties;
+import com.fiap.itmoura.tech_challenge_restaurant.application.models.menu.MenuItemWithContextDTO;
+import com.fiap.itmoura.tech_challenge_restaurant.application.models.versioning.Versioned;
+import com.fiap.itmoura.tech_challenge_restaurant.application.ports.out.RestaurantRepository;
+import com.fiap.itmoura.tech_challenge_restaurant.benchmarks.RestaurantFixtures;
+import com.fiap.itmoura.tech_challenge_restaurant.domain.entities.RestaurantEntity;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+// GET /api/restaurants/menu/item/{itemId} com o restaurante inteiro no RestaurantCache: mede as varreduras do menu
+// (containsMenuItem no cache e o laço categoria/item do use case) com o item no início ou no fim do menu
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MenuItemLookupBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int menuItems;
+
+    @Param({"FIRST", "LAST"})
+    private String position;
+
+    private MenuItemUseCase menuItemUseCase;
+    private String itemId;
+
+    @Setup
+    public void setUp() {
+        RestaurantEntity restaurant = RestaurantFixtures.restaurant(menuItems);
+        RestaurantCache restaurantCache = new RestaurantCache(repositoryReturning(restaurant),
+            new RestaurantCacheProperties(500_000, Duration.ofHours(1), 100_000, DataSize.ofMegabytes(64)),
+            new SimpleMeterRegistry());
+        menuItemUseCase = new MenuItemUseCase(null, restaurantCache, null, null, null);
+        itemId = RestaurantFixtures.menuItemId("FIRST".equals(position) ? 0 : menuItems - 1);
+
+        // Restaurante inteiro em cache e índice item -> restaurante preenchido, como depois do primeiro acesso
+        restaurantCache.findById(restaurant.getId());
+        menuItemUseCase.getMenuItemById(itemId);
+    }
+
+    @Benchmark
+    public Versioned<MenuItemWithContextDTO> getMenuItemById() {
+        return menuItemUseCase.getMenuItemById(itemId);
+    }
+
+    // Pré-condição do If-None-Match: também varre o menu para confirmar que o item ainda está no restaurante em cache
+    @Benchmark
+    public Optional<String> getMenuItemVersion() {
+        return menuItemUseCase.getMenuItemVersion(itemId);
+    }
+
+    // Só as leituras do cache chegam ao repositório; qualquer outra chamada é erro de configuração do benchmark
+    private static RestaurantRepository repositoryReturning(RestaurantEntity restaurant) {
+        return (RestaurantRepository) Proxy.newProxyInstance(RestaurantRepository.class.getClassLoader(),
+            new Class<?>[] { RestaurantRepository.class },
+            (proxy, method, args) -> switch (method.getName()) {
+                case "findById", "findWithMenuItem" -> Optional.of(restaurant);
+                case "hashCode" -> System.identityHashCode(proxy);
+                case "equals" -> proxy == args[0];
+                case "toString" -> "RestaurantRepository(benchmark)";
+                default -> throw new UnsupportedOperationException(method.getName());
+            });
+    }
+}
@@ -0,0 +1,44 @@
+package com.fiap.itmoura.tech_challenge_restaurant.application.usecases;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.fiap.itmoura.tech_challenge_restaurant.application.models.restaurant.RestaurantRequest;
+import com.fiap.itmoura.tech_challenge_restaurant.benchmarks.RestaurantFixtures;
+import com.fiap.itmoura.tech_challenge_restaurant.domain.entities.KitchenTypeEntity;
+import com.fiap.itmoura.tech_challenge_restaurant.domain.entities.RestaurantEntity;
+
+// Conversão request -> entidade da criação e da importação (convertToMenuCategoryEntity, convertToMenuItemEntity
+// e os intervalos de funcionamento), sem MongoDB: newRestaurant não usa nenhuma dependência do use case
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RestaurantCreationBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int menuItems;
+
+    private RestaurantUseCase restaurantUseCase;
+    private RestaurantRequest request;
+    private KitchenTypeEntity kitchenType;
+
+    @Setup
+    public void setUp() {
+        restaurantUseCase = new RestaurantUseCase(null, null, null, null, null, null, null);
+        request = RestaurantFixtures.restaurantRequest(menuItems);
+        kitchenType = RestaurantFixtures.kitchenType();
+    }
+
+    @Benchmark
+    public RestaurantEntity newRestaurant() {
+        return restaurantUseCase.newRestaurant(request, kitchenType);
+    }
+}
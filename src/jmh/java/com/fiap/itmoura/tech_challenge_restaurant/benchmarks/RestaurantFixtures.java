@@ -0,0 +1,132 @@
+package com.fiap.itmoura.tech_challenge_restaurant.benchmarks;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.mongodb.core.geo.GeoJsonPoint;
+
+import com.fiap.itmoura.tech_challenge_restaurant.application.models.kitchentype.KitchenTypeDTO;
+import com.fiap.itmoura.tech_challenge_restaurant.application.models.menu.MenuCategoryDTO;
+import com.fiap.itmoura.tech_challenge_restaurant.application.models.menu.MenuItemNestedDTO;
+import com.fiap.itmoura.tech_challenge_restaurant.application.models.restaurant.GeoPointDTO;
+import com.fiap.itmoura.tech_challenge_restaurant.application.models.restaurant.RestaurantRequest;
+import com.fiap.itmoura.tech_challenge_restaurant.domain.entities.DayEnum;
+import com.fiap.itmoura.tech_challenge_restaurant.domain.entities.KitchenTypeEntity;
+import com.fiap.itmoura.tech_challenge_restaurant.domain.entities.MenuCategoryEntity;
+import com.fiap.itmoura.tech_challenge_restaurant.domain.entities.MenuItemEntity;
+import com.fiap.itmoura.tech_challenge_restaurant.domain.entities.OperationDaysTimeData;
+import com.fiap.itmoura.tech_challenge_restaurant.domain.entities.RestaurantEntity;
+
+// Restaurantes determinísticos para os benchmarks: mesmos IDs e textos a cada execução, categorias de 10 itens
+public final class RestaurantFixtures {
+
+    public static final int ITEMS_PER_CATEGORY = 10;
+
+    private static final KitchenTypeEntity KITCHEN_TYPE = KitchenTypeEntity.builder()
+        .id(id(0, 0))
+        .name("Brasileira")
+        .description("Cozinha brasileira")
+        .createdAt(LocalDateTime.of(2024, 1, 1, 12, 0))
+        .lastUpdate(LocalDateTime.of(2024, 1, 1, 12, 0))
+        .build();
+
+    private RestaurantFixtures() {
+    }
+
+    public static KitchenTypeEntity kitchenType() {
+        return KITCHEN_TYPE;
+    }
+
+    public static RestaurantEntity restaurant(int menuItems) {
+        List<MenuCategoryEntity> menu = new ArrayList<>();
+        for (int category = 0; category * ITEMS_PER_CATEGORY < menuItems; category++) {
+            List<MenuItemEntity> items = new ArrayList<>();
+            for (int index = category * ITEMS_PER_CATEGORY; index < Math.min(menuItems, (category + 1) * ITEMS_PER_CATEGORY); index++) {
+                items.add(MenuItemEntity.builder()
+                    .id(menuItemId(index))
+                    .name("Prato " + index)
+                    .description("Descrição do prato " + index + " com acompanhamentos da casa")
+                    .price(price(index))
+                    .onlyForLocalConsumption(index % 3 == 0)
+                    .imagePath("/images/menu/" + index + ".jpg")
+                    .isActive(true)
+                    .build());
+            }
+            menu.add(MenuCategoryEntity.builder()
+                .id(id(2, category))
+                .type("Categoria " + category)
+                .items(items)
+                .build());
+        }
+
+        return RestaurantEntity.builder()
+            .id(id(1, menuItems))
+            .name("Restaurante " + menuItems)
+            .address("Avenida Paulista, " + menuItems)
+            .location(new GeoJsonPoint(-46.6566, -23.5614))
+            .kitchenType(KITCHEN_TYPE)
+            .daysOperation(daysOperation())
+            .ownerId(id(4, 0))
+            .isActive(true)
+            .menu(menu)
+            .lastUpdate(LocalDateTime.of(2024, 6, 1, 12, 0))
+            .createdAt(LocalDateTime.of(2024, 1, 1, 12, 0))
+            .version(7L)
+            .build();
+    }
+
+    // Mesmo formato de um POST /api/restaurants, sem IDs nas categorias e itens
+    public static RestaurantRequest restaurantRequest(int menuItems) {
+        List<MenuCategoryDTO> menu = new ArrayList<>();
+        for (int category = 0; category * ITEMS_PER_CATEGORY < menuItems; category++) {
+            List<MenuItemNestedDTO> items = new ArrayList<>();
+            for (int index = category * ITEMS_PER_CATEGORY; index < Math.min(menuItems, (category + 1) * ITEMS_PER_CATEGORY); index++) {
+                items.add(MenuItemNestedDTO.builder()
+                    .name("Prato " + index)
+                    .description("Descrição do prato " + index + " com acompanhamentos da casa")
+                    .price(price(index))
+                    .onlyForLocalConsumption(index % 3 == 0)
+                    .imagePath("/images/menu/" + index + ".jpg")
+                    .isActive(true)
+                    .build());
+            }
+            menu.add(MenuCategoryDTO.builder()
+                .type("Categoria " + category)
+                .items(items)
+                .build());
+        }
+
+        return new RestaurantRequest(
+            "Restaurante " + menuItems,
+            "Avenida Paulista, " + menuItems,
+            new GeoPointDTO("Point", List.of(-46.6566, -23.5614)),
+            new KitchenTypeDTO(KITCHEN_TYPE.getId(), KITCHEN_TYPE.getName(), KITCHEN_TYPE.getDescription()),
+            daysOperation(),
+            id(4, 0),
+            true,
+            menu
+        );
+    }
+
+    public static String menuItemId(int index) {
+        return id(3, index);
+    }
+
+    private static List<OperationDaysTimeData> daysOperation() {
+        return Arrays.stream(DayEnum.values())
+            .map(day -> new OperationDaysTimeData(day, "11:00", "23:00"))
+            .toList();
+    }
+
+    private static BigDecimal price(int index) {
+        return BigDecimal.valueOf(1990 + index * 37L % 5000, 2);
+    }
+
+    private static String id(long kind, long index) {
+        return new UUID(kind, index).toString();
+    }
+}
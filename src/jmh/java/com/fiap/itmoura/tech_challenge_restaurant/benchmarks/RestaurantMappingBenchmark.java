@@ -0,0 +1,61 @@
+package com.fiap.itmoura.tech_challenge_restaurant.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.fiap.itmoura.tech_challenge_restaurant.application.models.menu.MenuCategoryDTO;
+import com.fiap.itmoura.tech_challenge_restaurant.application.models.menu.MenuItemResponse;
+import com.fiap.itmoura.tech_challenge_restaurant.application.models.restaurant.RestaurantFullResponse;
+import com.fiap.itmoura.tech_challenge_restaurant.domain.entities.MenuCategoryEntity;
+import com.fiap.itmoura.tech_challenge_restaurant.domain.entities.MenuItemEntity;
+import com.fiap.itmoura.tech_challenge_restaurant.domain.entities.RestaurantEntity;
+
+// Conversões entidade -> DTO usadas nas respostas de restaurante, categoria e item
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RestaurantMappingBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int menuItems;
+
+    private RestaurantEntity restaurant;
+
+    @Setup
+    public void setUp() {
+        restaurant = RestaurantFixtures.restaurant(menuItems);
+    }
+
+    @Benchmark
+    public RestaurantFullResponse restaurantFullResponse() {
+        return RestaurantFullResponse.fromEntity(restaurant);
+    }
+
+    @Benchmark
+    public List<MenuCategoryDTO> menuCategoryDtos() {
+        return restaurant.getMenu().stream()
+            .map(MenuCategoryDTO::fromEntity)
+            .toList();
+    }
+
+    @Benchmark
+    public List<MenuItemResponse> menuItemResponses() {
+        List<MenuItemResponse> responses = new ArrayList<>(menuItems);
+        for (MenuCategoryEntity category : restaurant.getMenu()) {
+            for (MenuItemEntity item : category.getItems()) {
+                responses.add(MenuItemResponse.fromEntity(item, restaurant.getId(), category.getId()));
+            }
+        }
+        return responses;
+    }
+}
@@ -0,0 +1,51 @@
+package com.fiap.itmoura.tech_challenge_restaurant.benchmarks;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fiap.itmoura.tech_challenge_restaurant.application.models.restaurant.RestaurantFullResponse;
+import com.fiap.itmoura.tech_challenge_restaurant.application.models.restaurant.RestaurantRequest;
+
+// Jackson com os mesmos padrões do ObjectMapper do Spring Boot (JavaTimeModule, datas ISO-8601)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RestaurantSerializationBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int menuItems;
+
+    private ObjectMapper objectMapper;
+    private RestaurantFullResponse fullResponse;
+    private byte[] requestJson;
+
+    @Setup
+    public void setUp() throws IOException {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        fullResponse = RestaurantFullResponse.fromEntity(RestaurantFixtures.restaurant(menuItems));
+        requestJson = objectMapper.writeValueAsBytes(RestaurantFixtures.restaurantRequest(menuItems));
+    }
+
+    // Corpo de GET /api/restaurants/{id}
+    @Benchmark
+    public byte[] serializeFullRestaurant() throws IOException {
+        return objectMapper.writeValueAsBytes(fullResponse);
+    }
+
+    // Corpo de POST /api/restaurants e de cada linha da importação NDJSON
+    @Benchmark
+    public RestaurantRequest deserializeRestaurantRequest() throws IOException {
+        return objectMapper.readValue(requestJson, RestaurantRequest.class);
+    }
+}
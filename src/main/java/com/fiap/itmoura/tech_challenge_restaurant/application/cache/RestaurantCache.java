@@ -0,0 +1,187 @@
+package com.fiap.itmoura.tech_challenge_restaurant.application.cache;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.fiap.itmoura.tech_challenge_restaurant.application.models.versioning.Versioned;
+import com.fiap.itmoura.tech_challenge_restaurant.application.ports.out.RestaurantRepository;
+import com.fiap.itmoura.tech_challenge_restaurant.domain.entities.MenuCategoryEntity;
+import com.fiap.itmoura.tech_challenge_restaurant.domain.entities.RestaurantEntity;
+import com.fiap.itmoura.tech_challenge_restaurant.domain.events.RestaurantChangedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.log4j.Log4j2;
+
+@Log4j2
+@Component
+@Profile("!reactive")
+public class RestaurantCache {
+
+    private final RestaurantRepository restaurantRepository;
+    private final Cache<String, RestaurantEntity> restaurants;
+    private final Cache<String, String> restaurantIdByMenuItemId;
+    private final Cache<String, RestaurantEntity> menuItemContexts;
+    // Itens em menuItemContexts por restaurante, para invalidar só os daquele restaurante
+    private final Map<String, Set<String>> menuItemIdsByRestaurantId = new ConcurrentHashMap<>();
+    // Incrementada a cada evicção: projeções lidas antes dela não entram no cache
+    private final AtomicLong generation = new AtomicLong();
+
+    public RestaurantCache(RestaurantRepository restaurantRepository,
+                           RestaurantCacheProperties properties,
+                           MeterRegistry meterRegistry) {
+        this.restaurantRepository = restaurantRepository;
+
+        // Caffeine usa W-TinyLFU: restaurantes quentes ficam em memória mesmo com varreduras de restaurantes frios
+        this.restaurants = Caffeine.newBuilder()
+            .maximumWeight(properties.maximumWeight())
+            .weigher((String id, RestaurantEntity restaurant) -> weightOf(restaurant))
+            .expireAfterWrite(properties.expireAfterWrite())
+            .recordStats()
+            .build();
+
+        // Índice item -> restaurante; as entradas são validadas no uso, então não precisam de invalidação
+        this.restaurantIdByMenuItemId = Caffeine.newBuilder()
+            .maximumSize(properties.maximumMenuItemEntries())
+            .expireAfterWrite(properties.expireAfterWrite())
+            .build();
+
+        // Projeções de item (restaurante com uma categoria e um item), usadas quando o restaurante inteiro não está em cache
+        this.menuItemContexts = Caffeine.newBuilder()
+            .maximumSize(properties.maximumMenuItemEntries())
+            .expireAfterWrite(properties.expireAfterWrite())
+            .executor(Runnable::run)
+            .removalListener((String itemId, RestaurantEntity context, RemovalCause cause) -> {
+                // REPLACED mantém o item no índice: a entrada nova é do mesmo restaurante
+                if (context != null && cause != RemovalCause.REPLACED) {
+                    unindexMenuItem(context.getId(), itemId);
+                }
+            })
+            .recordStats()
+            .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, restaurants, "restaurants");
+        CaffeineCacheMetrics.monitor(meterRegistry, menuItemContexts, "restaurant_menu_items");
+    }
+
+    // Os restaurantes em cache são compartilhados: quem lê daqui não deve alterá-los
+    public Optional<RestaurantEntity> findById(String id) {
+        // O carregamento é atômico por chave: uma invalidação concorrente espera o carregamento e o descarta
+        return Optional.ofNullable(restaurants.get(id, key -> restaurantRepository.findById(key).orElse(null)));
+    }
+
+    public Optional<RestaurantEntity> getIfPresent(String id) {
+        return Optional.ofNullable(restaurants.getIfPresent(id));
+    }
+
+    // Restaurante inteiro quando já está em cache; senão a projeção com apenas a categoria e o item
+    public Optional<RestaurantEntity> findByMenuItemId(String itemId) {
+        Optional<RestaurantEntity> cached = findCachedByMenuItemId(itemId);
+        if (cached.isPresent()) {
+            return cached;
+        }
+
+        // Carregamento atômico por chave, como em findById. O item entra no índice do restaurante antes de a geração
+        // ser conferida: uma evicção posterior a encontra e invalida a entrada (esperando o carregamento terminar);
+        // uma anterior muda a geração e a projeção é devolvida sem ser guardada
+        long observedGeneration = generation.get();
+        AtomicReference<RestaurantEntity> loaded = new AtomicReference<>();
+        RestaurantEntity cachedContext = menuItemContexts.get(itemId, key -> {
+            RestaurantEntity found = restaurantRepository.findWithMenuItem(key).orElse(null);
+            if (found == null) {
+                return null;
+            }
+            loaded.set(found);
+            menuItemIdsByRestaurantId.computeIfAbsent(found.getId(), restaurantId -> ConcurrentHashMap.newKeySet()).add(key);
+            if (generation.get() != observedGeneration) {
+                unindexMenuItem(found.getId(), key);
+                return null;
+            }
+            return found;
+        });
+        if (cachedContext != null) {
+            restaurantIdByMenuItemId.put(itemId, cachedContext.getId());
+            return Optional.of(cachedContext);
+        }
+        return Optional.ofNullable(loaded.get());
+    }
+
+    // Versão atual sem carregar o menu: restaurante em cache ou projeção só com a versão (nunca entra no cache)
+    public Optional<String> findVersion(String id) {
+        Optional<RestaurantEntity> restaurant = getIfPresent(id);
+        if (restaurant.isEmpty()) {
+            restaurant = restaurantRepository.findVersionById(id);
+        }
+        return restaurant.map(Versioned::versionOf);
+    }
+
+    public Optional<String> findVersionByMenuItemId(String itemId) {
+        Optional<RestaurantEntity> cached = findCachedByMenuItemId(itemId);
+        if (cached.isPresent()) {
+            return cached.map(Versioned::versionOf);
+        }
+        return restaurantRepository.findVersionByMenuItemId(itemId).map(Versioned::versionOf);
+    }
+
+    public void evict(String id) {
+        generation.incrementAndGet();
+        restaurants.invalidate(id);
+        Set<String> itemIds = menuItemIdsByRestaurantId.remove(id);
+        if (itemIds != null) {
+            menuItemContexts.invalidateAll(itemIds);
+        }
+    }
+
+    @EventListener
+    public void onRestaurantChanged(RestaurantChangedEvent event) {
+        log.debug("Evicting restaurant {} from cache", event.restaurantId());
+        evict(event.restaurantId());
+    }
+
+    private Optional<RestaurantEntity> findCachedByMenuItemId(String itemId) {
+        String restaurantId = restaurantIdByMenuItemId.getIfPresent(itemId);
+        if (restaurantId != null) {
+            Optional<RestaurantEntity> cached = getIfPresent(restaurantId)
+                .filter(restaurant -> containsMenuItem(restaurant, itemId));
+            if (cached.isPresent()) {
+                return cached;
+            }
+        }
+        return Optional.ofNullable(menuItemContexts.getIfPresent(itemId));
+    }
+
+    private void unindexMenuItem(String restaurantId, String itemId) {
+        menuItemIdsByRestaurantId.computeIfPresent(restaurantId,
+            (key, itemIds) -> itemIds.remove(itemId) && itemIds.isEmpty() ? null : itemIds);
+    }
+
+    private static boolean containsMenuItem(RestaurantEntity restaurant, String itemId) {
+        List<MenuCategoryEntity> menu = restaurant.getMenu();
+        return menu != null && menu.stream()
+            .filter(category -> category.getItems() != null)
+            .flatMap(category -> category.getItems().stream())
+            .anyMatch(item -> itemId.equals(item.getId()));
+    }
+
+    private static int weightOf(RestaurantEntity restaurant) {
+        int weight = 1;
+        if (restaurant.getMenu() != null) {
+            for (MenuCategoryEntity category : restaurant.getMenu()) {
+                weight += 1 + (category.getItems() != null ? category.getItems().size() : 0);
+            }
+        }
+        return weight;
+    }
+}
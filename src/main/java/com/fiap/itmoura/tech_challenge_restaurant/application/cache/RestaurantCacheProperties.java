@@ -0,0 +1,24 @@
+package com.fiap.itmoura.tech_challenge_restaurant.application.cache;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+@ConfigurationProperties(prefix = "restaurants.cache")
+public record RestaurantCacheProperties(
+
+    @DefaultValue("500000")
+    long maximumWeight,
+
+    @DefaultValue("5m")
+    Duration expireAfterWrite,
+
+    @DefaultValue("100000")
+    long maximumMenuItemEntries,
+
+    @DefaultValue("64MB")
+    DataSize maximumResponseSize
+) {
+}
@@ -0,0 +1,63 @@
+package com.fiap.itmoura.tech_challenge_restaurant.application.cache;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.fiap.itmoura.tech_challenge_restaurant.application.models.restaurant.RestaurantFacetFilter;
+import com.fiap.itmoura.tech_challenge_restaurant.application.models.restaurant.RestaurantFacets;
+import com.fiap.itmoura.tech_challenge_restaurant.domain.events.RestaurantChangedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.log4j.Log4j2;
+
+// Contagens da listagem facetada por combinação de filtros. Qualquer escrita muda as contagens, então invalida tudo
+@Log4j2
+@Component
+@Profile("!reactive")
+public class RestaurantFacetCache {
+
+    private final Cache<RestaurantFacetFilter, RestaurantFacets> facets;
+    // Incrementada a cada escrita: contagens calculadas antes dela não entram no cache
+    private final AtomicLong generation = new AtomicLong();
+
+    public RestaurantFacetCache(RestaurantFacetProperties properties, MeterRegistry meterRegistry) {
+        this.facets = Caffeine.newBuilder()
+            .maximumSize(properties.maximumSize())
+            .expireAfterWrite(properties.ttl())
+            .recordStats()
+            .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, facets, "restaurant_facets");
+    }
+
+    public Optional<RestaurantFacets> getIfPresent(RestaurantFacetFilter filter) {
+        return Optional.ofNullable(facets.getIfPresent(filter));
+    }
+
+    // Lida antes da agregação e devolvida em put()
+    public long generation() {
+        return generation.get();
+    }
+
+    public void put(RestaurantFacetFilter filter, RestaurantFacets counts, long computedAtGeneration) {
+        facets.put(filter, counts);
+        // Escrita durante a agregação: descarta (conferido depois do put para não perder uma invalidação concorrente)
+        if (generation.get() != computedAtGeneration) {
+            facets.invalidate(filter);
+        }
+    }
+
+    @EventListener
+    public void onRestaurantChanged(RestaurantChangedEvent event) {
+        log.debug("Invalidating restaurant facet counts after change of {}", event.restaurantId());
+        generation.incrementAndGet();
+        facets.invalidateAll();
+    }
+}
@@ -0,0 +1,25 @@
+package com.fiap.itmoura.tech_challenge_restaurant.application.cache;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "restaurants.facets")
+public record RestaurantFacetProperties(
+
+    // Escritas locais já invalidam; o TTL cobre escritas feitas por outras instâncias
+    @DefaultValue("30s")
+    Duration ttl,
+
+    // Combinações de filtros em cache
+    @DefaultValue("1000")
+    long maximumSize,
+
+    // Limites das faixas de preço médio, em ordem crescente: 0-30, 30-60, 60-100 e 100+
+    @DefaultValue({"30", "60", "100"})
+    List<BigDecimal> priceBands
+) {
+}
@@ -0,0 +1,84 @@
+package com.fiap.itmoura.tech_challenge_restaurant.application.cache;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Optional;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fiap.itmoura.tech_challenge_restaurant.application.models.restaurant.RestaurantFullResponse;
+import com.fiap.itmoura.tech_challenge_restaurant.application.models.versioning.Versioned;
+import com.fiap.itmoura.tech_challenge_restaurant.domain.entities.RestaurantEntity;
+import com.fiap.itmoura.tech_challenge_restaurant.domain.events.RestaurantChangedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+@Component
+@Profile("!reactive")
+public class RestaurantResponseCache {
+
+    // Abaixo disso o gzip economiza pouco e o cabeçalho do gzip pesa proporcionalmente mais
+    static final int GZIP_MIN_BYTES = 1024;
+
+    private final RestaurantCache restaurantCache;
+    private final ObjectMapper objectMapper;
+    private final Cache<String, Versioned<SerializedResponse>> responses;
+
+    public RestaurantResponseCache(RestaurantCache restaurantCache,
+                                   ObjectMapper objectMapper,
+                                   RestaurantCacheProperties properties,
+                                   MeterRegistry meterRegistry) {
+        this.restaurantCache = restaurantCache;
+        this.objectMapper = objectMapper;
+
+        // Peso em bytes: o limite é a memória ocupada pelas respostas, não a quantidade de restaurantes
+        this.responses = Caffeine.newBuilder()
+            .maximumWeight(properties.maximumResponseSize().toBytes())
+            .weigher((String id, Versioned<SerializedResponse> response) -> response.body().size())
+            .expireAfterWrite(properties.expireAfterWrite())
+            .recordStats()
+            .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, responses, "restaurant_responses");
+    }
+
+    // Preenchido na primeira leitura; serializar após cada escrita gastaria CPU com versões que ninguém lê
+    public Optional<Versioned<SerializedResponse>> findById(String id) {
+        return Optional.ofNullable(responses.get(id, key -> restaurantCache.findById(key)
+            .map(this::serialize)
+            .orElse(null)));
+    }
+
+    @EventListener
+    public void onRestaurantChanged(RestaurantChangedEvent event) {
+        // Remove primeiro a entidade para que um recarregamento concorrente não serialize a versão antiga
+        restaurantCache.evict(event.restaurantId());
+        responses.invalidate(event.restaurantId());
+    }
+
+    private Versioned<SerializedResponse> serialize(RestaurantEntity restaurant) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(RestaurantFullResponse.fromEntity(restaurant));
+            byte[] gzip = json.length >= GZIP_MIN_BYTES ? gzip(json) : null;
+            return Versioned.of(new SerializedResponse(json, gzip), restaurant);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static byte[] gzip(byte[] json) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(json.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(buffer)) {
+            gzip.write(json);
+        }
+        return buffer.toByteArray();
+    }
+}
@@ -0,0 +1,9 @@
+package com.fiap.itmoura.tech_challenge_restaurant.application.cache;
+
+// JSON já serializado em UTF-8 e, para respostas grandes, a mesma resposta comprimida em gzip (ou null)
+public record SerializedResponse(byte[] json, byte[] gzip) {
+
+    public int size() {
+        return json.length + (gzip != null ? gzip.length : 0);
+    }
+}
@@ -0,0 +1,77 @@
+package com.fiap.itmoura.tech_challenge_restaurant.application.concurrency;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+
+import com.fiap.itmoura.tech_challenge_restaurant.domain.exceptions.ConflictRequestException;
+import com.fiap.itmoura.tech_challenge_restaurant.domain.exceptions.PreconditionFailedException;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+
+// Reexecuta escritas read-modify-write que perderam a corrida da versão, em vez de serializar escritores com fila ou lock
+@Log4j2
+@Component
+@RequiredArgsConstructor
+public class OptimisticWriteRetry {
+
+    private final WriteRetryProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    // O write deve reler o documento a cada tentativa; com If-Match (expectedVersion) um conflito não é reexecutado
+    public <T> T execute(String operation, Long expectedVersion, Supplier<T> write) {
+        Duration backoff = properties.initialBackoff();
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return write.get();
+            } catch (OptimisticLockingFailureException e) {
+                meterRegistry.counter("restaurants.write.conflicts", "operation", operation).increment();
+
+                if (expectedVersion != null) {
+                    meterRegistry.counter("restaurants.write.precondition.failed", "operation", operation).increment();
+                    throw new PreconditionFailedException("Restaurant was modified since version " + expectedVersion, e);
+                }
+                if (attempt >= properties.maxAttempts()) {
+                    meterRegistry.counter("restaurants.write.retries.exhausted", "operation", operation).increment();
+                    throw new ConflictRequestException("Restaurant was modified concurrently, please retry", e);
+                }
+
+                meterRegistry.counter("restaurants.write.retries", "operation", operation).increment();
+                log.debug("Version conflict on {} (attempt {}), retrying", operation, attempt);
+                pause(backoff);
+                backoff = backoff.multipliedBy(2).compareTo(properties.maxBackoff()) > 0
+                    ? properties.maxBackoff()
+                    : backoff.multipliedBy(2);
+            }
+        }
+    }
+
+    // If-Match: a versão enviada pelo cliente precisa ser a atual antes de aplicar a escrita
+    public void checkVersion(String operation, Long expectedVersion, Long currentVersion) {
+        if (expectedVersion != null && !expectedVersion.equals(currentVersion)) {
+            meterRegistry.counter("restaurants.write.precondition.failed", "operation", operation).increment();
+            throw new PreconditionFailedException("Restaurant version " + expectedVersion
+                + " does not match current version " + currentVersion);
+        }
+    }
+
+    // Jitter completo: escritores que colidiram não voltam todos no mesmo instante
+    private void pause(Duration backoff) {
+        long millis = backoff.toMillis();
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(millis + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ConflictRequestException("Interrupted while retrying a concurrent write", e);
+        }
+    }
+}
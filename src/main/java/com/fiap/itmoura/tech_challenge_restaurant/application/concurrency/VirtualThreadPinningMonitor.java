@@ -0,0 +1,64 @@
+package com.fiap.itmoura.tech_challenge_restaurant.application.concurrency;
+
+import java.util.stream.Collectors;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedThread;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+
+// Com virtual threads ligadas, loga onde uma virtual thread bloqueou presa à carrier (synchronized, código nativo).
+// A contagem e a duração saem no timer jvm.threads.virtual.pinned (micrometer-java21); aqui fica a pilha para achar a causa
+@Log4j2
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+@RequiredArgsConstructor
+public class VirtualThreadPinningMonitor {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    private final VirtualThreadProperties properties;
+
+    private RecordingStream recording;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        RecordingStream stream = new RecordingStream();
+        stream.enable(PINNED_EVENT).withThreshold(properties.pinnedThreshold()).withStackTrace();
+        stream.onEvent(PINNED_EVENT, this::logPinned);
+        stream.startAsync();
+        recording = stream;
+        log.info("Virtual thread pinning monitor started (threshold: {})", properties.pinnedThreshold());
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (recording != null) {
+            recording.close();
+        }
+    }
+
+    private void logPinned(RecordedEvent event) {
+        RecordedThread thread = event.getThread();
+        String frames = event.getStackTrace() == null ? "" : event.getStackTrace().getFrames().stream()
+            .limit(properties.pinnedStackDepth())
+            .map(VirtualThreadPinningMonitor::format)
+            .collect(Collectors.joining("\n\tat ", "\n\tat ", ""));
+
+        log.warn("Virtual thread {} pinned its carrier for {} ms{}",
+            thread != null ? thread.getJavaName() : "unknown", event.getDuration().toMillis(), frames);
+    }
+
+    private static String format(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+    }
+}
@@ -0,0 +1,18 @@
+package com.fiap.itmoura.tech_challenge_restaurant.application.concurrency;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "restaurants.virtual-threads")
+public record VirtualThreadProperties(
+
+    // Bloqueios com a carrier fixada por mais que isso são logados com a pilha (evento JFR jdk.VirtualThreadPinned)
+    @DefaultValue("20ms")
+    Duration pinnedThreshold,
+
+    @DefaultValue("12")
+    int pinnedStackDepth
+) {
+}
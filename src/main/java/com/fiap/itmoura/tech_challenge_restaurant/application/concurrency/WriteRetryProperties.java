@@ -0,0 +1,20 @@
+package com.fiap.itmoura.tech_challenge_restaurant.application.concurrency;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "restaurants.write-retry")
+public record WriteRetryProperties(
+
+    @DefaultValue("4")
+    int maxAttempts,
+
+    @DefaultValue("10ms")
+    Duration initialBackoff,
+
+    @DefaultValue("200ms")
+    Duration maxBackoff
+) {
+}
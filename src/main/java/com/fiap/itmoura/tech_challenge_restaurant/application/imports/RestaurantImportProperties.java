@@ -0,0 +1,15 @@
+package com.fiap.itmoura.tech_challenge_restaurant.application.imports;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "restaurants.import")
+public record RestaurantImportProperties(
+
+    @DefaultValue("1000")
+    int batchSize,
+
+    @DefaultValue("4")
+    int maxInFlightBatches
+) {
+}
@@ -34,6 +34,12 @@ public class KitchenTypeResponse {
     @Schema(description = "Data da última atualização")
     private LocalDateTime lastUpdate;
 
+    @Schema(description = "Quantidade de restaurantes que usam o tipo de cozinha", example = "42")
+    private Long restaurantCount;
+
+    @Schema(description = "Quantidade de restaurantes ativos que usam o tipo de cozinha", example = "40")
+    private Long activeRestaurantCount;
+
     public static KitchenTypeResponse fromEntity(KitchenTypeEntity entity) {
         return KitchenTypeResponse.builder()
             .id(entity.getId())
@@ -51,6 +57,8 @@ public class KitchenTypeResponse {
             .description(entity.getDescription())
             .createdAt(entity.getCreatedAt())
             .lastUpdate(entity.getLastUpdate())
+            .restaurantCount(entity.getRestaurantCount())
+            .activeRestaurantCount(entity.getActiveRestaurantCount())
             .build();
     }
 }
@@ -0,0 +1,21 @@
+package com.fiap.itmoura.tech_challenge_restaurant.application.models.menu;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Schema(description = "Item a ser criado em uma categoria, dentro de uma importação em lote")
+public class MenuItemBulkEntry {
+
+    @Schema(description = "ID da categoria do menu", example = "550e8400-e29b-41d4-a716-446655440001", required = true)
+    private String menuId;
+
+    @Schema(description = "Dados do item", required = true)
+    private MenuItemRequest item;
+}
@@ -0,0 +1,27 @@
+package com.fiap.itmoura.tech_challenge_restaurant.application.models.menu;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// Cada item é validado individualmente no caso de uso; aqui só o tamanho do lote é checado
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Schema(description = "Requisição para criar vários itens do menu de um restaurante de uma vez")
+public class MenuItemBulkRequest {
+
+    public static final int MAX_ITEMS = 1000;
+
+    @Schema(description = "Itens a criar, em qualquer categoria do restaurante", required = true)
+    @NotEmpty(message = "Informe ao menos um item")
+    @Size(max = MAX_ITEMS, message = "Máximo de " + MAX_ITEMS + " itens por requisição")
+    private List<MenuItemBulkEntry> items;
+}
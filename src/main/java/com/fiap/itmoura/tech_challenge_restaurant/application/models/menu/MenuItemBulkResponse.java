@@ -0,0 +1,42 @@
+package com.fiap.itmoura.tech_challenge_restaurant.application.models.menu;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Schema(description = "Resposta da importação em lote de itens do menu")
+public class MenuItemBulkResponse {
+
+    @Schema(description = "ID do restaurante", example = "550e8400-e29b-41d4-a716-446655440000")
+    private String restaurantId;
+
+    @Schema(description = "Quantidade de itens criados", example = "498")
+    private int created;
+
+    @Schema(description = "Quantidade de itens rejeitados", example = "2")
+    private int rejected;
+
+    @Schema(description = "Resultado de cada item, na ordem da requisição")
+    private List<MenuItemBulkResult> results;
+
+    public static MenuItemBulkResponse of(String restaurantId, List<MenuItemBulkResult> results) {
+        int created = (int) results.stream()
+            .filter(result -> result.getStatus() == MenuItemBulkResult.Status.CREATED)
+            .count();
+
+        return MenuItemBulkResponse.builder()
+            .restaurantId(restaurantId)
+            .created(created)
+            .rejected(results.size() - created)
+            .results(results)
+            .build();
+    }
+}
@@ -0,0 +1,53 @@
+package com.fiap.itmoura.tech_challenge_restaurant.application.models.menu;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Schema(description = "Resultado de um item da importação em lote")
+public class MenuItemBulkResult {
+
+    public enum Status { CREATED, REJECTED }
+
+    @Schema(description = "Posição do item na requisição", example = "0")
+    private int index;
+
+    @Schema(description = "ID da categoria informada", example = "550e8400-e29b-41d4-a716-446655440001")
+    private String menuId;
+
+    @Schema(description = "Situação do item", example = "CREATED")
+    private Status status;
+
+    @Schema(description = "Item criado (apenas quando CREATED)")
+    private MenuItemResponse item;
+
+    @Schema(description = "Erros de validação (apenas quando REJECTED)")
+    private List<String> errors;
+
+    public static MenuItemBulkResult created(int index, MenuItemResponse item) {
+        return MenuItemBulkResult.builder()
+            .index(index)
+            .menuId(item.getCategoryId())
+            .status(Status.CREATED)
+            .item(item)
+            .errors(List.of())
+            .build();
+    }
+
+    public static MenuItemBulkResult rejected(int index, String menuId, List<String> errors) {
+        return MenuItemBulkResult.builder()
+            .index(index)
+            .menuId(menuId)
+            .status(Status.REJECTED)
+            .errors(errors)
+            .build();
+    }
+}
@@ -3,6 +3,10 @@ package com.fiap.itmoura.tech_challenge_restaurant.application.models.menu;
 import java.math.BigDecimal;
 import java.util.UUID;
 
+import com.fiap.itmoura.tech_challenge_restaurant.domain.entities.MenuCategoryEntity;
+import com.fiap.itmoura.tech_challenge_restaurant.domain.entities.MenuItemEntity;
+import com.fiap.itmoura.tech_challenge_restaurant.domain.entities.RestaurantEntity;
+
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -42,6 +46,27 @@ public class MenuItemWithContextDTO {
     
     @Schema(description = "Restaurante do item")
     private RestaurantContextDTO restaurant;
+
+    public static MenuItemWithContextDTO fromEntity(RestaurantEntity restaurant, MenuCategoryEntity category, MenuItemEntity item) {
+        return MenuItemWithContextDTO.builder()
+            .id(item.getId())
+            .name(item.getName())
+            .description(item.getDescription())
+            .price(item.getPrice())
+            .onlyForLocalConsumption(item.getOnlyForLocalConsumption())
+            .imagePath(item.getImagePath())
+            .isActive(item.getIsActive())
+            .category(MenuCategoryContextDTO.builder()
+                .id(category.getId())
+                .type(category.getType())
+                .build())
+            .restaurant(RestaurantContextDTO.builder()
+                .id(restaurant.getId())
+                .name(restaurant.getName())
+                .address(restaurant.getAddress())
+                .build())
+            .build();
+    }
     
     @Data
     @Builder
@@ -0,0 +1,23 @@
+package com.fiap.itmoura.tech_challenge_restaurant.application.models.pagination;
+
+import java.util.List;
+import java.util.function.Function;
+
+public record CursorPage<T>(List<T> items, String nextCursor) {
+
+    // A janela vem com limit + 1 elementos: o elemento extra só indica que existe próxima página
+    public static <E, T> CursorPage<T> of(List<E> window, int limit, Function<E, String> idExtractor, Function<E, T> mapper) {
+        boolean hasNext = window.size() > limit;
+        List<E> page = hasNext ? window.subList(0, limit) : window;
+
+        String nextCursor = hasNext
+            ? CursorPageRequest.encode(idExtractor.apply(page.get(page.size() - 1)))
+            : null;
+
+        return new CursorPage<>(page.stream().map(mapper).toList(), nextCursor);
+    }
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
@@ -0,0 +1,40 @@
+package com.fiap.itmoura.tech_challenge_restaurant.application.models.pagination;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import com.fiap.itmoura.tech_challenge_restaurant.domain.exceptions.BadRequestException;
+
+// O cursor é o último _id da página anterior codificado em base64url: cada página é um range scan no índice de _id
+public record CursorPageRequest(String afterId, int limit) {
+
+    public static final int DEFAULT_LIMIT = 50;
+    public static final int MAX_LIMIT = 500;
+
+    public static CursorPageRequest of(String cursor, Integer limit) {
+        if (limit != null && limit < 1) {
+            throw new BadRequestException("Limit must be greater than zero");
+        }
+
+        int pageSize = limit != null ? Math.min(limit, MAX_LIMIT) : DEFAULT_LIMIT;
+        return new CursorPageRequest(decode(cursor), pageSize);
+    }
+
+    public static String encode(String id) {
+        return Base64.getUrlEncoder()
+            .withoutPadding()
+            .encodeToString(id.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        try {
+            return new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Invalid cursor: " + cursor, e);
+        }
+    }
+}
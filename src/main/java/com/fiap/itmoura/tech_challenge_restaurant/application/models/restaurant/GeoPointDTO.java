@@ -0,0 +1,53 @@
+package com.fiap.itmoura.tech_challenge_restaurant.application.models.restaurant;
+
+import java.util.List;
+
+import org.springframework.data.mongodb.core.geo.GeoJsonPoint;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fiap.itmoura.tech_challenge_restaurant.application.models.group.OnCreateGroup;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import jakarta.validation.groups.Default;
+
+// Ponto GeoJSON: coordinates segue a ordem do GeoJSON, [longitude, latitude].
+// As regras valem nos dois grupos porque a localização é opcional, mas quando enviada precisa ser indexável pelo 2dsphere
+@Schema(description = "Localização do restaurante como ponto GeoJSON")
+public record GeoPointDTO(
+
+    @Schema(description = "Tipo GeoJSON (sempre Point)", example = "Point")
+    @NotNull(message = "Tipo da localização é obrigatório", groups = { Default.class, OnCreateGroup.class })
+    @Pattern(regexp = "Point", message = "Tipo da localização deve ser Point", groups = { Default.class, OnCreateGroup.class })
+    String type,
+
+    @Schema(description = "Coordenadas [longitude, latitude]", example = "[-46.6333, -23.5505]")
+    @NotNull(message = "Coordenadas são obrigatórias", groups = { Default.class, OnCreateGroup.class })
+    @Size(min = 2, max = 2, message = "Coordenadas devem ser [longitude, latitude]", groups = { Default.class, OnCreateGroup.class })
+    List<@NotNull(groups = { Default.class, OnCreateGroup.class }) Double> coordinates
+) {
+
+    @JsonIgnore
+    @AssertTrue(message = "Longitude deve estar entre -180 e 180 e latitude entre -90 e 90", groups = { Default.class, OnCreateGroup.class })
+    public boolean isWithinBounds() {
+        // Lista ausente, incompleta ou com nulos já é reportada pelas outras regras
+        if (coordinates == null || coordinates.size() != 2 || coordinates.contains(null)) {
+            return true;
+        }
+        return Math.abs(coordinates.get(0)) <= 180 && Math.abs(coordinates.get(1)) <= 90;
+    }
+
+    public GeoJsonPoint toGeoJsonPoint() {
+        return new GeoJsonPoint(coordinates.get(0), coordinates.get(1));
+    }
+
+    public static GeoPointDTO fromGeoJsonPoint(GeoJsonPoint point) {
+        if (point == null) {
+            return null;
+        }
+        return new GeoPointDTO("Point", List.of(point.getX(), point.getY()));
+    }
+}
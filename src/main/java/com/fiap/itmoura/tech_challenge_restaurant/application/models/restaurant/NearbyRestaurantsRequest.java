@@ -0,0 +1,36 @@
+package com.fiap.itmoura.tech_challenge_restaurant.application.models.restaurant;
+
+import org.springframework.data.mongodb.core.geo.GeoJsonPoint;
+
+import com.fiap.itmoura.tech_challenge_restaurant.domain.exceptions.BadRequestException;
+
+// Parâmetros da busca por proximidade já validados; o raio limita o $geoNear ao que o mapa consegue exibir
+public record NearbyRestaurantsRequest(GeoJsonPoint point, double radiusMeters, String kitchenTypeId, int limit) {
+
+    public static final double DEFAULT_RADIUS_METERS = 5_000;
+    public static final double MAX_RADIUS_METERS = 50_000;
+    public static final int DEFAULT_LIMIT = 50;
+    public static final int MAX_LIMIT = 500;
+
+    public static NearbyRestaurantsRequest of(Double latitude, Double longitude, Double radiusMeters, Integer limit,
+                                              String kitchenTypeId) {
+        if (latitude == null || longitude == null) {
+            throw new BadRequestException("Latitude and longitude are required");
+        }
+        if (Math.abs(latitude) > 90 || Math.abs(longitude) > 180) {
+            throw new BadRequestException("Latitude must be between -90 and 90 and longitude between -180 and 180");
+        }
+        if (radiusMeters != null && radiusMeters <= 0) {
+            throw new BadRequestException("Radius must be greater than zero");
+        }
+        if (limit != null && limit < 1) {
+            throw new BadRequestException("Limit must be greater than zero");
+        }
+
+        return new NearbyRestaurantsRequest(
+            new GeoJsonPoint(longitude, latitude),
+            radiusMeters != null ? Math.min(radiusMeters, MAX_RADIUS_METERS) : DEFAULT_RADIUS_METERS,
+            kitchenTypeId != null && !kitchenTypeId.isBlank() ? kitchenTypeId : null,
+            limit != null ? Math.min(limit, MAX_LIMIT) : DEFAULT_LIMIT);
+    }
+}
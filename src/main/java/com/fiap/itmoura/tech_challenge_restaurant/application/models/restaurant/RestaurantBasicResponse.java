@@ -4,6 +4,9 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
+import org.springframework.data.geo.GeoResult;
+import org.springframework.data.geo.Metrics;
+
 import com.fiap.itmoura.tech_challenge_restaurant.application.models.kitchentype.KitchenTypeDTO;
 import com.fiap.itmoura.tech_challenge_restaurant.domain.entities.OperationDaysTimeData;
 import com.fiap.itmoura.tech_challenge_restaurant.domain.entities.RestaurantEntity;
@@ -22,6 +25,9 @@ public record RestaurantBasicResponse(
     @Schema(description = "Endereço do restaurante", example = "Rua das Flores, 123")
     String address,
 
+    @Schema(description = "Localização do restaurante (nula quando não cadastrada)")
+    GeoPointDTO location,
+
     @Schema(description = "Tipo de cozinha do restaurante")
     KitchenTypeDTO kitchenType,
 
@@ -38,20 +44,33 @@ public record RestaurantBasicResponse(
     LocalDateTime lastUpdate,
 
     @Schema(description = "Data de criação")
-    LocalDateTime createdAt
+    LocalDateTime createdAt,
+
+    @Schema(description = "Distância em metros até o ponto consultado (apenas na busca por proximidade)", example = "850.4")
+    Double distanceMeters
 ) {
 
     public static RestaurantBasicResponse fromEntity(RestaurantEntity restaurant) {
+        return fromEntity(restaurant, null);
+    }
+
+    public static RestaurantBasicResponse fromGeoResult(GeoResult<RestaurantEntity> result) {
+        return fromEntity(result.getContent(), result.getDistance().in(Metrics.KILOMETERS).getValue() * 1000);
+    }
+
+    private static RestaurantBasicResponse fromEntity(RestaurantEntity restaurant, Double distanceMeters) {
         return new RestaurantBasicResponse(
             restaurant.getId(),
             restaurant.getName(),
             restaurant.getAddress(),
+            GeoPointDTO.fromGeoJsonPoint(restaurant.getLocation()),
             KitchenTypeDTO.fromEntity(restaurant.getKitchenType()),
             restaurant.getDaysOperation(),
             restaurant.getOwnerId(),
             restaurant.getIsActive(),
             restaurant.getLastUpdate(),
-            restaurant.getCreatedAt()
+            restaurant.getCreatedAt(),
+            distanceMeters
         );
     }
 }
@@ -0,0 +1,16 @@
+package com.fiap.itmoura.tech_challenge_restaurant.application.models.restaurant;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+public record RestaurantFacetCount(
+
+    @Schema(description = "Valor usado no filtro correspondente", example = "550e8400-e29b-41d4-a716-446655440001")
+    String value,
+
+    @Schema(description = "Rótulo para exibição", example = "Italiana")
+    String label,
+
+    @Schema(description = "Quantidade de restaurantes", example = "12")
+    long count
+) {
+}
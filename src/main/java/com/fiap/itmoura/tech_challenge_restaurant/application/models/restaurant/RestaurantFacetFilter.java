@@ -0,0 +1,23 @@
+package com.fiap.itmoura.tech_challenge_restaurant.application.models.restaurant;
+
+import com.fiap.itmoura.tech_challenge_restaurant.domain.entities.DayEnum;
+import com.fiap.itmoura.tech_challenge_restaurant.domain.exceptions.BadRequestException;
+
+// Filtros da listagem facetada; também é a chave do cache de contagens
+public record RestaurantFacetFilter(String kitchenTypeId, DayEnum day, Boolean isActive) {
+
+    public static RestaurantFacetFilter of(String kitchenTypeId, String day, Boolean isActive) {
+        return new RestaurantFacetFilter(
+            kitchenTypeId != null && !kitchenTypeId.isBlank() ? kitchenTypeId : null,
+            day != null && !day.isBlank() ? parseDay(day) : null,
+            isActive);
+    }
+
+    private static DayEnum parseDay(String day) {
+        try {
+            return DayEnum.fromString(day.trim());
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Invalid day: " + day, e);
+        }
+    }
+}
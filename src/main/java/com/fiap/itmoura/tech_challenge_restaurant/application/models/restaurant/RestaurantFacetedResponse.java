@@ -0,0 +1,15 @@
+package com.fiap.itmoura.tech_challenge_restaurant.application.models.restaurant;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+public record RestaurantFacetedResponse(
+
+    @Schema(description = "Página de restaurantes ordenada por ID")
+    List<RestaurantBasicResponse> items,
+
+    @Schema(description = "Contagens sobre todos os restaurantes do filtro, não apenas a página")
+    RestaurantFacets facets
+) {
+}
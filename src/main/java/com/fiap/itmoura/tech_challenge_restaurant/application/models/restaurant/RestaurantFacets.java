@@ -0,0 +1,21 @@
+package com.fiap.itmoura.tech_challenge_restaurant.application.models.restaurant;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+public record RestaurantFacets(
+
+    @Schema(description = "Restaurantes por tipo de cozinha, do mais usado ao menos usado")
+    List<RestaurantFacetCount> kitchenTypes,
+
+    @Schema(description = "Restaurantes que funcionam em cada dia da semana")
+    List<RestaurantFacetCount> operationDays,
+
+    @Schema(description = "Restaurantes ativos (true) e inativos (false)")
+    List<RestaurantFacetCount> activeStatus,
+
+    @Schema(description = "Restaurantes por faixa do preço médio dos itens ativos; none = sem itens ativos")
+    List<RestaurantFacetCount> priceBands
+) {
+}
@@ -23,6 +23,9 @@ public record RestaurantFullResponse(
     @Schema(description = "Endereço do restaurante", example = "Rua das Flores, 123")
     String address,
 
+    @Schema(description = "Localização do restaurante (nula quando não cadastrada)")
+    GeoPointDTO location,
+
     @Schema(description = "Tipo de cozinha do restaurante")
     KitchenTypeDTO kitchenType,
 
@@ -56,6 +59,7 @@ public record RestaurantFullResponse(
             restaurant.getId(),
             restaurant.getName(),
             restaurant.getAddress(),
+            GeoPointDTO.fromGeoJsonPoint(restaurant.getLocation()),
             KitchenTypeDTO.fromEntity(restaurant.getKitchenType()),
             restaurant.getDaysOperation(),
             restaurant.getOwnerId(),
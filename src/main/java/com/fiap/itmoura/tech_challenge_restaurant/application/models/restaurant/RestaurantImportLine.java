@@ -0,0 +1,38 @@
+package com.fiap.itmoura.tech_challenge_restaurant.application.models.restaurant;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Resultado de uma linha da importação NDJSON")
+public record RestaurantImportLine(
+
+    @Schema(description = "Número da linha no corpo da requisição", example = "1")
+    long line,
+
+    @Schema(description = "Situação da linha", example = "CREATED")
+    Status status,
+
+    @Schema(description = "ID do restaurante criado (apenas quando CREATED)", example = "550e8400-e29b-41d4-a716-446655440000")
+    String id,
+
+    @Schema(description = "Erros da linha (apenas quando REJECTED ou FAILED)")
+    List<String> errors
+) {
+
+    public enum Status { CREATED, REJECTED, FAILED }
+
+    public static RestaurantImportLine created(long line, String id) {
+        return new RestaurantImportLine(line, Status.CREATED, id, List.of());
+    }
+
+    // Linha inválida: não chegou ao banco
+    public static RestaurantImportLine rejected(long line, List<String> errors) {
+        return new RestaurantImportLine(line, Status.REJECTED, null, errors);
+    }
+
+    // Linha válida que o banco recusou ou que não foi enviada por causa de uma falha anterior
+    public static RestaurantImportLine failed(long line, String error) {
+        return new RestaurantImportLine(line, Status.FAILED, null, List.of(error));
+    }
+}
@@ -0,0 +1,24 @@
+package com.fiap.itmoura.tech_challenge_restaurant.application.models.restaurant;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Resumo da importação NDJSON, enviado como última linha da resposta")
+public record RestaurantImportSummary(
+
+    @Schema(description = "Linhas processadas", example = "100000")
+    long lines,
+
+    @Schema(description = "Restaurantes criados", example = "99990")
+    long created,
+
+    @Schema(description = "Linhas rejeitadas na validação", example = "8")
+    long rejected,
+
+    @Schema(description = "Linhas recusadas pelo banco", example = "2")
+    long failed,
+
+    @Schema(description = "Se o corpo foi lido até o fim (false quando a importação ordenada parou na primeira falha "
+        + "ou o NDJSON ficou ilegível)", example = "true")
+    boolean completed
+) {
+}
@@ -9,6 +9,7 @@ import com.fiap.itmoura.tech_challenge_restaurant.application.models.menu.MenuCa
 import com.fiap.itmoura.tech_challenge_restaurant.domain.entities.OperationDaysTimeData;
 
 import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
 
 public record RestaurantRequest(
@@ -20,6 +21,10 @@ public record RestaurantRequest(
     @Schema(description = "Endereço do restaurante", example = "Rua das Flores, 123")
     @NotNull(message = "Endereço é obrigatório", groups = OnCreateGroup.class)
     String address,
+
+    @Schema(description = "Localização do restaurante (opcional); habilita a busca por proximidade")
+    @Valid
+    GeoPointDTO location,
     
     @Schema(description = "Tipo de cozinha do restaurante")
     @NotNull(message = "Tipo de cozinha é obrigatório", groups = OnCreateGroup.class)
@@ -0,0 +1,14 @@
+package com.fiap.itmoura.tech_challenge_restaurant.application.models.search;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Contagem de resultados para um valor de faceta")
+public record RestaurantSearchFacet(
+
+    @Schema(description = "Valor da faceta", example = "Italiana")
+    String value,
+
+    @Schema(description = "Resultados com esse valor", example = "12")
+    long count
+) {
+}
@@ -0,0 +1,48 @@
+package com.fiap.itmoura.tech_challenge_restaurant.application.models.search;
+
+import java.math.BigDecimal;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Resultado da busca: um restaurante ou um item do menu com o restaurante de origem")
+public record RestaurantSearchHit(
+
+    @Schema(description = "Tipo do documento encontrado", example = "MENU_ITEM")
+    Type type,
+
+    @Schema(description = "Relevância calculada pelo índice", example = "3.72")
+    float score,
+
+    @Schema(description = "ID do restaurante", example = "550e8400-e29b-41d4-a716-446655440000")
+    String restaurantId,
+
+    @Schema(description = "Nome do restaurante", example = "Cantina da Nona")
+    String restaurantName,
+
+    @Schema(description = "Endereço do restaurante", example = "Rua das Flores, 123")
+    String address,
+
+    @Schema(description = "Tipo de cozinha do restaurante", example = "Italiana")
+    String kitchenType,
+
+    @Schema(description = "ID do item (apenas MENU_ITEM)", example = "7c9e6679-7425-40de-944b-e07fc1f90ae7")
+    String menuItemId,
+
+    @Schema(description = "Nome do item (apenas MENU_ITEM)", example = "Lasanha à bolonhesa")
+    String menuItemName,
+
+    @Schema(description = "Descrição do item (apenas MENU_ITEM)", example = "Massa fresca com molho de carne")
+    String menuItemDescription,
+
+    @Schema(description = "Preço do item (apenas MENU_ITEM)", example = "54.90")
+    BigDecimal price,
+
+    @Schema(description = "Se o item é apenas para consumo no local (apenas MENU_ITEM)", example = "false")
+    Boolean onlyForLocalConsumption
+) {
+
+    public enum Type {
+        RESTAURANT,
+        MENU_ITEM
+    }
+}
@@ -0,0 +1,17 @@
+package com.fiap.itmoura.tech_challenge_restaurant.application.models.search;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Resultado da reconstrução do índice de busca")
+public record RestaurantSearchIndexStatus(
+
+    @Schema(description = "Restaurantes lidos do MongoDB", example = "10000")
+    long restaurants,
+
+    @Schema(description = "Documentos no novo índice (restaurantes ativos e seus itens ativos)", example = "184320")
+    long documents,
+
+    @Schema(description = "Duração da reconstrução em milissegundos", example = "5230")
+    long tookMillis
+) {
+}
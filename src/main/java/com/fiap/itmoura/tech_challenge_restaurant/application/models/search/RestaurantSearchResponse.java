@@ -0,0 +1,20 @@
+package com.fiap.itmoura.tech_challenge_restaurant.application.models.search;
+
+import java.util.List;
+import java.util.Map;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Resultados da busca textual com as contagens por faceta")
+public record RestaurantSearchResponse(
+
+    @Schema(description = "Total de documentos que atendem à busca e aos filtros", example = "42")
+    long total,
+
+    @Schema(description = "Resultados em ordem de relevância")
+    List<RestaurantSearchHit> hits,
+
+    @Schema(description = "Contagens por faceta (kitchenType, onlyForLocalConsumption) considerando os filtros aplicados")
+    Map<String, List<RestaurantSearchFacet>> facets
+) {
+}
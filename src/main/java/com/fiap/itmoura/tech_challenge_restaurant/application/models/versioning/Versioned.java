@@ -0,0 +1,17 @@
+package com.fiap.itmoura.tech_challenge_restaurant.application.models.versioning;
+
+import com.fiap.itmoura.tech_challenge_restaurant.domain.entities.RestaurantEntity;
+
+// Resposta acompanhada da versão do documento do restaurante de onde foi lida (usada como ETag)
+public record Versioned<T>(T body, String version) {
+
+    public static <T> Versioned<T> of(T body, RestaurantEntity restaurant) {
+        return new Versioned<>(body, versionOf(restaurant));
+    }
+
+    // A versão é o contador otimista do restaurante, incrementado a cada escrita
+    public static String versionOf(RestaurantEntity restaurant) {
+        Long version = restaurant.getVersion();
+        return version != null ? version.toString() : null;
+    }
+}
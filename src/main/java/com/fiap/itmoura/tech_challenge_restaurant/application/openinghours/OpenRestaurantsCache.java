@@ -0,0 +1,107 @@
+package com.fiap.itmoura.tech_challenge_restaurant.application.openinghours;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.fiap.itmoura.tech_challenge_restaurant.application.ports.out.RestaurantRepository;
+import com.fiap.itmoura.tech_challenge_restaurant.domain.entities.RestaurantEntity;
+import com.fiap.itmoura.tech_challenge_restaurant.domain.events.RestaurantChangedEvent;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+
+// IDs dos restaurantes ativos abertos no minuto corrente, em ordem de _id para a paginação por cursor.
+// O bucket é recarregado a cada virada de minuto; escritas locais atualizam só o restaurante alterado
+@Log4j2
+@Component
+@Profile("!reactive")
+@RequiredArgsConstructor
+public class OpenRestaurantsCache {
+
+    private final RestaurantRepository restaurantRepository;
+    private final OpeningHoursProperties properties;
+
+    private volatile Bucket bucket;
+    // Lock em vez de synchronized: a recarga lê o MongoDB com o lock e não deve fixar virtual threads na carrier
+    private final ReentrantLock lock = new ReentrantLock();
+
+    public int currentMinuteOfWeek() {
+        return OpeningHours.minuteOfWeek(LocalDateTime.now(properties.zone()));
+    }
+
+    // Até count IDs abertos no minuto informado, depois de afterId (nulo = do início)
+    public List<String> findOpenIds(int minuteOfWeek, String afterId, int count) {
+        Bucket current = bucket;
+        if (current == null || current.minuteOfWeek() != minuteOfWeek) {
+            current = load(minuteOfWeek);
+        }
+
+        NavigableSet<String> ids = afterId != null ? current.ids().tailSet(afterId, false) : current.ids();
+        return ids.stream().limit(count).toList();
+    }
+
+    @Scheduled(cron = "0 * * * * *", zone = "${restaurants.opening-hours.zone:America/Sao_Paulo}")
+    public void refresh() {
+        load(currentMinuteOfWeek());
+    }
+
+    @EventListener
+    public void onRestaurantChanged(RestaurantChangedEvent event) {
+        Bucket current = bucket;
+        if (current == null) {
+            return;
+        }
+
+        boolean open = restaurantRepository.findOpeningIntervalsById(event.restaurantId())
+            .filter(restaurant -> Boolean.TRUE.equals(restaurant.getIsActive()))
+            .map(RestaurantEntity::getOpeningIntervals)
+            .filter(intervals -> OpeningHours.isOpen(intervals, current.minuteOfWeek()))
+            .isPresent();
+
+        lock.lock();
+        try {
+            // Se o bucket foi trocado no meio, a recarga já leu o estado gravado
+            if (bucket == current) {
+                if (open) {
+                    current.ids().add(event.restaurantId());
+                } else {
+                    current.ids().remove(event.restaurantId());
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Serializado para que uma recarga antiga nunca sobrescreva uma mais nova
+    private Bucket load(int minuteOfWeek) {
+        lock.lock();
+        try {
+            Bucket current = bucket;
+            if (current != null && current.minuteOfWeek() == minuteOfWeek) {
+                return current;
+            }
+
+            NavigableSet<String> ids = new ConcurrentSkipListSet<>();
+            restaurantRepository.findIdsOpenAt(minuteOfWeek).forEach(restaurant -> ids.add(restaurant.getId()));
+
+            Bucket fresh = new Bucket(minuteOfWeek, ids);
+            bucket = fresh;
+            log.debug("Open restaurants bucket for minute {} loaded with {} restaurants", minuteOfWeek, ids.size());
+            return fresh;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private record Bucket(int minuteOfWeek, NavigableSet<String> ids) {
+    }
+}
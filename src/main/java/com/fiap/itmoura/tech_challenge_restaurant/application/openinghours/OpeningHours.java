@@ -0,0 +1,76 @@
+package com.fiap.itmoura.tech_challenge_restaurant.application.openinghours;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import com.fiap.itmoura.tech_challenge_restaurant.domain.entities.OpeningIntervalEntity;
+import com.fiap.itmoura.tech_challenge_restaurant.domain.entities.OperationDaysTimeData;
+import com.fiap.itmoura.tech_challenge_restaurant.domain.exceptions.BadRequestException;
+
+// Converte os horários "HH:mm" de daysOperation em intervalos de minuto da semana (segunda 00:00 = 0),
+// para que "aberto agora" seja uma consulta por faixa em vez de parse de strings por restaurante
+public final class OpeningHours {
+
+    public static final int MINUTES_PER_DAY = 24 * 60;
+    public static final int MINUTES_PER_WEEK = 7 * MINUTES_PER_DAY;
+
+    private OpeningHours() {
+    }
+
+    public static List<OpeningIntervalEntity> toIntervals(List<OperationDaysTimeData> daysOperation) {
+        if (daysOperation == null) {
+            return List.of();
+        }
+
+        List<OpeningIntervalEntity> intervals = new ArrayList<>();
+        for (OperationDaysTimeData day : daysOperation) {
+            if (day == null || day.getDay() == null) {
+                throw new BadRequestException("Operation day is required");
+            }
+
+            int opening = minuteOfDay(day, day.getOpeningHours());
+            int closing = minuteOfDay(day, day.getClosingHours());
+            int start = day.getDay().ordinal() * MINUTES_PER_DAY + opening;
+            // Fechamento igual ou anterior à abertura avança para o dia seguinte ("18:00"-"02:00"; "00:00"-"00:00" = 24h)
+            int end = start + (closing > opening ? closing - opening : closing - opening + MINUTES_PER_DAY);
+
+            if (end <= MINUTES_PER_WEEK) {
+                intervals.add(new OpeningIntervalEntity(start, end));
+            } else {
+                // Domingo que passa da meia-noite continua na segunda-feira, no início da semana
+                intervals.add(new OpeningIntervalEntity(start, MINUTES_PER_WEEK));
+                intervals.add(new OpeningIntervalEntity(0, end - MINUTES_PER_WEEK));
+            }
+        }
+
+        intervals.sort(Comparator.comparing(OpeningIntervalEntity::getStart));
+        return intervals;
+    }
+
+    public static int minuteOfWeek(LocalDateTime dateTime) {
+        return (dateTime.getDayOfWeek().getValue() - 1) * MINUTES_PER_DAY
+            + dateTime.getHour() * 60
+            + dateTime.getMinute();
+    }
+
+    public static boolean isOpen(List<OpeningIntervalEntity> intervals, int minuteOfWeek) {
+        return intervals != null && intervals.stream().anyMatch(interval -> interval.contains(minuteOfWeek));
+    }
+
+    private static int minuteOfDay(OperationDaysTimeData day, String hours) {
+        if (hours == null) {
+            throw new BadRequestException("Opening and closing hours are required for " + day.getDay());
+        }
+
+        try {
+            LocalTime time = LocalTime.parse(hours.trim());
+            return time.getHour() * 60 + time.getMinute();
+        } catch (DateTimeParseException e) {
+            throw new BadRequestException("Invalid hours for " + day.getDay() + ": " + hours, e);
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.fiap.itmoura.tech_challenge_restaurant.application.openinghours;
+
+import java.time.ZoneId;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "restaurants.opening-hours")
+public record OpeningHoursProperties(
+
+    // Fuso em que os horários de daysOperation e o openAt são interpretados
+    @DefaultValue("America/Sao_Paulo")
+    ZoneId zone
+) {
+}
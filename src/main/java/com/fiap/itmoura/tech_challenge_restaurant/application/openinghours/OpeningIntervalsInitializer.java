@@ -0,0 +1,29 @@
+package com.fiap.itmoura.tech_challenge_restaurant.application.openinghours;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.fiap.itmoura.tech_challenge_restaurant.application.ports.out.RestaurantRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+
+// Restaurantes gravados antes de openingIntervals não apareceriam no filtro "aberto em"; calcula-os uma vez na subida
+@Log4j2
+@Component
+@Profile("!reactive")
+@RequiredArgsConstructor
+public class OpeningIntervalsInitializer {
+
+    private final RestaurantRepository restaurantRepository;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initializeMissingOpeningIntervals() {
+        long initialized = restaurantRepository.initializeMissingOpeningIntervals();
+        if (initialized > 0) {
+            log.info("Initialized opening intervals on {} restaurants", initialized);
+        }
+    }
+}
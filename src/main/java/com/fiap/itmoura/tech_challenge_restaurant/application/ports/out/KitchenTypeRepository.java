@@ -9,7 +9,7 @@ import org.springframework.stereotype.Repository;
 import com.fiap.itmoura.tech_challenge_restaurant.domain.entities.KitchenTypeDocumentEntity;
 
 @Repository
-public interface KitchenTypeRepository extends MongoRepository<KitchenTypeDocumentEntity, String> {
+public interface KitchenTypeRepository extends MongoRepository<KitchenTypeDocumentEntity, String>, KitchenTypeRepositoryCustom {
 
     Optional<KitchenTypeDocumentEntity> findByNameIgnoreCase(String name);
 
@@ -0,0 +1,19 @@
+package com.fiap.itmoura.tech_challenge_restaurant.application.ports.out;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import com.fiap.itmoura.tech_challenge_restaurant.domain.entities.KitchenTypeDocumentEntity;
+
+// Contadores de uso mantidos em kitchen_types, para que exclusões e rankings não varram a coleção de restaurantes
+public interface KitchenTypeRepositoryCustom {
+
+    // $inc atômico; deltas negativos quando restaurantes deixam de usar o tipo
+    void incrementRestaurantCounts(String kitchenTypeId, long restaurantDelta, long activeRestaurantDelta);
+
+    // $set só de nome, descrição e lastUpdate, sem regravar os contadores; retorna o documento atualizado
+    Optional<KitchenTypeDocumentEntity> updateDetails(String id, String name, String description, LocalDateTime lastUpdate);
+
+    // Recalcula todos os contadores a partir dos restaurantes; retorna quantos tipos de cozinha foram corrigidos
+    long reconcileRestaurantCounts();
+}
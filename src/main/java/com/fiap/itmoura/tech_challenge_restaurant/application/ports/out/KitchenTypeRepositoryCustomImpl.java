@@ -0,0 +1,102 @@
+package com.fiap.itmoura.tech_challenge_restaurant.application.ports.out;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.bson.Document;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.query.BasicQuery;
+import org.springframework.data.mongodb.core.query.BasicUpdate;
+import org.springframework.data.mongodb.core.query.Update;
+
+import com.fiap.itmoura.tech_challenge_restaurant.domain.entities.KitchenTypeDocumentEntity;
+import com.fiap.itmoura.tech_challenge_restaurant.domain.entities.KitchenTypeEntity;
+import com.fiap.itmoura.tech_challenge_restaurant.domain.entities.RestaurantEntity;
+
+public class KitchenTypeRepositoryCustomImpl implements KitchenTypeRepositoryCustom {
+
+    private static final String RESTAURANT_COUNT = "restaurantCount";
+    private static final String ACTIVE_RESTAURANT_COUNT = "activeRestaurantCount";
+
+    private final MongoTemplate mongoTemplate;
+    private final String collection;
+    private final String restaurantCollection;
+
+    // Nome persistido do id do tipo de cozinha embutido nos restaurantes
+    private final String restaurantKitchenTypeIdField;
+
+    public KitchenTypeRepositoryCustomImpl(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+        this.collection = mongoTemplate.getCollectionName(KitchenTypeDocumentEntity.class);
+        this.restaurantCollection = mongoTemplate.getCollectionName(RestaurantEntity.class);
+        this.restaurantKitchenTypeIdField = "kitchenType." + mongoTemplate.getConverter().getMappingContext()
+            .getRequiredPersistentEntity(KitchenTypeEntity.class)
+            .getRequiredPersistentProperty("id")
+            .getFieldName();
+    }
+
+    @Override
+    public void incrementRestaurantCounts(String kitchenTypeId, long restaurantDelta, long activeRestaurantDelta) {
+        Document update = new Document("$inc", new Document(RESTAURANT_COUNT, restaurantDelta)
+            .append(ACTIVE_RESTAURANT_COUNT, activeRestaurantDelta));
+
+        mongoTemplate.updateFirst(new BasicQuery(new Document("_id", kitchenTypeId)), new BasicUpdate(update), collection);
+    }
+
+    @Override
+    public Optional<KitchenTypeDocumentEntity> updateDetails(String id, String name, String description, LocalDateTime lastUpdate) {
+        Update update = new Update().set("name", name).set("description", description).set("lastUpdate", lastUpdate);
+
+        return Optional.ofNullable(mongoTemplate.findAndModify(new BasicQuery(new Document("_id", id)), update,
+            FindAndModifyOptions.options().returnNew(true), KitchenTypeDocumentEntity.class, collection));
+    }
+
+    @Override
+    public long reconcileRestaurantCounts() {
+        // Contadores lidos antes da agregação: um $inc concorrente que a agregação já enxergou muda o valor lido
+        // e o $set condicional abaixo deixa de casar, em vez de sobrescrever o incremento
+        List<Document> kitchenTypes = mongoTemplate.find(new BasicQuery(new Document(),
+            new Document(RESTAURANT_COUNT, 1).append(ACTIVE_RESTAURANT_COUNT, 1)), Document.class, collection);
+
+        Document group = new Document("$group", new Document("_id", "$" + restaurantKitchenTypeIdField)
+            .append("total", new Document("$sum", 1))
+            .append("active", new Document("$sum",
+                new Document("$cond", List.of(new Document("$eq", List.of("$isActive", true)), 1, 0)))));
+
+        Map<Object, Document> counts = new HashMap<>();
+        mongoTemplate.aggregate(Aggregation.newAggregation(context -> group), restaurantCollection, Document.class)
+            .forEach(result -> counts.put(result.get("_id"), result));
+
+        // Só os tipos cujo contador divergiu são regravados; tipos sem restaurantes voltam a zero.
+        // Tipo que não casar foi incrementado no meio do caminho e fica para a próxima reconciliação
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, collection);
+        boolean pending = false;
+        for (Document kitchenType : kitchenTypes) {
+            Document count = counts.getOrDefault(kitchenType.get("_id"), new Document());
+            long total = count.get("total", Number.class) != null ? count.get("total", Number.class).longValue() : 0L;
+            long active = count.get("active", Number.class) != null ? count.get("active", Number.class).longValue() : 0L;
+            if (matches(kitchenType.get(RESTAURANT_COUNT), total) && matches(kitchenType.get(ACTIVE_RESTAURANT_COUNT), active)) {
+                continue;
+            }
+
+            // null no filtro casa também o campo ausente, como antes da primeira reconciliação
+            Document filter = new Document("_id", kitchenType.get("_id"))
+                .append(RESTAURANT_COUNT, kitchenType.get(RESTAURANT_COUNT))
+                .append(ACTIVE_RESTAURANT_COUNT, kitchenType.get(ACTIVE_RESTAURANT_COUNT));
+            bulk.updateOne(new BasicQuery(filter),
+                new BasicUpdate(new Document("$set", new Document(RESTAURANT_COUNT, total).append(ACTIVE_RESTAURANT_COUNT, active))));
+            pending = true;
+        }
+        return pending ? bulk.execute().getModifiedCount() : 0L;
+    }
+
+    private static boolean matches(Object stored, long expected) {
+        return stored instanceof Number number && number.longValue() == expected;
+    }
+}
@@ -0,0 +1,11 @@
+package com.fiap.itmoura.tech_challenge_restaurant.application.ports.out;
+
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.stereotype.Repository;
+
+import com.fiap.itmoura.tech_challenge_restaurant.domain.entities.KitchenTypeDocumentEntity;
+
+// Contraparte reativa de KitchenTypeRepository para as leituras do perfil reactive
+@Repository
+public interface ReactiveKitchenTypeRepository extends ReactiveMongoRepository<KitchenTypeDocumentEntity, String> {
+}
@@ -0,0 +1,38 @@
+package com.fiap.itmoura.tech_challenge_restaurant.application.ports.out;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.repository.Query;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.stereotype.Repository;
+
+import com.fiap.itmoura.tech_challenge_restaurant.domain.entities.RestaurantEntity;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+// Contraparte reativa das leituras de RestaurantRepository, usada só pelo perfil reactive (mesmas projeções e índices)
+@Repository
+public interface ReactiveRestaurantRepository extends ReactiveMongoRepository<RestaurantEntity, String>, ReactiveRestaurantRepositoryCustom {
+
+    Flux<RestaurantEntity> findAllBy(Pageable pageable);
+
+    Flux<RestaurantEntity> findByIdGreaterThan(String id, Pageable pageable);
+
+    @Query(value = "{}", fields = RestaurantRepository.BASIC_FIELDS)
+    Flux<RestaurantEntity> findBasicBy(Pageable pageable);
+
+    @Query(value = "{ '_id': { '$gt': ?0 } }", fields = RestaurantRepository.BASIC_FIELDS)
+    Flux<RestaurantEntity> findBasicByIdGreaterThan(String id, Pageable pageable);
+
+    @Query(value = "{ 'isActive': true }", fields = RestaurantRepository.BASIC_FIELDS)
+    Flux<RestaurantEntity> findBasicByIsActiveTrue(Pageable pageable);
+
+    @Query(value = "{ 'isActive': true, '_id': { '$gt': ?0 } }", fields = RestaurantRepository.BASIC_FIELDS)
+    Flux<RestaurantEntity> findBasicByIsActiveTrueAndIdGreaterThan(String id, Pageable pageable);
+
+    @Query(value = "{ '_id': ?0 }", fields = RestaurantRepository.VERSION_FIELDS)
+    Mono<RestaurantEntity> findVersionById(String id);
+
+    @Query(value = "{ 'menu.items.id': ?0 }", fields = RestaurantRepository.VERSION_FIELDS)
+    Mono<RestaurantEntity> findVersionByMenuItemId(String itemId);
+}
@@ -0,0 +1,14 @@
+package com.fiap.itmoura.tech_challenge_restaurant.application.ports.out;
+
+import com.fiap.itmoura.tech_challenge_restaurant.domain.entities.RestaurantEntity;
+
+import reactor.core.publisher.Mono;
+
+public interface ReactiveRestaurantRepositoryCustom {
+
+    // Restaurante com versão e apenas a categoria pedida no menu (menu nulo quando a categoria não existe)
+    Mono<RestaurantEntity> findWithMenuCategory(String restaurantId, String categoryId);
+
+    // Contexto de um item (nome, endereço e versão do restaurante) com o menu reduzido à categoria e ao item encontrados
+    Mono<RestaurantEntity> findWithMenuItem(String itemId);
+}
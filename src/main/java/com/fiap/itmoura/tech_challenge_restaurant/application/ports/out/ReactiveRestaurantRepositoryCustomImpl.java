@@ -0,0 +1,49 @@
+package com.fiap.itmoura.tech_challenge_restaurant.application.ports.out;
+
+import org.bson.Document;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.BasicQuery;
+
+import com.fiap.itmoura.tech_challenge_restaurant.domain.entities.MenuCategoryEntity;
+import com.fiap.itmoura.tech_challenge_restaurant.domain.entities.MenuItemEntity;
+import com.fiap.itmoura.tech_challenge_restaurant.domain.entities.RestaurantEntity;
+
+import reactor.core.publisher.Mono;
+
+public class ReactiveRestaurantRepositoryCustomImpl implements ReactiveRestaurantRepositoryCustom {
+
+    private final ReactiveMongoTemplate mongoTemplate;
+    private final String collection;
+
+    // Nome persistido do campo id das classes embutidas, resolvido pelo mapeamento do Spring Data
+    private final String categoryIdField;
+    private final String itemIdField;
+
+    public ReactiveRestaurantRepositoryCustomImpl(ReactiveMongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+        this.collection = mongoTemplate.getCollectionName(RestaurantEntity.class);
+        this.categoryIdField = persistedIdField(MenuCategoryEntity.class);
+        this.itemIdField = persistedIdField(MenuItemEntity.class);
+    }
+
+    @Override
+    public Mono<RestaurantEntity> findWithMenuCategory(String restaurantId, String categoryId) {
+        Document fields = RestaurantProjections.menuCategory(categoryIdField, categoryId);
+
+        return mongoTemplate.findOne(new BasicQuery(new Document("_id", restaurantId), fields), RestaurantEntity.class);
+    }
+
+    @Override
+    public Mono<RestaurantEntity> findWithMenuItem(String itemId) {
+        return mongoTemplate.aggregate(RestaurantProjections.menuItemContext(categoryIdField, itemIdField, itemId),
+                collection, RestaurantEntity.class)
+            .next();
+    }
+
+    private String persistedIdField(Class<?> type) {
+        return mongoTemplate.getConverter().getMappingContext()
+            .getRequiredPersistentEntity(type)
+            .getRequiredPersistentProperty("id")
+            .getFieldName();
+    }
+}
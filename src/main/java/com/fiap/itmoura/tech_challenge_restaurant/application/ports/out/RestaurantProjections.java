@@ -0,0 +1,45 @@
+package com.fiap.itmoura.tech_challenge_restaurant.application.ports.out;
+
+import java.util.List;
+
+import org.bson.Document;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+
+// Projeções de menu compartilhadas pelos repositórios bloqueante e reativo, para que as duas pilhas leiam o mesmo recorte
+final class RestaurantProjections {
+
+    private RestaurantProjections() {
+    }
+
+    // Versão e apenas a categoria pedida no menu (menu ausente quando a categoria não existe)
+    static Document menuCategory(String categoryIdField, String categoryId) {
+        return new Document("version", 1)
+            .append("lastUpdate", 1)
+            .append("menu", new Document("$elemMatch", new Document(categoryIdField, categoryId)));
+    }
+
+    // $match usa o índice multikey menu_item_id_idx; o $project corta o menu no servidor
+    static Aggregation menuItemContext(String categoryIdField, String itemIdField, String itemId) {
+        Document match = new Document("$match", new Document("menu.items." + itemIdField, itemId));
+        Document category = new Document("$first", new Document("$filter", new Document("input", "$menu")
+            .append("as", "c")
+            .append("cond", new Document("$in", List.of(itemId,
+                new Document("$ifNull", List.of("$$c.items." + itemIdField, List.of())))))));
+        Document categoryWithItem = new Document("$let", new Document("vars", new Document("c", category))
+            .append("in", new Document(categoryIdField, "$$c." + categoryIdField)
+                .append("type", "$$c.type")
+                .append("items", List.of(firstMatch("$$c.items", "i", itemIdField, itemId)))));
+        Document project = new Document("$project", new Document("name", 1)
+            .append("address", 1)
+            .append("version", 1)
+            .append("menu", List.of(categoryWithItem)));
+
+        return Aggregation.newAggregation(context -> match, context -> project);
+    }
+
+    static Document firstMatch(String input, String variable, String idField, String id) {
+        return new Document("$first", new Document("$filter", new Document("input", input)
+            .append("as", variable)
+            .append("cond", new Document("$eq", List.of("$$" + variable + "." + idField, id)))));
+    }
+}
@@ -1,9 +1,13 @@
 package com.fiap.itmoura.tech_challenge_restaurant.application.ports.out;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.data.mongodb.repository.Query;
 import org.springframework.stereotype.Repository;
@@ -11,12 +15,67 @@ import org.springframework.stereotype.Repository;
 import com.fiap.itmoura.tech_challenge_restaurant.domain.entities.RestaurantEntity;
 
 @Repository
-public interface RestaurantRepository extends MongoRepository<RestaurantEntity, String> {
+public interface RestaurantRepository extends MongoRepository<RestaurantEntity, String>, RestaurantRepositoryCustom {
 
-    List<RestaurantEntity> findByIsActiveTrue();
+    // Campos usados por RestaurantBasicResponse: o menu nunca sai do MongoDB nas listagens básicas
+    String BASIC_FIELDS = "{ 'name': 1, 'address': 1, 'location': 1, 'kitchenType': 1, 'daysOperation': 1, 'ownerId': 1, "
+        + "'isActive': 1, 'lastUpdate': 1, 'createdAt': 1 }";
 
-    @Query("{ 'menu.items.id': ?0 }")
-    Optional<RestaurantEntity> findByMenuItemId(String itemId);
+    // Apenas o necessário para calcular a ETag de um restaurante
+    String VERSION_FIELDS = "{ 'version': 1 }";
+
+    // Aberto no minuto da semana ?0: o $elemMatch exige start e end no mesmo intervalo, e o planner
+    // usa os dois limites no índice parcial opening_intervals_idx
+    String OPEN_AT = "'isActive': true, "
+        + "'openingIntervals': { '$elemMatch': { 'start': { '$lte': ?0 }, 'end': { '$gt': ?0 } } }";
+
+    List<RestaurantEntity> findAllBy(Pageable pageable);
+
+    List<RestaurantEntity> findByIdGreaterThan(String id, Pageable pageable);
+
+    Stream<RestaurantEntity> streamAllBy();
+
+    @Query(value = "{}", fields = BASIC_FIELDS)
+    List<RestaurantEntity> findBasicBy(Pageable pageable);
+
+    @Query(value = "{ '_id': { '$gt': ?0 } }", fields = BASIC_FIELDS)
+    List<RestaurantEntity> findBasicByIdGreaterThan(String id, Pageable pageable);
+
+    // O filtro isActive: true faz o planner usar o índice parcial active_restaurants_idx
+    @Query(value = "{ 'isActive': true }", fields = BASIC_FIELDS)
+    List<RestaurantEntity> findBasicByIsActiveTrue(Pageable pageable);
+
+    @Query(value = "{ 'isActive': true, '_id': { '$gt': ?0 } }", fields = BASIC_FIELDS)
+    List<RestaurantEntity> findBasicByIsActiveTrueAndIdGreaterThan(String id, Pageable pageable);
+
+    @Query(value = "{ " + OPEN_AT + " }", fields = BASIC_FIELDS)
+    List<RestaurantEntity> findBasicOpenAt(int minuteOfWeek, Pageable pageable);
+
+    @Query(value = "{ " + OPEN_AT + ", '_id': { '$gt': ?1 } }", fields = BASIC_FIELDS)
+    List<RestaurantEntity> findBasicOpenAtAndIdGreaterThan(int minuteOfWeek, String id, Pageable pageable);
+
+    // Só o _id: alimenta o cache de restaurantes abertos no minuto corrente
+    @Query(value = "{ " + OPEN_AT + " }", fields = "{ '_id': 1 }")
+    List<RestaurantEntity> findIdsOpenAt(int minuteOfWeek);
+
+    @Query(value = "{ '_id': ?0 }", fields = "{ 'isActive': 1, 'openingIntervals': 1 }")
+    Optional<RestaurantEntity> findOpeningIntervalsById(String id);
+
+    @Query(value = "{ '_id': { '$in': ?0 } }", fields = BASIC_FIELDS)
+    List<RestaurantEntity> findBasicByIdIn(Collection<String> ids, Sort sort);
+
+    boolean existsByIdAndMenuId(String id, String menuId);
+
+    // findAndRemove: devolve o restaurante removido para ajustar os contadores do tipo de cozinha
+    Optional<RestaurantEntity> removeById(String id);
+
+    Optional<RestaurantEntity> removeByIdAndVersion(String id, Long version);
+
+    @Query(value = "{ '_id': ?0 }", fields = VERSION_FIELDS)
+    Optional<RestaurantEntity> findVersionById(String id);
+
+    @Query(value = "{ 'menu.items.id': ?0 }", fields = VERSION_FIELDS)
+    Optional<RestaurantEntity> findVersionByMenuItemId(String itemId);
     
     @Query("{ 'kitchenType.id': ?0 }")
     boolean existsByKitchenTypeId(String kitchenTypeId);
@@ -0,0 +1,75 @@
+package com.fiap.itmoura.tech_challenge_restaurant.application.ports.out;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.data.geo.GeoResult;
+import org.springframework.data.mongodb.core.geo.GeoJsonPoint;
+
+import com.fiap.itmoura.tech_challenge_restaurant.application.models.restaurant.RestaurantFacetFilter;
+import com.fiap.itmoura.tech_challenge_restaurant.application.models.restaurant.RestaurantFacets;
+import com.fiap.itmoura.tech_challenge_restaurant.domain.entities.MenuCategoryEntity;
+import com.fiap.itmoura.tech_challenge_restaurant.domain.entities.MenuItemEntity;
+import com.fiap.itmoura.tech_challenge_restaurant.domain.entities.RestaurantEntity;
+
+// Operações pontuais no menu: alteram apenas o trecho do documento envolvido, sem regravar o restaurante inteiro.
+// Toda escrita incrementa a versão do restaurante; expectedVersion nulo dispensa a checagem (sem If-Match)
+public interface RestaurantRepositoryCustom {
+
+    // Restaurante com versão e apenas a categoria pedida no menu (menu nulo quando a categoria não existe)
+    Optional<RestaurantEntity> findWithMenuCategory(String restaurantId, String categoryId);
+
+    // Retorna false quando o restaurante não existe
+    boolean pushMenuCategory(String restaurantId, MenuCategoryEntity category, LocalDateTime lastUpdate);
+
+    // Altera o tipo da categoria e retorna a categoria já atualizada
+    Optional<MenuCategoryEntity> updateMenuCategoryType(String restaurantId, String categoryId, String type,
+                                                        Long expectedVersion, LocalDateTime lastUpdate);
+
+    // Retorna false quando a categoria não existe no restaurante ou a versão não confere
+    boolean pullMenuCategory(String restaurantId, String categoryId, Long expectedVersion, LocalDateTime lastUpdate);
+
+    // Retorna false quando o restaurante ou a categoria não existem
+    boolean pushMenuItem(String restaurantId, String categoryId, MenuItemEntity item, LocalDateTime lastUpdate);
+
+    // insertMany em um único bulkWrite; retorna a mensagem de erro por índice dos documentos recusados
+    Map<Integer, String> insertRestaurants(List<RestaurantEntity> restaurants, boolean ordered);
+
+    // Contexto de um item (nome, endereço e versão do restaurante) com o menu reduzido à categoria e ao item encontrados
+    Optional<RestaurantEntity> findWithMenuItem(String itemId);
+
+    // Restaurante com versão e apenas os IDs das categorias do menu
+    Optional<RestaurantEntity> findMenuCategoryIds(String restaurantId);
+
+    // Um único bulkWrite para todas as categorias; retorna false quando o restaurante não está mais na versão esperada
+    boolean pushMenuItems(String restaurantId, Map<String, List<MenuItemEntity>> itemsByCategory,
+                          Long expectedVersion, LocalDateTime lastUpdate);
+
+    // Substitui os campos do item; flags nulas mantêm o valor atual. Retorna o item já atualizado
+    Optional<MenuItemEntity> updateMenuItem(String restaurantId, String categoryId, MenuItemEntity item,
+                                            Long expectedVersion, LocalDateTime lastUpdate);
+
+    // Retorna false quando o item não existe na categoria informada ou a versão não confere
+    boolean pullMenuItem(String restaurantId, String categoryId, String itemId, Long expectedVersion, LocalDateTime lastUpdate);
+
+    // Restaurantes ativos com localização a até maxDistanceMeters do ponto, mais próximos primeiro, com os campos básicos
+    List<GeoResult<RestaurantEntity>> findNearby(GeoJsonPoint point, double maxDistanceMeters, String kitchenTypeId, int limit);
+
+    // Página (até limit restaurantes com os campos básicos, _id > afterId) e, com includeFacets, as contagens de todo
+    // o filtro, em um único $facet. Sem as contagens é só a consulta da página
+    FacetedRestaurants findFacetedPage(RestaurantFacetFilter filter, String afterId, int limit,
+                                       List<BigDecimal> priceBands, boolean includeFacets);
+
+    // Documentos gravados antes de openingIntervals recebem os intervalos calculados de daysOperation; retorna quantos
+    long initializeMissingOpeningIntervals();
+
+    // Documentos gravados antes do controle de versão recebem version 0; retorna quantos foram ajustados
+    long initializeMissingVersions();
+
+    // facets é nulo quando não foram pedidas
+    record FacetedRestaurants(List<RestaurantEntity> restaurants, RestaurantFacets facets) {
+    }
+}
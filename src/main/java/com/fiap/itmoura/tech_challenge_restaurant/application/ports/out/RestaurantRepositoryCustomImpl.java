@@ -0,0 +1,514 @@
+package com.fiap.itmoura.tech_challenge_restaurant.application.ports.out;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.bson.Document;
+import org.springframework.data.geo.Distance;
+import org.springframework.data.geo.GeoResult;
+import org.springframework.data.geo.Metrics;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.geo.GeoJsonPoint;
+import org.springframework.data.mongodb.core.query.BasicQuery;
+import org.springframework.data.mongodb.core.query.BasicUpdate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.util.TypeInformation;
+
+import com.mongodb.bulk.BulkWriteError;
+
+import com.fiap.itmoura.tech_challenge_restaurant.application.models.restaurant.RestaurantFacetCount;
+import com.fiap.itmoura.tech_challenge_restaurant.application.models.restaurant.RestaurantFacetFilter;
+import com.fiap.itmoura.tech_challenge_restaurant.application.models.restaurant.RestaurantFacets;
+import com.fiap.itmoura.tech_challenge_restaurant.application.openinghours.OpeningHours;
+import com.fiap.itmoura.tech_challenge_restaurant.domain.entities.DayEnum;
+import com.fiap.itmoura.tech_challenge_restaurant.domain.entities.KitchenTypeEntity;
+import com.fiap.itmoura.tech_challenge_restaurant.domain.entities.MenuCategoryEntity;
+import com.fiap.itmoura.tech_challenge_restaurant.domain.entities.MenuItemEntity;
+import com.fiap.itmoura.tech_challenge_restaurant.domain.entities.OpeningIntervalEntity;
+import com.fiap.itmoura.tech_challenge_restaurant.domain.entities.RestaurantEntity;
+import com.fiap.itmoura.tech_challenge_restaurant.domain.exceptions.BadRequestException;
+
+public class RestaurantRepositoryCustomImpl implements RestaurantRepositoryCustom {
+
+    // Distância em metros calculada pelo $geoNear
+    private static final String DISTANCE_FIELD = "distance";
+
+    // Faixa de preço dos restaurantes sem itens ativos (fora de todos os limites do $bucket)
+    private static final String NO_PRICE_BAND = "none";
+
+    // Atualizações por bulkWrite na inicialização de openingIntervals
+    private static final int INITIALIZE_BATCH_SIZE = 1000;
+
+    private final MongoTemplate mongoTemplate;
+    private final String collection;
+
+    // Nome persistido do campo id das classes embutidas, resolvido pelo mapeamento do Spring Data
+    private final String categoryIdField;
+    private final String itemIdField;
+    private final String kitchenTypeIdField;
+
+    public RestaurantRepositoryCustomImpl(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+        this.collection = mongoTemplate.getCollectionName(RestaurantEntity.class);
+        this.categoryIdField = persistedIdField(MenuCategoryEntity.class);
+        this.itemIdField = persistedIdField(MenuItemEntity.class);
+        this.kitchenTypeIdField = persistedIdField(KitchenTypeEntity.class);
+    }
+
+    @Override
+    public Optional<RestaurantEntity> findWithMenuCategory(String restaurantId, String categoryId) {
+        Document fields = RestaurantProjections.menuCategory(categoryIdField, categoryId);
+
+        return Optional.ofNullable(mongoTemplate.findOne(
+            new BasicQuery(new Document("_id", restaurantId), fields), RestaurantEntity.class));
+    }
+
+    @Override
+    public boolean pushMenuCategory(String restaurantId, MenuCategoryEntity category, LocalDateTime lastUpdate) {
+        Document categoryDocument = toDocument(category, MenuCategoryEntity.class);
+
+        Document push = touch(lastUpdate).append("$push", new Document("menu", categoryDocument));
+        Document withMenu = restaurantQuery(restaurantId, null).append("menu", new Document("$type", "array"));
+        if (updateRestaurant(withMenu, push)) {
+            return true;
+        }
+
+        // Restaurantes sem menu: a lista vazia entra só onde menu ainda é nulo (sem mudar a versão), para não apagar a
+        // categoria incluída por uma criação concorrente, e o $push é refeito uma vez
+        updateRestaurant(restaurantQuery(restaurantId, null).append("menu", null),
+            new Document("$set", new Document("menu", List.of())));
+        return updateRestaurant(withMenu, push);
+    }
+
+    @Override
+    public Optional<MenuCategoryEntity> updateMenuCategoryType(String restaurantId, String categoryId, String type,
+                                                               Long expectedVersion, LocalDateTime lastUpdate) {
+        Document changes = touch(lastUpdate);
+        changes.get("$set", Document.class).append("menu.$[c].type", type);
+
+        BasicUpdate update = new BasicUpdate(changes);
+        update.filterArray(Criteria.where("c." + categoryIdField).is(categoryId));
+
+        // Devolve só a categoria alterada, não o restaurante inteiro
+        Document projection = new Document("_id", 0)
+            .append("category", RestaurantProjections.firstMatch("$menu", "c", categoryIdField, categoryId));
+
+        Document result = mongoTemplate.findAndModify(
+            new BasicQuery(menuCategoryQuery(restaurantId, categoryId, expectedVersion), projection),
+            update,
+            FindAndModifyOptions.options().returnNew(true),
+            Document.class,
+            collection);
+
+        return Optional.ofNullable(result)
+            .map(document -> document.get("category", Document.class))
+            .map(document -> mongoTemplate.getConverter().read(MenuCategoryEntity.class, document));
+    }
+
+    @Override
+    public boolean pullMenuCategory(String restaurantId, String categoryId, Long expectedVersion, LocalDateTime lastUpdate) {
+        Document update = touch(lastUpdate)
+            .append("$pull", new Document("menu", new Document(categoryIdField, categoryId)));
+
+        return updateRestaurant(menuCategoryQuery(restaurantId, categoryId, expectedVersion), update);
+    }
+
+    @Override
+    public boolean pushMenuItem(String restaurantId, String categoryId, MenuItemEntity item, LocalDateTime lastUpdate) {
+        Document itemDocument = toDocument(item, MenuItemEntity.class);
+
+        Document push = touch(lastUpdate).append("$push", new Document("menu.$.items", itemDocument));
+        if (updateCategory(restaurantId, categoryId, new Document("$type", "array"), push)) {
+            return true;
+        }
+
+        // $push falha em categorias com items nulo: a lista vazia entra só onde items ainda é nulo (sem mudar a versão),
+        // para não apagar itens incluídos por uma escrita concorrente, e o $push é refeito uma vez
+        BasicUpdate initializeItems = new BasicUpdate(new Document("$set", new Document("menu.$[empty].items", List.of())));
+        initializeItems.filterArray(Criteria.where("empty." + categoryIdField).is(categoryId).and("empty.items").is(null));
+        mongoTemplate.updateFirst(new BasicQuery(restaurantQuery(restaurantId, null)), initializeItems, collection);
+        return updateCategory(restaurantId, categoryId, new Document("$type", "array"), push);
+    }
+
+    @Override
+    public Map<Integer, String> insertRestaurants(List<RestaurantEntity> restaurants, boolean ordered) {
+        BulkOperations.BulkMode mode = ordered ? BulkOperations.BulkMode.ORDERED : BulkOperations.BulkMode.UNORDERED;
+        try {
+            mongoTemplate.bulkOps(mode, RestaurantEntity.class, collection).insert(restaurants).execute();
+            return Map.of();
+        } catch (BulkOperationException e) {
+            // Em modo ordenado o driver para no primeiro erro: os índices seguintes não aparecem aqui
+            return e.getErrors().stream()
+                .collect(Collectors.toMap(BulkWriteError::getIndex, BulkWriteError::getMessage, (first, second) -> first));
+        }
+    }
+
+    @Override
+    public Optional<RestaurantEntity> findWithMenuItem(String itemId) {
+        Aggregation aggregation = RestaurantProjections.menuItemContext(categoryIdField, itemIdField, itemId);
+        return Optional.ofNullable(mongoTemplate.aggregate(aggregation, collection, RestaurantEntity.class)
+            .getUniqueMappedResult());
+    }
+
+    @Override
+    public Optional<RestaurantEntity> findMenuCategoryIds(String restaurantId) {
+        Document fields = new Document("version", 1).append("menu." + categoryIdField, 1);
+
+        return Optional.ofNullable(mongoTemplate.findOne(
+            new BasicQuery(new Document("_id", restaurantId), fields), RestaurantEntity.class));
+    }
+
+    @Override
+    public boolean pushMenuItems(String restaurantId, Map<String, List<MenuItemEntity>> itemsByCategory,
+                                 Long expectedVersion, LocalDateTime lastUpdate) {
+        List<String> categoryIds = List.copyOf(itemsByCategory.keySet());
+
+        // Categorias com items nulo recebem uma lista vazia antes do push (sem mudar a versão)
+        BasicUpdate initializeItems = new BasicUpdate(new Document("$set", new Document("menu.$[empty].items", List.of())));
+        initializeItems.filterArray(Criteria.where("empty." + categoryIdField).in(categoryIds).and("empty.items").is(null));
+
+        // Um $push/$each por categoria, todos no mesmo update, cada um com seu arrayFilter
+        Document push = new Document();
+        Document changes = touch(lastUpdate).append("$push", push);
+        BasicUpdate pushItems = new BasicUpdate(changes);
+        for (int i = 0; i < categoryIds.size(); i++) {
+            String filter = "c" + i;
+            List<Document> items = itemsByCategory.get(categoryIds.get(i)).stream()
+                .map(item -> toDocument(item, MenuItemEntity.class))
+                .toList();
+            push.append("menu.$[" + filter + "].items", new Document("$each", items));
+            pushItems.filterArray(Criteria.where(filter + "." + categoryIdField).is(categoryIds.get(i)));
+        }
+
+        BasicQuery query = new BasicQuery(restaurantQuery(restaurantId, expectedVersion));
+        // As duas operações casam com o documento quando a versão ainda é a esperada
+        return mongoTemplate.bulkOps(BulkOperations.BulkMode.ORDERED, collection)
+            .updateOne(query, initializeItems)
+            .updateOne(query, pushItems)
+            .execute()
+            .getMatchedCount() == 2;
+    }
+
+    @Override
+    public Optional<MenuItemEntity> updateMenuItem(String restaurantId, String categoryId, MenuItemEntity item,
+                                                   Long expectedVersion, LocalDateTime lastUpdate) {
+        String path = "menu.$[c].items.$[i].";
+        Document changes = touch(lastUpdate);
+        Document fields = changes.get("$set", Document.class)
+            .append(path + "name", item.getName())
+            .append(path + "description", item.getDescription())
+            .append(path + "price", toMongo(item.getPrice()))
+            .append(path + "imagePath", item.getImagePath());
+        if (item.getOnlyForLocalConsumption() != null) {
+            fields.append(path + "onlyForLocalConsumption", item.getOnlyForLocalConsumption());
+        }
+        if (item.getIsActive() != null) {
+            fields.append(path + "isActive", item.getIsActive());
+        }
+
+        BasicUpdate update = new BasicUpdate(changes);
+        update.filterArray(Criteria.where("c." + categoryIdField).is(categoryId));
+        update.filterArray(Criteria.where("i." + itemIdField).is(item.getId()));
+
+        // Devolve só o item alterado, não o restaurante inteiro
+        Document projection = new Document("_id", 0)
+            .append("item", menuItemExpression(categoryId, item.getId()));
+
+        Document result = mongoTemplate.findAndModify(
+            new BasicQuery(menuItemQuery(restaurantId, categoryId, item.getId(), expectedVersion), projection),
+            update,
+            FindAndModifyOptions.options().returnNew(true),
+            Document.class,
+            collection);
+
+        return Optional.ofNullable(result)
+            .map(document -> document.get("item", Document.class))
+            .map(document -> mongoTemplate.getConverter().read(MenuItemEntity.class, document));
+    }
+
+    @Override
+    public boolean pullMenuItem(String restaurantId, String categoryId, String itemId, Long expectedVersion, LocalDateTime lastUpdate) {
+        Document update = touch(lastUpdate)
+            .append("$pull", new Document("menu.$.items", new Document(itemIdField, itemId)));
+
+        return updateRestaurant(menuItemQuery(restaurantId, categoryId, itemId, expectedVersion), update);
+    }
+
+    @Override
+    public List<GeoResult<RestaurantEntity>> findNearby(GeoJsonPoint point, double maxDistanceMeters,
+                                                        String kitchenTypeId, int limit) {
+        Document query = new Document("isActive", true);
+        if (kitchenTypeId != null) {
+            query.append("kitchenType." + kitchenTypeIdField, kitchenTypeId);
+        }
+
+        // $geoNear precisa ser o primeiro estágio: usa o índice 2dsphere, já filtra e devolve ordenado pela distância
+        Document geoNear = new Document("$geoNear", new Document("near", new Document("type", "Point")
+                .append("coordinates", List.of(point.getX(), point.getY())))
+            .append("key", "location")
+            .append("distanceField", DISTANCE_FIELD)
+            .append("maxDistance", maxDistanceMeters)
+            .append("spherical", true)
+            .append("query", query));
+        Document project = new Document("$project", Document.parse(RestaurantRepository.BASIC_FIELDS).append(DISTANCE_FIELD, 1));
+
+        Aggregation aggregation = Aggregation.newAggregation(context -> geoNear,
+            context -> new Document("$limit", limit), context -> project);
+        return mongoTemplate.aggregate(aggregation, collection, Document.class).getMappedResults().stream()
+            .map(document -> new GeoResult<>(mongoTemplate.getConverter().read(RestaurantEntity.class, document),
+                new Distance(document.get(DISTANCE_FIELD, Number.class).doubleValue() / 1000, Metrics.KILOMETERS)))
+            .toList();
+    }
+
+    @Override
+    public FacetedRestaurants findFacetedPage(RestaurantFacetFilter filter, String afterId, int limit,
+                                              List<BigDecimal> priceBands, boolean includeFacets) {
+        Document match = facetFilterQuery(filter);
+        Document pageMatch = afterId != null ? new Document("_id", new Document("$gt", afterId)) : new Document();
+        Document sort = new Document("$sort", new Document("_id", 1));
+        Document project = new Document("$project", Document.parse(RestaurantRepository.BASIC_FIELDS));
+
+        if (!includeFacets) {
+            // Contagens já em cache: o cursor entra no $match e a página vira um range scan no índice
+            Document query = new Document(match);
+            query.putAll(pageMatch);
+            Aggregation aggregation = Aggregation.newAggregation(context -> new Document("$match", query),
+                context -> sort, context -> new Document("$limit", limit), context -> project);
+            return new FacetedRestaurants(readRestaurants(
+                mongoTemplate.aggregate(aggregation, collection, Document.class).getMappedResults()), null);
+        }
+
+        // Os ramos do $facet recebem só os campos básicos e o necessário do menu para o preço médio
+        Document facetInput = new Document("$project", Document.parse(RestaurantRepository.BASIC_FIELDS)
+            .append("menu.items.price", 1)
+            .append("menu.items.isActive", 1));
+        Document facet = new Document("$facet", new Document("page",
+                List.of(new Document("$match", pageMatch), sort, new Document("$limit", limit), project))
+            .append("kitchenTypes", List.of(
+                new Document("$group", new Document("_id", new Document("id", "$kitchenType." + kitchenTypeIdField)
+                        .append("name", "$kitchenType.name"))
+                    .append("count", new Document("$sum", 1))),
+                new Document("$sort", new Document("count", -1).append("_id.name", 1))))
+            .append("operationDays", List.of(
+                // Cada dia conta uma vez por restaurante, mesmo repetido em daysOperation
+                new Document("$project", new Document("days",
+                    new Document("$setUnion", List.of(new Document("$ifNull", List.of("$daysOperation.day", List.of())))))),
+                new Document("$unwind", "$days"),
+                new Document("$group", new Document("_id", "$days").append("count", new Document("$sum", 1)))))
+            .append("activeStatus", List.of(
+                new Document("$group", new Document("_id", new Document("$eq", List.of("$isActive", true)))
+                    .append("count", new Document("$sum", 1)))))
+            .append("priceBands", List.of(
+                new Document("$project", new Document("averagePrice", averageActiveItemPrice())),
+                new Document("$bucket", new Document("groupBy", "$averagePrice")
+                    .append("boundaries", priceBandBoundaries(priceBands))
+                    .append("default", NO_PRICE_BAND)
+                    .append("output", new Document("count", new Document("$sum", 1)))))));
+
+        Aggregation aggregation = Aggregation.newAggregation(context -> new Document("$match", match),
+            context -> facetInput, context -> facet);
+        Document result = mongoTemplate.aggregate(aggregation, collection, Document.class).getUniqueMappedResult();
+
+        RestaurantFacets facets = new RestaurantFacets(
+            result.getList("kitchenTypes", Document.class).stream()
+                .map(bucket -> {
+                    Document kitchenType = bucket.get("_id", Document.class);
+                    return new RestaurantFacetCount(kitchenType.getString("id"), kitchenType.getString("name"), count(bucket));
+                })
+                .toList(),
+            result.getList("operationDays", Document.class).stream()
+                .sorted(Comparator.comparing(bucket -> DayEnum.valueOf(bucket.getString("_id"))))
+                .map(bucket -> new RestaurantFacetCount(bucket.getString("_id"), bucket.getString("_id"), count(bucket)))
+                .toList(),
+            result.getList("activeStatus", Document.class).stream()
+                .sorted(Comparator.comparing(bucket -> !bucket.getBoolean("_id")))
+                .map(bucket -> new RestaurantFacetCount(bucket.getBoolean("_id").toString(),
+                    bucket.getBoolean("_id").toString(), count(bucket)))
+                .toList(),
+            result.getList("priceBands", Document.class).stream()
+                .map(bucket -> priceBandCount(bucket, priceBands))
+                .toList());
+
+        return new FacetedRestaurants(readRestaurants(result.getList("page", Document.class)), facets);
+    }
+
+    @Override
+    public long initializeMissingOpeningIntervals() {
+        BasicQuery query = new BasicQuery(new Document("openingIntervals", new Document("$exists", false)),
+            new Document("daysOperation", 1));
+
+        long initialized = 0;
+        List<RestaurantEntity> batch = new ArrayList<>(INITIALIZE_BATCH_SIZE);
+        try (Stream<RestaurantEntity> restaurants = mongoTemplate.stream(query, RestaurantEntity.class, collection)) {
+            Iterator<RestaurantEntity> iterator = restaurants.iterator();
+            while (iterator.hasNext()) {
+                batch.add(iterator.next());
+                if (batch.size() == INITIALIZE_BATCH_SIZE) {
+                    initialized += setOpeningIntervals(batch);
+                    batch.clear();
+                }
+            }
+        }
+        return batch.isEmpty() ? initialized : initialized + setOpeningIntervals(batch);
+    }
+
+    @Override
+    public long initializeMissingVersions() {
+        return mongoTemplate.updateMulti(
+                new BasicQuery(new Document("version", new Document("$exists", false))),
+                new BasicUpdate(new Document("$set", new Document("version", 0L))),
+                collection)
+            .getModifiedCount();
+    }
+
+    private Document facetFilterQuery(RestaurantFacetFilter filter) {
+        Document query = new Document();
+        if (filter.kitchenTypeId() != null) {
+            query.append("kitchenType." + kitchenTypeIdField, filter.kitchenTypeId());
+        }
+        if (filter.day() != null) {
+            query.append("daysOperation.day", filter.day().name());
+        }
+        if (filter.isActive() != null) {
+            // isActive: true usa o índice parcial active_restaurants_idx
+            query.append("isActive", filter.isActive() ? Boolean.TRUE : new Document("$ne", true));
+        }
+        return query;
+    }
+
+    // Média dos preços dos itens ativos de todas as categorias; o BigDecimal é gravado como string, daí o $toDecimal
+    private static Document averageActiveItemPrice() {
+        Document items = new Document("$reduce", new Document("input", new Document("$ifNull", List.of("$menu.items", List.of())))
+            .append("initialValue", List.of())
+            .append("in", new Document("$concatArrays", List.of("$$value", new Document("$ifNull", List.of("$$this", List.of()))))));
+
+        Document activeItems = new Document("$filter", new Document("input", items)
+            .append("as", "item")
+            .append("cond", new Document("$eq", List.of("$$item.isActive", true))));
+
+        return new Document("$avg", new Document("$map", new Document("input", activeItems)
+            .append("as", "item")
+            .append("in", new Document("$toDecimal", "$$item.price"))));
+    }
+
+    // [0, limites..., máximo]: o último limite abre a faixa "100+"; médias nulas caem no default
+    private static List<Double> priceBandBoundaries(List<BigDecimal> priceBands) {
+        List<Double> boundaries = new ArrayList<>(priceBands.size() + 2);
+        boundaries.add(0.0);
+        priceBands.forEach(band -> boundaries.add(band.doubleValue()));
+        boundaries.add(Double.MAX_VALUE);
+        return boundaries;
+    }
+
+    private static RestaurantFacetCount priceBandCount(Document bucket, List<BigDecimal> priceBands) {
+        if (!(bucket.get("_id") instanceof Number lowerBound)) {
+            return new RestaurantFacetCount(NO_PRICE_BAND, NO_PRICE_BAND, count(bucket));
+        }
+
+        String lower = BigDecimal.valueOf(lowerBound.doubleValue()).stripTrailingZeros().toPlainString();
+        String band = priceBands.stream()
+            .filter(upper -> upper.doubleValue() > lowerBound.doubleValue())
+            .findFirst()
+            .map(upper -> lower + "-" + upper.stripTrailingZeros().toPlainString())
+            .orElse(lower + "+");
+        return new RestaurantFacetCount(band, band, count(bucket));
+    }
+
+    private static long count(Document bucket) {
+        return bucket.get("count", Number.class).longValue();
+    }
+
+    private List<RestaurantEntity> readRestaurants(List<Document> documents) {
+        return documents.stream()
+            .map(document -> mongoTemplate.getConverter().read(RestaurantEntity.class, document))
+            .toList();
+    }
+
+    // Campo derivado: não altera lastUpdate nem a versão, a representação do restaurante continua a mesma
+    private long setOpeningIntervals(List<RestaurantEntity> restaurants) {
+        BulkOperations operations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, collection);
+        for (RestaurantEntity restaurant : restaurants) {
+            operations.updateOne(new BasicQuery(new Document("_id", restaurant.getId())),
+                new BasicUpdate(new Document("$set", new Document("openingIntervals",
+                    toMongo(openingIntervals(restaurant))))));
+        }
+        return operations.execute().getModifiedCount();
+    }
+
+    // Horários gravados fora do formato HH:mm ficam sem intervalos: o restaurante nunca aparece como aberto
+    private static List<OpeningIntervalEntity> openingIntervals(RestaurantEntity restaurant) {
+        try {
+            return OpeningHours.toIntervals(restaurant.getDaysOperation());
+        } catch (BadRequestException e) {
+            return List.of();
+        }
+    }
+
+    // Toda escrita atualiza lastUpdate e incrementa a versão usada nas ETags e no If-Match
+    private Document touch(LocalDateTime lastUpdate) {
+        return new Document("$set", new Document("lastUpdate", toMongo(lastUpdate)))
+            .append("$inc", new Document("version", 1L));
+    }
+
+    private boolean updateCategory(String restaurantId, String categoryId, Object items, Document update) {
+        return updateRestaurant(restaurantQuery(restaurantId, null)
+            .append("menu", new Document("$elemMatch", new Document(categoryIdField, categoryId).append("items", items))), update);
+    }
+
+    private boolean updateRestaurant(Document query, Document update) {
+        return mongoTemplate.updateFirst(new BasicQuery(query), new BasicUpdate(update), collection)
+            .getMatchedCount() > 0;
+    }
+
+    private static Document restaurantQuery(String restaurantId, Long expectedVersion) {
+        Document query = new Document("_id", restaurantId);
+        if (expectedVersion != null) {
+            query.append("version", expectedVersion);
+        }
+        return query;
+    }
+
+    private Document menuCategoryQuery(String restaurantId, String categoryId, Long expectedVersion) {
+        return restaurantQuery(restaurantId, expectedVersion).append("menu." + categoryIdField, categoryId);
+    }
+
+    private Document menuItemQuery(String restaurantId, String categoryId, String itemId, Long expectedVersion) {
+        return restaurantQuery(restaurantId, expectedVersion)
+            .append("menu", new Document("$elemMatch", new Document(categoryIdField, categoryId)
+                .append("items." + itemIdField, itemId)));
+    }
+
+    // { $first: $filter(item) } aplicado sobre { $first: $filter(categoria) }
+    private Document menuItemExpression(String categoryId, String itemId) {
+        Document category = RestaurantProjections.firstMatch("$menu", "c", categoryIdField, categoryId);
+        return new Document("$let", new Document("vars", new Document("c", category))
+            .append("in", RestaurantProjections.firstMatch("$$c.items", "i", itemIdField, itemId)));
+    }
+
+    private <T> Document toDocument(T value, Class<T> type) {
+        return (Document) mongoTemplate.getConverter().convertToMongoType(value, TypeInformation.of(type));
+    }
+
+    private Object toMongo(Object value) {
+        return mongoTemplate.getConverter().convertToMongoType(value);
+    }
+
+    private String persistedIdField(Class<?> type) {
+        return mongoTemplate.getConverter().getMappingContext()
+            .getRequiredPersistentEntity(type)
+            .getRequiredPersistentProperty("id")
+            .getFieldName();
+    }
+}
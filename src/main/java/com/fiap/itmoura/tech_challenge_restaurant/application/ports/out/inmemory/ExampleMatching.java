@@ -0,0 +1,109 @@
+package com.fiap.itmoura.tech_challenge_restaurant.application.ports.out.inmemory;
+
+import java.beans.PropertyDescriptor;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.BeanWrapperImpl;
+import org.springframework.data.domain.Example;
+import org.springframework.data.domain.ExampleMatcher;
+import org.springframework.data.support.ExampleMatcherAccessor;
+
+// Query by Example sobre os documentos em memória, na mesma semântica do MongoDB: cada propriedade não nula do probe
+// vira uma condição, objetos embutidos descem por caminho ("kitchenType.name") e listas e mapas comparam por igualdade
+final class ExampleMatching {
+
+    private ExampleMatching() {
+    }
+
+    static Predicate<Object> predicate(Example<?> example) {
+        ExampleMatcher matcher = example.getMatcher();
+        List<Predicate<Object>> conditions = new ArrayList<>();
+        collect(example.getProbe(), "", new ExampleMatcherAccessor(matcher), conditions);
+
+        // Probe sem nenhuma propriedade preenchida casa com todos os documentos
+        if (conditions.isEmpty()) {
+            return document -> true;
+        }
+        return matcher.isAllMatching()
+            ? document -> conditions.stream().allMatch(condition -> condition.test(document))
+            : document -> conditions.stream().anyMatch(condition -> condition.test(document));
+    }
+
+    private static void collect(Object probe, String prefix, ExampleMatcherAccessor accessor,
+                                List<Predicate<Object>> conditions) {
+        BeanWrapper wrapper = new BeanWrapperImpl(probe);
+        for (PropertyDescriptor property : wrapper.getPropertyDescriptors()) {
+            if (property.getReadMethod() == null || "class".equals(property.getName())) {
+                continue;
+            }
+            String path = prefix + property.getName();
+            if (accessor.isIgnoredPath(path)) {
+                continue;
+            }
+
+            Object value = accessor.getValueTransformerForPath(path)
+                .apply(Optional.ofNullable(wrapper.getPropertyValue(property.getName())))
+                .orElse(null);
+            if (value == null) {
+                if (accessor.getNullHandler() == ExampleMatcher.NullHandler.INCLUDE) {
+                    conditions.add(document -> valueAt(document, path) == null);
+                }
+            } else if (value instanceof String text) {
+                Predicate<String> matches = stringMatcher(text, accessor.getStringMatcherForPath(path),
+                    accessor.isIgnoreCaseForPath(path));
+                conditions.add(document -> valueAt(document, path) instanceof String actual && matches.test(actual));
+            } else if (isEmbedded(value)) {
+                collect(value, path + ".", accessor, conditions);
+            } else {
+                conditions.add(document -> Objects.equals(valueAt(document, path), value));
+            }
+        }
+    }
+
+    private static boolean isEmbedded(Object value) {
+        return !BeanUtils.isSimpleValueType(value.getClass())
+            && !(value instanceof Collection<?>)
+            && !(value instanceof Map<?, ?>)
+            && !value.getClass().isArray();
+    }
+
+    // Objeto embutido nulo no documento: o caminho não existe e a condição não casa, como no MongoDB
+    private static Object valueAt(Object document, String path) {
+        Object value = document;
+        for (String property : path.split("\\.")) {
+            if (value == null) {
+                return null;
+            }
+            value = new BeanWrapperImpl(value).getPropertyValue(property);
+        }
+        return value;
+    }
+
+    private static Predicate<String> stringMatcher(String expected, ExampleMatcher.StringMatcher matcher,
+                                                   boolean ignoreCase) {
+        return switch (matcher) {
+            case DEFAULT, EXACT -> actual -> ignoreCase ? actual.equalsIgnoreCase(expected) : actual.equals(expected);
+            case STARTING -> actual -> actual.regionMatches(ignoreCase, 0, expected, 0, expected.length());
+            case ENDING -> actual -> actual.length() >= expected.length()
+                && actual.regionMatches(ignoreCase, actual.length() - expected.length(), expected, 0, expected.length());
+            case CONTAINING -> ignoreCase
+                ? actual -> actual.toLowerCase(Locale.ROOT).contains(expected.toLowerCase(Locale.ROOT))
+                : actual -> actual.contains(expected);
+            case REGEX -> {
+                // $regex do MongoDB: casa em qualquer posição do texto
+                Pattern pattern = Pattern.compile(expected, ignoreCase ? Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE : 0);
+                yield actual -> pattern.matcher(actual).find();
+            }
+        };
+    }
+}
@@ -0,0 +1,223 @@
+package com.fiap.itmoura.tech_challenge_restaurant.application.ports.out.inmemory;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.bson.types.ObjectId;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Repository;
+
+import com.fiap.itmoura.tech_challenge_restaurant.application.ports.out.KitchenTypeRepository;
+import com.fiap.itmoura.tech_challenge_restaurant.domain.entities.KitchenTypeDocumentEntity;
+
+import lombok.RequiredArgsConstructor;
+
+// KitchenTypeRepository sem MongoDB (perfil in-memory). O índice por nome em minúsculas atende as consultas
+// IgnoreCase; a unicidade segue o índice único de kitchen_types, que diferencia maiúsculas
+@Repository
+@Profile("in-memory")
+@RequiredArgsConstructor
+public class InMemoryKitchenTypeRepository extends InMemoryRepositorySupport<KitchenTypeDocumentEntity> implements KitchenTypeRepository {
+
+    private final InMemoryRestaurantRepository restaurantRepository;
+
+    private final NavigableMap<String, KitchenTypeDocumentEntity> kitchenTypes = new ConcurrentSkipListMap<>();
+    private final SecondaryIndex idsByName = new SecondaryIndex();
+    private final ReentrantLock lock = new ReentrantLock();
+
+    @Override
+    protected NavigableMap<String, KitchenTypeDocumentEntity> documents() {
+        return kitchenTypes;
+    }
+
+    @Override
+    protected KitchenTypeDocumentEntity copy(KitchenTypeDocumentEntity kitchenType) {
+        return KitchenTypeDocumentEntity.builder()
+            .id(kitchenType.getId())
+            .name(kitchenType.getName())
+            .description(kitchenType.getDescription())
+            .createdAt(kitchenType.getCreatedAt())
+            .lastUpdate(kitchenType.getLastUpdate())
+            .restaurantCount(kitchenType.getRestaurantCount())
+            .activeRestaurantCount(kitchenType.getActiveRestaurantCount())
+            .build();
+    }
+
+    // Sem @Version: save é um upsert pelo _id
+    @Override
+    public <S extends KitchenTypeDocumentEntity> S save(S entity) {
+        lock.lock();
+        try {
+            if (entity.getId() == null) {
+                entity.setId(new ObjectId().toHexString());
+            }
+            store(entity);
+            return entity;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public <S extends KitchenTypeDocumentEntity> S insert(S entity) {
+        lock.lock();
+        try {
+            if (entity.getId() == null) {
+                entity.setId(new ObjectId().toHexString());
+            }
+            if (kitchenTypes.containsKey(entity.getId())) {
+                throw new DuplicateKeyException(duplicateKeyMessage("_id_", entity.getId()));
+            }
+            store(entity);
+            return entity;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void deleteById(String id) {
+        lock.lock();
+        try {
+            KitchenTypeDocumentEntity current = kitchenTypes.remove(id);
+            if (current != null) {
+                idsByName.remove(nameKey(current.getName()), id);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void delete(KitchenTypeDocumentEntity entity) {
+        deleteById(entity.getId());
+    }
+
+    @Override
+    public void deleteAll() {
+        List.copyOf(kitchenTypes.keySet()).forEach(this::deleteById);
+    }
+
+    @Override
+    public Optional<KitchenTypeDocumentEntity> findByNameIgnoreCase(String name) {
+        return idsByName.get(nameKey(name)).stream()
+            .map(kitchenTypes::get)
+            .filter(Objects::nonNull)
+            .filter(kitchenType -> kitchenType.getName().equalsIgnoreCase(name))
+            .findFirst()
+            .map(this::copy);
+    }
+
+    @Override
+    public boolean existsByNameIgnoreCase(String name) {
+        return findByNameIgnoreCase(name).isPresent();
+    }
+
+    @Override
+    public boolean existsByNameIgnoreCaseAndIdNot(String name, String id) {
+        return idsByName.get(nameKey(name)).stream()
+            .filter(candidate -> !candidate.equals(id))
+            .map(kitchenTypes::get)
+            .anyMatch(kitchenType -> kitchenType != null && kitchenType.getName().equalsIgnoreCase(name));
+    }
+
+    // Como o $inc: contador ausente conta como zero; tipo inexistente é ignorado
+    @Override
+    public void incrementRestaurantCounts(String kitchenTypeId, long restaurantDelta, long activeRestaurantDelta) {
+        lock.lock();
+        try {
+            KitchenTypeDocumentEntity current = kitchenTypes.get(kitchenTypeId);
+            if (current == null) {
+                return;
+            }
+            KitchenTypeDocumentEntity updated = copy(current);
+            updated.setRestaurantCount(countOf(current.getRestaurantCount()) + restaurantDelta);
+            updated.setActiveRestaurantCount(countOf(current.getActiveRestaurantCount()) + activeRestaurantDelta);
+            kitchenTypes.put(kitchenTypeId, updated);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Como o $set de updateDetails: contadores e createdAt ficam como estão
+    @Override
+    public Optional<KitchenTypeDocumentEntity> updateDetails(String id, String name, String description, LocalDateTime lastUpdate) {
+        lock.lock();
+        try {
+            KitchenTypeDocumentEntity current = kitchenTypes.get(id);
+            if (current == null) {
+                return Optional.empty();
+            }
+            KitchenTypeDocumentEntity updated = copy(current);
+            updated.setName(name);
+            updated.setDescription(description);
+            updated.setLastUpdate(lastUpdate);
+            store(updated);
+            return Optional.of(updated);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Contagens lidas dos índices kitchenType.id e isActive do repositório de restaurantes, sem varrer os documentos
+    @Override
+    public long reconcileRestaurantCounts() {
+        lock.lock();
+        try {
+            long corrected = 0;
+            for (KitchenTypeDocumentEntity current : List.copyOf(kitchenTypes.values())) {
+                long total = restaurantRepository.countByKitchenTypeId(current.getId());
+                long active = restaurantRepository.countActiveByKitchenTypeId(current.getId());
+                if (Long.valueOf(total).equals(current.getRestaurantCount())
+                        && Long.valueOf(active).equals(current.getActiveRestaurantCount())) {
+                    continue;
+                }
+
+                KitchenTypeDocumentEntity updated = copy(current);
+                updated.setRestaurantCount(total);
+                updated.setActiveRestaurantCount(active);
+                kitchenTypes.put(current.getId(), updated);
+                corrected++;
+            }
+            return corrected;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Chamado com o lock; o nome é único como no índice name de kitchen_types
+    private void store(KitchenTypeDocumentEntity entity) {
+        boolean nameTaken = idsByName.get(nameKey(entity.getName())).stream()
+            .filter(id -> !id.equals(entity.getId()))
+            .map(kitchenTypes::get)
+            .anyMatch(kitchenType -> kitchenType != null && Objects.equals(kitchenType.getName(), entity.getName()));
+        if (nameTaken) {
+            throw new DuplicateKeyException(duplicateKeyMessage("name", entity.getName()));
+        }
+
+        KitchenTypeDocumentEntity previous = kitchenTypes.put(entity.getId(), copy(entity));
+        if (previous != null) {
+            idsByName.remove(nameKey(previous.getName()), previous.getId());
+        }
+        idsByName.add(nameKey(entity.getName()), entity.getId());
+    }
+
+    private static String nameKey(String name) {
+        return name != null ? name.toLowerCase(Locale.ROOT) : null;
+    }
+
+    private static long countOf(Long count) {
+        return count != null ? count : 0L;
+    }
+
+    private static String duplicateKeyMessage(String index, String value) {
+        return "E11000 duplicate key error collection: kitchen_types index: " + index + " dup key: { \"" + value + "\" }";
+    }
+}
@@ -0,0 +1,317 @@
+package com.fiap.itmoura.tech_challenge_restaurant.application.ports.out.inmemory;
+
+import java.beans.PropertyDescriptor;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.BeanWrapperImpl;
+import org.springframework.dao.IncorrectResultSizeDataAccessException;
+import org.springframework.data.domain.Example;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.projection.ProjectionFactory;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.data.repository.query.FluentQuery;
+
+// Parte genérica do MongoRepository sobre um mapa ordenado por _id. Os documentos guardados nunca são alterados:
+// escritas trocam o documento por uma cópia nova e leituras devolvem cópias, como um driver devolveria
+public abstract class InMemoryRepositorySupport<T> implements MongoRepository<T, String> {
+
+    private static final Sort ID_ORDER = Sort.by(Sort.Direction.ASC, "id");
+    private static final ProjectionFactory PROJECTIONS = new SpelAwareProxyProjectionFactory();
+
+    // Documentos por _id; leituras não pegam lock
+    protected abstract NavigableMap<String, T> documents();
+
+    protected abstract T copy(T document);
+
+    @Override
+    public <S extends T> List<S> saveAll(Iterable<S> entities) {
+        List<S> saved = new ArrayList<>();
+        entities.forEach(entity -> saved.add(save(entity)));
+        return saved;
+    }
+
+    @Override
+    public <S extends T> List<S> insert(Iterable<S> entities) {
+        List<S> inserted = new ArrayList<>();
+        entities.forEach(entity -> inserted.add(insert(entity)));
+        return inserted;
+    }
+
+    @Override
+    public Optional<T> findById(String id) {
+        return Optional.ofNullable(documents().get(id)).map(this::copy);
+    }
+
+    @Override
+    public boolean existsById(String id) {
+        return documents().containsKey(id);
+    }
+
+    @Override
+    public List<T> findAll() {
+        return documents().values().stream().map(this::copy).toList();
+    }
+
+    @Override
+    public List<T> findAllById(Iterable<String> ids) {
+        return StreamSupport.stream(ids.spliterator(), false)
+            .distinct()
+            .map(documents()::get)
+            .filter(document -> document != null)
+            .map(this::copy)
+            .toList();
+    }
+
+    @Override
+    public long count() {
+        return documents().size();
+    }
+
+    @Override
+    public void deleteAllById(Iterable<? extends String> ids) {
+        ids.forEach(this::deleteById);
+    }
+
+    @Override
+    public void deleteAll(Iterable<? extends T> entities) {
+        entities.forEach(this::delete);
+    }
+
+    @Override
+    public List<T> findAll(Sort sort) {
+        return sorted(documents().values().stream(), sort).map(this::copy).toList();
+    }
+
+    @Override
+    public Page<T> findAll(Pageable pageable) {
+        List<T> content = page(documents().values().stream(), pageable).map(this::copy).toList();
+        return new PageImpl<>(content, pageable, count());
+    }
+
+    @Override
+    public <S extends T> Optional<S> findOne(Example<S> example) {
+        return matching(example).findFirst().map(document -> cast(copy(document)));
+    }
+
+    @Override
+    public <S extends T> List<S> findAll(Example<S> example) {
+        return findAll(example, Sort.unsorted());
+    }
+
+    @Override
+    public <S extends T> List<S> findAll(Example<S> example, Sort sort) {
+        return sorted(matching(example), sort).map(document -> this.<S>cast(copy(document))).toList();
+    }
+
+    @Override
+    public <S extends T> Page<S> findAll(Example<S> example, Pageable pageable) {
+        List<S> content = page(matching(example), pageable).map(document -> this.<S>cast(copy(document))).toList();
+        return new PageImpl<>(content, pageable, count(example));
+    }
+
+    @Override
+    public <S extends T> long count(Example<S> example) {
+        return matching(example).count();
+    }
+
+    @Override
+    public <S extends T> boolean exists(Example<S> example) {
+        return matching(example).findAny().isPresent();
+    }
+
+    @Override
+    public <S extends T, R> R findBy(Example<S> example, Function<FluentQuery.FetchableFluentQuery<S>, R> queryFunction) {
+        return queryFunction.apply(new ExampleQuery<>(ExampleMatching.predicate(example), Sort.unsorted(), 0, Set.of(),
+            this::cast));
+    }
+
+    // documents() já está em ordem de _id: a ordenação padrão das páginas por cursor não custa nada
+    protected Stream<T> sorted(Stream<T> documents, Sort sort) {
+        if (sort.isUnsorted() || sort.equals(ID_ORDER)) {
+            return documents;
+        }
+        return documents.sorted(comparator(sort));
+    }
+
+    protected Stream<T> page(Stream<T> documents, Pageable pageable) {
+        Stream<T> ordered = sorted(documents, pageable.getSort());
+        return pageable.isPaged() ? ordered.skip(pageable.getOffset()).limit(pageable.getPageSize()) : ordered;
+    }
+
+    // Mesma ordem do MongoDB para os tipos usados aqui: nulo antes de qualquer valor na ordem crescente
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private Comparator<T> comparator(Sort sort) {
+        Comparator<T> comparator = null;
+        for (Sort.Order order : sort) {
+            Comparator<T> byProperty = Comparator.comparing(
+                document -> (Comparable) new BeanWrapperImpl(document).getPropertyValue(order.getProperty()),
+                Comparator.nullsFirst(Comparator.naturalOrder()));
+            if (order.isDescending()) {
+                byProperty = byProperty.reversed();
+            }
+            comparator = comparator == null ? byProperty : comparator.thenComparing(byProperty);
+        }
+        return comparator;
+    }
+
+    private Stream<T> matching(Example<? extends T> example) {
+        return documents().values().stream().filter(ExampleMatching.predicate(example));
+    }
+
+    // O probe é do tipo do repositório (ou de um subtipo); os documentos guardados são sempre T
+    @SuppressWarnings("unchecked")
+    private <S> S cast(T document) {
+        return (S) document;
+    }
+
+    // FluentQuery do findBy: filtra, ordena e limita os documentos guardados; cópia, projeção de campos e conversão
+    // de tipo só nos documentos devolvidos
+    private final class ExampleQuery<R> implements FluentQuery.FetchableFluentQuery<R> {
+
+        private final Predicate<Object> matches;
+        private final Sort sort;
+        // 0 = sem limite
+        private final int limit;
+        // Vazio = todos os campos
+        private final Set<String> properties;
+        private final Function<T, R> conversion;
+
+        private ExampleQuery(Predicate<Object> matches, Sort sort, int limit, Set<String> properties,
+                             Function<T, R> conversion) {
+            this.matches = matches;
+            this.sort = sort;
+            this.limit = limit;
+            this.properties = properties;
+            this.conversion = conversion;
+        }
+
+        @Override
+        public FluentQuery.FetchableFluentQuery<R> sortBy(Sort sort) {
+            return new ExampleQuery<>(matches, this.sort.and(sort), limit, properties, conversion);
+        }
+
+        @Override
+        public FluentQuery.FetchableFluentQuery<R> limit(int limit) {
+            if (limit < 0) {
+                throw new IllegalArgumentException("Limit must not be negative");
+            }
+            return new ExampleQuery<>(matches, sort, limit, properties, conversion);
+        }
+
+        @Override
+        public <P> FluentQuery.FetchableFluentQuery<P> as(Class<P> resultType) {
+            return new ExampleQuery<>(matches, sort, limit, properties, document -> convert(document, resultType));
+        }
+
+        @Override
+        public FluentQuery.FetchableFluentQuery<R> project(Collection<String> properties) {
+            return new ExampleQuery<>(matches, sort, limit, Set.copyOf(properties), conversion);
+        }
+
+        @Override
+        public R oneValue() {
+            List<R> results = fetch(Pageable.unpaged()).limit(2).toList();
+            if (results.size() > 1) {
+                throw new IncorrectResultSizeDataAccessException(1);
+            }
+            return results.isEmpty() ? null : results.get(0);
+        }
+
+        @Override
+        public R firstValue() {
+            return fetch(Pageable.unpaged()).findFirst().orElse(null);
+        }
+
+        @Override
+        public List<R> all() {
+            return fetch(Pageable.unpaged()).toList();
+        }
+
+        @Override
+        public Page<R> page(Pageable pageable) {
+            return new PageImpl<>(fetch(pageable).toList(), pageable, count());
+        }
+
+        @Override
+        public Stream<R> stream() {
+            return all().stream();
+        }
+
+        @Override
+        public long count() {
+            return documents().values().stream().filter(matches).count();
+        }
+
+        @Override
+        public boolean exists() {
+            return documents().values().stream().anyMatch(matches);
+        }
+
+        // A ordenação da página tem precedência sobre a do sortBy; o limite vale só fora da paginação
+        private Stream<R> fetch(Pageable pageable) {
+            Stream<T> found = documents().values().stream().filter(matches);
+            if (pageable.isPaged()) {
+                Pageable ordered = pageable.getSort().isSorted() ? pageable : withSort(pageable);
+                found = InMemoryRepositorySupport.this.page(found, ordered);
+            } else {
+                found = sorted(found, sort);
+                if (limit > 0) {
+                    found = found.limit(limit);
+                }
+            }
+            return found.map(InMemoryRepositorySupport.this::copy).map(this::project).map(conversion);
+        }
+
+        private Pageable withSort(Pageable pageable) {
+            return PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), sort);
+        }
+
+        // Campos fora da projeção saem nulos, como no documento que o MongoDB devolveria; o _id sempre vem.
+        // Um caminho aninhado ("kitchenType.name") mantém o objeto embutido inteiro
+        private T project(T document) {
+            if (properties.isEmpty()) {
+                return document;
+            }
+            BeanWrapper wrapper = new BeanWrapperImpl(document);
+            for (PropertyDescriptor property : wrapper.getPropertyDescriptors()) {
+                String name = property.getName();
+                boolean projected = "id".equals(name)
+                    || properties.stream().anyMatch(path -> path.equals(name) || path.startsWith(name + "."));
+                if (!projected && property.getWriteMethod() != null && !property.getPropertyType().isPrimitive()) {
+                    wrapper.setPropertyValue(name, null);
+                }
+            }
+            return document;
+        }
+    }
+
+    // Interfaces viram projeções (proxy sobre o documento); classes recebem as propriedades de mesmo nome
+    private <P> P convert(T document, Class<P> resultType) {
+        if (resultType.isInstance(document)) {
+            return resultType.cast(document);
+        }
+        if (resultType.isInterface()) {
+            return PROJECTIONS.createProjection(resultType, document);
+        }
+        P result = BeanUtils.instantiateClass(resultType);
+        BeanUtils.copyProperties(document, result);
+        return result;
+    }
+}
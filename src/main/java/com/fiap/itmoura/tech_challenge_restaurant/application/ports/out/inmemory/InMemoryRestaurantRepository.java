@@ -0,0 +1,689 @@
+package com.fiap.itmoura.tech_challenge_restaurant.application.ports.out.inmemory;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+import org.bson.types.ObjectId;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.geo.Distance;
+import org.springframework.data.geo.GeoResult;
+import org.springframework.data.geo.Metrics;
+import org.springframework.data.mongodb.core.geo.GeoJsonPoint;
+import org.springframework.stereotype.Repository;
+
+import com.fiap.itmoura.tech_challenge_restaurant.application.models.restaurant.RestaurantFacetCount;
+import com.fiap.itmoura.tech_challenge_restaurant.application.models.restaurant.RestaurantFacetFilter;
+import com.fiap.itmoura.tech_challenge_restaurant.application.models.restaurant.RestaurantFacets;
+import com.fiap.itmoura.tech_challenge_restaurant.application.openinghours.OpeningHours;
+import com.fiap.itmoura.tech_challenge_restaurant.application.ports.out.RestaurantRepository;
+import com.fiap.itmoura.tech_challenge_restaurant.domain.entities.DayEnum;
+import com.fiap.itmoura.tech_challenge_restaurant.domain.entities.MenuCategoryEntity;
+import com.fiap.itmoura.tech_challenge_restaurant.domain.entities.MenuItemEntity;
+import com.fiap.itmoura.tech_challenge_restaurant.domain.entities.OpeningIntervalEntity;
+import com.fiap.itmoura.tech_challenge_restaurant.domain.entities.OperationDaysTimeData;
+import com.fiap.itmoura.tech_challenge_restaurant.domain.entities.RestaurantEntity;
+import com.fiap.itmoura.tech_challenge_restaurant.domain.exceptions.BadRequestException;
+
+// RestaurantRepository sem MongoDB (perfil in-memory), com a mesma semântica de consulta, projeção e versão.
+// Índices secundários no lugar dos índices da coleção: menu.items.id, kitchenType.id e isActive (parcial)
+@Repository
+@Profile("in-memory")
+public class InMemoryRestaurantRepository extends InMemoryRepositorySupport<RestaurantEntity> implements RestaurantRepository {
+
+    // Raio usado pelo $geoNear esférico com pontos GeoJSON
+    private static final double EARTH_RADIUS_METERS = 6_378_100;
+
+    // Faixa de preço dos restaurantes sem itens ativos
+    private static final String NO_PRICE_BAND = "none";
+
+    private final NavigableMap<String, RestaurantEntity> restaurants = new ConcurrentSkipListMap<>();
+    private final SecondaryIndex idsByMenuItemId = new SecondaryIndex();
+    private final SecondaryIndex idsByKitchenTypeId = new SecondaryIndex();
+    private final NavigableSet<String> activeIds = new ConcurrentSkipListSet<>();
+
+    // Escritas serializadas: a checagem de versão e a troca do documento com seus índices são atômicas
+    private final ReentrantLock lock = new ReentrantLock();
+
+    @Override
+    protected NavigableMap<String, RestaurantEntity> documents() {
+        return restaurants;
+    }
+
+    @Override
+    protected RestaurantEntity copy(RestaurantEntity restaurant) {
+        return RestaurantDocuments.copy(restaurant);
+    }
+
+    // Mesmo contrato do save versionado do Spring Data: versão nula insere com 0, senão só grava na versão lida
+    @Override
+    public <S extends RestaurantEntity> S save(S entity) {
+        if (entity.getVersion() == null) {
+            return insert(entity);
+        }
+
+        lock.lock();
+        try {
+            RestaurantEntity current = entity.getId() != null ? restaurants.get(entity.getId()) : null;
+            if (current == null || !entity.getVersion().equals(current.getVersion())) {
+                throw new OptimisticLockingFailureException(String.format(
+                    "Cannot save entity %s with version %s to collection restaurants; Has it been modified meanwhile",
+                    entity.getId(), entity.getVersion()));
+            }
+            entity.setVersion(entity.getVersion() + 1);
+            replace(current, copy(entity));
+            return entity;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public <S extends RestaurantEntity> S insert(S entity) {
+        lock.lock();
+        try {
+            if (entity.getId() == null) {
+                entity.setId(new ObjectId().toHexString());
+            }
+            if (restaurants.containsKey(entity.getId())) {
+                throw new DuplicateKeyException(duplicateKeyMessage(entity.getId()));
+            }
+            if (entity.getVersion() == null) {
+                entity.setVersion(0L);
+            }
+            replace(null, copy(entity));
+            return entity;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void deleteById(String id) {
+        removeById(id);
+    }
+
+    @Override
+    public void delete(RestaurantEntity entity) {
+        if (entity.getVersion() == null) {
+            removeById(entity.getId());
+        } else if (removeByIdAndVersion(entity.getId(), entity.getVersion()).isEmpty()) {
+            throw new OptimisticLockingFailureException(String.format(
+                "The entity with id %s with version %s in restaurants cannot be deleted; Was it modified or deleted in the meantime",
+                entity.getId(), entity.getVersion()));
+        }
+    }
+
+    @Override
+    public void deleteAll() {
+        lock.lock();
+        try {
+            List.copyOf(restaurants.values()).forEach(restaurant -> replace(restaurant, null));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public List<RestaurantEntity> findAllBy(Pageable pageable) {
+        return page(restaurants.values().stream(), pageable).map(this::copy).toList();
+    }
+
+    @Override
+    public List<RestaurantEntity> findByIdGreaterThan(String id, Pageable pageable) {
+        return page(restaurants.tailMap(id, false).values().stream(), pageable).map(this::copy).toList();
+    }
+
+    @Override
+    public Stream<RestaurantEntity> streamAllBy() {
+        return restaurants.values().stream().map(this::copy);
+    }
+
+    @Override
+    public List<RestaurantEntity> findBasicBy(Pageable pageable) {
+        return page(restaurants.values().stream(), pageable).map(RestaurantDocuments::basic).toList();
+    }
+
+    @Override
+    public List<RestaurantEntity> findBasicByIdGreaterThan(String id, Pageable pageable) {
+        return page(restaurants.tailMap(id, false).values().stream(), pageable).map(RestaurantDocuments::basic).toList();
+    }
+
+    @Override
+    public List<RestaurantEntity> findBasicByIsActiveTrue(Pageable pageable) {
+        return page(active(activeIds), pageable).map(RestaurantDocuments::basic).toList();
+    }
+
+    @Override
+    public List<RestaurantEntity> findBasicByIsActiveTrueAndIdGreaterThan(String id, Pageable pageable) {
+        return page(active(activeIds.tailSet(id, false)), pageable).map(RestaurantDocuments::basic).toList();
+    }
+
+    @Override
+    public List<RestaurantEntity> findBasicOpenAt(int minuteOfWeek, Pageable pageable) {
+        return page(active(activeIds).filter(restaurant -> isOpenAt(restaurant, minuteOfWeek)), pageable)
+            .map(RestaurantDocuments::basic)
+            .toList();
+    }
+
+    @Override
+    public List<RestaurantEntity> findBasicOpenAtAndIdGreaterThan(int minuteOfWeek, String id, Pageable pageable) {
+        return page(active(activeIds.tailSet(id, false)).filter(restaurant -> isOpenAt(restaurant, minuteOfWeek)), pageable)
+            .map(RestaurantDocuments::basic)
+            .toList();
+    }
+
+    @Override
+    public List<RestaurantEntity> findIdsOpenAt(int minuteOfWeek) {
+        return active(activeIds)
+            .filter(restaurant -> isOpenAt(restaurant, minuteOfWeek))
+            .map(RestaurantDocuments::id)
+            .toList();
+    }
+
+    @Override
+    public Optional<RestaurantEntity> findOpeningIntervalsById(String id) {
+        return Optional.ofNullable(restaurants.get(id)).map(RestaurantDocuments::openingIntervals);
+    }
+
+    @Override
+    public List<RestaurantEntity> findBasicByIdIn(Collection<String> ids, Sort sort) {
+        Stream<RestaurantEntity> found = ids.stream()
+            .distinct()
+            .map(restaurants::get)
+            .filter(Objects::nonNull);
+        return sorted(found, sort).map(RestaurantDocuments::basic).toList();
+    }
+
+    @Override
+    public boolean existsByIdAndMenuId(String id, String menuId) {
+        RestaurantEntity restaurant = restaurants.get(id);
+        return restaurant != null && RestaurantDocuments.findCategory(restaurant, menuId) != null;
+    }
+
+    @Override
+    public Optional<RestaurantEntity> removeById(String id) {
+        return remove(id, null);
+    }
+
+    @Override
+    public Optional<RestaurantEntity> removeByIdAndVersion(String id, Long version) {
+        return remove(id, version);
+    }
+
+    @Override
+    public Optional<RestaurantEntity> findVersionById(String id) {
+        return Optional.ofNullable(restaurants.get(id)).map(RestaurantDocuments::version);
+    }
+
+    @Override
+    public Optional<RestaurantEntity> findVersionByMenuItemId(String itemId) {
+        return findByMenuItemId(itemId).map(RestaurantDocuments::version);
+    }
+
+    @Override
+    public boolean existsByKitchenTypeId(String kitchenTypeId) {
+        return idsByKitchenTypeId.contains(kitchenTypeId);
+    }
+
+    @Override
+    public Optional<RestaurantEntity> findWithMenuCategory(String restaurantId, String categoryId) {
+        return Optional.ofNullable(restaurants.get(restaurantId))
+            .map(restaurant -> RestaurantDocuments.menuCategory(restaurant, categoryId));
+    }
+
+    @Override
+    public boolean pushMenuCategory(String restaurantId, MenuCategoryEntity category, LocalDateTime lastUpdate) {
+        return modify(restaurantId, null, restaurant -> true, restaurant -> {
+            if (restaurant.getMenu() == null) {
+                restaurant.setMenu(new ArrayList<>());
+            }
+            restaurant.getMenu().add(RestaurantDocuments.copy(category));
+        }, lastUpdate).isPresent();
+    }
+
+    @Override
+    public Optional<MenuCategoryEntity> updateMenuCategoryType(String restaurantId, String categoryId, String type,
+                                                               Long expectedVersion, LocalDateTime lastUpdate) {
+        return modify(restaurantId, expectedVersion,
+                restaurant -> RestaurantDocuments.findCategory(restaurant, categoryId) != null,
+                restaurant -> categories(restaurant, categoryId).forEach(category -> category.setType(type)),
+                lastUpdate)
+            .map(restaurant -> RestaurantDocuments.copy(RestaurantDocuments.findCategory(restaurant, categoryId)));
+    }
+
+    @Override
+    public boolean pullMenuCategory(String restaurantId, String categoryId, Long expectedVersion, LocalDateTime lastUpdate) {
+        return modify(restaurantId, expectedVersion,
+                restaurant -> RestaurantDocuments.findCategory(restaurant, categoryId) != null,
+                restaurant -> restaurant.getMenu().removeIf(category -> categoryId.equals(category.getId())),
+                lastUpdate)
+            .isPresent();
+    }
+
+    @Override
+    public boolean pushMenuItem(String restaurantId, String categoryId, MenuItemEntity item, LocalDateTime lastUpdate) {
+        return modify(restaurantId, null,
+                restaurant -> RestaurantDocuments.findCategory(restaurant, categoryId) != null,
+                restaurant -> items(RestaurantDocuments.findCategory(restaurant, categoryId)).add(RestaurantDocuments.copy(item)),
+                lastUpdate)
+            .isPresent();
+    }
+
+    // Em modo ordenado o MongoDB para no primeiro erro: os índices seguintes não são gravados nem reportados
+    @Override
+    public Map<Integer, String> insertRestaurants(List<RestaurantEntity> restaurantsToInsert, boolean ordered) {
+        Map<Integer, String> errors = new HashMap<>();
+        lock.lock();
+        try {
+            for (int index = 0; index < restaurantsToInsert.size(); index++) {
+                RestaurantEntity restaurant = restaurantsToInsert.get(index);
+                if (restaurant.getId() == null) {
+                    restaurant.setId(new ObjectId().toHexString());
+                }
+                if (restaurants.containsKey(restaurant.getId())) {
+                    errors.put(index, duplicateKeyMessage(restaurant.getId()));
+                    if (ordered) {
+                        break;
+                    }
+                    continue;
+                }
+                replace(null, copy(restaurant));
+            }
+        } finally {
+            lock.unlock();
+        }
+        return errors;
+    }
+
+    @Override
+    public Optional<RestaurantEntity> findWithMenuItem(String itemId) {
+        return findByMenuItemId(itemId).map(restaurant -> RestaurantDocuments.menuItemContext(restaurant, itemId));
+    }
+
+    @Override
+    public Optional<RestaurantEntity> findMenuCategoryIds(String restaurantId) {
+        return Optional.ofNullable(restaurants.get(restaurantId)).map(RestaurantDocuments::menuCategoryIds);
+    }
+
+    // Como os arrayFilters do MongoDB: só a versão é condição; categorias que sumiram simplesmente não recebem itens
+    @Override
+    public boolean pushMenuItems(String restaurantId, Map<String, List<MenuItemEntity>> itemsByCategory,
+                                 Long expectedVersion, LocalDateTime lastUpdate) {
+        return modify(restaurantId, expectedVersion, restaurant -> true, restaurant -> itemsByCategory.forEach(
+                (categoryId, items) -> categories(restaurant, categoryId).forEach(category ->
+                    items.forEach(item -> items(category).add(RestaurantDocuments.copy(item))))),
+                lastUpdate)
+            .isPresent();
+    }
+
+    @Override
+    public Optional<MenuItemEntity> updateMenuItem(String restaurantId, String categoryId, MenuItemEntity item,
+                                                   Long expectedVersion, LocalDateTime lastUpdate) {
+        return modify(restaurantId, expectedVersion,
+                restaurant -> categoryWithItem(restaurant, categoryId, item.getId()) != null,
+                restaurant -> categories(restaurant, categoryId).stream()
+                    .filter(category -> category.getItems() != null)
+                    .flatMap(category -> category.getItems().stream())
+                    .filter(current -> item.getId().equals(current.getId()))
+                    .forEach(current -> {
+                        current.setName(item.getName());
+                        current.setDescription(item.getDescription());
+                        current.setPrice(item.getPrice());
+                        current.setImagePath(item.getImagePath());
+                        if (item.getOnlyForLocalConsumption() != null) {
+                            current.setOnlyForLocalConsumption(item.getOnlyForLocalConsumption());
+                        }
+                        if (item.getIsActive() != null) {
+                            current.setIsActive(item.getIsActive());
+                        }
+                    }),
+                lastUpdate)
+            .map(restaurant -> RestaurantDocuments.findCategory(restaurant, categoryId))
+            .map(category -> RestaurantDocuments.findItem(category, item.getId()))
+            .map(RestaurantDocuments::copy);
+    }
+
+    // O $ posicional do MongoDB aponta para a primeira categoria que casou com o $elemMatch
+    @Override
+    public boolean pullMenuItem(String restaurantId, String categoryId, String itemId, Long expectedVersion, LocalDateTime lastUpdate) {
+        return modify(restaurantId, expectedVersion,
+                restaurant -> categoryWithItem(restaurant, categoryId, itemId) != null,
+                restaurant -> categoryWithItem(restaurant, categoryId, itemId).getItems()
+                    .removeIf(item -> itemId.equals(item.getId())),
+                lastUpdate)
+            .isPresent();
+    }
+
+    @Override
+    public List<GeoResult<RestaurantEntity>> findNearby(GeoJsonPoint point, double maxDistanceMeters,
+                                                        String kitchenTypeId, int limit) {
+        NavigableSet<String> candidates = kitchenTypeId != null ? idsByKitchenTypeId.get(kitchenTypeId) : activeIds;
+        return active(candidates)
+            .filter(restaurant -> restaurant.getLocation() != null)
+            .filter(restaurant -> kitchenTypeId == null || kitchenTypeId.equals(kitchenTypeIdOf(restaurant)))
+            .map(restaurant -> new GeoResult<>(restaurant,
+                new Distance(distanceMeters(point, restaurant.getLocation()) / 1000, Metrics.KILOMETERS)))
+            .filter(result -> result.getDistance().getValue() * 1000 <= maxDistanceMeters)
+            .sorted(Comparator.comparingDouble(result -> result.getDistance().getValue()))
+            .limit(limit)
+            .map(result -> new GeoResult<>(RestaurantDocuments.basic(result.getContent()), result.getDistance()))
+            .toList();
+    }
+
+    @Override
+    public FacetedRestaurants findFacetedPage(RestaurantFacetFilter filter, String afterId, int limit,
+                                              List<BigDecimal> priceBands, boolean includeFacets) {
+        // O índice mais seletivo do filtro escolhe os candidatos, como o planner escolheria
+        NavigableSet<String> candidates = filter.kitchenTypeId() != null ? idsByKitchenTypeId.get(filter.kitchenTypeId())
+            : Boolean.TRUE.equals(filter.isActive()) ? activeIds
+            : restaurants.navigableKeySet();
+
+        NavigableSet<String> pageCandidates = afterId != null ? candidates.tailSet(afterId, false) : candidates;
+        List<RestaurantEntity> page = existing(pageCandidates)
+            .filter(restaurant -> matches(restaurant, filter))
+            .limit(limit)
+            .map(RestaurantDocuments::basic)
+            .toList();
+        if (!includeFacets) {
+            return new FacetedRestaurants(page, null);
+        }
+
+        return new FacetedRestaurants(page, facets(existing(candidates).filter(restaurant -> matches(restaurant, filter)), priceBands));
+    }
+
+    // Campo derivado: não altera lastUpdate nem a versão
+    @Override
+    public long initializeMissingOpeningIntervals() {
+        return replaceWhere(restaurant -> restaurant.getOpeningIntervals() == null,
+            restaurant -> restaurant.setOpeningIntervals(openingIntervals(restaurant)));
+    }
+
+    @Override
+    public long initializeMissingVersions() {
+        return replaceWhere(restaurant -> restaurant.getVersion() == null, restaurant -> restaurant.setVersion(0L));
+    }
+
+    // Contadores por tipo de cozinha direto dos índices, para a reconciliação do InMemoryKitchenTypeRepository
+    public long countByKitchenTypeId(String kitchenTypeId) {
+        return idsByKitchenTypeId.get(kitchenTypeId).size();
+    }
+
+    public long countActiveByKitchenTypeId(String kitchenTypeId) {
+        return idsByKitchenTypeId.get(kitchenTypeId).stream().filter(activeIds::contains).count();
+    }
+
+    // Aplica a alteração a uma cópia quando o documento atual casa com a versão e o filtro; toda escrita
+    // atualiza lastUpdate e incrementa a versão. Devolve o documento gravado
+    private Optional<RestaurantEntity> modify(String restaurantId, Long expectedVersion, Predicate<RestaurantEntity> matches,
+                                              Consumer<RestaurantEntity> change, LocalDateTime lastUpdate) {
+        lock.lock();
+        try {
+            RestaurantEntity current = restaurants.get(restaurantId);
+            if (current == null || (expectedVersion != null && !expectedVersion.equals(current.getVersion()))
+                    || !matches.test(current)) {
+                return Optional.empty();
+            }
+
+            RestaurantEntity updated = copy(current);
+            change.accept(updated);
+            updated.setLastUpdate(lastUpdate);
+            updated.setVersion(current.getVersion() != null ? current.getVersion() + 1 : 1L);
+            replace(current, updated);
+            return Optional.of(updated);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private long replaceWhere(Predicate<RestaurantEntity> matches, Consumer<RestaurantEntity> change) {
+        lock.lock();
+        try {
+            long replaced = 0;
+            for (RestaurantEntity current : List.copyOf(restaurants.values())) {
+                if (matches.test(current)) {
+                    RestaurantEntity updated = copy(current);
+                    change.accept(updated);
+                    replace(current, updated);
+                    replaced++;
+                }
+            }
+            return replaced;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Optional<RestaurantEntity> remove(String id, Long expectedVersion) {
+        lock.lock();
+        try {
+            RestaurantEntity current = restaurants.get(id);
+            if (current == null || (expectedVersion != null && !expectedVersion.equals(current.getVersion()))) {
+                return Optional.empty();
+            }
+            replace(current, null);
+            return Optional.of(copy(current));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Chamado com o lock: troca o documento (nulo remove) e atualiza os índices secundários
+    private void replace(RestaurantEntity previous, RestaurantEntity current) {
+        if (previous != null) {
+            RestaurantDocuments.menuItemIds(previous).forEach(itemId -> idsByMenuItemId.remove(itemId, previous.getId()));
+            idsByKitchenTypeId.remove(kitchenTypeIdOf(previous), previous.getId());
+            activeIds.remove(previous.getId());
+            if (current == null) {
+                restaurants.remove(previous.getId());
+            }
+        }
+        if (current != null) {
+            restaurants.put(current.getId(), current);
+            RestaurantDocuments.menuItemIds(current).forEach(itemId -> idsByMenuItemId.add(itemId, current.getId()));
+            idsByKitchenTypeId.add(kitchenTypeIdOf(current), current.getId());
+            if (Boolean.TRUE.equals(current.getIsActive())) {
+                activeIds.add(current.getId());
+            }
+        }
+    }
+
+    // O índice é lido sem lock: o documento é conferido antes de ser usado
+    private Optional<RestaurantEntity> findByMenuItemId(String itemId) {
+        return existing(idsByMenuItemId.get(itemId))
+            .filter(restaurant -> RestaurantDocuments.menuItemIds(restaurant).contains(itemId))
+            .findFirst();
+    }
+
+    private Stream<RestaurantEntity> existing(Collection<String> ids) {
+        return ids.stream().map(restaurants::get).filter(Objects::nonNull);
+    }
+
+    private Stream<RestaurantEntity> active(Collection<String> ids) {
+        return existing(ids).filter(restaurant -> Boolean.TRUE.equals(restaurant.getIsActive()));
+    }
+
+    private static List<MenuCategoryEntity> categories(RestaurantEntity restaurant, String categoryId) {
+        if (restaurant.getMenu() == null) {
+            return List.of();
+        }
+        return restaurant.getMenu().stream().filter(category -> categoryId.equals(category.getId())).toList();
+    }
+
+    private static MenuCategoryEntity categoryWithItem(RestaurantEntity restaurant, String categoryId, String itemId) {
+        return categories(restaurant, categoryId).stream()
+            .filter(category -> RestaurantDocuments.findItem(category, itemId) != null)
+            .findFirst()
+            .orElse(null);
+    }
+
+    // Categorias com items nulo recebem uma lista nova antes do push
+    private static List<MenuItemEntity> items(MenuCategoryEntity category) {
+        if (category.getItems() == null) {
+            category.setItems(new ArrayList<>());
+        }
+        return category.getItems();
+    }
+
+    private static String kitchenTypeIdOf(RestaurantEntity restaurant) {
+        return restaurant.getKitchenType() != null ? restaurant.getKitchenType().getId() : null;
+    }
+
+    private static boolean isOpenAt(RestaurantEntity restaurant, int minuteOfWeek) {
+        return restaurant.getOpeningIntervals() != null && restaurant.getOpeningIntervals().stream()
+            .filter(interval -> interval.getStart() != null && interval.getEnd() != null)
+            .anyMatch(interval -> interval.contains(minuteOfWeek));
+    }
+
+    private static boolean matches(RestaurantEntity restaurant, RestaurantFacetFilter filter) {
+        if (filter.kitchenTypeId() != null && !filter.kitchenTypeId().equals(kitchenTypeIdOf(restaurant))) {
+            return false;
+        }
+        if (filter.day() != null && (restaurant.getDaysOperation() == null
+                || restaurant.getDaysOperation().stream().noneMatch(day -> filter.day() == day.getDay()))) {
+            return false;
+        }
+        return filter.isActive() == null || filter.isActive() == Boolean.TRUE.equals(restaurant.getIsActive());
+    }
+
+    // Mesmas contagens e ordens dos ramos do $facet de RestaurantRepositoryCustomImpl
+    private static RestaurantFacets facets(Stream<RestaurantEntity> restaurants, List<BigDecimal> priceBands) {
+        Map<KitchenTypeKey, Long> kitchenTypes = new HashMap<>();
+        Map<DayEnum, Long> days = new EnumMap<>(DayEnum.class);
+        long[] activeStatus = new long[2];
+        long[] bands = new long[priceBands.size() + 1];
+        long[] noPriceBand = new long[1];
+
+        restaurants.forEach(restaurant -> {
+            KitchenTypeKey kitchenType = restaurant.getKitchenType() != null
+                ? new KitchenTypeKey(restaurant.getKitchenType().getId(), restaurant.getKitchenType().getName())
+                : new KitchenTypeKey(null, null);
+            kitchenTypes.merge(kitchenType, 1L, Long::sum);
+
+            if (restaurant.getDaysOperation() != null) {
+                restaurant.getDaysOperation().stream()
+                    .map(OperationDaysTimeData::getDay)
+                    .filter(Objects::nonNull)
+                    .distinct()
+                    .forEach(day -> days.merge(day, 1L, Long::sum));
+            }
+
+            activeStatus[Boolean.TRUE.equals(restaurant.getIsActive()) ? 0 : 1]++;
+
+            int band = priceBand(restaurant, priceBands);
+            if (band < 0) {
+                noPriceBand[0]++;
+            } else {
+                bands[band]++;
+            }
+        });
+
+        List<RestaurantFacetCount> kitchenTypeCounts = kitchenTypes.entrySet().stream()
+            .sorted(Map.Entry.<KitchenTypeKey, Long>comparingByValue().reversed()
+                .thenComparing(entry -> entry.getKey().name(), Comparator.nullsFirst(Comparator.naturalOrder())))
+            .map(entry -> new RestaurantFacetCount(entry.getKey().id(), entry.getKey().name(), entry.getValue()))
+            .toList();
+
+        List<RestaurantFacetCount> dayCounts = days.entrySet().stream()
+            .map(entry -> new RestaurantFacetCount(entry.getKey().name(), entry.getKey().name(), entry.getValue()))
+            .toList();
+
+        List<RestaurantFacetCount> activeCounts = new ArrayList<>();
+        if (activeStatus[0] > 0) {
+            activeCounts.add(new RestaurantFacetCount("true", "true", activeStatus[0]));
+        }
+        if (activeStatus[1] > 0) {
+            activeCounts.add(new RestaurantFacetCount("false", "false", activeStatus[1]));
+        }
+
+        List<RestaurantFacetCount> bandCounts = new ArrayList<>();
+        for (int band = 0; band < bands.length; band++) {
+            if (bands[band] > 0) {
+                String label = priceBandLabel(band, priceBands);
+                bandCounts.add(new RestaurantFacetCount(label, label, bands[band]));
+            }
+        }
+        if (noPriceBand[0] > 0) {
+            bandCounts.add(new RestaurantFacetCount(NO_PRICE_BAND, NO_PRICE_BAND, noPriceBand[0]));
+        }
+
+        return new RestaurantFacets(kitchenTypeCounts, dayCounts, activeCounts, bandCounts);
+    }
+
+    // Índice da faixa pela média dos itens ativos ([0, limites..., infinito)); -1 sem itens ativos com preço
+    private static int priceBand(RestaurantEntity restaurant, List<BigDecimal> priceBands) {
+        if (restaurant.getMenu() == null) {
+            return -1;
+        }
+        List<BigDecimal> prices = restaurant.getMenu().stream()
+            .filter(category -> category.getItems() != null)
+            .flatMap(category -> category.getItems().stream())
+            .filter(item -> Boolean.TRUE.equals(item.getIsActive()) && item.getPrice() != null)
+            .map(MenuItemEntity::getPrice)
+            .toList();
+        if (prices.isEmpty()) {
+            return -1;
+        }
+
+        double average = prices.stream().reduce(BigDecimal.ZERO, BigDecimal::add).doubleValue() / prices.size();
+        if (average < 0) {
+            return -1;
+        }
+        int band = 0;
+        while (band < priceBands.size() && priceBands.get(band).doubleValue() <= average) {
+            band++;
+        }
+        return band;
+    }
+
+    private static String priceBandLabel(int band, List<BigDecimal> priceBands) {
+        String lower = band == 0 ? "0" : priceBands.get(band - 1).stripTrailingZeros().toPlainString();
+        return band < priceBands.size()
+            ? lower + "-" + priceBands.get(band).stripTrailingZeros().toPlainString()
+            : lower + "+";
+    }
+
+    // Horários gravados fora do formato HH:mm ficam sem intervalos: o restaurante nunca aparece como aberto
+    private static List<OpeningIntervalEntity> openingIntervals(RestaurantEntity restaurant) {
+        try {
+            return OpeningHours.toIntervals(restaurant.getDaysOperation());
+        } catch (BadRequestException e) {
+            return List.of();
+        }
+    }
+
+    private static double distanceMeters(GeoJsonPoint from, GeoJsonPoint to) {
+        double latitudeDelta = Math.toRadians(to.getY() - from.getY());
+        double longitudeDelta = Math.toRadians(to.getX() - from.getX());
+        double haversine = Math.pow(Math.sin(latitudeDelta / 2), 2)
+            + Math.cos(Math.toRadians(from.getY())) * Math.cos(Math.toRadians(to.getY())) * Math.pow(Math.sin(longitudeDelta / 2), 2);
+        return 2 * EARTH_RADIUS_METERS * Math.asin(Math.min(1, Math.sqrt(haversine)));
+    }
+
+    private static String duplicateKeyMessage(String id) {
+        return "E11000 duplicate key error collection: restaurants index: _id_ dup key: { _id: \"" + id + "\" }";
+    }
+
+    private record KitchenTypeKey(String id, String name) {
+    }
+}
@@ -0,0 +1,172 @@
+package com.fiap.itmoura.tech_challenge_restaurant.application.ports.out.inmemory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+
+import com.fiap.itmoura.tech_challenge_restaurant.domain.entities.KitchenTypeEntity;
+import com.fiap.itmoura.tech_challenge_restaurant.domain.entities.MenuCategoryEntity;
+import com.fiap.itmoura.tech_challenge_restaurant.domain.entities.MenuItemEntity;
+import com.fiap.itmoura.tech_challenge_restaurant.domain.entities.OpeningIntervalEntity;
+import com.fiap.itmoura.tech_challenge_restaurant.domain.entities.OperationDaysTimeData;
+import com.fiap.itmoura.tech_challenge_restaurant.domain.entities.RestaurantEntity;
+
+// Cópias profundas e as mesmas projeções das consultas do MongoDB (BASIC_FIELDS, VERSION_FIELDS, contexto de item)
+final class RestaurantDocuments {
+
+    private RestaurantDocuments() {
+    }
+
+    static RestaurantEntity copy(RestaurantEntity restaurant) {
+        RestaurantEntity copy = basic(restaurant);
+        copy.setOpeningIntervals(copyList(restaurant.getOpeningIntervals(), RestaurantDocuments::copy));
+        copy.setMenu(copyList(restaurant.getMenu(), RestaurantDocuments::copy));
+        copy.setVersion(restaurant.getVersion());
+        return copy;
+    }
+
+    // RestaurantRepository.BASIC_FIELDS: sem menu, intervalos e versão
+    static RestaurantEntity basic(RestaurantEntity restaurant) {
+        return RestaurantEntity.builder()
+            .id(restaurant.getId())
+            .name(restaurant.getName())
+            .address(restaurant.getAddress())
+            .location(restaurant.getLocation())
+            .kitchenType(copy(restaurant.getKitchenType()))
+            .daysOperation(copyList(restaurant.getDaysOperation(), RestaurantDocuments::copy))
+            .ownerId(restaurant.getOwnerId())
+            .isActive(restaurant.getIsActive())
+            .lastUpdate(restaurant.getLastUpdate())
+            .createdAt(restaurant.getCreatedAt())
+            .build();
+    }
+
+    static RestaurantEntity id(RestaurantEntity restaurant) {
+        return RestaurantEntity.builder().id(restaurant.getId()).build();
+    }
+
+    static RestaurantEntity version(RestaurantEntity restaurant) {
+        return RestaurantEntity.builder().id(restaurant.getId()).version(restaurant.getVersion()).build();
+    }
+
+    static RestaurantEntity openingIntervals(RestaurantEntity restaurant) {
+        return RestaurantEntity.builder()
+            .id(restaurant.getId())
+            .isActive(restaurant.getIsActive())
+            .openingIntervals(copyList(restaurant.getOpeningIntervals(), RestaurantDocuments::copy))
+            .build();
+    }
+
+    // Versão, lastUpdate e só a primeira categoria com o ID ($elemMatch); menu nulo quando ela não existe
+    static RestaurantEntity menuCategory(RestaurantEntity restaurant, String categoryId) {
+        MenuCategoryEntity category = findCategory(restaurant, categoryId);
+        return RestaurantEntity.builder()
+            .id(restaurant.getId())
+            .version(restaurant.getVersion())
+            .lastUpdate(restaurant.getLastUpdate())
+            .menu(category != null ? List.of(copy(category)) : null)
+            .build();
+    }
+
+    // Nome, endereço, versão e o menu reduzido à categoria e ao item (RestaurantProjections.menuItemContext)
+    static RestaurantEntity menuItemContext(RestaurantEntity restaurant, String itemId) {
+        MenuCategoryEntity category = restaurant.getMenu().stream()
+            .filter(candidate -> findItem(candidate, itemId) != null)
+            .findFirst()
+            .orElseThrow();
+        return RestaurantEntity.builder()
+            .id(restaurant.getId())
+            .name(restaurant.getName())
+            .address(restaurant.getAddress())
+            .version(restaurant.getVersion())
+            .menu(List.of(MenuCategoryEntity.builder()
+                .id(category.getId())
+                .type(category.getType())
+                .items(List.of(copy(findItem(category, itemId))))
+                .build()))
+            .build();
+    }
+
+    static RestaurantEntity menuCategoryIds(RestaurantEntity restaurant) {
+        return RestaurantEntity.builder()
+            .id(restaurant.getId())
+            .version(restaurant.getVersion())
+            .menu(copyList(restaurant.getMenu(), category -> MenuCategoryEntity.builder().id(category.getId()).build()))
+            .build();
+    }
+
+    static MenuCategoryEntity findCategory(RestaurantEntity restaurant, String categoryId) {
+        if (restaurant.getMenu() == null) {
+            return null;
+        }
+        return restaurant.getMenu().stream()
+            .filter(category -> categoryId.equals(category.getId()))
+            .findFirst()
+            .orElse(null);
+    }
+
+    static MenuItemEntity findItem(MenuCategoryEntity category, String itemId) {
+        if (category.getItems() == null) {
+            return null;
+        }
+        return category.getItems().stream()
+            .filter(item -> itemId.equals(item.getId()))
+            .findFirst()
+            .orElse(null);
+    }
+
+    static List<String> menuItemIds(RestaurantEntity restaurant) {
+        if (restaurant.getMenu() == null) {
+            return List.of();
+        }
+        return restaurant.getMenu().stream()
+            .filter(category -> category.getItems() != null)
+            .flatMap(category -> category.getItems().stream())
+            .map(MenuItemEntity::getId)
+            .toList();
+    }
+
+    static MenuCategoryEntity copy(MenuCategoryEntity category) {
+        return MenuCategoryEntity.builder()
+            .id(category.getId())
+            .type(category.getType())
+            .items(copyList(category.getItems(), RestaurantDocuments::copy))
+            .build();
+    }
+
+    static MenuItemEntity copy(MenuItemEntity item) {
+        return MenuItemEntity.builder()
+            .id(item.getId())
+            .name(item.getName())
+            .description(item.getDescription())
+            .price(item.getPrice())
+            .onlyForLocalConsumption(item.getOnlyForLocalConsumption())
+            .imagePath(item.getImagePath())
+            .isActive(item.getIsActive())
+            .build();
+    }
+
+    private static KitchenTypeEntity copy(KitchenTypeEntity kitchenType) {
+        return kitchenType != null ? KitchenTypeEntity.builder()
+            .id(kitchenType.getId())
+            .name(kitchenType.getName())
+            .description(kitchenType.getDescription())
+            .createdAt(kitchenType.getCreatedAt())
+            .lastUpdate(kitchenType.getLastUpdate())
+            .build() : null;
+    }
+
+    private static OperationDaysTimeData copy(OperationDaysTimeData day) {
+        return new OperationDaysTimeData(day.getDay(), day.getOpeningHours(), day.getClosingHours());
+    }
+
+    private static OpeningIntervalEntity copy(OpeningIntervalEntity interval) {
+        return new OpeningIntervalEntity(interval.getStart(), interval.getEnd());
+    }
+
+    // Listas mutáveis, como as que o conversor do Spring Data devolve
+    private static <E> List<E> copyList(List<E> values, UnaryOperator<E> copy) {
+        return values != null ? values.stream().map(copy).collect(Collectors.toCollection(ArrayList::new)) : null;
+    }
+}
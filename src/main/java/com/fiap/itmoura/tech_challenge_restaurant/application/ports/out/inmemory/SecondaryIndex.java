@@ -0,0 +1,34 @@
+package com.fiap.itmoura.tech_challenge_restaurant.application.ports.out.inmemory;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+// Valor -> _ids dos documentos com aquele valor, em ordem de _id (como um índice multikey do MongoDB)
+final class SecondaryIndex {
+
+    private final Map<String, NavigableSet<String>> ids = new ConcurrentHashMap<>();
+
+    void add(String key, String id) {
+        if (key != null) {
+            ids.computeIfAbsent(key, ignored -> new ConcurrentSkipListSet<>()).add(id);
+        }
+    }
+
+    void remove(String key, String id) {
+        if (key != null) {
+            ids.computeIfPresent(key, (ignored, keyIds) -> keyIds.remove(id) && keyIds.isEmpty() ? null : keyIds);
+        }
+    }
+
+    NavigableSet<String> get(String key) {
+        NavigableSet<String> keyIds = key != null ? ids.get(key) : null;
+        return keyIds != null ? Collections.unmodifiableNavigableSet(keyIds) : Collections.emptyNavigableSet();
+    }
+
+    boolean contains(String key) {
+        return key != null && ids.containsKey(key);
+    }
+}
@@ -0,0 +1,542 @@
+package com.fiap.itmoura.tech_challenge_restaurant.application.search;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.br.BrazilianAnalyzer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.facet.DrillDownQuery;
+import org.apache.lucene.facet.FacetResult;
+import org.apache.lucene.facet.FacetsCollector;
+import org.apache.lucene.facet.FacetsCollectorManager;
+import org.apache.lucene.facet.FacetsConfig;
+import org.apache.lucene.facet.LabelAndValue;
+import org.apache.lucene.facet.sortedset.DefaultSortedSetDocValuesReaderState;
+import org.apache.lucene.facet.sortedset.SortedSetDocValuesFacetCounts;
+import org.apache.lucene.facet.sortedset.SortedSetDocValuesFacetField;
+import org.apache.lucene.facet.sortedset.SortedSetDocValuesReaderState;
+import org.apache.lucene.index.FieldInfos;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.FuzzyQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.AlreadyClosedException;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.util.IOUtils;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.fiap.itmoura.tech_challenge_restaurant.application.models.search.RestaurantSearchFacet;
+import com.fiap.itmoura.tech_challenge_restaurant.application.models.search.RestaurantSearchHit;
+import com.fiap.itmoura.tech_challenge_restaurant.application.models.search.RestaurantSearchIndexStatus;
+import com.fiap.itmoura.tech_challenge_restaurant.application.models.search.RestaurantSearchResponse;
+import com.fiap.itmoura.tech_challenge_restaurant.application.ports.out.RestaurantRepository;
+import com.fiap.itmoura.tech_challenge_restaurant.domain.entities.MenuCategoryEntity;
+import com.fiap.itmoura.tech_challenge_restaurant.domain.entities.MenuItemEntity;
+import com.fiap.itmoura.tech_challenge_restaurant.domain.entities.RestaurantEntity;
+import com.fiap.itmoura.tech_challenge_restaurant.domain.events.RestaurantChangedEvent;
+import com.fiap.itmoura.tech_challenge_restaurant.domain.exceptions.ConflictRequestException;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.log4j.Log4j2;
+
+// Índice Lucene em memória com um documento por restaurante ativo e um por item ativo do menu.
+// As escritas chegam pelo RestaurantChangedEvent e são aplicadas em segundo plano; a reconstrução monta um índice
+// novo e troca de uma vez
+@Log4j2
+@Component
+@Profile("!reactive")
+public class RestaurantSearchIndex {
+
+    public static final String KITCHEN_TYPE_FACET = "kitchenType";
+    public static final String LOCAL_CONSUMPTION_FACET = "onlyForLocalConsumption";
+
+    private static final String TYPE = "type";
+    private static final String RESTAURANT_ID = "restaurantId";
+    private static final String RESTAURANT_NAME = "restaurantName";
+    private static final String ADDRESS = "address";
+    // Cópia só armazenada do endereço nos documentos de item: o Lucene exige o mesmo esquema por campo em todo o índice
+    private static final String STORED_ADDRESS = "storedAddress";
+    private static final String KITCHEN_TYPE = "kitchenType";
+    private static final String MENU_ITEM_ID = "menuItemId";
+    private static final String MENU_ITEM_NAME = "menuItemName";
+    private static final String MENU_ITEM_DESCRIPTION = "menuItemDescription";
+    private static final String PRICE = "price";
+
+    // Campo -> peso na relevância; nome do item e do restaurante valem mais que endereço e descrição
+    private static final Map<String, Float> SEARCH_FIELDS = Map.of(
+        MENU_ITEM_NAME, 3f,
+        RESTAURANT_NAME, 2.5f,
+        KITCHEN_TYPE, 2f,
+        MENU_ITEM_DESCRIPTION, 1f,
+        ADDRESS, 0.5f);
+
+    private final RestaurantRepository restaurantRepository;
+    private final RestaurantSearchProperties properties;
+    // Stopwords e stemming do português
+    private final Analyzer analyzer = new BrazilianAnalyzer();
+    private final FacetsConfig facetsConfig = new FacetsConfig();
+
+    // Protege a troca de gerações: escritas incrementais e o fim da reconstrução não se intercalam.
+    // ReentrantLock em vez de synchronized: as releituras do MongoDB feitas com o lock não prendem a carrier thread
+    private final ReentrantLock lock = new ReentrantLock();
+    private volatile Generation current;
+    private Generation rebuilding;
+    private final Set<String> changedDuringRebuild = new HashSet<>();
+    // Restaurantes alterados ainda não reindexados; várias escritas no mesmo restaurante viram uma releitura só
+    private final Set<String> pendingChanges = ConcurrentHashMap.newKeySet();
+    // Uma aplicação de pendências por vez: duas releituras do mesmo restaurante não gravam fora de ordem
+    private final ReentrantLock applyLock = new ReentrantLock();
+
+    public RestaurantSearchIndex(RestaurantRepository restaurantRepository, RestaurantSearchProperties properties) {
+        this.restaurantRepository = restaurantRepository;
+        this.properties = properties;
+        this.current = newGeneration();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        try {
+            RestaurantSearchIndexStatus status = rebuild();
+            log.info("Search index built with {} documents from {} restaurants in {} ms",
+                status.documents(), status.restaurants(), status.tookMillis());
+        } catch (RuntimeException e) {
+            // A aplicação sobe mesmo assim; as escritas seguintes e um rebuild manual preenchem o índice
+            log.error("Failed to build search index on startup", e);
+        }
+    }
+
+    // Só enfileira: a releitura no MongoDB e a reindexação saem da thread da requisição
+    @EventListener
+    public void onRestaurantChanged(RestaurantChangedEvent event) {
+        pendingChanges.add(event.restaurantId());
+    }
+
+    // Relê os restaurantes pendentes e reabre os searchers uma vez por rodada, não a cada escrita
+    @Scheduled(fixedDelayString = "${restaurants.search.refresh-interval:200ms}")
+    public void applyPendingChanges() {
+        applyLock.lock();
+        try {
+            for (String restaurantId : List.copyOf(pendingChanges)) {
+                // Removido antes da leitura: uma escrita que chegue durante a releitura enfileira de novo
+                pendingChanges.remove(restaurantId);
+                try {
+                    refresh(restaurantId);
+                } catch (RuntimeException e) {
+                    // A escrita já foi gravada no MongoDB: o índice fica defasado para esse restaurante até a
+                    // próxima escrita nele ou o próximo rebuild
+                    log.warn("Failed to update search index for restaurant {}", restaurantId, e);
+                }
+            }
+            maybeRefreshSearchers(current);
+        } finally {
+            applyLock.unlock();
+        }
+    }
+
+    // Restaurantes recém-gravados que não publicam evento (importação em lote); ficam visíveis na próxima
+    // reabertura dos searchers
+    public void index(Collection<RestaurantEntity> restaurants) {
+        lock.lock();
+        try {
+            for (RestaurantEntity restaurant : restaurants) {
+                apply(current, restaurant.getId(), restaurant);
+                markChanged(restaurant.getId());
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public RestaurantSearchIndexStatus rebuild() {
+        long start = System.nanoTime();
+        Generation next;
+        lock.lock();
+        try {
+            if (rebuilding != null) {
+                throw new ConflictRequestException("Search index rebuild already in progress");
+            }
+            next = newGeneration();
+            rebuilding = next;
+            changedDuringRebuild.clear();
+        } finally {
+            lock.unlock();
+        }
+
+        Generation previous;
+        long restaurants = 0;
+        try {
+            // Sem o lock: buscas e escritas seguem na geração atual enquanto o cursor é lido
+            try (Stream<RestaurantEntity> all = restaurantRepository.streamAllBy()) {
+                for (RestaurantEntity restaurant : (Iterable<RestaurantEntity>) all::iterator) {
+                    apply(next, restaurant.getId(), restaurant);
+                    restaurants++;
+                }
+            }
+
+            lock.lock();
+            try {
+                // Restaurantes alterados durante a leitura podem ter entrado com o estado antigo: relidos antes da troca
+                for (String restaurantId : changedDuringRebuild) {
+                    apply(next, restaurantId, restaurantRepository.findById(restaurantId).orElse(null));
+                }
+                refreshSearchers(next);
+                previous = current;
+                current = next;
+                rebuilding = null;
+                changedDuringRebuild.clear();
+            } finally {
+                lock.unlock();
+            }
+        } catch (RuntimeException e) {
+            lock.lock();
+            try {
+                rebuilding = null;
+                changedDuringRebuild.clear();
+            } finally {
+                lock.unlock();
+            }
+            next.close();
+            throw e;
+        }
+
+        previous.close();
+        long documents = next.writer.getDocStats().numDocs;
+        return new RestaurantSearchIndexStatus(restaurants, documents, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    public RestaurantSearchResponse search(String text, String kitchenType, Boolean onlyForLocalConsumption, int limit) {
+        Query query = parse(text);
+        if (query == null) {
+            return new RestaurantSearchResponse(0, List.of(), Map.of());
+        }
+
+        DrillDownQuery drillDown = new DrillDownQuery(facetsConfig, query);
+        if (kitchenType != null) {
+            drillDown.add(KITCHEN_TYPE_FACET, kitchenType);
+        }
+        if (onlyForLocalConsumption != null) {
+            drillDown.add(LOCAL_CONSUMPTION_FACET, onlyForLocalConsumption.toString());
+        }
+
+        Generation generation = current;
+        IndexSearcher searcher = acquire(generation);
+        try {
+            FacetsCollectorManager.FacetsResult result =
+                FacetsCollectorManager.search(searcher, drillDown, limit, new FacetsCollectorManager());
+            TopDocs topDocs = result.topDocs();
+            FacetsCollector facetsCollector = result.facetsCollector();
+
+            List<RestaurantSearchHit> hits = new ArrayList<>(topDocs.scoreDocs.length);
+            StoredFields storedFields = searcher.storedFields();
+            for (ScoreDoc scoreDoc : topDocs.scoreDocs) {
+                hits.add(toHit(storedFields.document(scoreDoc.doc), scoreDoc.score));
+            }
+            return new RestaurantSearchResponse(topDocs.totalHits.value, hits, facets(generation, searcher, facetsCollector));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            release(generation, searcher);
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        current.close();
+        analyzer.close();
+    }
+
+    // A leitura no MongoDB fica fora do lock; se um rebuild começar no meio, markChanged faz a releitura antes da troca
+    private void refresh(String restaurantId) {
+        RestaurantEntity restaurant = restaurantRepository.findById(restaurantId).orElse(null);
+        lock.lock();
+        try {
+            apply(current, restaurantId, restaurant);
+            markChanged(restaurantId);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void markChanged(String restaurantId) {
+        if (rebuilding != null) {
+            changedDuringRebuild.add(restaurantId);
+        }
+    }
+
+    // Substitui todos os documentos do restaurante de uma vez; restaurante removido ou inativo só sai do índice
+    private void apply(Generation generation, String restaurantId, RestaurantEntity restaurant) {
+        try {
+            Term term = new Term(RESTAURANT_ID, restaurantId);
+            if (restaurant == null || !Boolean.TRUE.equals(restaurant.getIsActive())) {
+                generation.writer.deleteDocuments(term);
+            } else {
+                generation.writer.updateDocuments(term, documentsOf(restaurant));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private List<Document> documentsOf(RestaurantEntity restaurant) throws IOException {
+        String kitchenType = restaurant.getKitchenType() != null ? restaurant.getKitchenType().getName() : null;
+        List<Document> documents = new ArrayList<>();
+
+        Document restaurantDocument = baseDocument(RestaurantSearchHit.Type.RESTAURANT, restaurant, kitchenType);
+        addText(restaurantDocument, ADDRESS, restaurant.getAddress());
+        documents.add(facetsConfig.build(restaurantDocument));
+
+        for (MenuCategoryEntity category : Optional.ofNullable(restaurant.getMenu()).orElse(List.of())) {
+            for (MenuItemEntity item : Optional.ofNullable(category.getItems()).orElse(List.of())) {
+                if (Boolean.FALSE.equals(item.getIsActive())) {
+                    continue;
+                }
+
+                Document itemDocument = baseDocument(RestaurantSearchHit.Type.MENU_ITEM, restaurant, kitchenType);
+                itemDocument.add(new StoredField(STORED_ADDRESS, Optional.ofNullable(restaurant.getAddress()).orElse("")));
+                itemDocument.add(new StoredField(MENU_ITEM_ID, item.getId()));
+                addText(itemDocument, MENU_ITEM_NAME, item.getName());
+                addText(itemDocument, MENU_ITEM_DESCRIPTION, item.getDescription());
+                if (item.getPrice() != null) {
+                    itemDocument.add(new StoredField(PRICE, item.getPrice().toPlainString()));
+                }
+                boolean localOnly = Boolean.TRUE.equals(item.getOnlyForLocalConsumption());
+                itemDocument.add(new StoredField(LOCAL_CONSUMPTION_FACET, Boolean.toString(localOnly)));
+                itemDocument.add(new SortedSetDocValuesFacetField(LOCAL_CONSUMPTION_FACET, Boolean.toString(localOnly)));
+                documents.add(facetsConfig.build(itemDocument));
+            }
+        }
+        return documents;
+    }
+
+    private static Document baseDocument(RestaurantSearchHit.Type type, RestaurantEntity restaurant, String kitchenType) {
+        Document document = new Document();
+        document.add(new StringField(TYPE, type.name(), Field.Store.YES));
+        document.add(new StringField(RESTAURANT_ID, restaurant.getId(), Field.Store.YES));
+        addText(document, RESTAURANT_NAME, restaurant.getName());
+        addText(document, KITCHEN_TYPE, kitchenType);
+        if (kitchenType != null) {
+            document.add(new SortedSetDocValuesFacetField(KITCHEN_TYPE_FACET, kitchenType));
+        }
+        return document;
+    }
+
+    private static void addText(Document document, String field, String value) {
+        if (value != null && !value.isBlank()) {
+            document.add(new TextField(field, value, Field.Store.YES));
+        }
+    }
+
+    // Cada termo analisado precisa aparecer em algum campo, exato ou com erros de digitação
+    private Query parse(String text) {
+        List<String> terms = analyze(text);
+        if (terms.isEmpty()) {
+            return null;
+        }
+
+        BooleanQuery.Builder query = new BooleanQuery.Builder();
+        for (String term : terms) {
+            int maxEdits = maxEdits(term);
+            BooleanQuery.Builder anyField = new BooleanQuery.Builder();
+            SEARCH_FIELDS.forEach((field, boost) -> {
+                anyField.add(new BoostQuery(new TermQuery(new Term(field, term)), boost), BooleanClause.Occur.SHOULD);
+                if (maxEdits > 0) {
+                    // Correspondência aproximada pesa menos que a exata
+                    Query fuzzy = new FuzzyQuery(new Term(field, term), maxEdits, properties.fuzzyPrefixLength());
+                    anyField.add(new BoostQuery(fuzzy, boost / 2), BooleanClause.Occur.SHOULD);
+                }
+            });
+            query.add(anyField.build(), BooleanClause.Occur.MUST);
+        }
+        return query.build();
+    }
+
+    private List<String> analyze(String text) {
+        List<String> terms = new ArrayList<>();
+        try (TokenStream tokens = analyzer.tokenStream(MENU_ITEM_NAME, text)) {
+            CharTermAttribute term = tokens.addAttribute(CharTermAttribute.class);
+            tokens.reset();
+            while (tokens.incrementToken()) {
+                terms.add(term.toString());
+            }
+            tokens.end();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return terms;
+    }
+
+    // Termos curtos com 2 edições casariam quase qualquer coisa
+    private int maxEdits(String term) {
+        if (term.length() < 3) {
+            return 0;
+        }
+        return Math.min(term.length() < 6 ? 1 : 2, properties.fuzzyMaxEdits());
+    }
+
+    private Map<String, List<RestaurantSearchFacet>> facets(Generation generation, IndexSearcher searcher,
+                                                            FacetsCollector facetsCollector) throws IOException {
+        SortedSetDocValuesReaderState state = generation.facetState(searcher.getIndexReader(), facetsConfig);
+        if (state == null) {
+            return Map.of();
+        }
+
+        SortedSetDocValuesFacetCounts counts = new SortedSetDocValuesFacetCounts(state, facetsCollector);
+        Map<String, List<RestaurantSearchFacet>> facets = new LinkedHashMap<>();
+        for (String dimension : List.of(KITCHEN_TYPE_FACET, LOCAL_CONSUMPTION_FACET)) {
+            List<RestaurantSearchFacet> values = new ArrayList<>();
+            if (state.getOrdRange(dimension) != null) {
+                FacetResult result = counts.getTopChildren(properties.maxFacetValues(), dimension);
+                if (result != null) {
+                    for (LabelAndValue labelAndValue : result.labelValues) {
+                        values.add(new RestaurantSearchFacet(labelAndValue.label, labelAndValue.value.longValue()));
+                    }
+                }
+            }
+            facets.put(dimension, values);
+        }
+        return facets;
+    }
+
+    private static RestaurantSearchHit toHit(Document document, float score) {
+        RestaurantSearchHit.Type type = RestaurantSearchHit.Type.valueOf(document.get(TYPE));
+        String price = document.get(PRICE);
+        String localOnly = document.get(LOCAL_CONSUMPTION_FACET);
+
+        return new RestaurantSearchHit(
+            type,
+            score,
+            document.get(RESTAURANT_ID),
+            document.get(RESTAURANT_NAME),
+            document.get(ADDRESS) != null ? document.get(ADDRESS) : document.get(STORED_ADDRESS),
+            document.get(KITCHEN_TYPE),
+            document.get(MENU_ITEM_ID),
+            document.get(MENU_ITEM_NAME),
+            document.get(MENU_ITEM_DESCRIPTION),
+            price != null ? new BigDecimal(price) : null,
+            localOnly != null ? Boolean.valueOf(localOnly) : null);
+    }
+
+    // Uma busca pode pegar a geração antiga no instante da troca; nesse caso tenta de novo na atual
+    private IndexSearcher acquire(Generation generation) {
+        try {
+            return generation.searchers.acquire();
+        } catch (AlreadyClosedException e) {
+            if (generation == current) {
+                throw e;
+            }
+            return acquire(current);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void release(Generation generation, IndexSearcher searcher) {
+        try {
+            generation.searchers.release(searcher);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void refreshSearchers(Generation generation) {
+        try {
+            generation.searchers.maybeRefreshBlocking();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // Sem espera: se outra thread já está reabrindo (fim de um rebuild), as escritas entram na próxima rodada
+    private static void maybeRefreshSearchers(Generation generation) {
+        try {
+            generation.searchers.maybeRefresh();
+        } catch (AlreadyClosedException e) {
+            // Geração trocada por um rebuild entre a leitura de current e a reabertura; a nova já está atualizada
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Generation newGeneration() {
+        try {
+            return new Generation(analyzer);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // Um diretório em memória com seu writer e searchers near-real-time
+    private static final class Generation {
+
+        private final IndexWriter writer;
+        private final SearcherManager searchers;
+        private volatile FacetState facetState;
+
+        private Generation(Analyzer analyzer) throws IOException {
+            this.writer = new IndexWriter(new ByteBuffersDirectory(),
+                new IndexWriterConfig(analyzer).setOpenMode(IndexWriterConfig.OpenMode.CREATE));
+            this.searchers = new SearcherManager(writer, null);
+        }
+
+        // O estado das facetas é recalculado só quando o reader muda (após uma escrita)
+        private SortedSetDocValuesReaderState facetState(IndexReader reader, FacetsConfig config) throws IOException {
+            FacetState cached = facetState;
+            if (cached != null && cached.reader() == reader) {
+                return cached.state();
+            }
+
+            SortedSetDocValuesReaderState state = null;
+            if (FieldInfos.getMergedFieldInfos(reader).fieldInfo(FacetsConfig.DEFAULT_INDEX_FIELD_NAME) != null) {
+                state = new DefaultSortedSetDocValuesReaderState(reader, config);
+            }
+            facetState = new FacetState(reader, state);
+            return state;
+        }
+
+        private void close() {
+            try {
+                // Buscas em andamento mantêm o próprio reader aberto até o release
+                IOUtils.close(searchers, writer);
+            } catch (IOException e) {
+                log.warn("Failed to close search index generation", e);
+            }
+        }
+    }
+
+    private record FacetState(IndexReader reader, SortedSetDocValuesReaderState state) {
+    }
+}
@@ -0,0 +1,27 @@
+package com.fiap.itmoura.tech_challenge_restaurant.application.search;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "restaurants.search")
+public record RestaurantSearchProperties(
+
+    // Distância de edição máxima da busca aproximada (Lucene aceita até 2)
+    @DefaultValue("2")
+    int fuzzyMaxEdits,
+
+    // Caracteres iniciais que precisam coincidir na busca aproximada; reduz os termos visitados
+    @DefaultValue("1")
+    int fuzzyPrefixLength,
+
+    @DefaultValue("20")
+    int defaultLimit,
+
+    @DefaultValue("100")
+    int maxLimit,
+
+    // Valores retornados por faceta
+    @DefaultValue("20")
+    int maxFacetValues
+) {
+}
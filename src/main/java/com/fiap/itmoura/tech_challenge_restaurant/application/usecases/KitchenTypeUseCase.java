@@ -1,10 +1,19 @@
 package com.fiap.itmoura.tech_challenge_restaurant.application.usecases;
 
 import java.time.LocalDateTime;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -13,6 +22,7 @@ import com.fiap.itmoura.tech_challenge_restaurant.application.models.kitchentype
 import com.fiap.itmoura.tech_challenge_restaurant.application.ports.out.KitchenTypeRepository;
 import com.fiap.itmoura.tech_challenge_restaurant.application.ports.out.RestaurantRepository;
 import com.fiap.itmoura.tech_challenge_restaurant.domain.entities.KitchenTypeDocumentEntity;
+import com.fiap.itmoura.tech_challenge_restaurant.domain.entities.RestaurantEntity;
 import com.fiap.itmoura.tech_challenge_restaurant.domain.exceptions.ConflictRequestException;
 import com.fiap.itmoura.tech_challenge_restaurant.domain.exceptions.NotFoundException;
 
@@ -21,12 +31,17 @@ import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 @Service
+@Profile("!reactive")
 @RequiredArgsConstructor
 public class KitchenTypeUseCase {
 
     private final KitchenTypeRepository kitchenTypeRepository;
     private final RestaurantRepository restaurantRepository;
 
+    // Snapshot imutável da coleção kitchen_types (pequena e raramente alterada), trocado por inteiro a cada recarga
+    private volatile Catalog catalog;
+    private final ReentrantLock catalogLock = new ReentrantLock();
+
     @Transactional
     public KitchenTypeResponse createKitchenType(KitchenTypeRequest request) {
         log.info("=== Creating kitchen type ===");
@@ -55,10 +70,13 @@ public class KitchenTypeUseCase {
             .description(request.getDescription() != null ? request.getDescription().trim() : null)
             .createdAt(now)
             .lastUpdate(now)
+            .restaurantCount(0L)
+            .activeRestaurantCount(0L)
             .build();
 
         // Salvar no banco
         KitchenTypeDocumentEntity savedEntity = kitchenTypeRepository.save(entity);
+        refreshCatalog();
 
         // Converter para response
         KitchenTypeResponse response = KitchenTypeResponse.fromEntity(savedEntity);
@@ -68,38 +86,26 @@ public class KitchenTypeUseCase {
     }
 
     public List<KitchenTypeResponse> getAllKitchenTypes() {
-        log.info("=== Getting all kitchen types ===");
-        
-        List<KitchenTypeDocumentEntity> entities = kitchenTypeRepository.findAll();
-        log.info("Found {} kitchen types in database", entities.size());
-        
-        for (KitchenTypeDocumentEntity entity : entities) {
-            log.info("Entity from DB: {}", entity);
-        }
-        
-        List<KitchenTypeResponse> responses = entities.stream()
+        List<KitchenTypeDocumentEntity> entities = catalog().all();
+        log.debug("Returning {} kitchen types from catalog", entities.size());
+
+        return entities.stream()
             .map(KitchenTypeResponse::fromEntity)
             .collect(Collectors.toList());
-            
-        log.info("Returning {} responses", responses.size());
-        return responses;
     }
 
     public KitchenTypeResponse getKitchenTypeById(String id) {
-        log.info("=== Getting kitchen type by ID: {} ===", id);
-        
-        KitchenTypeDocumentEntity entity = kitchenTypeRepository.findById(id)
+        log.debug("Getting kitchen type by ID: {}", id);
+
+        // Falta no snapshot cai no banco: o tipo pode ter sido criado por outra instância desde a última recarga
+        KitchenTypeDocumentEntity entity = Optional.ofNullable(catalog().byId().get(id))
+            .or(() -> kitchenTypeRepository.findById(id))
             .orElseThrow(() -> {
                 log.error("Kitchen type not found with ID: {}", id);
                 return new NotFoundException("Kitchen type not found with id: " + id);
             });
-            
-        log.info("Found entity: {}", entity);
-        
-        KitchenTypeResponse response = KitchenTypeResponse.fromEntity(entity);
-        log.info("Returning response: {}", response);
-        
-        return response;
+
+        return KitchenTypeResponse.fromEntity(entity);
     }
 
     @Transactional
@@ -107,11 +113,6 @@ public class KitchenTypeUseCase {
         log.info("=== Updating kitchen type with ID: {} ===", id);
         log.info("Update request: name='{}', description='{}'", request.getName(), request.getDescription());
 
-        KitchenTypeDocumentEntity existingEntity = kitchenTypeRepository.findById(id.toString())
-            .orElseThrow(() -> new NotFoundException("Kitchen type not found with id: " + id));
-
-        log.info("Existing entity: {}", existingEntity);
-
         String trimmedName = request.getName().trim();
         String trimmedDescription = request.getDescription() != null ? request.getDescription().trim() : null;
 
@@ -120,15 +121,11 @@ public class KitchenTypeUseCase {
             throw new ConflictRequestException("Kitchen type with name '" + trimmedName + "' already exists");
         }
 
-        // Atualizar campos
-        existingEntity.setName(trimmedName);
-        existingEntity.setDescription(trimmedDescription);
-        existingEntity.setLastUpdate(LocalDateTime.now());
-
-        log.info("Entity before update: {}", existingEntity);
-
-        KitchenTypeDocumentEntity updatedEntity = kitchenTypeRepository.save(existingEntity);
+        // $set só dos campos editáveis: um save do documento inteiro desfaria os $inc dos contadores feitos nesse meio tempo
+        KitchenTypeDocumentEntity updatedEntity = kitchenTypeRepository.updateDetails(id, trimmedName, trimmedDescription, LocalDateTime.now())
+            .orElseThrow(() -> new NotFoundException("Kitchen type not found with id: " + id));
         log.info("Entity after update: {}", updatedEntity);
+        refreshCatalog();
 
         return KitchenTypeResponse.fromEntity(updatedEntity);
     }
@@ -142,28 +139,116 @@ public class KitchenTypeUseCase {
 
         log.info("Entity to delete: {}", entity);
 
-        // Verificar se está sendo usado por algum restaurante
-        boolean isUsedByRestaurants = restaurantRepository.existsByKitchenTypeId(id);
+        // Verificar se está sendo usado por algum restaurante: contador positivo já recusa sem consultar os restaurantes;
+        // como o contador é só um cache, a palavra final antes de excluir é sempre a consulta aos restaurantes, que usa o
+        // índice kitchen_type_id_idx (kitchenType._id) e para na primeira entrada em vez de varrer a coleção
+        boolean isUsedByRestaurants = (entity.getRestaurantCount() != null && entity.getRestaurantCount() > 0)
+            || restaurantRepository.existsByKitchenTypeId(id);
         if (isUsedByRestaurants) {
             log.warn("Cannot delete kitchen type {} - it is being used by restaurants", id);
             throw new ConflictRequestException("Cannot delete kitchen type. It is being used by restaurants");
         }
 
         kitchenTypeRepository.deleteById(id.toString());
+        refreshCatalog();
         log.info("Kitchen type deleted successfully");
     }
 
     public KitchenTypeResponse getKitchenTypeByIdOrName(String name) {
-        log.info("=== Getting kitchen type by ID or name: {} ===", name);
+        log.debug("Getting kitchen type by name: {}", name);
 
-        KitchenTypeDocumentEntity entity = kitchenTypeRepository.findByNameIgnoreCase(name)
+        KitchenTypeDocumentEntity entity = Optional.ofNullable(catalog().byName().get(normalize(name)))
+            .or(() -> kitchenTypeRepository.findByNameIgnoreCase(name))
             .orElseThrow(() -> new NotFoundException("Kitchen type not found with name: " + name));
 
-        log.info("Found entity: {}", entity);
+        return KitchenTypeResponse.fromEntity(entity);
+    }
+
+    // Ranking lido direto de kitchen_types (não do catálogo), com os contadores atuais
+    public List<KitchenTypeResponse> getKitchenTypeUsage() {
+        return kitchenTypeRepository.findAll(Sort.by(Sort.Direction.DESC, "restaurantCount").and(Sort.by("name"))).stream()
+            .map(KitchenTypeResponse::fromEntity)
+            .collect(Collectors.toList());
+    }
+
+    // removed/added são os estados do restaurante antes e depois da escrita; só os deltas não nulos viram $inc
+    public void updateRestaurantCounts(List<RestaurantEntity> removed, List<RestaurantEntity> added) {
+        Map<String, long[]> deltas = new HashMap<>();
+        removed.forEach(restaurant -> addUsage(deltas, restaurant, -1));
+        added.forEach(restaurant -> addUsage(deltas, restaurant, 1));
+
+        deltas.forEach((kitchenTypeId, delta) -> {
+            if (delta[0] != 0 || delta[1] != 0) {
+                kitchenTypeRepository.incrementRestaurantCounts(kitchenTypeId, delta[0], delta[1]);
+            }
+        });
+    }
 
-        KitchenTypeResponse response = KitchenTypeResponse.fromEntity(entity);
-        log.info("Returning response: {}", response);
+    // Corrige desvios dos contadores (falhas entre a escrita do restaurante e o $inc, bases antigas)
+    @Scheduled(initialDelayString = "${kitchen-types.usage.reconcile-initial-delay:0s}",
+               fixedDelayString = "${kitchen-types.usage.reconcile-interval:1h}")
+    public void reconcileRestaurantCounts() {
+        long corrected = kitchenTypeRepository.reconcileRestaurantCounts();
+        if (corrected > 0) {
+            log.info("Reconciled restaurant counts of {} kitchen types", corrected);
+            refreshCatalog();
+        }
+    }
 
-        return response;
+    // Recarga periódica para enxergar escritas feitas por outras instâncias
+    @Scheduled(initialDelayString = "${kitchen-types.catalog.refresh-interval:5m}",
+               fixedDelayString = "${kitchen-types.catalog.refresh-interval:5m}")
+    public void scheduledCatalogRefresh() {
+        refreshCatalog();
+    }
+
+    // Serializado para que uma recarga antiga nunca sobrescreva uma mais nova; lock em vez de synchronized
+    // porque o findAll com o monitor preso fixaria a virtual thread na carrier
+    private Catalog refreshCatalog() {
+        catalogLock.lock();
+        try {
+            Catalog fresh = Catalog.of(kitchenTypeRepository.findAll());
+            catalog = fresh;
+            log.debug("Kitchen type catalog refreshed with {} entries", fresh.all().size());
+            return fresh;
+        } finally {
+            catalogLock.unlock();
+        }
+    }
+
+    private Catalog catalog() {
+        Catalog current = catalog;
+        return current != null ? current : refreshCatalog();
+    }
+
+    private static void addUsage(Map<String, long[]> deltas, RestaurantEntity restaurant, int sign) {
+        if (restaurant == null || restaurant.getKitchenType() == null || restaurant.getKitchenType().getId() == null) {
+            return;
+        }
+        long[] delta = deltas.computeIfAbsent(restaurant.getKitchenType().getId(), key -> new long[2]);
+        delta[0] += sign;
+        if (Boolean.TRUE.equals(restaurant.getIsActive())) {
+            delta[1] += sign;
+        }
+    }
+
+    private static String normalize(String name) {
+        return name.trim().toLowerCase(Locale.ROOT);
+    }
+
+    // As entidades do snapshot nunca saem daqui: toda resposta é uma cópia nova via KitchenTypeResponse.fromEntity
+    private record Catalog(List<KitchenTypeDocumentEntity> all,
+                           Map<String, KitchenTypeDocumentEntity> byId,
+                           Map<String, KitchenTypeDocumentEntity> byName) {
+
+        static Catalog of(List<KitchenTypeDocumentEntity> entities) {
+            List<KitchenTypeDocumentEntity> all = List.copyOf(entities);
+            return new Catalog(all,
+                all.stream().collect(Collectors.toUnmodifiableMap(KitchenTypeDocumentEntity::getId, Function.identity())),
+                all.stream()
+                    .filter(entity -> entity.getName() != null)
+                    .collect(Collectors.toUnmodifiableMap(entity -> normalize(entity.getName()),
+                        Function.identity(), (first, second) -> first)));
+        }
     }
 }
@@ -1,146 +1,146 @@
 package com.fiap.itmoura.tech_challenge_restaurant.application.usecases;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.fiap.itmoura.tech_challenge_restaurant.application.cache.RestaurantCache;
+import com.fiap.itmoura.tech_challenge_restaurant.application.concurrency.OptimisticWriteRetry;
+import com.fiap.itmoura.tech_challenge_restaurant.application.models.group.OnCreateGroup;
+import com.fiap.itmoura.tech_challenge_restaurant.application.models.menu.MenuItemBulkEntry;
+import com.fiap.itmoura.tech_challenge_restaurant.application.models.menu.MenuItemBulkRequest;
+import com.fiap.itmoura.tech_challenge_restaurant.application.models.menu.MenuItemBulkResponse;
+import com.fiap.itmoura.tech_challenge_restaurant.application.models.menu.MenuItemBulkResult;
 import com.fiap.itmoura.tech_challenge_restaurant.application.models.menu.MenuItemRequest;
 import com.fiap.itmoura.tech_challenge_restaurant.application.models.menu.MenuItemResponse;
 import com.fiap.itmoura.tech_challenge_restaurant.application.models.menu.MenuItemWithContextDTO;
+import com.fiap.itmoura.tech_challenge_restaurant.application.models.versioning.Versioned;
 import com.fiap.itmoura.tech_challenge_restaurant.application.ports.out.RestaurantRepository;
 import com.fiap.itmoura.tech_challenge_restaurant.domain.entities.MenuCategoryEntity;
 import com.fiap.itmoura.tech_challenge_restaurant.domain.entities.MenuItemEntity;
 import com.fiap.itmoura.tech_challenge_restaurant.domain.entities.RestaurantEntity;
+import com.fiap.itmoura.tech_challenge_restaurant.domain.events.RestaurantChangedEvent;
 import com.fiap.itmoura.tech_challenge_restaurant.domain.exceptions.NotFoundException;
 
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 
 @Log4j2
 @Service
+@Profile("!reactive")
 @RequiredArgsConstructor
 public class MenuItemUseCase {
 
     private final RestaurantRepository restaurantRepository;
+    private final RestaurantCache restaurantCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final OptimisticWriteRetry writeRetry;
+    private final Validator validator;
 
     @Transactional
     public MenuItemResponse createMenuItem(String restaurantId, String menuId, MenuItemRequest request) {
         log.info("Creating menu item for restaurant ID: {} and menu ID: {}", restaurantId, menuId);
 
-        RestaurantEntity restaurant = restaurantRepository.findById(restaurantId)
-            .orElseThrow(() -> new NotFoundException("Restaurant not found with ID: " + restaurantId));
-
-        MenuCategoryEntity category = findMenuCategory(restaurant, menuId);
+        MenuItemEntity newItem = newMenuItem(request);
 
-        MenuItemEntity newItem = MenuItemEntity.builder()
-            .id(UUID.randomUUID().toString())
-            .name(request.getName())
-            .description(request.getDescription())
-            .price(request.getPrice())
-            .onlyForLocalConsumption(request.getOnlyForLocalConsumption() != null ? request.getOnlyForLocalConsumption() : false)
-            .imagePath(request.getImagePath())
-            .isActive(request.getIsActive() != null ? request.getIsActive() : true)
-            .build();
+        // $push direto na categoria: o restaurante não é lido nem regravado
+        if (!restaurantRepository.pushMenuItem(restaurantId, menuId, newItem, LocalDateTime.now())) {
+            throw writeFailure("create_menu_item", restaurantId, menuId, null, null);
+        }
+        eventPublisher.publishEvent(new RestaurantChangedEvent(restaurantId));
 
-        List<MenuItemEntity> currentItems = category.getItems() != null 
-            ? category.getItems() 
-            : List.of();
+        log.info("Menu item created successfully with ID: {}", newItem.getId());
+        return MenuItemResponse.fromEntity(newItem, restaurantId, menuId);
+    }
 
-        List<MenuItemEntity> updatedItems = new java.util.ArrayList<>(currentItems);
-        updatedItems.add(newItem);
+    // Itens inválidos são rejeitados individualmente; os válidos vão para o banco em um único bulkWrite
+    public MenuItemBulkResponse createMenuItems(String restaurantId, MenuItemBulkRequest request) {
+        log.info("Bulk creating {} menu items for restaurant ID: {}", request.getItems().size(), restaurantId);
 
-        category.setItems(updatedItems);
+        List<MenuItemBulkResult> results = writeRetry.execute("bulk_create_menu_items", null,
+            () -> pushMenuItems(restaurantId, request.getItems()));
 
-        RestaurantEntity savedRestaurant = restaurantRepository.save(restaurant);
+        MenuItemBulkResponse response = MenuItemBulkResponse.of(restaurantId, results);
+        if (response.getCreated() > 0) {
+            eventPublisher.publishEvent(new RestaurantChangedEvent(restaurantId));
+        }
 
-        log.info("Menu item created successfully with ID: {}", newItem.getId());
-        return MenuItemResponse.fromEntity(newItem, savedRestaurant.getId(), category.getId());
+        log.info("Bulk import for restaurant ID: {} finished with {} created and {} rejected",
+            restaurantId, response.getCreated(), response.getRejected());
+        return response;
     }
 
     @Transactional
     public MenuItemResponse updateMenuItem(String restaurantId, String menuId, String itemId, MenuItemRequest request) {
-        log.info("Updating menu item ID: {} for restaurant ID: {} and menu ID: {}", itemId, restaurantId, menuId);
-
-        RestaurantEntity restaurant = restaurantRepository.findById(restaurantId)
-            .orElseThrow(() -> new NotFoundException("Restaurant not found with ID: " + restaurantId));
+        return updateMenuItem(restaurantId, menuId, itemId, request, null);
+    }
 
-        MenuCategoryEntity category = findMenuCategory(restaurant, menuId);
-        MenuItemEntity itemToUpdate = findMenuItem(category, itemId);
+    // expectedVersion vem do If-Match e vira condição do próprio update; sem ele a escrita é atômica e não conflita
+    @Transactional
+    public MenuItemResponse updateMenuItem(String restaurantId, String menuId, String itemId, MenuItemRequest request, Long expectedVersion) {
+        log.info("Updating menu item ID: {} for restaurant ID: {} and menu ID: {}", itemId, restaurantId, menuId);
 
-        itemToUpdate.setName(request.getName());
-        itemToUpdate.setDescription(request.getDescription());
-        itemToUpdate.setPrice(request.getPrice());
-        itemToUpdate.setOnlyForLocalConsumption(request.getOnlyForLocalConsumption() != null ? request.getOnlyForLocalConsumption() : itemToUpdate.getOnlyForLocalConsumption());
-        itemToUpdate.setImagePath(request.getImagePath());
-        itemToUpdate.setIsActive(request.getIsActive() != null ? request.getIsActive() : itemToUpdate.getIsActive());
+        MenuItemEntity changes = MenuItemEntity.builder()
+            .id(itemId)
+            .name(request.getName())
+            .description(request.getDescription())
+            .price(request.getPrice())
+            .onlyForLocalConsumption(request.getOnlyForLocalConsumption())
+            .imagePath(request.getImagePath())
+            .isActive(request.getIsActive())
+            .build();
 
-        RestaurantEntity savedRestaurant = restaurantRepository.save(restaurant);
+        // $set com arrayFilters no item: edições concorrentes de itens diferentes não se sobrescrevem
+        MenuItemEntity updatedItem = restaurantRepository.updateMenuItem(restaurantId, menuId, changes, expectedVersion, LocalDateTime.now())
+            .orElseThrow(() -> writeFailure("update_menu_item", restaurantId, menuId, itemId, expectedVersion));
+        eventPublisher.publishEvent(new RestaurantChangedEvent(restaurantId));
 
         log.info("Menu item updated successfully with ID: {}", itemId);
-        return MenuItemResponse.fromEntity(itemToUpdate, savedRestaurant.getId(), category.getId());
+        return MenuItemResponse.fromEntity(updatedItem, restaurantId, menuId);
     }
 
     @Transactional
     public void deleteMenuItem(String restaurantId, String menuId, String itemId) {
-        log.info("Deleting menu item ID: {} for restaurant ID: {} and menu ID: {}", itemId, restaurantId, menuId);
-
-        RestaurantEntity restaurant = restaurantRepository.findById(restaurantId)
-            .orElseThrow(() -> new NotFoundException("Restaurant not found with ID: " + restaurantId));
-
-        MenuCategoryEntity category = findMenuCategory(restaurant, menuId);
-
-        List<MenuItemEntity> items = category.getItems();
-        if (items == null || items.isEmpty()) {
-            throw new NotFoundException("No items found in menu category ID: " + menuId);
-        }
+        deleteMenuItem(restaurantId, menuId, itemId, null);
+    }
 
-        boolean itemExists = items.stream()
-            .anyMatch(item -> item.getId().equals(itemId));
+    @Transactional
+    public void deleteMenuItem(String restaurantId, String menuId, String itemId, Long expectedVersion) {
+        log.info("Deleting menu item ID: {} for restaurant ID: {} and menu ID: {}", itemId, restaurantId, menuId);
 
-        if (!itemExists) {
-            throw new NotFoundException("Menu item not found with ID: " + itemId);
+        if (!restaurantRepository.pullMenuItem(restaurantId, menuId, itemId, expectedVersion, LocalDateTime.now())) {
+            throw writeFailure("delete_menu_item", restaurantId, menuId, itemId, expectedVersion);
         }
-
-        List<MenuItemEntity> updatedItems = items.stream()
-            .filter(item -> !item.getId().equals(itemId))
-            .toList();
-
-        category.setItems(updatedItems);
-        restaurantRepository.save(restaurant);
+        eventPublisher.publishEvent(new RestaurantChangedEvent(restaurantId));
 
         log.info("Menu item deleted successfully with ID: {}", itemId);
     }
 
-    public MenuItemWithContextDTO getMenuItemById(String itemId) {
+    public Versioned<MenuItemWithContextDTO> getMenuItemById(String itemId) {
         log.info("Fetching menu item by ID: {}", itemId);
 
-        RestaurantEntity restaurant = restaurantRepository.findByMenuItemId(itemId)
+        RestaurantEntity restaurant = restaurantCache.findByMenuItemId(itemId)
             .orElseThrow(() -> new NotFoundException("Menu item not found with ID: " + itemId));
 
         // Encontrar o item e sua categoria
         for (MenuCategoryEntity category : restaurant.getMenu()) {
             for (MenuItemEntity item : category.getItems()) {
                 if (item.getId().equals(itemId)) {
-                    return MenuItemWithContextDTO.builder()
-                        .id(item.getId())
-                        .name(item.getName())
-                        .description(item.getDescription())
-                        .price(item.getPrice())
-                        .onlyForLocalConsumption(item.getOnlyForLocalConsumption())
-                        .imagePath(item.getImagePath())
-                        .isActive(item.getIsActive())
-                        .category(MenuItemWithContextDTO.MenuCategoryContextDTO.builder()
-                            .id(category.getId())
-                            .type(category.getType())
-                            .build())
-                        .restaurant(MenuItemWithContextDTO.RestaurantContextDTO.builder()
-                            .id(restaurant.getId())
-                            .name(restaurant.getName())
-                            .address(restaurant.getAddress())
-                            .build())
-                        .build();
+                    MenuItemWithContextDTO response = MenuItemWithContextDTO.fromEntity(restaurant, category, item);
+                    return Versioned.of(response, restaurant);
                 }
             }
         }
@@ -148,27 +148,80 @@ public class MenuItemUseCase {
         throw new NotFoundException("Menu item not found with ID: " + itemId);
     }
 
-    private MenuCategoryEntity findMenuCategory(RestaurantEntity restaurant, String menuId) {
-        List<MenuCategoryEntity> menu = restaurant.getMenu();
-        if (menu == null || menu.isEmpty()) {
-            throw new NotFoundException("Menu not found for restaurant ID: " + restaurant.getId());
+    public Optional<String> getMenuItemVersion(String itemId) {
+        return restaurantCache.findVersionByMenuItemId(itemId);
+    }
+
+    private List<MenuItemBulkResult> pushMenuItems(String restaurantId, List<MenuItemBulkEntry> entries) {
+        // Só a versão e os IDs das categorias: o menu completo não é carregado
+        RestaurantEntity restaurant = restaurantRepository.findMenuCategoryIds(restaurantId)
+            .orElseThrow(() -> new NotFoundException("Restaurant not found with ID: " + restaurantId));
+        Set<String> categoryIds = restaurant.getMenu() == null ? Set.of() : restaurant.getMenu().stream()
+            .map(MenuCategoryEntity::getId)
+            .collect(Collectors.toSet());
+
+        List<MenuItemBulkResult> results = new ArrayList<>(entries.size());
+        Map<String, List<MenuItemEntity>> itemsByCategory = new LinkedHashMap<>();
+        for (int index = 0; index < entries.size(); index++) {
+            MenuItemBulkEntry entry = entries.get(index);
+            String menuId = entry == null ? null : entry.getMenuId();
+            List<String> errors = validate(entry, categoryIds);
+            if (!errors.isEmpty()) {
+                results.add(MenuItemBulkResult.rejected(index, menuId, errors));
+                continue;
+            }
+
+            MenuItemEntity newItem = newMenuItem(entry.getItem());
+            itemsByCategory.computeIfAbsent(menuId, key -> new ArrayList<>()).add(newItem);
+            results.add(MenuItemBulkResult.created(index, MenuItemResponse.fromEntity(newItem, restaurantId, menuId)));
         }
 
-        return menu.stream()
-            .filter(category -> category.getId().equals(menuId))
-            .findFirst()
-            .orElseThrow(() -> new NotFoundException("Menu category not found with ID: " + menuId));
+        // A escrita exige a versão lida: se uma categoria sumiu no meio tempo, o lote é revalidado
+        if (!itemsByCategory.isEmpty()
+                && !restaurantRepository.pushMenuItems(restaurantId, itemsByCategory, restaurant.getVersion(), LocalDateTime.now())) {
+            throw new OptimisticLockingFailureException("Restaurant " + restaurantId + " changed during bulk menu item import");
+        }
+        return results;
     }
 
-    private MenuItemEntity findMenuItem(MenuCategoryEntity category, String itemId) {
-        List<MenuItemEntity> items = category.getItems();
-        if (items == null || items.isEmpty()) {
-            throw new NotFoundException("No items found in menu category ID: " + category.getId());
+    private List<String> validate(MenuItemBulkEntry entry, Set<String> categoryIds) {
+        if (entry == null || entry.getItem() == null) {
+            return List.of("item: Dados do item são obrigatórios");
         }
 
-        return items.stream()
-            .filter(item -> item.getId().equals(itemId))
-            .findFirst()
-            .orElseThrow(() -> new NotFoundException("Menu item not found with ID: " + itemId));
+        List<String> errors = new ArrayList<>();
+        if (entry.getMenuId() == null || !categoryIds.contains(entry.getMenuId())) {
+            errors.add("menuId: Menu category not found with ID: " + entry.getMenuId());
+        }
+        validator.validate(entry.getItem(), OnCreateGroup.class).stream()
+            .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+            .sorted()
+            .forEach(errors::add);
+        return errors;
+    }
+
+    private MenuItemEntity newMenuItem(MenuItemRequest request) {
+        return MenuItemEntity.builder()
+            .id(UUID.randomUUID().toString())
+            .name(request.getName())
+            .description(request.getDescription())
+            .price(request.getPrice())
+            .onlyForLocalConsumption(request.getOnlyForLocalConsumption() != null ? request.getOnlyForLocalConsumption() : false)
+            .imagePath(request.getImagePath())
+            .isActive(request.getIsActive() != null ? request.getIsActive() : true)
+            .build();
+    }
+
+    // A operação atômica não diz o que faltou; só no caminho de erro consultamos para manter a mensagem específica
+    private RuntimeException writeFailure(String operation, String restaurantId, String menuId, String itemId, Long expectedVersion) {
+        Optional<RestaurantEntity> current = restaurantRepository.findVersionById(restaurantId);
+        if (current.isEmpty()) {
+            return new NotFoundException("Restaurant not found with ID: " + restaurantId);
+        }
+        writeRetry.checkVersion(operation, expectedVersion, current.get().getVersion());
+        if (itemId == null || !restaurantRepository.existsByIdAndMenuId(restaurantId, menuId)) {
+            return new NotFoundException("Menu category not found with ID: " + menuId);
+        }
+        return new NotFoundException("Menu item not found with ID: " + itemId);
     }
 }
@@ -1,16 +1,24 @@
 package com.fiap.itmoura.tech_challenge_restaurant.application.usecases;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.fiap.itmoura.tech_challenge_restaurant.application.cache.RestaurantCache;
+import com.fiap.itmoura.tech_challenge_restaurant.application.concurrency.OptimisticWriteRetry;
 import com.fiap.itmoura.tech_challenge_restaurant.application.models.menu.MenuCategoryRequest;
 import com.fiap.itmoura.tech_challenge_restaurant.application.models.menu.MenuCategoryResponse;
+import com.fiap.itmoura.tech_challenge_restaurant.application.models.versioning.Versioned;
 import com.fiap.itmoura.tech_challenge_restaurant.application.ports.out.RestaurantRepository;
 import com.fiap.itmoura.tech_challenge_restaurant.domain.entities.MenuCategoryEntity;
 import com.fiap.itmoura.tech_challenge_restaurant.domain.entities.RestaurantEntity;
+import com.fiap.itmoura.tech_challenge_restaurant.domain.events.RestaurantChangedEvent;
 import com.fiap.itmoura.tech_challenge_restaurant.domain.exceptions.NotFoundException;
 
 import lombok.RequiredArgsConstructor;
@@ -18,108 +26,100 @@ import lombok.extern.log4j.Log4j2;
 
 @Log4j2
 @Service
+@Profile("!reactive")
 @RequiredArgsConstructor
 public class MenuUseCase {
 
     private final RestaurantRepository restaurantRepository;
+    private final RestaurantCache restaurantCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final OptimisticWriteRetry writeRetry;
 
     @Transactional
     public MenuCategoryResponse createMenuCategory(String restaurantId, MenuCategoryRequest request) {
         log.info("Creating menu category for restaurant ID: {}", restaurantId);
 
-        RestaurantEntity restaurant = restaurantRepository.findById(restaurantId)
-            .orElseThrow(() -> new NotFoundException("Restaurant not found with ID: " + restaurantId));
-
         MenuCategoryEntity newCategory = MenuCategoryEntity.builder()
             .id(UUID.randomUUID().toString())
             .type(request.getType())
             .items(List.of())
             .build();
 
-        List<MenuCategoryEntity> currentMenu = restaurant.getMenu() != null 
-            ? restaurant.getMenu() 
-            : List.of();
-
-        List<MenuCategoryEntity> updatedMenu = new java.util.ArrayList<>(currentMenu);
-        updatedMenu.add(newCategory);
-
-        restaurant.setMenu(updatedMenu);
-        RestaurantEntity savedRestaurant = restaurantRepository.save(restaurant);
+        // $push direto no menu: o restaurante não é lido nem regravado
+        if (!restaurantRepository.pushMenuCategory(restaurantId, newCategory, LocalDateTime.now())) {
+            throw new NotFoundException("Restaurant not found with ID: " + restaurantId);
+        }
+        eventPublisher.publishEvent(new RestaurantChangedEvent(restaurantId));
 
         log.info("Menu category created successfully with ID: {}", newCategory.getId());
-        return MenuCategoryResponse.fromEntity(newCategory, savedRestaurant.getId());
+        return MenuCategoryResponse.fromEntity(newCategory, restaurantId);
     }
 
     @Transactional
     public MenuCategoryResponse updateMenuCategory(String restaurantId, String menuId, MenuCategoryRequest request) {
-        log.info("Updating menu category ID: {} for restaurant ID: {}", menuId, restaurantId);
-
-        RestaurantEntity restaurant = restaurantRepository.findById(restaurantId)
-            .orElseThrow(() -> new NotFoundException("Restaurant not found with ID: " + restaurantId));
-
-        List<MenuCategoryEntity> menu = restaurant.getMenu();
-        if (menu == null || menu.isEmpty()) {
-            throw new NotFoundException("Menu not found for restaurant ID: " + restaurantId);
-        }
-
-        MenuCategoryEntity categoryToUpdate = menu.stream()
-            .filter(category -> category.getId().equals(menuId))
-            .findFirst()
-            .orElseThrow(() -> new NotFoundException("Menu category not found with ID: " + menuId));
+        return updateMenuCategory(restaurantId, menuId, request, null);
+    }
 
-        categoryToUpdate.setType(request.getType());
+    // expectedVersion vem do If-Match e vira condição do próprio update; sem ele a escrita é atômica e não conflita
+    @Transactional
+    public MenuCategoryResponse updateMenuCategory(String restaurantId, String menuId, MenuCategoryRequest request, Long expectedVersion) {
+        log.info("Updating menu category ID: {} for restaurant ID: {}", menuId, restaurantId);
 
-        RestaurantEntity savedRestaurant = restaurantRepository.save(restaurant);
+        MenuCategoryEntity updatedCategory = restaurantRepository
+            .updateMenuCategoryType(restaurantId, menuId, request.getType(), expectedVersion, LocalDateTime.now())
+            .orElseThrow(() -> writeFailure("update_menu_category", restaurantId, menuId, expectedVersion));
+        eventPublisher.publishEvent(new RestaurantChangedEvent(restaurantId));
 
         log.info("Menu category updated successfully with ID: {}", menuId);
-        return MenuCategoryResponse.fromEntity(categoryToUpdate, savedRestaurant.getId());
+        return MenuCategoryResponse.fromEntity(updatedCategory, restaurantId);
     }
 
     @Transactional
     public void deleteMenuCategory(String restaurantId, String menuId) {
-        log.info("Deleting menu category ID: {} for restaurant ID: {}", menuId, restaurantId);
-
-        RestaurantEntity restaurant = restaurantRepository.findById(restaurantId)
-            .orElseThrow(() -> new NotFoundException("Restaurant not found with ID: " + restaurantId));
-
-        List<MenuCategoryEntity> menu = restaurant.getMenu();
-        if (menu == null || menu.isEmpty()) {
-            throw new NotFoundException("Menu not found for restaurant ID: " + restaurantId);
-        }
+        deleteMenuCategory(restaurantId, menuId, null);
+    }
 
-        boolean categoryExists = menu.stream()
-            .anyMatch(category -> category.getId().equals(menuId));
+    @Transactional
+    public void deleteMenuCategory(String restaurantId, String menuId, Long expectedVersion) {
+        log.info("Deleting menu category ID: {} for restaurant ID: {}", menuId, restaurantId);
 
-        if (!categoryExists) {
-            throw new NotFoundException("Menu category not found with ID: " + menuId);
+        if (!restaurantRepository.pullMenuCategory(restaurantId, menuId, expectedVersion, LocalDateTime.now())) {
+            throw writeFailure("delete_menu_category", restaurantId, menuId, expectedVersion);
         }
-
-        List<MenuCategoryEntity> updatedMenu = menu.stream()
-            .filter(category -> !category.getId().equals(menuId))
-            .toList();
-
-        restaurant.setMenu(updatedMenu);
-        restaurantRepository.save(restaurant);
+        eventPublisher.publishEvent(new RestaurantChangedEvent(restaurantId));
 
         log.info("Menu category deleted successfully with ID: {}", menuId);
     }
 
-    public MenuCategoryResponse getMenuCategory(String restaurantId, String menuId) {
+    public Versioned<MenuCategoryResponse> getMenuCategory(String restaurantId, String menuId) {
         log.info("Fetching menu category ID: {} for restaurant ID: {}", menuId, restaurantId);
 
-        RestaurantEntity restaurant = restaurantRepository.findById(restaurantId)
+        // Restaurante já em cache serve a categoria; senão a projeção traz só a categoria pedida
+        RestaurantEntity restaurant = restaurantCache.getIfPresent(restaurantId)
+            .or(() -> restaurantRepository.findWithMenuCategory(restaurantId, menuId))
             .orElseThrow(() -> new NotFoundException("Restaurant not found with ID: " + restaurantId));
 
-        List<MenuCategoryEntity> menu = restaurant.getMenu();
-        if (menu == null || menu.isEmpty()) {
-            throw new NotFoundException("Menu not found for restaurant ID: " + restaurantId);
-        }
+        List<MenuCategoryEntity> menu = restaurant.getMenu() != null ? restaurant.getMenu() : List.of();
 
         MenuCategoryEntity category = menu.stream()
             .filter(cat -> cat.getId().equals(menuId))
             .findFirst()
             .orElseThrow(() -> new NotFoundException("Menu category not found with ID: " + menuId));
 
-        return MenuCategoryResponse.fromEntity(category, restaurant.getId());
+        return Versioned.of(MenuCategoryResponse.fromEntity(category, restaurantId), restaurant);
+    }
+
+    public Optional<String> getRestaurantVersion(String restaurantId) {
+        return restaurantCache.findVersion(restaurantId);
+    }
+
+    // A operação atômica não diz o que faltou; só no caminho de erro consultamos para manter a mensagem específica
+    private RuntimeException writeFailure(String operation, String restaurantId, String menuId, Long expectedVersion) {
+        Optional<RestaurantEntity> current = restaurantRepository.findVersionById(restaurantId);
+        if (current.isEmpty()) {
+            return new NotFoundException("Restaurant not found with ID: " + restaurantId);
+        }
+        writeRetry.checkVersion(operation, expectedVersion, current.get().getVersion());
+        return new NotFoundException("Menu category not found with ID: " + menuId);
     }
 }
@@ -0,0 +1,41 @@
+package com.fiap.itmoura.tech_challenge_restaurant.application.usecases;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+
+import com.fiap.itmoura.tech_challenge_restaurant.application.models.kitchentype.KitchenTypeResponse;
+import com.fiap.itmoura.tech_challenge_restaurant.application.ports.out.ReactiveKitchenTypeRepository;
+import com.fiap.itmoura.tech_challenge_restaurant.domain.exceptions.NotFoundException;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+// Leituras de tipos de cozinha do perfil reactive; o nó reativo não recebe escritas, então lê direto da coleção
+@Slf4j
+@Service
+@Profile("reactive")
+@RequiredArgsConstructor
+public class ReactiveKitchenTypeUseCase {
+
+    private final ReactiveKitchenTypeRepository kitchenTypeRepository;
+
+    public Flux<KitchenTypeResponse> getAllKitchenTypes() {
+        return kitchenTypeRepository.findAll().map(KitchenTypeResponse::fromEntity);
+    }
+
+    public Mono<KitchenTypeResponse> getKitchenTypeById(String id) {
+        log.debug("Getting kitchen type by ID: {}", id);
+
+        return kitchenTypeRepository.findById(id)
+            .switchIfEmpty(Mono.error(() -> new NotFoundException("Kitchen type not found with id: " + id)))
+            .map(KitchenTypeResponse::fromEntity);
+    }
+
+    public Flux<KitchenTypeResponse> getKitchenTypeUsage() {
+        return kitchenTypeRepository.findAll(Sort.by(Sort.Direction.DESC, "restaurantCount").and(Sort.by("name")))
+            .map(KitchenTypeResponse::fromEntity);
+    }
+}
@@ -0,0 +1,137 @@
+package com.fiap.itmoura.tech_challenge_restaurant.application.usecases;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+
+import com.fiap.itmoura.tech_challenge_restaurant.application.models.menu.MenuCategoryResponse;
+import com.fiap.itmoura.tech_challenge_restaurant.application.models.menu.MenuItemWithContextDTO;
+import com.fiap.itmoura.tech_challenge_restaurant.application.models.pagination.CursorPage;
+import com.fiap.itmoura.tech_challenge_restaurant.application.models.pagination.CursorPageRequest;
+import com.fiap.itmoura.tech_challenge_restaurant.application.models.restaurant.RestaurantBasicResponse;
+import com.fiap.itmoura.tech_challenge_restaurant.application.models.restaurant.RestaurantFullResponse;
+import com.fiap.itmoura.tech_challenge_restaurant.application.models.versioning.Versioned;
+import com.fiap.itmoura.tech_challenge_restaurant.application.ports.out.ReactiveRestaurantRepository;
+import com.fiap.itmoura.tech_challenge_restaurant.domain.entities.MenuCategoryEntity;
+import com.fiap.itmoura.tech_challenge_restaurant.domain.entities.RestaurantEntity;
+import com.fiap.itmoura.tech_challenge_restaurant.domain.exceptions.NotFoundException;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+// Leituras de restaurantes e menus do perfil reactive: as mesmas consultas e projeções de RestaurantUseCase,
+// MenuUseCase e MenuItemUseCase, sem bloquear as threads do event loop
+@Log4j2
+@Service
+@Profile("reactive")
+@RequiredArgsConstructor
+public class ReactiveRestaurantUseCase {
+
+    private final ReactiveRestaurantRepository restaurantRepository;
+
+    public Mono<CursorPage<RestaurantBasicResponse>> getAllRestaurants(String cursor, Integer limit) {
+        log.info("Fetching restaurants without menu (cursor: {}, limit: {})", cursor, limit);
+
+        CursorPageRequest pageRequest = CursorPageRequest.of(cursor, limit);
+        return findPage(pageRequest,
+                restaurantRepository::findBasicBy,
+                restaurantRepository::findBasicByIdGreaterThan)
+            .map(window -> CursorPage.of(window, pageRequest.limit(), RestaurantEntity::getId, RestaurantBasicResponse::fromEntity));
+    }
+
+    public Mono<CursorPage<RestaurantBasicResponse>> getAllActiveRestaurants(String cursor, Integer limit) {
+        log.info("Fetching active restaurants without menu (cursor: {}, limit: {})", cursor, limit);
+
+        CursorPageRequest pageRequest = CursorPageRequest.of(cursor, limit);
+        return findPage(pageRequest,
+                restaurantRepository::findBasicByIsActiveTrue,
+                restaurantRepository::findBasicByIsActiveTrueAndIdGreaterThan)
+            .map(window -> CursorPage.of(window, pageRequest.limit(), RestaurantEntity::getId, RestaurantBasicResponse::fromEntity));
+    }
+
+    public Mono<CursorPage<RestaurantFullResponse>> getAllRestaurantsWithMenu(String cursor, Integer limit) {
+        log.info("Fetching restaurants with menu (cursor: {}, limit: {})", cursor, limit);
+
+        CursorPageRequest pageRequest = CursorPageRequest.of(cursor, limit);
+        return findPage(pageRequest,
+                restaurantRepository::findAllBy,
+                restaurantRepository::findByIdGreaterThan)
+            .map(window -> CursorPage.of(window, pageRequest.limit(), RestaurantEntity::getId, RestaurantFullResponse::fromEntity));
+    }
+
+    // O Flux segue o cursor do MongoDB com backpressure: o próximo lote só é pedido quando o cliente consome o anterior
+    public Flux<RestaurantFullResponse> streamAllRestaurantsWithMenu() {
+        log.info("Streaming all restaurants with menu");
+
+        return restaurantRepository.findAll().map(RestaurantFullResponse::fromEntity);
+    }
+
+    public Mono<Versioned<RestaurantFullResponse>> getRestaurantById(String id) {
+        log.info("Fetching restaurant by ID: {}", id);
+
+        return restaurantRepository.findById(id)
+            .switchIfEmpty(Mono.error(() -> new NotFoundException("Restaurant not found with ID: " + id)))
+            .map(restaurant -> Versioned.of(RestaurantFullResponse.fromEntity(restaurant), restaurant));
+    }
+
+    public Mono<String> getRestaurantVersion(String id) {
+        return restaurantRepository.findVersionById(id).mapNotNull(Versioned::versionOf);
+    }
+
+    public Mono<Versioned<MenuCategoryResponse>> getMenuCategory(String restaurantId, String menuId) {
+        log.info("Fetching menu category ID: {} for restaurant ID: {}", menuId, restaurantId);
+
+        return restaurantRepository.findWithMenuCategory(restaurantId, menuId)
+            .switchIfEmpty(Mono.error(() -> new NotFoundException("Restaurant not found with ID: " + restaurantId)))
+            .flatMap(restaurant -> Mono.justOrEmpty(menuOf(restaurant).stream()
+                    .filter(category -> category.getId().equals(menuId))
+                    .findFirst())
+                .switchIfEmpty(Mono.error(() -> new NotFoundException("Menu category not found with ID: " + menuId)))
+                .map(category -> Versioned.of(MenuCategoryResponse.fromEntity(category, restaurantId), restaurant)));
+    }
+
+    public Mono<Versioned<MenuItemWithContextDTO>> getMenuItemById(String itemId) {
+        log.info("Fetching menu item by ID: {}", itemId);
+
+        // A projeção já traz só a categoria e o item encontrados
+        return restaurantRepository.findWithMenuItem(itemId)
+            .flatMap(restaurant -> Mono.justOrEmpty(menuOf(restaurant).stream()
+                    .filter(category -> category.getItems() != null)
+                    .flatMap(category -> category.getItems().stream()
+                        .filter(Objects::nonNull)
+                        .filter(item -> itemId.equals(item.getId()))
+                        .map(item -> MenuItemWithContextDTO.fromEntity(restaurant, category, item)))
+                    .findFirst())
+                .map(response -> Versioned.of(response, restaurant)))
+            .switchIfEmpty(Mono.error(() -> new NotFoundException("Menu item not found with ID: " + itemId)));
+    }
+
+    public Mono<String> getMenuItemVersion(String itemId) {
+        return restaurantRepository.findVersionByMenuItemId(itemId).mapNotNull(Versioned::versionOf);
+    }
+
+    // A consulta já limita a limit + 1 documentos, então juntar a janela em lista não acumula além da página
+    private Mono<List<RestaurantEntity>> findPage(CursorPageRequest pageRequest,
+            Function<Pageable, Flux<RestaurantEntity>> firstPage,
+            BiFunction<String, Pageable, Flux<RestaurantEntity>> nextPage) {
+        Pageable pageable = PageRequest.of(0, pageRequest.limit() + 1, Sort.by(Sort.Direction.ASC, "id"));
+
+        Flux<RestaurantEntity> window = pageRequest.afterId() != null
+            ? nextPage.apply(pageRequest.afterId(), pageable)
+            : firstPage.apply(pageable);
+        return window.collectList();
+    }
+
+    private static List<MenuCategoryEntity> menuOf(RestaurantEntity restaurant) {
+        return restaurant.getMenu() != null ? restaurant.getMenu() : List.of();
+    }
+}
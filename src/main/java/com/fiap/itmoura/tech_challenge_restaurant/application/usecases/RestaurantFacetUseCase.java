@@ -0,0 +1,57 @@
+package com.fiap.itmoura.tech_challenge_restaurant.application.usecases;
+
+import java.util.Optional;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+
+import com.fiap.itmoura.tech_challenge_restaurant.application.cache.RestaurantFacetCache;
+import com.fiap.itmoura.tech_challenge_restaurant.application.cache.RestaurantFacetProperties;
+import com.fiap.itmoura.tech_challenge_restaurant.application.models.pagination.CursorPage;
+import com.fiap.itmoura.tech_challenge_restaurant.application.models.pagination.CursorPageRequest;
+import com.fiap.itmoura.tech_challenge_restaurant.application.models.restaurant.RestaurantBasicResponse;
+import com.fiap.itmoura.tech_challenge_restaurant.application.models.restaurant.RestaurantFacetFilter;
+import com.fiap.itmoura.tech_challenge_restaurant.application.models.restaurant.RestaurantFacets;
+import com.fiap.itmoura.tech_challenge_restaurant.application.ports.out.RestaurantRepository;
+import com.fiap.itmoura.tech_challenge_restaurant.application.ports.out.RestaurantRepositoryCustom.FacetedRestaurants;
+import com.fiap.itmoura.tech_challenge_restaurant.domain.entities.RestaurantEntity;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+
+@Log4j2
+@Service
+@Profile("!reactive")
+@RequiredArgsConstructor
+public class RestaurantFacetUseCase {
+
+    private final RestaurantRepository restaurantRepository;
+    private final RestaurantFacetCache facetCache;
+    private final RestaurantFacetProperties properties;
+
+    // Contagens em cache: só a página vai ao MongoDB; senão página e contagens saem do mesmo $facet
+    public FacetedPage getFacetedRestaurants(String cursor, Integer limit, String kitchenTypeId, String day, Boolean isActive) {
+        log.info("Fetching faceted restaurants (cursor: {}, limit: {}, kitchen type: {}, day: {}, active: {})",
+            cursor, limit, kitchenTypeId, day, isActive);
+
+        CursorPageRequest pageRequest = CursorPageRequest.of(cursor, limit);
+        RestaurantFacetFilter filter = RestaurantFacetFilter.of(kitchenTypeId, day, isActive);
+
+        Optional<RestaurantFacets> cached = facetCache.getIfPresent(filter);
+        long generation = facetCache.generation();
+        FacetedRestaurants result = restaurantRepository.findFacetedPage(filter, pageRequest.afterId(),
+            pageRequest.limit() + 1, properties.priceBands(), cached.isEmpty());
+
+        RestaurantFacets facets = cached.orElseGet(() -> {
+            facetCache.put(filter, result.facets(), generation);
+            return result.facets();
+        });
+
+        return new FacetedPage(
+            CursorPage.of(result.restaurants(), pageRequest.limit(), RestaurantEntity::getId, RestaurantBasicResponse::fromEntity),
+            facets);
+    }
+
+    public record FacetedPage(CursorPage<RestaurantBasicResponse> page, RestaurantFacets facets) {
+    }
+}
@@ -0,0 +1,279 @@
+package com.fiap.itmoura.tech_challenge_restaurant.application.usecases;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.exc.StreamReadException;
+import com.fasterxml.jackson.databind.DatabindException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fiap.itmoura.tech_challenge_restaurant.application.imports.RestaurantImportProperties;
+import com.fiap.itmoura.tech_challenge_restaurant.application.models.group.OnCreateGroup;
+import com.fiap.itmoura.tech_challenge_restaurant.application.models.kitchentype.KitchenTypeDTO;
+import com.fiap.itmoura.tech_challenge_restaurant.application.models.restaurant.RestaurantImportLine;
+import com.fiap.itmoura.tech_challenge_restaurant.application.models.restaurant.RestaurantImportSummary;
+import com.fiap.itmoura.tech_challenge_restaurant.application.models.restaurant.RestaurantRequest;
+import com.fiap.itmoura.tech_challenge_restaurant.application.ports.out.RestaurantRepository;
+import com.fiap.itmoura.tech_challenge_restaurant.application.search.RestaurantSearchIndex;
+import com.fiap.itmoura.tech_challenge_restaurant.domain.entities.KitchenTypeEntity;
+import com.fiap.itmoura.tech_challenge_restaurant.domain.entities.RestaurantEntity;
+import com.fiap.itmoura.tech_challenge_restaurant.domain.exceptions.BadRequestException;
+import com.fiap.itmoura.tech_challenge_restaurant.domain.exceptions.NotFoundException;
+
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+
+@Log4j2
+@Service
+@Profile("!reactive")
+@RequiredArgsConstructor
+public class RestaurantImportUseCase {
+
+    private final RestaurantRepository restaurantRepository;
+    private final RestaurantUseCase restaurantUseCase;
+    private final KitchenTypeUseCase kitchenTypeUseCase;
+    private final RestaurantSearchIndex searchIndex;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final RestaurantImportProperties properties;
+    // Executor de tarefas do Spring Boot (resolvido pelo nome): pool de plataforma com métricas executor.*,
+    // ou uma virtual thread por insertMany quando spring.threads.virtual.enabled=true
+    private final AsyncTaskExecutor applicationTaskExecutor;
+
+    // Lê o NDJSON objeto a objeto e grava em lotes; no máximo maxInFlightBatches lotes ficam em memória ao mesmo tempo.
+    // Os restaurantes são novos (IDs gerados aqui), então não há cache a invalidar
+    public RestaurantImportSummary importRestaurants(InputStream body, boolean ordered, Consumer<RestaurantImportLine> sink) {
+        log.info("Importing restaurants from NDJSON (ordered: {}, batch size: {})", ordered, properties.batchSize());
+
+        // Ordenado: um lote por vez, para que nada seja gravado depois da primeira falha
+        int maxInFlight = ordered ? 1 : Math.max(1, properties.maxInFlightBatches());
+        Report report = new Report(sink, this::onInserted);
+        Deque<PendingBatch> inFlight = new ArrayDeque<>();
+        boolean completed = true;
+
+        try (JsonParser parser = objectMapper.getFactory().createParser(body);
+             MappingIterator<RestaurantRequest> requests = objectMapper.readerFor(RestaurantRequest.class).readValues(parser)) {
+
+            List<ImportEntry> batch = new ArrayList<>(properties.batchSize());
+            while (!report.stopped && requests.hasNextValue()) {
+                long line = parser.currentTokenLocation().getLineNr();
+                try {
+                    batch.add(new ImportEntry(line, requests.nextValue()));
+                } catch (DatabindException e) {
+                    // JSON válido com tipo errado: o iterador pula o objeto e segue para a próxima linha
+                    batch.add(new ImportEntry(line, e.getOriginalMessage()));
+                }
+
+                if (batch.size() == properties.batchSize()) {
+                    inFlight.add(submit(batch, ordered));
+                    batch = new ArrayList<>(properties.batchSize());
+                    // Backpressure: só volta a ler o corpo quando há espaço para mais um lote
+                    while (inFlight.size() >= maxInFlight) {
+                        report.add(inFlight.poll());
+                    }
+                }
+            }
+            if (!report.stopped && !batch.isEmpty()) {
+                inFlight.add(submit(batch, ordered));
+            }
+            while (!inFlight.isEmpty()) {
+                report.add(inFlight.poll());
+            }
+            completed = !report.stopped;
+        } catch (StreamReadException e) {
+            // JSON malformado não tem ponto seguro para retomar: o que já foi lido é gravado e a importação termina
+            log.warn("Stopping restaurant import on unreadable NDJSON: {}", e.getOriginalMessage());
+            while (!inFlight.isEmpty()) {
+                report.add(inFlight.poll());
+            }
+            long line = e.getLocation() != null ? e.getLocation().getLineNr() : report.lines + 1;
+            report.emit(RestaurantImportLine.failed(line, "Unreadable JSON: " + e.getOriginalMessage()));
+            completed = false;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        RestaurantImportSummary summary = new RestaurantImportSummary(report.lines, report.created, report.rejected,
+            report.failed, completed);
+        log.info("Restaurant import finished: {}", summary);
+        return summary;
+    }
+
+    // Um $inc por tipo de cozinha do lote; a importação não publica RestaurantChangedEvent, então o índice de busca é atualizado aqui
+    private void onInserted(List<RestaurantEntity> restaurants) {
+        kitchenTypeUseCase.updateRestaurantCounts(List.of(), restaurants);
+        searchIndex.index(restaurants);
+    }
+
+    // Validação e resolução dos tipos de cozinha rodam na thread de leitura; só o insertMany vai para o executor
+    private PendingBatch submit(List<ImportEntry> batch, boolean ordered) {
+        RestaurantImportLine[] results = new RestaurantImportLine[batch.size()];
+        List<RestaurantEntity> restaurants = new ArrayList<>(batch.size());
+        List<Integer> positions = new ArrayList<>(batch.size());
+        Map<KitchenTypeDTO, Object> kitchenTypes = new HashMap<>();
+
+        for (int i = 0; i < batch.size(); i++) {
+            ImportEntry entry = batch.get(i);
+            List<String> errors = validate(entry);
+            Object kitchenType = null;
+            if (errors.isEmpty()) {
+                kitchenType = kitchenTypes.computeIfAbsent(entry.request().kitchenType(), this::resolveKitchenType);
+                if (kitchenType instanceof String error) {
+                    errors = List.of("kitchenType: " + error);
+                }
+            }
+            if (!errors.isEmpty()) {
+                results[i] = RestaurantImportLine.rejected(entry.line(), errors);
+                continue;
+            }
+
+            RestaurantEntity restaurant;
+            try {
+                restaurant = restaurantUseCase.newRestaurant(entry.request(), (KitchenTypeEntity) kitchenType);
+            } catch (BadRequestException e) {
+                // Horários fora do formato HH:mm só aparecem ao calcular os intervalos de funcionamento
+                results[i] = RestaurantImportLine.rejected(entry.line(), List.of("daysOperation: " + e.getMessage()));
+                continue;
+            }
+            // insertMany não passa pelo save(): a versão inicial do @Version é definida aqui
+            restaurant.setVersion(0L);
+            restaurants.add(restaurant);
+            positions.add(i);
+        }
+
+        Future<Map<Integer, String>> failures = restaurants.isEmpty()
+            ? null
+            : applicationTaskExecutor.submit(() -> restaurantRepository.insertRestaurants(restaurants, ordered));
+        return new PendingBatch(batch, results, restaurants, positions, ordered, failures);
+    }
+
+    private List<String> validate(ImportEntry entry) {
+        if (entry.error() != null) {
+            return List.of(entry.error());
+        }
+        if (entry.request() == null) {
+            return List.of("Restaurant is required");
+        }
+        return validator.validate(entry.request(), OnCreateGroup.class).stream()
+            .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+            .sorted()
+            .toList();
+    }
+
+    // Cada tipo de cozinha distinto é resolvido uma vez por lote; o erro também fica memorizado
+    private Object resolveKitchenType(KitchenTypeDTO kitchenType) {
+        try {
+            return restaurantUseCase.resolveKitchenType(kitchenType);
+        } catch (NotFoundException | IllegalArgumentException e) {
+            return e.getMessage();
+        }
+    }
+
+    private record ImportEntry(long line, RestaurantRequest request, String error) {
+
+        ImportEntry(long line, RestaurantRequest request) {
+            this(line, request, null);
+        }
+
+        ImportEntry(long line, String error) {
+            this(line, null, error);
+        }
+    }
+
+    private record PendingBatch(List<ImportEntry> entries, RestaurantImportLine[] results,
+                                List<RestaurantEntity> restaurants, List<Integer> positions, boolean ordered,
+                                Future<Map<Integer, String>> failures) {
+    }
+
+    // Acumula contadores e entrega as linhas ao sink na ordem do corpo; só é usado pela thread de leitura
+    private static final class Report {
+
+        private final Consumer<RestaurantImportLine> sink;
+        private final Consumer<List<RestaurantEntity>> inserted;
+        private long lines;
+        private long created;
+        private long rejected;
+        private long failed;
+        private boolean stopped;
+
+        private Report(Consumer<RestaurantImportLine> sink, Consumer<List<RestaurantEntity>> inserted) {
+            this.sink = sink;
+            this.inserted = inserted;
+        }
+
+        private void add(PendingBatch batch) {
+            Map<Integer, String> failures = awaitInsert(batch);
+            RestaurantImportLine[] results = batch.results();
+            List<RestaurantEntity> insertedRestaurants = new ArrayList<>(batch.restaurants().size());
+            String stoppedAt = null;
+
+            for (int i = 0; i < batch.restaurants().size(); i++) {
+                int position = batch.positions().get(i);
+                long line = batch.entries().get(position).line();
+                String failure = failures.get(i);
+
+                if (failure != null) {
+                    results[position] = RestaurantImportLine.failed(line, failure);
+                    // Modo ordenado: o driver não grava nada depois do primeiro erro do lote
+                    if (batch.ordered() && stoppedAt == null) {
+                        stoppedAt = "line " + line;
+                    }
+                } else if (stoppedAt != null) {
+                    results[position] = RestaurantImportLine.failed(line, "Not inserted: ordered import stopped at " + stoppedAt);
+                } else {
+                    insertedRestaurants.add(batch.restaurants().get(i));
+                    results[position] = RestaurantImportLine.created(line, batch.restaurants().get(i).getId());
+                }
+            }
+            stopped = stopped || stoppedAt != null;
+            // Só os documentos que o insertMany de fato gravou
+            if (!insertedRestaurants.isEmpty()) {
+                inserted.accept(insertedRestaurants);
+            }
+
+            for (RestaurantImportLine result : results) {
+                emit(result);
+            }
+        }
+
+        private void emit(RestaurantImportLine result) {
+            lines++;
+            switch (result.status()) {
+                case CREATED -> created++;
+                case REJECTED -> rejected++;
+                case FAILED -> failed++;
+            }
+            sink.accept(result);
+        }
+
+        private static Map<Integer, String> awaitInsert(PendingBatch batch) {
+            if (batch.failures() == null) {
+                return Map.of();
+            }
+            try {
+                return batch.failures().get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Restaurant import interrupted", e);
+            } catch (ExecutionException e) {
+                throw e.getCause() instanceof RuntimeException cause ? cause : new IllegalStateException(e.getCause());
+            }
+        }
+    }
+}
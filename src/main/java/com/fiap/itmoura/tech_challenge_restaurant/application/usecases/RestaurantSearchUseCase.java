@@ -0,0 +1,48 @@
+package com.fiap.itmoura.tech_challenge_restaurant.application.usecases;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+
+import com.fiap.itmoura.tech_challenge_restaurant.application.models.search.RestaurantSearchIndexStatus;
+import com.fiap.itmoura.tech_challenge_restaurant.application.models.search.RestaurantSearchResponse;
+import com.fiap.itmoura.tech_challenge_restaurant.application.search.RestaurantSearchIndex;
+import com.fiap.itmoura.tech_challenge_restaurant.application.search.RestaurantSearchProperties;
+import com.fiap.itmoura.tech_challenge_restaurant.domain.exceptions.BadRequestException;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+
+@Log4j2
+@Service
+@Profile("!reactive")
+@RequiredArgsConstructor
+public class RestaurantSearchUseCase {
+
+    private final RestaurantSearchIndex searchIndex;
+    private final RestaurantSearchProperties properties;
+
+    public RestaurantSearchResponse search(String query, String kitchenType, Boolean onlyForLocalConsumption, Integer limit) {
+        if (query == null || query.isBlank()) {
+            throw new BadRequestException("Search query is required");
+        }
+        if (limit != null && limit < 1) {
+            throw new BadRequestException("Limit must be greater than zero");
+        }
+
+        int size = limit != null ? Math.min(limit, properties.maxLimit()) : properties.defaultLimit();
+        String kitchenTypeFilter = kitchenType != null && !kitchenType.isBlank() ? kitchenType.trim() : null;
+        log.debug("Searching restaurants for '{}' (kitchen type: {}, local only: {})", query, kitchenTypeFilter,
+            onlyForLocalConsumption);
+
+        return searchIndex.search(query, kitchenTypeFilter, onlyForLocalConsumption, size);
+    }
+
+    public RestaurantSearchIndexStatus rebuildIndex() {
+        log.info("Rebuilding restaurant search index");
+
+        RestaurantSearchIndexStatus status = searchIndex.rebuild();
+        log.info("Search index rebuilt with {} documents from {} restaurants in {} ms",
+            status.documents(), status.restaurants(), status.tookMillis());
+        return status;
+    }
+}
@@ -2,20 +2,45 @@ package com.fiap.itmoura.tech_challenge_restaurant.application.usecases;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
+import com.fiap.itmoura.tech_challenge_restaurant.application.models.kitchentype.KitchenTypeDTO;
 import com.fiap.itmoura.tech_challenge_restaurant.application.models.kitchentype.KitchenTypeResponse;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.fiap.itmoura.tech_challenge_restaurant.application.cache.RestaurantCache;
+import com.fiap.itmoura.tech_challenge_restaurant.application.cache.RestaurantResponseCache;
+import com.fiap.itmoura.tech_challenge_restaurant.application.cache.SerializedResponse;
+import com.fiap.itmoura.tech_challenge_restaurant.application.concurrency.OptimisticWriteRetry;
+import com.fiap.itmoura.tech_challenge_restaurant.application.openinghours.OpenRestaurantsCache;
+import com.fiap.itmoura.tech_challenge_restaurant.application.openinghours.OpeningHours;
+import com.fiap.itmoura.tech_challenge_restaurant.application.models.pagination.CursorPage;
+import com.fiap.itmoura.tech_challenge_restaurant.application.models.pagination.CursorPageRequest;
+import com.fiap.itmoura.tech_challenge_restaurant.application.models.restaurant.NearbyRestaurantsRequest;
 import com.fiap.itmoura.tech_challenge_restaurant.application.models.restaurant.RestaurantBasicResponse;
 import com.fiap.itmoura.tech_challenge_restaurant.application.models.restaurant.RestaurantFullResponse;
 import com.fiap.itmoura.tech_challenge_restaurant.application.models.restaurant.RestaurantRequest;
+import com.fiap.itmoura.tech_challenge_restaurant.application.models.versioning.Versioned;
 import com.fiap.itmoura.tech_challenge_restaurant.application.ports.out.RestaurantRepository;
 import com.fiap.itmoura.tech_challenge_restaurant.domain.entities.KitchenTypeEntity;
 import com.fiap.itmoura.tech_challenge_restaurant.domain.entities.MenuCategoryEntity;
 import com.fiap.itmoura.tech_challenge_restaurant.domain.entities.MenuItemEntity;
+import com.fiap.itmoura.tech_challenge_restaurant.domain.entities.OpeningIntervalEntity;
 import com.fiap.itmoura.tech_challenge_restaurant.domain.entities.RestaurantEntity;
+import com.fiap.itmoura.tech_challenge_restaurant.domain.events.RestaurantChangedEvent;
+import com.fiap.itmoura.tech_challenge_restaurant.domain.exceptions.BadRequestException;
+import com.fiap.itmoura.tech_challenge_restaurant.domain.exceptions.ConflictRequestException;
 import com.fiap.itmoura.tech_challenge_restaurant.domain.exceptions.NotFoundException;
 
 import lombok.RequiredArgsConstructor;
@@ -23,11 +48,17 @@ import lombok.extern.log4j.Log4j2;
 
 @Log4j2
 @Service
+@Profile("!reactive")
 @RequiredArgsConstructor    
 public class RestaurantUseCase {
 
     private final RestaurantRepository restaurantRepository;
     private final KitchenTypeUseCase kitchenTypeUseCase;
+    private final RestaurantCache restaurantCache;
+    private final RestaurantResponseCache restaurantResponseCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final OptimisticWriteRetry writeRetry;
+    private final OpenRestaurantsCache openRestaurantsCache;
 
     @Transactional
     public RestaurantFullResponse createRestaurant(RestaurantRequest restaurantRequest) {
@@ -35,27 +66,11 @@ public class RestaurantUseCase {
 
         // Buscar o tipo de cozinha
         KitchenTypeEntity kitchenType = getKitchenTypeFromRequest(restaurantRequest);
-
-        List<MenuCategoryEntity> menuCategories = restaurantRequest.menu() != null 
-            ? restaurantRequest.menu().stream()
-                .map(this::convertToMenuCategoryEntity)
-                .toList()
-            : List.of();
-
-        RestaurantEntity restaurantEntity = RestaurantEntity.builder()
-            .id(UUID.randomUUID().toString())
-            .name(restaurantRequest.name())
-            .address(restaurantRequest.address())
-            .kitchenType(kitchenType)
-            .daysOperation(restaurantRequest.daysOperation())
-            .ownerId(restaurantRequest.ownerId())
-            .isActive(Boolean.TRUE.equals(restaurantRequest.isActive()) || restaurantRequest.isActive() == null)
-            .menu(menuCategories)
-            .lastUpdate(LocalDateTime.now())
-            .createdAt(LocalDateTime.now())
-            .build();
+        RestaurantEntity restaurantEntity = newRestaurant(restaurantRequest, kitchenType);
 
         var restaurantSaved = restaurantRepository.save(restaurantEntity);
+        kitchenTypeUseCase.updateRestaurantCounts(List.of(), List.of(restaurantSaved));
+        eventPublisher.publishEvent(new RestaurantChangedEvent(restaurantSaved.getId()));
         log.info("Restaurant created successfully with ID: {}", restaurantSaved.getId());
 
         return RestaurantFullResponse.fromEntity(restaurantSaved);
@@ -63,34 +78,53 @@ public class RestaurantUseCase {
 
     @Transactional
     public RestaurantFullResponse updateRestaurant(String id, RestaurantRequest restaurantRequest) {
-        log.info("Updating restaurant with ID: {}", id);
-
-        RestaurantEntity existingRestaurant = restaurantRepository.findById(id)
-            .orElseThrow(() -> new NotFoundException("Restaurant not found with ID: " + id));
-
-        // Buscar o tipo de cozinha
-        KitchenTypeEntity kitchenType = getKitchenTypeFromRequest(restaurantRequest);
+        return updateRestaurant(id, restaurantRequest, null);
+    }
 
-        List<MenuCategoryEntity> menuCategories = restaurantRequest.menu() != null 
-            ? restaurantRequest.menu().stream()
-                .map(this::convertToMenuCategoryEntity)
-                .toList()
-            : existingRestaurant.getMenu();
+    // expectedVersion vem do If-Match; nulo aplica a escrita sobre a versão mais recente, com retry em conflito
+    @Transactional
+    public RestaurantFullResponse updateRestaurant(String id, RestaurantRequest restaurantRequest, Long expectedVersion) {
+        log.info("Updating restaurant with ID: {}", id);
 
-        RestaurantEntity updatedRestaurant = RestaurantEntity.builder()
-            .id(existingRestaurant.getId())
-            .name(restaurantRequest.name())
-            .address(restaurantRequest.address())
-            .kitchenType(kitchenType)
-            .daysOperation(restaurantRequest.daysOperation())
-            .ownerId(restaurantRequest.ownerId())
-            .isActive(restaurantRequest.isActive() != null ? restaurantRequest.isActive() : existingRestaurant.getIsActive())
-            .menu(menuCategories)
-            .lastUpdate(LocalDateTime.now())
-            .createdAt(existingRestaurant.getCreatedAt())
-            .build();
+        List<OpeningIntervalEntity> openingIntervals = OpeningHours.toIntervals(restaurantRequest.daysOperation());
+        var restaurantSaved = writeRetry.execute("update_restaurant", expectedVersion, () -> {
+            RestaurantEntity existingRestaurant = restaurantRepository.findById(id)
+                .orElseThrow(() -> new NotFoundException("Restaurant not found with ID: " + id));
+            writeRetry.checkVersion("update_restaurant", expectedVersion, existingRestaurant.getVersion());
+
+            // Buscar o tipo de cozinha
+            KitchenTypeEntity kitchenType = getKitchenTypeFromRequest(restaurantRequest);
+
+            List<MenuCategoryEntity> menuCategories = restaurantRequest.menu() != null 
+                ? restaurantRequest.menu().stream()
+                    .map(this::convertToMenuCategoryEntity)
+                    .toList()
+                : existingRestaurant.getMenu();
+
+            RestaurantEntity updatedRestaurant = RestaurantEntity.builder()
+                .id(existingRestaurant.getId())
+                .name(restaurantRequest.name())
+                .address(restaurantRequest.address())
+                // Localização ausente no request mantém a atual, como isActive
+                .location(restaurantRequest.location() != null
+                    ? restaurantRequest.location().toGeoJsonPoint()
+                    : existingRestaurant.getLocation())
+                .kitchenType(kitchenType)
+                .daysOperation(restaurantRequest.daysOperation())
+                .openingIntervals(openingIntervals)
+                .ownerId(restaurantRequest.ownerId())
+                .isActive(restaurantRequest.isActive() != null ? restaurantRequest.isActive() : existingRestaurant.getIsActive())
+                .menu(menuCategories)
+                .lastUpdate(LocalDateTime.now())
+                .createdAt(existingRestaurant.getCreatedAt())
+                .version(existingRestaurant.getVersion())
+                .build();
 
-        var restaurantSaved = restaurantRepository.save(updatedRestaurant);
+            RestaurantEntity saved = restaurantRepository.save(updatedRestaurant);
+            kitchenTypeUseCase.updateRestaurantCounts(List.of(existingRestaurant), List.of(saved));
+            return saved;
+        });
+        eventPublisher.publishEvent(new RestaurantChangedEvent(id));
         log.info("Restaurant updated successfully with ID: {}", restaurantSaved.getId());
 
         return RestaurantFullResponse.fromEntity(restaurantSaved);
@@ -100,95 +134,239 @@ public class RestaurantUseCase {
     public RestaurantFullResponse disableRestaurant(String id) {
         log.info("Disabling restaurant with ID: {}", id);
 
-        RestaurantEntity existingRestaurant = restaurantRepository.findById(id)
-            .orElseThrow(() -> new NotFoundException("Restaurant not found with ID: " + id));
-
-        RestaurantEntity disabledRestaurant = RestaurantEntity.builder()
-            .id(existingRestaurant.getId())
-            .name(existingRestaurant.getName())
-            .address(existingRestaurant.getAddress())
-            .kitchenType(existingRestaurant.getKitchenType())
-            .daysOperation(existingRestaurant.getDaysOperation())
-            .ownerId(existingRestaurant.getOwnerId())
-            .isActive(false)
-            .menu(existingRestaurant.getMenu())
-            .lastUpdate(LocalDateTime.now())
-            .createdAt(existingRestaurant.getCreatedAt())
-            .build();
+        var restaurantSaved = writeRetry.execute("disable_restaurant", null, () -> {
+            RestaurantEntity existingRestaurant = restaurantRepository.findById(id)
+                .orElseThrow(() -> new NotFoundException("Restaurant not found with ID: " + id));
+
+            RestaurantEntity disabledRestaurant = RestaurantEntity.builder()
+                .id(existingRestaurant.getId())
+                .name(existingRestaurant.getName())
+                .address(existingRestaurant.getAddress())
+                .location(existingRestaurant.getLocation())
+                .kitchenType(existingRestaurant.getKitchenType())
+                .daysOperation(existingRestaurant.getDaysOperation())
+                .openingIntervals(existingRestaurant.getOpeningIntervals())
+                .ownerId(existingRestaurant.getOwnerId())
+                .isActive(false)
+                .menu(existingRestaurant.getMenu())
+                .lastUpdate(LocalDateTime.now())
+                .createdAt(existingRestaurant.getCreatedAt())
+                .version(existingRestaurant.getVersion())
+                .build();
 
-        var restaurantSaved = restaurantRepository.save(disabledRestaurant);
+            RestaurantEntity saved = restaurantRepository.save(disabledRestaurant);
+            kitchenTypeUseCase.updateRestaurantCounts(List.of(existingRestaurant), List.of(saved));
+            return saved;
+        });
+        eventPublisher.publishEvent(new RestaurantChangedEvent(id));
         log.info("Restaurant disabled successfully with ID: {}", restaurantSaved.getId());
 
         return RestaurantFullResponse.fromEntity(restaurantSaved);
     }
 
-    public List<RestaurantBasicResponse> getAllRestaurants() {
-        log.info("Fetching all restaurants without menu");
-        
-        List<RestaurantEntity> restaurants = restaurantRepository.findAll();
-        
-        return restaurants.stream()
-            .map(RestaurantBasicResponse::fromEntity)
-            .toList();
+    public CursorPage<RestaurantBasicResponse> getAllRestaurants(String cursor, Integer limit) {
+        return getAllRestaurants(cursor, limit, null, null);
     }
 
-    public List<RestaurantBasicResponse> getAllActiveRestaurants() {
-        log.info("Fetching all active restaurants without menu");
-        
-        List<RestaurantEntity> restaurants = restaurantRepository.findAll();
-        
-        return restaurants.stream()
-            .filter(RestaurantEntity::getIsActive)
-            .map(RestaurantBasicResponse::fromEntity)
-            .toList();
+    // openAt/openNow restringem a listagem aos restaurantes ativos abertos no momento informado
+    public CursorPage<RestaurantBasicResponse> getAllRestaurants(String cursor, Integer limit,
+                                                                 LocalDateTime openAt, Boolean openNow) {
+        if (isOpenFilter(openAt, openNow)) {
+            return getOpenRestaurants(cursor, limit, openAt);
+        }
+        log.info("Fetching restaurants without menu (cursor: {}, limit: {})", cursor, limit);
+
+        CursorPageRequest pageRequest = CursorPageRequest.of(cursor, limit);
+        List<RestaurantEntity> restaurants = findPage(pageRequest,
+            restaurantRepository::findBasicBy,
+            restaurantRepository::findBasicByIdGreaterThan);
+
+        return CursorPage.of(restaurants, pageRequest.limit(), RestaurantEntity::getId, RestaurantBasicResponse::fromEntity);
     }
 
-    public List<RestaurantFullResponse> getAllRestaurantsWithMenu() {
-        log.info("Fetching all restaurants with menu");
-        
-        List<RestaurantEntity> restaurants = restaurantRepository.findAll();
-        
-        return restaurants.stream()
-            .map(RestaurantFullResponse::fromEntity)
+    public CursorPage<RestaurantBasicResponse> getAllActiveRestaurants(String cursor, Integer limit) {
+        return getAllActiveRestaurants(cursor, limit, null, null);
+    }
+
+    public CursorPage<RestaurantBasicResponse> getAllActiveRestaurants(String cursor, Integer limit,
+                                                                       LocalDateTime openAt, Boolean openNow) {
+        if (isOpenFilter(openAt, openNow)) {
+            return getOpenRestaurants(cursor, limit, openAt);
+        }
+        log.info("Fetching active restaurants without menu (cursor: {}, limit: {})", cursor, limit);
+
+        CursorPageRequest pageRequest = CursorPageRequest.of(cursor, limit);
+        List<RestaurantEntity> restaurants = findPage(pageRequest,
+            restaurantRepository::findBasicByIsActiveTrue,
+            restaurantRepository::findBasicByIsActiveTrueAndIdGreaterThan);
+
+        return CursorPage.of(restaurants, pageRequest.limit(), RestaurantEntity::getId, RestaurantBasicResponse::fromEntity);
+    }
+
+    private CursorPage<RestaurantBasicResponse> getOpenRestaurants(String cursor, Integer limit, LocalDateTime openAt) {
+        log.info("Fetching restaurants open at {} (cursor: {}, limit: {})", openAt != null ? openAt : "now", cursor, limit);
+
+        CursorPageRequest pageRequest = CursorPageRequest.of(cursor, limit);
+        List<RestaurantEntity> restaurants;
+        if (openAt != null) {
+            int minuteOfWeek = OpeningHours.minuteOfWeek(openAt);
+            restaurants = findPage(pageRequest,
+                pageable -> restaurantRepository.findBasicOpenAt(minuteOfWeek, pageable),
+                (afterId, pageable) -> restaurantRepository.findBasicOpenAtAndIdGreaterThan(minuteOfWeek, afterId, pageable));
+        } else {
+            // "Agora": os IDs da página saem do bucket em memória do minuto corrente, e o MongoDB só busca esses _id
+            List<String> ids = openRestaurantsCache.findOpenIds(openRestaurantsCache.currentMinuteOfWeek(),
+                pageRequest.afterId(), pageRequest.limit() + 1);
+            restaurants = ids.isEmpty()
+                ? List.of()
+                : restaurantRepository.findBasicByIdIn(ids, Sort.by(Sort.Direction.ASC, "id"));
+        }
+
+        return CursorPage.of(restaurants, pageRequest.limit(), RestaurantEntity::getId, RestaurantBasicResponse::fromEntity);
+    }
+
+    private static boolean isOpenFilter(LocalDateTime openAt, Boolean openNow) {
+        if (openAt != null && Boolean.TRUE.equals(openNow)) {
+            throw new BadRequestException("Use either openAt or openNow, not both");
+        }
+        return openAt != null || Boolean.TRUE.equals(openNow);
+    }
+
+    public List<RestaurantBasicResponse> getNearbyRestaurants(Double latitude, Double longitude, Double radiusMeters,
+                                                              Integer limit, String kitchenTypeId) {
+        log.info("Fetching restaurants near ({}, {}) within {} m (kitchen type: {}, limit: {})",
+            latitude, longitude, radiusMeters, kitchenTypeId, limit);
+
+        NearbyRestaurantsRequest request = NearbyRestaurantsRequest.of(latitude, longitude, radiusMeters, limit, kitchenTypeId);
+        return restaurantRepository.findNearby(request.point(), request.radiusMeters(), request.kitchenTypeId(), request.limit())
+            .stream()
+            .map(RestaurantBasicResponse::fromGeoResult)
             .toList();
     }
 
-    public RestaurantFullResponse getRestaurantById(String id) {
+    public CursorPage<RestaurantFullResponse> getAllRestaurantsWithMenu(String cursor, Integer limit) {
+        log.info("Fetching restaurants with menu (cursor: {}, limit: {})", cursor, limit);
+
+        CursorPageRequest pageRequest = CursorPageRequest.of(cursor, limit);
+        List<RestaurantEntity> restaurants = findPage(pageRequest,
+            restaurantRepository::findAllBy,
+            restaurantRepository::findByIdGreaterThan);
+
+        return CursorPage.of(restaurants, pageRequest.limit(), RestaurantEntity::getId, RestaurantFullResponse::fromEntity);
+    }
+
+    public void streamAllRestaurantsWithMenu(Consumer<RestaurantFullResponse> consumer) {
+        log.info("Streaming all restaurants with menu");
+
+        // O stream é apoiado por um cursor do MongoDB: cada documento é convertido e entregue sem acumular a lista
+        try (Stream<RestaurantEntity> restaurants = restaurantRepository.streamAllBy()) {
+            restaurants.map(RestaurantFullResponse::fromEntity).forEach(consumer);
+        }
+    }
+
+    public Versioned<RestaurantFullResponse> getRestaurantById(String id) {
         log.info("Fetching restaurant by ID: {}", id);
         
-        RestaurantEntity restaurant = restaurantRepository.findById(id)
+        RestaurantEntity restaurant = restaurantCache.findById(id)
             .orElseThrow(() -> new NotFoundException("Restaurant not found with ID: " + id));
         
-        return RestaurantFullResponse.fromEntity(restaurant);
+        return Versioned.of(RestaurantFullResponse.fromEntity(restaurant), restaurant);
+    }
+
+    // Caminho quente do GET por ID: bytes prontos, sem mapeamento nem serialização em acertos do cache
+    public Versioned<SerializedResponse> getSerializedRestaurantById(String id) {
+        log.debug("Fetching serialized restaurant by ID: {}", id);
+
+        return restaurantResponseCache.findById(id)
+            .orElseThrow(() -> new NotFoundException("Restaurant not found with ID: " + id));
+    }
+
+    public Optional<String> getRestaurantVersion(String id) {
+        return restaurantCache.findVersion(id);
     }
 
     @Transactional
     public void deleteRestaurant(String id) {
+        deleteRestaurant(id, null);
+    }
+
+    @Transactional
+    public void deleteRestaurant(String id, Long expectedVersion) {
         log.info("Deleting restaurant with ID: {}", id);
-        
-        if (!restaurantRepository.existsById(id)) {
-            throw new NotFoundException("Restaurant not found with ID: " + id);
+
+        RestaurantEntity removed;
+        if (expectedVersion == null) {
+            removed = restaurantRepository.removeById(id)
+                .orElseThrow(() -> new NotFoundException("Restaurant not found with ID: " + id));
+        } else {
+            removed = restaurantRepository.removeByIdAndVersion(id, expectedVersion).orElseThrow(() -> {
+                // Nada removido: ou o restaurante não existe ou a versão do If-Match ficou para trás
+                RestaurantEntity current = restaurantRepository.findVersionById(id)
+                    .orElseThrow(() -> new NotFoundException("Restaurant not found with ID: " + id));
+                writeRetry.checkVersion("delete_restaurant", expectedVersion, current.getVersion());
+                return new ConflictRequestException("Restaurant was modified concurrently, please retry");
+            });
         }
-        
-        restaurantRepository.deleteById(id);
+        kitchenTypeUseCase.updateRestaurantCounts(List.of(removed), List.of());
+
+        eventPublisher.publishEvent(new RestaurantChangedEvent(id));
         log.info("Restaurant deleted successfully with ID: {}", id);
     }
 
+    // Busca limit + 1 documentos ordenados por _id a partir do cursor (range scan no índice de _id)
+    private List<RestaurantEntity> findPage(CursorPageRequest pageRequest,
+            Function<Pageable, List<RestaurantEntity>> firstPage,
+            BiFunction<String, Pageable, List<RestaurantEntity>> nextPage) {
+        Pageable pageable = PageRequest.of(0, pageRequest.limit() + 1, Sort.by(Sort.Direction.ASC, "id"));
+
+        return pageRequest.afterId() != null
+            ? nextPage.apply(pageRequest.afterId(), pageable)
+            : firstPage.apply(pageable);
+    }
+
+    // Usado também pela importação em lote, que resolve cada tipo de cozinha uma única vez por lote
+    RestaurantEntity newRestaurant(RestaurantRequest restaurantRequest, KitchenTypeEntity kitchenType) {
+        List<MenuCategoryEntity> menuCategories = restaurantRequest.menu() != null 
+            ? restaurantRequest.menu().stream()
+                .map(this::convertToMenuCategoryEntity)
+                .toList()
+            : List.of();
+
+        return RestaurantEntity.builder()
+            .id(UUID.randomUUID().toString())
+            .name(restaurantRequest.name())
+            .address(restaurantRequest.address())
+            .location(restaurantRequest.location() != null ? restaurantRequest.location().toGeoJsonPoint() : null)
+            .kitchenType(kitchenType)
+            .daysOperation(restaurantRequest.daysOperation())
+            .openingIntervals(OpeningHours.toIntervals(restaurantRequest.daysOperation()))
+            .ownerId(restaurantRequest.ownerId())
+            .isActive(Boolean.TRUE.equals(restaurantRequest.isActive()) || restaurantRequest.isActive() == null)
+            .menu(menuCategories)
+            .lastUpdate(LocalDateTime.now())
+            .createdAt(LocalDateTime.now())
+            .build();
+    }
+
     private KitchenTypeEntity getKitchenTypeFromRequest(RestaurantRequest restaurantRequest) {
-        if (restaurantRequest.kitchenType() == null) {
+        return resolveKitchenType(restaurantRequest.kitchenType());
+    }
+
+    KitchenTypeEntity resolveKitchenType(KitchenTypeDTO kitchenTypeDTO) {
+        if (kitchenTypeDTO == null) {
             throw new IllegalArgumentException("Kitchen type is required");
         }
 
         KitchenTypeResponse kitchenTypeResponse = new KitchenTypeResponse();
 
         // Se o kitchenType tem um ID, buscar por ID
-        if (restaurantRequest.kitchenType().id() != null) {
-            kitchenTypeResponse = kitchenTypeUseCase.getKitchenTypeById(restaurantRequest.kitchenType().id());
+        if (kitchenTypeDTO.id() != null) {
+            kitchenTypeResponse = kitchenTypeUseCase.getKitchenTypeById(kitchenTypeDTO.id());
         }
 
         // Se não tem ID, buscar por nome
-        if (restaurantRequest.kitchenType().name() != null) {
-            kitchenTypeResponse = kitchenTypeUseCase.getKitchenTypeByIdOrName(restaurantRequest.kitchenType().name());
+        if (kitchenTypeDTO.name() != null) {
+            kitchenTypeResponse = kitchenTypeUseCase.getKitchenTypeByIdOrName(kitchenTypeDTO.name());
         }
 
         if (kitchenTypeResponse != null) {
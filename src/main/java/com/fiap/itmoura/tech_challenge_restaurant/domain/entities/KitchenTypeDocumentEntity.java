@@ -40,4 +40,11 @@ public class KitchenTypeDocumentEntity {
     @LastModifiedDate
     @Field("lastUpdate")
     private LocalDateTime lastUpdate;
+
+    // Mantidos por $inc nas escritas de restaurantes e recalculados periodicamente; nulos até a primeira reconciliação
+    @Field("restaurantCount")
+    private Long restaurantCount;
+
+    @Field("activeRestaurantCount")
+    private Long activeRestaurantCount;
 }
@@ -0,0 +1,22 @@
+package com.fiap.itmoura.tech_challenge_restaurant.domain.entities;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// Intervalo [start, end) em minutos desde segunda-feira 00:00, derivado de daysOperation a cada escrita
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class OpeningIntervalEntity {
+
+    private Integer start;
+
+    private Integer end;
+
+    public boolean contains(int minuteOfWeek) {
+        return start <= minuteOfWeek && minuteOfWeek < end;
+    }
+}
@@ -7,6 +7,12 @@ import java.util.UUID;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.geo.GeoJsonPoint;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
+import org.springframework.data.mongodb.core.index.GeoSpatialIndexType;
+import org.springframework.data.mongodb.core.index.GeoSpatialIndexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import lombok.AllArgsConstructor;
@@ -15,6 +21,16 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Document(collection = "restaurants")
+@CompoundIndexes({
+    @CompoundIndex(name = "active_restaurants_idx", def = "{ 'isActive': 1, '_id': 1 }", partialFilter = "{ 'isActive': true }"),
+    // Multikey: uma entrada por item do menu, usada nas buscas de item por ID
+    @CompoundIndex(name = "menu_item_id_idx", def = "{ 'menu.items.id': 1 }"),
+    // Restaurantes por tipo de cozinha: a checagem de uso antes de excluir um tipo consulta o índice, não a coleção
+    @CompoundIndex(name = "kitchen_type_id_idx", def = "{ 'kitchenType.id': 1 }"),
+    // Multikey: uma entrada por intervalo de funcionamento, usada no filtro "aberto em"
+    @CompoundIndex(name = "opening_intervals_idx", def = "{ 'openingIntervals.start': 1, 'openingIntervals.end': 1 }",
+        partialFilter = "{ 'isActive': true }")
+})
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
@@ -28,10 +44,17 @@ public class RestaurantEntity {
 
     private String address;
 
+    // GeoJSON [longitude, latitude]; opcional, restaurantes sem localização ficam fora do índice esparso
+    @GeoSpatialIndexed(name = "location_2dsphere_idx", type = GeoSpatialIndexType.GEO_2DSPHERE)
+    private GeoJsonPoint location;
+
     private KitchenTypeEntity kitchenType;
 
     private List<OperationDaysTimeData> daysOperation;
 
+    // Derivado de daysOperation a cada escrita (OpeningHours.toIntervals); não sai nas respostas
+    private List<OpeningIntervalEntity> openingIntervals;
+
     private String ownerId;
 
     private Boolean isActive;
@@ -43,4 +66,8 @@ public class RestaurantEntity {
     
     @CreatedDate
     private LocalDateTime createdAt;
+
+    // Controle de concorrência otimista: save() só grava se a versão lida ainda for a atual
+    @Version
+    private Long version;
 }
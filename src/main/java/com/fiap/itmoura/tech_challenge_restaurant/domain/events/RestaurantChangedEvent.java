@@ -0,0 +1,5 @@
+package com.fiap.itmoura.tech_challenge_restaurant.domain.events;
+
+// Publicado após toda escrita em um restaurante (dados, menu ou itens) para invalidar leituras derivadas
+public record RestaurantChangedEvent(String restaurantId) {
+}
@@ -65,6 +65,23 @@ public interface KitchenTypeControllerInterface {
     })
     ResponseEntity<List<KitchenTypeResponse>> getAllKitchenTypes();
 
+    @Operation(
+        summary = "Listar uso dos tipos de cozinha",
+        description = "Retorna os tipos de cozinha ordenados pela quantidade de restaurantes que os utilizam. "
+            + "Os contadores são mantidos a cada escrita de restaurante e reconciliados periodicamente"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Lista de tipos de cozinha com contadores retornada com sucesso",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = KitchenTypeResponse.class)
+            )
+        )
+    })
+    ResponseEntity<List<KitchenTypeResponse>> getKitchenTypeUsage();
+
     @Operation(
         summary = "Buscar tipo de cozinha por ID",
         description = "Retorna um tipo de cozinha específico baseado no ID fornecido"
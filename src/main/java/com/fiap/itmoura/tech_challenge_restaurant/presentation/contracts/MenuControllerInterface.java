@@ -5,15 +5,18 @@ import com.fiap.itmoura.tech_challenge_restaurant.application.models.menu.MenuCa
 import com.fiap.itmoura.tech_challenge_restaurant.application.models.menu.MenuCategoryResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.headers.Header;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 
 @Tag(name = "Menu Categories", description = "API para gerenciamento de categorias do menu")
 public interface MenuControllerInterface {
@@ -71,6 +74,11 @@ public interface MenuControllerInterface {
             responseCode = "404",
             description = "Restaurante ou categoria não encontrada",
             content = @Content(mediaType = "application/json")
+        ),
+        @ApiResponse(
+            responseCode = "412",
+            description = "If-Match não confere com a versão atual do restaurante",
+            content = @Content(mediaType = "application/json")
         )
     })
     ResponseEntity<MenuCategoryResponse> updateMenuCategory(
@@ -79,7 +87,9 @@ public interface MenuControllerInterface {
         @Parameter(description = "ID da categoria do menu", required = true, example = "550e8400-e29b-41d4-a716-446655440001")
         @PathVariable String menuId,
         @Parameter(description = "Dados atualizados da categoria", required = true)
-        @Validated(OnCreateGroup.class) @RequestBody MenuCategoryRequest request
+        @Validated(OnCreateGroup.class) @RequestBody MenuCategoryRequest request,
+        @Parameter(description = "ETag obtida no GET; a escrita só é aplicada se o restaurante ainda estiver nesta versão", example = "\"3\"")
+        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
     );
 
     @Operation(
@@ -95,13 +105,20 @@ public interface MenuControllerInterface {
             responseCode = "404",
             description = "Restaurante ou categoria não encontrada",
             content = @Content(mediaType = "application/json")
+        ),
+        @ApiResponse(
+            responseCode = "412",
+            description = "If-Match não confere com a versão atual do restaurante",
+            content = @Content(mediaType = "application/json")
         )
     })
     ResponseEntity<Void> deleteMenuCategory(
         @Parameter(description = "ID do restaurante", required = true, example = "550e8400-e29b-41d4-a716-446655440000")
         @PathVariable String restaurantId,
         @Parameter(description = "ID da categoria do menu", required = true, example = "550e8400-e29b-41d4-a716-446655440001")
-        @PathVariable String menuId
+        @PathVariable String menuId,
+        @Parameter(description = "ETag obtida no GET; a escrita só é aplicada se o restaurante ainda estiver nesta versão", example = "\"3\"")
+        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
     );
 
     @Operation(
@@ -112,11 +129,16 @@ public interface MenuControllerInterface {
         @ApiResponse(
             responseCode = "200",
             description = "Categoria encontrada",
+            headers = @Header(name = "ETag", description = "Versão do restaurante; envie em If-None-Match nas próximas consultas"),
             content = @Content(
                 mediaType = "application/json",
                 schema = @Schema(implementation = MenuCategoryResponse.class)
             )
         ),
+        @ApiResponse(
+            responseCode = "304",
+            description = "Conteúdo não modificado desde a ETag informada"
+        ),
         @ApiResponse(
             responseCode = "404",
             description = "Restaurante ou categoria não encontrada",
@@ -127,6 +149,8 @@ public interface MenuControllerInterface {
         @Parameter(description = "ID do restaurante", required = true, example = "550e8400-e29b-41d4-a716-446655440000")
         @PathVariable String restaurantId,
         @Parameter(description = "ID da categoria do menu", required = true, example = "550e8400-e29b-41d4-a716-446655440001")
-        @PathVariable String menuId
+        @PathVariable String menuId,
+        @Parameter(description = "ETag recebida anteriormente; se ainda for a atual a resposta é 304 sem corpo", example = "\"3\"")
+        @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
     );
 }
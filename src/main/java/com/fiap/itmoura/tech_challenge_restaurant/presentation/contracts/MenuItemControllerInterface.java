@@ -1,22 +1,28 @@
 package com.fiap.itmoura.tech_challenge_restaurant.presentation.contracts;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 
 import com.fiap.itmoura.tech_challenge_restaurant.application.models.group.OnCreateGroup;
+import com.fiap.itmoura.tech_challenge_restaurant.application.models.menu.MenuItemBulkRequest;
+import com.fiap.itmoura.tech_challenge_restaurant.application.models.menu.MenuItemBulkResponse;
 import com.fiap.itmoura.tech_challenge_restaurant.application.models.menu.MenuItemRequest;
 import com.fiap.itmoura.tech_challenge_restaurant.application.models.menu.MenuItemResponse;
 import com.fiap.itmoura.tech_challenge_restaurant.application.models.menu.MenuItemWithContextDTO;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.headers.Header;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 
 @Tag(name = "Menu Items", description = "API para gerenciamento de itens do menu")
 public interface MenuItemControllerInterface {
@@ -54,6 +60,43 @@ public interface MenuItemControllerInterface {
         @Validated(OnCreateGroup.class) @RequestBody MenuItemRequest request
     );
 
+    @Operation(
+        summary = "Criar itens do menu em lote",
+        description = "Cria até 1000 itens em qualquer categoria do restaurante com uma única escrita no banco. " +
+                     "Cada item é validado individualmente: os inválidos são rejeitados com seus erros e os demais são criados"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "201",
+            description = "Ao menos um item criado; o corpo traz o resultado de cada item",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = MenuItemBulkResponse.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Lote vazio, acima do limite ou com todos os itens rejeitados",
+            content = @Content(mediaType = "application/json")
+        ),
+        @ApiResponse(
+            responseCode = "404",
+            description = "Restaurante não encontrado",
+            content = @Content(mediaType = "application/json")
+        ),
+        @ApiResponse(
+            responseCode = "409",
+            description = "Menu alterado concorrentemente durante a importação",
+            content = @Content(mediaType = "application/json")
+        )
+    })
+    ResponseEntity<MenuItemBulkResponse> createMenuItems(
+        @Parameter(description = "ID do restaurante", required = true, example = "550e8400-e29b-41d4-a716-446655440000")
+        @PathVariable String restaurantId,
+        @Parameter(description = "Itens a serem criados", required = true)
+        @Valid @RequestBody MenuItemBulkRequest request
+    );
+
     @Operation(
         summary = "Atualizar item do menu",
         description = "Atualiza um item existente do menu"
@@ -76,6 +119,11 @@ public interface MenuItemControllerInterface {
             responseCode = "404",
             description = "Restaurante, categoria ou item não encontrado",
             content = @Content(mediaType = "application/json")
+        ),
+        @ApiResponse(
+            responseCode = "412",
+            description = "If-Match não confere com a versão atual do restaurante",
+            content = @Content(mediaType = "application/json")
         )
     })
     ResponseEntity<MenuItemResponse> updateMenuItem(
@@ -86,7 +134,9 @@ public interface MenuItemControllerInterface {
         @Parameter(description = "ID do item", required = true, example = "550e8400-e29b-41d4-a716-446655440002")
         @PathVariable String itemId,
         @Parameter(description = "Dados atualizados do item", required = true)
-        @Validated(OnCreateGroup.class) @RequestBody MenuItemRequest request
+        @Validated(OnCreateGroup.class) @RequestBody MenuItemRequest request,
+        @Parameter(description = "ETag obtida no GET; a escrita só é aplicada se o restaurante ainda estiver nesta versão", example = "\"3\"")
+        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
     );
 
     @Operation(
@@ -102,6 +152,11 @@ public interface MenuItemControllerInterface {
             responseCode = "404",
             description = "Restaurante, categoria ou item não encontrado",
             content = @Content(mediaType = "application/json")
+        ),
+        @ApiResponse(
+            responseCode = "412",
+            description = "If-Match não confere com a versão atual do restaurante",
+            content = @Content(mediaType = "application/json")
         )
     })
     ResponseEntity<Void> deleteMenuItem(
@@ -110,7 +165,9 @@ public interface MenuItemControllerInterface {
         @Parameter(description = "ID da categoria do menu", required = true, example = "550e8400-e29b-41d4-a716-446655440001")
         @PathVariable String menuId,
         @Parameter(description = "ID do item", required = true, example = "550e8400-e29b-41d4-a716-446655440002")
-        @PathVariable String itemId
+        @PathVariable String itemId,
+        @Parameter(description = "ETag obtida no GET; a escrita só é aplicada se o restaurante ainda estiver nesta versão", example = "\"3\"")
+        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
     );
 
     @Operation(
@@ -121,11 +178,16 @@ public interface MenuItemControllerInterface {
         @ApiResponse(
             responseCode = "200",
             description = "Item encontrado",
+            headers = @Header(name = "ETag", description = "Versão do restaurante; envie em If-None-Match nas próximas consultas"),
             content = @Content(
                 mediaType = "application/json",
                 schema = @Schema(implementation = MenuItemWithContextDTO.class)
             )
         ),
+        @ApiResponse(
+            responseCode = "304",
+            description = "Conteúdo não modificado desde a ETag informada"
+        ),
         @ApiResponse(
             responseCode = "404",
             description = "Item não encontrado",
@@ -134,6 +196,8 @@ public interface MenuItemControllerInterface {
     })
     ResponseEntity<MenuItemWithContextDTO> getMenuItemById(
         @Parameter(description = "ID do item do menu", required = true, example = "550e8400-e29b-41d4-a716-446655440002")
-        @PathVariable String itemId
+        @PathVariable String itemId,
+        @Parameter(description = "ETag recebida anteriormente; se ainda for a atual a resposta é 304 sem corpo", example = "\"3\"")
+        @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
     );
 }
@@ -1,20 +1,30 @@
 package com.fiap.itmoura.tech_challenge_restaurant.presentation.contracts;
 
 import com.fiap.itmoura.tech_challenge_restaurant.application.models.restaurant.RestaurantBasicResponse;
+import com.fiap.itmoura.tech_challenge_restaurant.application.models.restaurant.RestaurantFacetedResponse;
 import com.fiap.itmoura.tech_challenge_restaurant.application.models.restaurant.RestaurantFullResponse;
+import com.fiap.itmoura.tech_challenge_restaurant.application.models.restaurant.RestaurantImportLine;
 import com.fiap.itmoura.tech_challenge_restaurant.application.models.restaurant.RestaurantRequest;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.headers.Header;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Tag(name = "Restaurants", description = "API para gerenciamento de restaurantes")
@@ -51,35 +61,215 @@ public interface RestaurantControllerInterface {
 
     @Operation(
         summary = "Listar restaurantes básicos",
-        description = "Retorna todos os restaurantes com informações básicas (sem menu)"
+        description = "Retorna uma página de restaurantes com informações básicas (sem menu), ordenada por ID. " +
+            "Quando houver mais resultados, o cursor da próxima página é retornado no header X-Next-Cursor. " +
+            "openAt ou openNow restringem a página aos restaurantes ativos abertos no momento informado"
     )
     @ApiResponses(value = {
         @ApiResponse(
             responseCode = "200",
-            description = "Lista de restaurantes retornada com sucesso",
+            description = "Página de restaurantes retornada com sucesso",
+            headers = @Header(name = "X-Next-Cursor", description = "Cursor da próxima página (ausente na última página)"),
             content = @Content(
                 mediaType = "application/json",
                 schema = @Schema(implementation = RestaurantBasicResponse.class)
             )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Cursor, limite ou filtro de horário inválido (openAt e openNow juntos)",
+            content = @Content(mediaType = "application/json")
+        )
+    })
+    ResponseEntity<List<RestaurantBasicResponse>> getAllRestaurants(
+        @Parameter(description = "Cursor opaco retornado no header X-Next-Cursor da página anterior")
+        @RequestParam(required = false) String cursor,
+        @Parameter(description = "Quantidade máxima de restaurantes na página (padrão 50, máximo 500)", example = "50")
+        @RequestParam(required = false) Integer limit,
+        @Parameter(description = "Apenas restaurantes ativos abertos neste momento (data e hora locais, ISO-8601)",
+            example = "2025-01-06T20:30:00")
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime openAt,
+        @Parameter(description = "Apenas restaurantes ativos abertos agora", example = "true")
+        @RequestParam(required = false) Boolean openNow
+    );
+
+    @Operation(
+        summary = "Listar restaurantes ativos",
+        description = "Retorna uma página de restaurantes ativos com informações básicas (sem menu), ordenada por ID. " +
+            "O filtro é executado no MongoDB com índice parcial, sem transferir restaurantes desativados. " +
+            "openAt consulta os intervalos de funcionamento indexados; openNow usa os IDs abertos no minuto corrente em memória"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Página de restaurantes ativos retornada com sucesso",
+            headers = @Header(name = "X-Next-Cursor", description = "Cursor da próxima página (ausente na última página)"),
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = RestaurantBasicResponse.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Cursor, limite ou filtro de horário inválido (openAt e openNow juntos)",
+            content = @Content(mediaType = "application/json")
         )
     })
-    ResponseEntity<List<RestaurantBasicResponse>> getAllRestaurants();
+    ResponseEntity<List<RestaurantBasicResponse>> getAllActiveRestaurants(
+        @Parameter(description = "Cursor opaco retornado no header X-Next-Cursor da página anterior")
+        @RequestParam(required = false) String cursor,
+        @Parameter(description = "Quantidade máxima de restaurantes na página (padrão 50, máximo 500)", example = "50")
+        @RequestParam(required = false) Integer limit,
+        @Parameter(description = "Apenas restaurantes ativos abertos neste momento (data e hora locais, ISO-8601)",
+            example = "2025-01-06T20:30:00")
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime openAt,
+        @Parameter(description = "Apenas restaurantes ativos abertos agora", example = "true")
+        @RequestParam(required = false) Boolean openNow
+    );
+
+    @Operation(
+        summary = "Listar restaurantes com facetas",
+        description = "Retorna uma página de restaurantes básicos (ordenada por ID, cursor no header X-Next-Cursor) e as " +
+            "contagens por tipo de cozinha, dia de funcionamento, status e faixa de preço médio de todo o filtro. " +
+            "Página e contagens saem de uma única agregação $facet; as contagens ficam em cache por alguns segundos " +
+            "e são invalidadas a cada escrita"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Página e contagens retornadas com sucesso",
+            headers = @Header(name = "X-Next-Cursor", description = "Cursor da próxima página (ausente na última página)"),
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = RestaurantFacetedResponse.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Cursor, limite ou dia inválido",
+            content = @Content(mediaType = "application/json")
+        )
+    })
+    ResponseEntity<RestaurantFacetedResponse> getFacetedRestaurants(
+        @Parameter(description = "Cursor opaco retornado no header X-Next-Cursor da página anterior")
+        @RequestParam(required = false) String cursor,
+        @Parameter(description = "Quantidade máxima de restaurantes na página (padrão 50, máximo 500)", example = "50")
+        @RequestParam(required = false) Integer limit,
+        @Parameter(description = "Filtra pelo ID do tipo de cozinha", example = "550e8400-e29b-41d4-a716-446655440000")
+        @RequestParam(required = false) String kitchenTypeId,
+        @Parameter(description = "Filtra pelos restaurantes que funcionam no dia", example = "MONDAY")
+        @RequestParam(required = false) String day,
+        @Parameter(description = "Filtra por status", example = "true")
+        @RequestParam(required = false) Boolean isActive
+    );
+
+    @Operation(
+        summary = "Buscar restaurantes próximos",
+        description = "Retorna restaurantes ativos com localização dentro do raio informado, do mais próximo ao mais distante, " +
+            "com a distância em metros. A busca usa $geoNear sobre o índice 2dsphere do campo location; " +
+            "restaurantes sem localização não aparecem"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Restaurantes ordenados pela distância",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = RestaurantBasicResponse.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Coordenadas ausentes ou fora do intervalo, raio ou limite inválido",
+            content = @Content(mediaType = "application/json")
+        )
+    })
+    ResponseEntity<List<RestaurantBasicResponse>> getNearbyRestaurants(
+        @Parameter(description = "Latitude do ponto de referência", required = true, example = "-23.5505")
+        @RequestParam(required = false) Double latitude,
+        @Parameter(description = "Longitude do ponto de referência", required = true, example = "-46.6333")
+        @RequestParam(required = false) Double longitude,
+        @Parameter(description = "Raio da busca em metros (padrão 5000, máximo 50000)", example = "2000")
+        @RequestParam(required = false) Double radiusMeters,
+        @Parameter(description = "Quantidade máxima de restaurantes (padrão 50, máximo 500)", example = "50")
+        @RequestParam(required = false) Integer limit,
+        @Parameter(description = "Filtra pelo ID do tipo de cozinha", example = "550e8400-e29b-41d4-a716-446655440000")
+        @RequestParam(required = false) String kitchenTypeId
+    );
 
     @Operation(
         summary = "Listar restaurantes completos",
-        description = "Retorna todos os restaurantes com informações completas incluindo menu"
+        description = "Retorna uma página de restaurantes com informações completas incluindo menu, ordenada por ID. " +
+            "Quando houver mais resultados, o cursor da próxima página é retornado no header X-Next-Cursor"
     )
     @ApiResponses(value = {
         @ApiResponse(
             responseCode = "200",
-            description = "Lista de restaurantes completos retornada com sucesso",
+            description = "Página de restaurantes completos retornada com sucesso",
+            headers = @Header(name = "X-Next-Cursor", description = "Cursor da próxima página (ausente na última página)"),
             content = @Content(
                 mediaType = "application/json",
                 schema = @Schema(implementation = RestaurantFullResponse.class)
             )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Cursor ou limite inválido",
+            content = @Content(mediaType = "application/json")
+        )
+    })
+    ResponseEntity<List<RestaurantFullResponse>> getAllRestaurantsWithMenu(
+        @Parameter(description = "Cursor opaco retornado no header X-Next-Cursor da página anterior")
+        @RequestParam(required = false) String cursor,
+        @Parameter(description = "Quantidade máxima de restaurantes na página (padrão 50, máximo 500)", example = "50")
+        @RequestParam(required = false) Integer limit
+    );
+
+    @Operation(
+        summary = "Exportar restaurantes completos em streaming",
+        description = "Transmite todos os restaurantes com menu lidos diretamente de um cursor do MongoDB, " +
+            "em NDJSON (um documento por linha) ou como um array JSON enviado em chunks. " +
+            "O consumo de memória é constante e o primeiro byte não depende do tamanho do catálogo"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Stream de restaurantes completos",
+            content = {
+                @Content(mediaType = "application/x-ndjson", schema = @Schema(implementation = RestaurantFullResponse.class)),
+                @Content(mediaType = "application/json", schema = @Schema(implementation = RestaurantFullResponse.class))
+            }
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Formato de stream não suportado",
+            content = @Content(mediaType = "application/json")
+        )
+    })
+    ResponseEntity<StreamingResponseBody> streamAllRestaurantsWithMenu(
+        @Parameter(description = "Formato do stream: ndjson (padrão) ou json", example = "ndjson")
+        @RequestParam(defaultValue = "ndjson") String format
+    );
+
+    @Operation(
+        summary = "Importar restaurantes em streaming",
+        description = "Lê um corpo NDJSON (um RestaurantRequest por linha) de forma incremental e grava os restaurantes " +
+            "com insertMany em lotes, com um número limitado de lotes em andamento. A resposta é um NDJSON com o " +
+            "resultado de cada linha, na ordem do corpo, seguido de uma linha final com o resumo da importação"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Stream com o resultado de cada linha e o resumo ao final",
+            content = @Content(mediaType = "application/x-ndjson", schema = @Schema(implementation = RestaurantImportLine.class))
         )
     })
-    ResponseEntity<List<RestaurantFullResponse>> getAllRestaurantsWithMenu();
+    ResponseEntity<StreamingResponseBody> importRestaurants(
+        @Parameter(description = "Se true, a importação para no primeiro restaurante recusado pelo banco " +
+            "(um lote por vez); se false, os lotes são gravados em paralelo e cada falha é apenas reportada", example = "false")
+        @RequestParam(defaultValue = "false") boolean ordered,
+        @Parameter(hidden = true) HttpServletRequest request
+    );
 
     @Operation(
         summary = "Buscar restaurante por ID",
@@ -89,20 +279,29 @@ public interface RestaurantControllerInterface {
         @ApiResponse(
             responseCode = "200",
             description = "Restaurante encontrado",
+            headers = @Header(name = "ETag", description = "Versão do restaurante; envie em If-None-Match nas próximas consultas"),
             content = @Content(
                 mediaType = "application/json",
                 schema = @Schema(implementation = RestaurantFullResponse.class)
             )
         ),
+        @ApiResponse(
+            responseCode = "304",
+            description = "Conteúdo não modificado desde a ETag informada"
+        ),
         @ApiResponse(
             responseCode = "404",
             description = "Restaurante não encontrado",
             content = @Content(mediaType = "application/json")
         )
     })
-    ResponseEntity<RestaurantFullResponse> getRestaurantById(
+    ResponseEntity<byte[]> getRestaurantById(
         @Parameter(description = "ID do restaurante", required = true, example = "550e8400-e29b-41d4-a716-446655440000")
-        @PathVariable String id
+        @PathVariable String id,
+        @Parameter(description = "ETag recebida anteriormente; se ainda for a atual a resposta é 304 sem corpo", example = "\"3\"")
+        @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+        @Parameter(description = "Com gzip, respostas grandes são enviadas já comprimidas (Content-Encoding: gzip)", example = "gzip")
+        @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding
     );
 
     @Operation(
@@ -127,13 +326,20 @@ public interface RestaurantControllerInterface {
             responseCode = "404",
             description = "Restaurante não encontrado",
             content = @Content(mediaType = "application/json")
+        ),
+        @ApiResponse(
+            responseCode = "412",
+            description = "If-Match não confere com a versão atual do restaurante",
+            content = @Content(mediaType = "application/json")
         )
     })
     ResponseEntity<RestaurantFullResponse> updateRestaurant(
         @Parameter(description = "ID do restaurante", required = true, example = "550e8400-e29b-41d4-a716-446655440000")
         @PathVariable String id,
         @Parameter(description = "Dados atualizados do restaurante", required = true)
-        @Valid @RequestBody RestaurantRequest restaurantRequest
+        @Valid @RequestBody RestaurantRequest restaurantRequest,
+        @Parameter(description = "ETag obtida no GET; a escrita só é aplicada se o restaurante ainda estiver nesta versão", example = "\"3\"")
+        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
     );
 
     @Operation(
@@ -149,10 +355,17 @@ public interface RestaurantControllerInterface {
             responseCode = "404",
             description = "Restaurante não encontrado",
             content = @Content(mediaType = "application/json")
+        ),
+        @ApiResponse(
+            responseCode = "412",
+            description = "If-Match não confere com a versão atual do restaurante",
+            content = @Content(mediaType = "application/json")
         )
     })
     ResponseEntity<Void> deleteRestaurant(
         @Parameter(description = "ID do restaurante", required = true, example = "550e8400-e29b-41d4-a716-446655440000")
-        @PathVariable String id
+        @PathVariable String id,
+        @Parameter(description = "ETag obtida no GET; a escrita só é aplicada se o restaurante ainda estiver nesta versão", example = "\"3\"")
+        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
     );
 }
@@ -0,0 +1,72 @@
+package com.fiap.itmoura.tech_challenge_restaurant.presentation.contracts;
+
+import com.fiap.itmoura.tech_challenge_restaurant.application.models.search.RestaurantSearchIndexStatus;
+import com.fiap.itmoura.tech_challenge_restaurant.application.models.search.RestaurantSearchResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RequestParam;
+
+@Tag(name = "Search", description = "Busca textual em restaurantes e itens do menu")
+public interface RestaurantSearchControllerInterface {
+
+    @Operation(
+        summary = "Buscar restaurantes e itens do menu",
+        description = "Busca textual com análise em português (stemming e stopwords) e correspondência aproximada " +
+            "sobre nome, endereço e tipo de cozinha do restaurante e nome/descrição dos itens do menu. " +
+            "Apenas restaurantes ativos e itens ativos são indexados. A resposta inclui contagens por faceta " +
+            "(kitchenType e onlyForLocalConsumption) já considerando os filtros aplicados"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Resultados da busca em ordem de relevância",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = RestaurantSearchResponse.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Termo de busca ausente ou limite inválido",
+            content = @Content(mediaType = "application/json")
+        )
+    })
+    ResponseEntity<RestaurantSearchResponse> search(
+        @Parameter(description = "Texto da busca", required = true, example = "lasanha bolonhesa")
+        @RequestParam(required = false) String q,
+        @Parameter(description = "Filtra pelo nome exato do tipo de cozinha", example = "Italiana")
+        @RequestParam(required = false) String kitchenType,
+        @Parameter(description = "Filtra itens pelo consumo apenas no local", example = "false")
+        @RequestParam(required = false) Boolean onlyForLocalConsumption,
+        @Parameter(description = "Quantidade máxima de resultados (padrão 20, máximo 100)", example = "20")
+        @RequestParam(required = false) Integer limit
+    );
+
+    @Operation(
+        summary = "Reconstruir índice de busca",
+        description = "Relê todos os restaurantes do MongoDB em um índice novo e o troca pelo atual ao final. " +
+            "Buscas e atualizações continuam atendidas pelo índice atual durante a reconstrução"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Índice reconstruído e em uso",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = RestaurantSearchIndexStatus.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "409",
+            description = "Já existe uma reconstrução em andamento",
+            content = @Content(mediaType = "application/json")
+        )
+    })
+    ResponseEntity<RestaurantSearchIndexStatus> rebuildIndex();
+}
@@ -0,0 +1,134 @@
+package com.fiap.itmoura.tech_challenge_restaurant.presentation.controllers;
+
+import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import org.springframework.http.ETag;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import com.fiap.itmoura.tech_challenge_restaurant.application.cache.SerializedResponse;
+import com.fiap.itmoura.tech_challenge_restaurant.application.models.versioning.Versioned;
+
+import reactor.core.publisher.Mono;
+
+// GET condicional: o 304 é respondido pela versão barata (cache ou projeção) sem carregar nem serializar o menu
+final class ConditionalGet {
+
+    private static final String GZIP = "gzip";
+
+    private ConditionalGet() {
+    }
+
+    static <T> ResponseEntity<T> respond(String ifNoneMatch,
+                                         Supplier<Optional<String>> currentVersion,
+                                         Supplier<Versioned<T>> loader) {
+        Optional<ResponseEntity<T>> notModified = notModified(ifNoneMatch, currentVersion);
+        if (notModified.isPresent()) {
+            return notModified.get();
+        }
+
+        // A ETag vem do mesmo documento que gerou o corpo, nunca de uma leitura anterior
+        Versioned<T> response = loader.get();
+        return withETag(ResponseEntity.ok(), response.version()).body(response.body());
+    }
+
+    // Variante do perfil reactive: a versão e o corpo chegam por Mono, sem bloquear o event loop
+    static <T> Mono<ResponseEntity<T>> respond(String ifNoneMatch,
+                                               Mono<String> currentVersion,
+                                               Mono<Versioned<T>> loader) {
+        Mono<ResponseEntity<T>> notModified = ifNoneMatch == null
+            ? Mono.empty()
+            : currentVersion.flatMap(version -> Mono.justOrEmpty(matchedVersion(ifNoneMatch, version)))
+                .map(matched -> ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(matched).<T>build());
+
+        return notModified.switchIfEmpty(loader
+            .map(response -> withETag(ResponseEntity.ok(), response.version()).body(response.body())));
+    }
+
+    // Escreve os bytes já serializados direto na resposta; a versão gzip ganha ETag própria por ser outra representação
+    static ResponseEntity<byte[]> respondSerialized(String ifNoneMatch,
+                                                    String acceptEncoding,
+                                                    Supplier<Optional<String>> currentVersion,
+                                                    Supplier<Versioned<SerializedResponse>> loader) {
+        Optional<ResponseEntity<byte[]>> notModified = notModified(ifNoneMatch, currentVersion);
+        if (notModified.isPresent()) {
+            return notModified.get();
+        }
+
+        Versioned<SerializedResponse> response = loader.get();
+        SerializedResponse serialized = response.body();
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_JSON)
+            .varyBy(HttpHeaders.ACCEPT_ENCODING);
+
+        if (serialized.gzip() != null && acceptsGzip(acceptEncoding)) {
+            return withETag(builder, gzipVersion(response.version()))
+                .header(HttpHeaders.CONTENT_ENCODING, GZIP)
+                .body(serialized.gzip());
+        }
+        return withETag(builder, response.version()).body(serialized.json());
+    }
+
+    private static <T> Optional<ResponseEntity<T>> notModified(String ifNoneMatch, Supplier<Optional<String>> currentVersion) {
+        if (ifNoneMatch == null) {
+            return Optional.empty();
+        }
+
+        return currentVersion.get()
+            .flatMap(version -> matchedVersion(ifNoneMatch, version))
+            .map(matched -> ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(matched).<T>build());
+    }
+
+    private static Optional<String> matchedVersion(String ifNoneMatch, String version) {
+        return Stream.of(version, gzipVersion(version))
+            .filter(candidate -> matches(ifNoneMatch, candidate))
+            .findFirst();
+    }
+
+    private static ResponseEntity.BodyBuilder withETag(ResponseEntity.BodyBuilder builder, String version) {
+        return version != null ? builder.eTag(version) : builder;
+    }
+
+    private static String gzipVersion(String version) {
+        return version != null ? version + "-" + GZIP : null;
+    }
+
+    // If-None-Match usa comparação fraca (RFC 9110, seção 13.1.2)
+    private static boolean matches(String ifNoneMatch, String version) {
+        ETag current = ETag.create(version);
+        return ETag.parse(ifNoneMatch).stream()
+            .anyMatch(candidate -> candidate.isWildcard() || candidate.compare(current, false));
+    }
+
+    // Aceita "gzip" com qualquer qvalue diferente de zero (RFC 9110, seção 12.5.3)
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            String name = parts[0].trim();
+            if (!GZIP.equalsIgnoreCase(name) && !"*".equals(name)) {
+                continue;
+            }
+            boolean refused = false;
+            for (int i = 1; i < parts.length; i++) {
+                String parameter = parts[i].trim();
+                if (parameter.startsWith("q=")) {
+                    try {
+                        refused = Double.parseDouble(parameter.substring(2)) == 0;
+                    } catch (NumberFormatException e) {
+                        refused = true;
+                    }
+                }
+            }
+            return !refused;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,42 @@
+package com.fiap.itmoura.tech_challenge_restaurant.presentation.controllers;
+
+import java.util.List;
+
+import org.springframework.http.ETag;
+
+import com.fiap.itmoura.tech_challenge_restaurant.domain.exceptions.PreconditionFailedException;
+
+// If-Match nas escritas: a ETag recebida vira a versão esperada, checada pela própria operação no MongoDB
+final class ConditionalWrite {
+
+    private static final String GZIP_SUFFIX = "-gzip";
+
+    private ConditionalWrite() {
+    }
+
+    // Sem header ou com "*" não há versão esperada; a variante gzip da ETag aponta para a mesma versão
+    static Long expectedVersion(String ifMatch) {
+        if (ifMatch == null) {
+            return null;
+        }
+
+        List<ETag> tags = ETag.parse(ifMatch);
+        if (tags.stream().anyMatch(ETag::isWildcard)) {
+            return null;
+        }
+        // If-Match usa comparação forte (RFC 9110, seção 13.1.1); só uma versão é aceita por requisição
+        ETag tag = tags.stream()
+            .filter(candidate -> !candidate.weak())
+            .findFirst()
+            .orElseThrow(() -> new PreconditionFailedException("If-Match must carry a strong ETag: " + ifMatch));
+
+        String version = tag.tag().endsWith(GZIP_SUFFIX)
+            ? tag.tag().substring(0, tag.tag().length() - GZIP_SUFFIX.length())
+            : tag.tag();
+        try {
+            return Long.valueOf(version);
+        } catch (NumberFormatException e) {
+            throw new PreconditionFailedException("If-Match does not match any restaurant version: " + ifMatch);
+        }
+    }
+}
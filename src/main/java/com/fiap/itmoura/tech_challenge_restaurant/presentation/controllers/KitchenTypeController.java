@@ -2,6 +2,7 @@ package com.fiap.itmoura.tech_challenge_restaurant.presentation.controllers;
 
 import java.util.List;
 
+import org.springframework.context.annotation.Profile;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
@@ -23,6 +24,7 @@ import com.fiap.itmoura.tech_challenge_restaurant.presentation.contracts.Kitchen
 import lombok.RequiredArgsConstructor;
 
 @RestController
+@Profile("!reactive")
 @RequestMapping("/api/kitchen-types")
 @RequiredArgsConstructor
 public class KitchenTypeController implements KitchenTypeControllerInterface {
@@ -44,6 +46,13 @@ public class KitchenTypeController implements KitchenTypeControllerInterface {
         return ResponseEntity.ok(kitchenTypes);
     }
 
+    @Override
+    @GetMapping("/usage")
+    public ResponseEntity<List<KitchenTypeResponse>> getKitchenTypeUsage() {
+        List<KitchenTypeResponse> kitchenTypes = kitchenTypeUseCase.getKitchenTypeUsage();
+        return ResponseEntity.ok(kitchenTypes);
+    }
+
     @Override
     @GetMapping("/{id}")
     public ResponseEntity<KitchenTypeResponse> getKitchenTypeById(@PathVariable String id) {
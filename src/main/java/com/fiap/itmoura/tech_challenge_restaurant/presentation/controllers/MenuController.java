@@ -2,6 +2,8 @@ package com.fiap.itmoura.tech_challenge_restaurant.presentation.controllers;
 
 import java.util.UUID;
 
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
@@ -11,6 +13,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -23,6 +26,7 @@ import com.fiap.itmoura.tech_challenge_restaurant.presentation.contracts.MenuCon
 import lombok.RequiredArgsConstructor;
 
 @RestController
+@Profile("!reactive")
 @RequestMapping("/api/restaurants/{restaurantId}/menu")
 @RequiredArgsConstructor
 public class MenuController implements MenuControllerInterface {
@@ -44,9 +48,11 @@ public class MenuController implements MenuControllerInterface {
     public ResponseEntity<MenuCategoryResponse> updateMenuCategory(
             @PathVariable String restaurantId,
             @PathVariable String menuId,
-            @Validated(OnCreateGroup.class) @RequestBody MenuCategoryRequest request) {
+            @Validated(OnCreateGroup.class) @RequestBody MenuCategoryRequest request,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         
-        MenuCategoryResponse response = menuUseCase.updateMenuCategory(restaurantId, menuId, request);
+        MenuCategoryResponse response = menuUseCase.updateMenuCategory(restaurantId, menuId, request,
+            ConditionalWrite.expectedVersion(ifMatch));
         return ResponseEntity.ok(response);
     }
 
@@ -54,9 +60,10 @@ public class MenuController implements MenuControllerInterface {
     @DeleteMapping("/{menuId}")
     public ResponseEntity<Void> deleteMenuCategory(
             @PathVariable String restaurantId,
-            @PathVariable String menuId) {
+            @PathVariable String menuId,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         
-        menuUseCase.deleteMenuCategory(restaurantId, menuId);
+        menuUseCase.deleteMenuCategory(restaurantId, menuId, ConditionalWrite.expectedVersion(ifMatch));
         return ResponseEntity.noContent().build();
     }
 
@@ -64,9 +71,11 @@ public class MenuController implements MenuControllerInterface {
     @GetMapping("/{menuId}")
     public ResponseEntity<MenuCategoryResponse> getMenuCategory(
             @PathVariable String restaurantId,
-            @PathVariable String menuId) {
+            @PathVariable String menuId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         
-        MenuCategoryResponse response = menuUseCase.getMenuCategory(restaurantId, menuId);
-        return ResponseEntity.ok(response);
+        return ConditionalGet.respond(ifNoneMatch,
+            () -> menuUseCase.getRestaurantVersion(restaurantId),
+            () -> menuUseCase.getMenuCategory(restaurantId, menuId));
     }
 }
@@ -1,12 +1,17 @@
 package com.fiap.itmoura.tech_challenge_restaurant.presentation.controllers;
 
 import com.fiap.itmoura.tech_challenge_restaurant.application.models.group.OnCreateGroup;
+import com.fiap.itmoura.tech_challenge_restaurant.application.models.menu.MenuItemBulkRequest;
+import com.fiap.itmoura.tech_challenge_restaurant.application.models.menu.MenuItemBulkResponse;
 import com.fiap.itmoura.tech_challenge_restaurant.application.models.menu.MenuItemRequest;
 import com.fiap.itmoura.tech_challenge_restaurant.application.models.menu.MenuItemResponse;
 import com.fiap.itmoura.tech_challenge_restaurant.application.models.menu.MenuItemWithContextDTO;
 import com.fiap.itmoura.tech_challenge_restaurant.application.usecases.MenuItemUseCase;
 import com.fiap.itmoura.tech_challenge_restaurant.presentation.contracts.MenuItemControllerInterface;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
@@ -16,9 +21,11 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
+@Profile("!reactive")
 @RequiredArgsConstructor
 public class MenuItemController implements MenuItemControllerInterface {
 
@@ -35,15 +42,28 @@ public class MenuItemController implements MenuItemControllerInterface {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    @Override
+    @PostMapping("/api/restaurants/{restaurantId}/menu/items/bulk")
+    public ResponseEntity<MenuItemBulkResponse> createMenuItems(
+            @PathVariable String restaurantId,
+            @Valid @RequestBody MenuItemBulkRequest request) {
+
+        MenuItemBulkResponse response = menuItemUseCase.createMenuItems(restaurantId, request);
+        HttpStatus status = response.getCreated() > 0 ? HttpStatus.CREATED : HttpStatus.BAD_REQUEST;
+        return ResponseEntity.status(status).body(response);
+    }
+
     @Override
     @PutMapping("/api/restaurants/{restaurantId}/menu/{menuId}/item/{itemId}")
     public ResponseEntity<MenuItemResponse> updateMenuItem(
             @PathVariable String restaurantId,
             @PathVariable String menuId,
             @PathVariable String itemId,
-            @Validated(OnCreateGroup.class) @RequestBody MenuItemRequest request) {
+            @Validated(OnCreateGroup.class) @RequestBody MenuItemRequest request,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         
-        MenuItemResponse response = menuItemUseCase.updateMenuItem(restaurantId, menuId, itemId, request);
+        MenuItemResponse response = menuItemUseCase.updateMenuItem(restaurantId, menuId, itemId, request,
+            ConditionalWrite.expectedVersion(ifMatch));
         return ResponseEntity.ok(response);
     }
 
@@ -52,16 +72,20 @@ public class MenuItemController implements MenuItemControllerInterface {
     public ResponseEntity<Void> deleteMenuItem(
             @PathVariable String restaurantId,
             @PathVariable String menuId,
-            @PathVariable String itemId) {
+            @PathVariable String itemId,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         
-        menuItemUseCase.deleteMenuItem(restaurantId, menuId, itemId);
+        menuItemUseCase.deleteMenuItem(restaurantId, menuId, itemId, ConditionalWrite.expectedVersion(ifMatch));
         return ResponseEntity.noContent().build();
     }
 
     @Override
     @GetMapping("/api/restaurants/menu/item/{itemId}")
-    public ResponseEntity<MenuItemWithContextDTO> getMenuItemById(@PathVariable String itemId) {
-        MenuItemWithContextDTO response = menuItemUseCase.getMenuItemById(itemId);
-        return ResponseEntity.ok(response);
+    public ResponseEntity<MenuItemWithContextDTO> getMenuItemById(
+            @PathVariable String itemId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return ConditionalGet.respond(ifNoneMatch,
+            () -> menuItemUseCase.getMenuItemVersion(itemId),
+            () -> menuItemUseCase.getMenuItemById(itemId));
     }
 }
@@ -0,0 +1,39 @@
+package com.fiap.itmoura.tech_challenge_restaurant.presentation.controllers;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.fiap.itmoura.tech_challenge_restaurant.application.models.kitchentype.KitchenTypeResponse;
+import com.fiap.itmoura.tech_challenge_restaurant.application.usecases.ReactiveKitchenTypeUseCase;
+
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+// GETs de tipos de cozinha no perfil reactive (WebFlux)
+@RestController
+@Profile("reactive")
+@RequestMapping("/api/kitchen-types")
+@RequiredArgsConstructor
+public class ReactiveKitchenTypeController {
+
+    private final ReactiveKitchenTypeUseCase kitchenTypeUseCase;
+
+    @GetMapping
+    public Flux<KitchenTypeResponse> getAllKitchenTypes() {
+        return kitchenTypeUseCase.getAllKitchenTypes();
+    }
+
+    @GetMapping("/usage")
+    public Flux<KitchenTypeResponse> getKitchenTypeUsage() {
+        return kitchenTypeUseCase.getKitchenTypeUsage();
+    }
+
+    @GetMapping("/{id}")
+    public Mono<KitchenTypeResponse> getKitchenTypeById(@PathVariable String id) {
+        return kitchenTypeUseCase.getKitchenTypeById(id);
+    }
+}
@@ -0,0 +1,110 @@
+package com.fiap.itmoura.tech_challenge_restaurant.presentation.controllers;
+
+import java.util.List;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.fiap.itmoura.tech_challenge_restaurant.application.models.menu.MenuCategoryResponse;
+import com.fiap.itmoura.tech_challenge_restaurant.application.models.menu.MenuItemWithContextDTO;
+import com.fiap.itmoura.tech_challenge_restaurant.application.models.pagination.CursorPage;
+import com.fiap.itmoura.tech_challenge_restaurant.application.models.restaurant.RestaurantBasicResponse;
+import com.fiap.itmoura.tech_challenge_restaurant.application.models.restaurant.RestaurantFullResponse;
+import com.fiap.itmoura.tech_challenge_restaurant.application.usecases.ReactiveRestaurantUseCase;
+import com.fiap.itmoura.tech_challenge_restaurant.domain.exceptions.BadRequestException;
+
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+// GETs de restaurantes, categorias e itens no perfil reactive (WebFlux); mesmas rotas, cursores e ETags da API MVC
+@RestController
+@Profile("reactive")
+@RequestMapping("/api/restaurants")
+@RequiredArgsConstructor
+public class ReactiveRestaurantController {
+
+    private final ReactiveRestaurantUseCase restaurantService;
+
+    @GetMapping
+    public Mono<ResponseEntity<List<RestaurantBasicResponse>>> getAllRestaurants(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        return restaurantService.getAllRestaurants(cursor, limit).map(this::toPageResponse);
+    }
+
+    @GetMapping("/active")
+    public Mono<ResponseEntity<List<RestaurantBasicResponse>>> getAllActiveRestaurants(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        return restaurantService.getAllActiveRestaurants(cursor, limit).map(this::toPageResponse);
+    }
+
+    @GetMapping("/full")
+    public Mono<ResponseEntity<List<RestaurantFullResponse>>> getAllRestaurantsWithMenu(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        return restaurantService.getAllRestaurantsWithMenu(cursor, limit).map(this::toPageResponse);
+    }
+
+    // NDJSON sai um restaurante por linha conforme o cursor avança; json escreve o array sem montar a lista
+    @GetMapping(value = "/full/stream", produces = { MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE })
+    public ResponseEntity<Flux<RestaurantFullResponse>> streamAllRestaurantsWithMenu(
+            @RequestParam(defaultValue = "ndjson") String format) {
+        if ("ndjson".equalsIgnoreCase(format)) {
+            return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON)
+                .body(restaurantService.streamAllRestaurantsWithMenu());
+        }
+
+        if ("json".equalsIgnoreCase(format)) {
+            return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON)
+                .body(restaurantService.streamAllRestaurantsWithMenu());
+        }
+
+        throw new BadRequestException("Unsupported stream format: " + format + ". Use 'ndjson' or 'json'");
+    }
+
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<RestaurantFullResponse>> getRestaurantById(
+            @PathVariable String id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return ConditionalGet.respond(ifNoneMatch,
+            restaurantService.getRestaurantVersion(id),
+            restaurantService.getRestaurantById(id));
+    }
+
+    @GetMapping("/{restaurantId}/menu/{menuId}")
+    public Mono<ResponseEntity<MenuCategoryResponse>> getMenuCategory(
+            @PathVariable String restaurantId,
+            @PathVariable String menuId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return ConditionalGet.respond(ifNoneMatch,
+            restaurantService.getRestaurantVersion(restaurantId),
+            restaurantService.getMenuCategory(restaurantId, menuId));
+    }
+
+    @GetMapping("/menu/item/{itemId}")
+    public Mono<ResponseEntity<MenuItemWithContextDTO>> getMenuItemById(
+            @PathVariable String itemId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return ConditionalGet.respond(ifNoneMatch,
+            restaurantService.getMenuItemVersion(itemId),
+            restaurantService.getMenuItemById(itemId));
+    }
+
+    private <T> ResponseEntity<List<T>> toPageResponse(CursorPage<T> page) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.hasNext()) {
+            response.header(RestaurantController.NEXT_CURSOR_HEADER, page.nextCursor());
+        }
+        return response.body(page.items());
+    }
+}
@@ -1,6 +1,14 @@
 package com.fiap.itmoura.tech_challenge_restaurant.presentation.controllers;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -8,26 +16,48 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.fiap.itmoura.tech_challenge_restaurant.application.models.pagination.CursorPage;
 import com.fiap.itmoura.tech_challenge_restaurant.application.models.restaurant.RestaurantBasicResponse;
+import com.fiap.itmoura.tech_challenge_restaurant.application.models.restaurant.RestaurantFacetedResponse;
 import com.fiap.itmoura.tech_challenge_restaurant.application.models.restaurant.RestaurantFullResponse;
+import com.fiap.itmoura.tech_challenge_restaurant.application.models.restaurant.RestaurantImportSummary;
 import com.fiap.itmoura.tech_challenge_restaurant.application.models.restaurant.RestaurantRequest;
+import com.fiap.itmoura.tech_challenge_restaurant.application.usecases.RestaurantFacetUseCase;
+import com.fiap.itmoura.tech_challenge_restaurant.application.usecases.RestaurantImportUseCase;
 import com.fiap.itmoura.tech_challenge_restaurant.application.usecases.RestaurantUseCase;
+import com.fiap.itmoura.tech_challenge_restaurant.domain.exceptions.BadRequestException;
 import com.fiap.itmoura.tech_challenge_restaurant.presentation.contracts.RestaurantControllerInterface;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 
 import java.util.List;
 
 @RestController
+@Profile("!reactive")
 @RequestMapping("/api/restaurants")
 @RequiredArgsConstructor
 public class RestaurantController implements RestaurantControllerInterface {
 
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
     private final RestaurantUseCase restaurantService;
+    private final RestaurantImportUseCase restaurantImportService;
+    private final RestaurantFacetUseCase restaurantFacetService;
+    private final ObjectMapper objectMapper;
 
     @Override
     @PostMapping
@@ -39,38 +69,164 @@ public class RestaurantController implements RestaurantControllerInterface {
 
     @Override
     @GetMapping
-    public ResponseEntity<List<RestaurantBasicResponse>> getAllRestaurants() {
-        List<RestaurantBasicResponse> restaurants = restaurantService.getAllRestaurants();
+    public ResponseEntity<List<RestaurantBasicResponse>> getAllRestaurants(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime openAt,
+            @RequestParam(required = false) Boolean openNow) {
+        CursorPage<RestaurantBasicResponse> page = restaurantService.getAllRestaurants(cursor, limit, openAt, openNow);
+        return toPageResponse(page);
+    }
+
+    @Override
+    @GetMapping("/active")
+    public ResponseEntity<List<RestaurantBasicResponse>> getAllActiveRestaurants(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime openAt,
+            @RequestParam(required = false) Boolean openNow) {
+        CursorPage<RestaurantBasicResponse> page = restaurantService.getAllActiveRestaurants(cursor, limit, openAt, openNow);
+        return toPageResponse(page);
+    }
+
+    @Override
+    @GetMapping("/faceted")
+    public ResponseEntity<RestaurantFacetedResponse> getFacetedRestaurants(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String kitchenTypeId,
+            @RequestParam(required = false) String day,
+            @RequestParam(required = false) Boolean isActive) {
+        RestaurantFacetUseCase.FacetedPage result =
+            restaurantFacetService.getFacetedRestaurants(cursor, limit, kitchenTypeId, day, isActive);
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (result.page().hasNext()) {
+            response.header(NEXT_CURSOR_HEADER, result.page().nextCursor());
+        }
+        return response.body(new RestaurantFacetedResponse(result.page().items(), result.facets()));
+    }
+
+    @Override
+    @GetMapping("/nearby")
+    public ResponseEntity<List<RestaurantBasicResponse>> getNearbyRestaurants(
+            @RequestParam(required = false) Double latitude,
+            @RequestParam(required = false) Double longitude,
+            @RequestParam(required = false) Double radiusMeters,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String kitchenTypeId) {
+        List<RestaurantBasicResponse> restaurants =
+            restaurantService.getNearbyRestaurants(latitude, longitude, radiusMeters, limit, kitchenTypeId);
         return ResponseEntity.ok(restaurants);
     }
 
     @Override
     @GetMapping("/full")
-    public ResponseEntity<List<RestaurantFullResponse>> getAllRestaurantsWithMenu() {
-        List<RestaurantFullResponse> restaurants = restaurantService.getAllRestaurantsWithMenu();
-        return ResponseEntity.ok(restaurants);
+    public ResponseEntity<List<RestaurantFullResponse>> getAllRestaurantsWithMenu(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        CursorPage<RestaurantFullResponse> page = restaurantService.getAllRestaurantsWithMenu(cursor, limit);
+        return toPageResponse(page);
     }
 
     @Override
-    @GetMapping("/{id}")
-    public ResponseEntity<RestaurantFullResponse> getRestaurantById(@PathVariable String id) {
-        RestaurantFullResponse restaurant = restaurantService.getRestaurantById(id);
-        return ResponseEntity.ok(restaurant);
+    @GetMapping(value = "/full/stream", produces = { MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE })
+    public ResponseEntity<StreamingResponseBody> streamAllRestaurantsWithMenu(
+            @RequestParam(defaultValue = "ndjson") String format) {
+        if ("ndjson".equalsIgnoreCase(format)) {
+            StreamingResponseBody body = outputStream -> {
+                try (SequenceWriter writer = streamWriter().withRootValueSeparator("\n").writeValues(outputStream)) {
+                    restaurantService.streamAllRestaurantsWithMenu(restaurant -> write(writer, restaurant));
+                }
+                outputStream.write('\n');
+            };
+            return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+        }
+
+        if ("json".equalsIgnoreCase(format)) {
+            StreamingResponseBody body = outputStream -> {
+                try (SequenceWriter writer = streamWriter().writeValuesAsArray(outputStream)) {
+                    restaurantService.streamAllRestaurantsWithMenu(restaurant -> write(writer, restaurant));
+                }
+            };
+            return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+        }
+
+        throw new BadRequestException("Unsupported stream format: " + format + ". Use 'ndjson' or 'json'");
+    }
+
+    @Override
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_NDJSON_VALUE, produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> importRestaurants(
+            @RequestParam(defaultValue = "false") boolean ordered,
+            HttpServletRequest request) {
+        // O corpo é lido dentro do stream de resposta: cada resultado sai assim que o lote dele é gravado
+        StreamingResponseBody body = outputStream -> {
+            try (SequenceWriter writer = objectMapper.writer()
+                    .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                    .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                    .withRootValueSeparator("\n")
+                    .writeValues(outputStream)) {
+                RestaurantImportSummary summary = restaurantImportService.importRestaurants(request.getInputStream(), ordered,
+                    line -> write(writer, line));
+                write(writer, summary);
+            }
+            outputStream.write('\n');
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
+    @Override
+    @GetMapping(value = "/{id}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> getRestaurantById(
+            @PathVariable String id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        return ConditionalGet.respondSerialized(ifNoneMatch, acceptEncoding,
+            () -> restaurantService.getRestaurantVersion(id),
+            () -> restaurantService.getSerializedRestaurantById(id));
     }
 
     @Override
     @PutMapping("/{id}")
     public ResponseEntity<RestaurantFullResponse> updateRestaurant(
             @PathVariable String id,
-            @Valid @RequestBody RestaurantRequest restaurantRequest) {
-        RestaurantFullResponse response = restaurantService.updateRestaurant(id, restaurantRequest);
+            @Valid @RequestBody RestaurantRequest restaurantRequest,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        RestaurantFullResponse response = restaurantService.updateRestaurant(id, restaurantRequest,
+            ConditionalWrite.expectedVersion(ifMatch));
         return ResponseEntity.ok(response);
     }
 
     @Override
     @DeleteMapping("/{id}")
-    public ResponseEntity<Void> deleteRestaurant(@PathVariable String id) {
-        restaurantService.deleteRestaurant(id);
+    public ResponseEntity<Void> deleteRestaurant(
+            @PathVariable String id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        restaurantService.deleteRestaurant(id, ConditionalWrite.expectedVersion(ifMatch));
         return ResponseEntity.noContent().build();
     }
+
+    private <T> ResponseEntity<List<T>> toPageResponse(CursorPage<T> page) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.hasNext()) {
+            response.header(NEXT_CURSOR_HEADER, page.nextCursor());
+        }
+        return response.body(page.items());
+    }
+
+    // Sem flush por documento: o buffer de saída do servidor envia os chunks conforme enche
+    private ObjectWriter streamWriter() {
+        return objectMapper.writerFor(RestaurantFullResponse.class)
+            .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+            .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    }
+
+    private void write(SequenceWriter writer, Object value) {
+        try {
+            writer.write(value);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
 }
@@ -0,0 +1,43 @@
+package com.fiap.itmoura.tech_challenge_restaurant.presentation.controllers;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.fiap.itmoura.tech_challenge_restaurant.application.models.search.RestaurantSearchIndexStatus;
+import com.fiap.itmoura.tech_challenge_restaurant.application.models.search.RestaurantSearchResponse;
+import com.fiap.itmoura.tech_challenge_restaurant.application.usecases.RestaurantSearchUseCase;
+import com.fiap.itmoura.tech_challenge_restaurant.presentation.contracts.RestaurantSearchControllerInterface;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@Profile("!reactive")
+@RequestMapping("/api/restaurants/search")
+@RequiredArgsConstructor
+public class RestaurantSearchController implements RestaurantSearchControllerInterface {
+
+    private final RestaurantSearchUseCase restaurantSearchService;
+
+    @Override
+    @GetMapping
+    public ResponseEntity<RestaurantSearchResponse> search(
+            @RequestParam(required = false) String q,
+            @RequestParam(required = false) String kitchenType,
+            @RequestParam(required = false) Boolean onlyForLocalConsumption,
+            @RequestParam(required = false) Integer limit) {
+        RestaurantSearchResponse response = restaurantSearchService.search(q, kitchenType, onlyForLocalConsumption, limit);
+        return ResponseEntity.ok(response);
+    }
+
+    @Override
+    @PostMapping("/index/rebuild")
+    public ResponseEntity<RestaurantSearchIndexStatus> rebuildIndex() {
+        RestaurantSearchIndexStatus status = restaurantSearchService.rebuildIndex();
+        return ResponseEntity.ok(status);
+    }
+}
@@ -14,6 +14,7 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 import com.fiap.itmoura.tech_challenge_restaurant.application.models.validationError.ValidationErrorDTO;
 import com.fiap.itmoura.tech_challenge_restaurant.domain.exceptions.BadRequestException;
 import com.fiap.itmoura.tech_challenge_restaurant.domain.exceptions.ConflictRequestException;
+import com.fiap.itmoura.tech_challenge_restaurant.domain.exceptions.PreconditionFailedException;
 
 @ControllerAdvice
 public class ControllerExceptionHandler {
@@ -64,4 +65,17 @@ public class ControllerExceptionHandler {
                 .status(status.value())
                 .body(new ValidationErrorDTO(errors, status.value()));
     }
+
+    @ExceptionHandler(PreconditionFailedException.class)
+    public ResponseEntity<ValidationErrorDTO> handlerPreconditionFailedException(PreconditionFailedException ex) {
+        logger.warn("Precondition failed: {}", ex.getMessage());
+        
+        var status = HttpStatus.PRECONDITION_FAILED;
+        List<String> errors = new ArrayList<>();
+        errors.add(ex.getMessage());
+
+        return ResponseEntity
+                .status(status.value())
+                .body(new ValidationErrorDTO(errors, status.value()));
+    }
 }
@@ -0,0 +1,12 @@
+package com.fiap.itmoura.tech_challenge_restaurant.presentation.server;
+
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+// Com o Tomcat no classpath (pilha MVC) o Spring Boot sobe o WebFlux sobre o Tomcat; esta fábrica faz o nó
+// reativo rodar no event loop do Netty. server.port e os demais server.* continuam valendo pelos customizers
+@Component
+@Profile("reactive")
+public class NettyServerFactory extends NettyReactiveWebServerFactory {
+}
@@ -0,0 +1,283 @@
+package com.fiap.itmoura.tech_challenge_restaurant.application.ports.out.inmemory;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.IncorrectResultSizeDataAccessException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Example;
+import org.springframework.data.domain.ExampleMatcher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.repository.query.FluentQuery;
+
+import com.fiap.itmoura.tech_challenge_restaurant.application.models.restaurant.RestaurantFacetCount;
+import com.fiap.itmoura.tech_challenge_restaurant.application.models.restaurant.RestaurantFacetFilter;
+import com.fiap.itmoura.tech_challenge_restaurant.application.ports.out.RestaurantRepositoryCustom.FacetedRestaurants;
+import com.fiap.itmoura.tech_challenge_restaurant.domain.entities.KitchenTypeDocumentEntity;
+import com.fiap.itmoura.tech_challenge_restaurant.domain.entities.KitchenTypeEntity;
+import com.fiap.itmoura.tech_challenge_restaurant.domain.entities.MenuCategoryEntity;
+import com.fiap.itmoura.tech_challenge_restaurant.domain.entities.MenuItemEntity;
+import com.fiap.itmoura.tech_challenge_restaurant.domain.entities.RestaurantEntity;
+
+class InMemoryRestaurantRepositoryTest {
+
+    private static final PageRequest FIRST_PAGE = PageRequest.of(0, 10, Sort.by(Sort.Direction.ASC, "id"));
+
+    private InMemoryRestaurantRepository restaurantRepository;
+    private InMemoryKitchenTypeRepository kitchenTypeRepository;
+
+    private KitchenTypeEntity kitchenType;
+
+    @BeforeEach
+    void setUp() {
+        restaurantRepository = new InMemoryRestaurantRepository();
+        kitchenTypeRepository = new InMemoryKitchenTypeRepository(restaurantRepository);
+        kitchenType = KitchenTypeEntity.builder().id("kt-1").name("Brasileira").build();
+    }
+
+    @Test
+    void shouldInsertWithVersionZeroAndRejectStaleSave() {
+        // Given
+        RestaurantEntity saved = restaurantRepository.save(restaurant("r-1", true, item("i-1", "20.00")));
+        RestaurantEntity first = restaurantRepository.findById("r-1").orElseThrow();
+        RestaurantEntity second = restaurantRepository.findById("r-1").orElseThrow();
+
+        // When
+        first.setName("Novo nome");
+        restaurantRepository.save(first);
+
+        // Then
+        assertEquals(0L, saved.getVersion());
+        assertEquals(1L, first.getVersion());
+        assertThrows(OptimisticLockingFailureException.class, () -> restaurantRepository.save(second));
+        assertThrows(DuplicateKeyException.class, () -> restaurantRepository.insert(restaurant("r-1", true)));
+        assertEquals("Novo nome", restaurantRepository.findById("r-1").orElseThrow().getName());
+    }
+
+    @Test
+    void shouldReturnCopiesThatDoNotChangeTheStoredDocument() {
+        // Given
+        restaurantRepository.save(restaurant("r-1", true, item("i-1", "20.00")));
+
+        // When
+        RestaurantEntity read = restaurantRepository.findById("r-1").orElseThrow();
+        read.getMenu().get(0).getItems().clear();
+        read.setName("Alterado");
+
+        // Then
+        RestaurantEntity stored = restaurantRepository.findById("r-1").orElseThrow();
+        assertEquals("Restaurante r-1", stored.getName());
+        assertEquals(1, stored.getMenu().get(0).getItems().size());
+    }
+
+    @Test
+    void shouldPageActiveRestaurantsByCursorWithBasicFields() {
+        // Given
+        restaurantRepository.save(restaurant("r-1", true, item("i-1", "20.00")));
+        restaurantRepository.save(restaurant("r-2", false));
+        restaurantRepository.save(restaurant("r-3", true));
+
+        // When
+        List<RestaurantEntity> firstPage = restaurantRepository.findBasicByIsActiveTrue(PageRequest.of(0, 1, Sort.by("id")));
+        List<RestaurantEntity> nextPage = restaurantRepository.findBasicByIsActiveTrueAndIdGreaterThan("r-1", FIRST_PAGE);
+
+        // Then
+        assertEquals(List.of("r-1"), firstPage.stream().map(RestaurantEntity::getId).toList());
+        assertNull(firstPage.get(0).getMenu());
+        assertNull(firstPage.get(0).getVersion());
+        assertEquals(List.of("r-3"), nextPage.stream().map(RestaurantEntity::getId).toList());
+    }
+
+    @Test
+    void shouldKeepMenuItemIndexInSyncWithMenuWrites() {
+        // Given
+        restaurantRepository.save(restaurant("r-1", true, item("i-1", "20.00")));
+        LocalDateTime now = LocalDateTime.now();
+
+        // When
+        boolean pushed = restaurantRepository.pushMenuItems("r-1", Map.of("c-1", List.of(item("i-2", "30.00"))), 0L, now);
+        boolean stalePush = restaurantRepository.pushMenuItems("r-1", Map.of("c-1", List.of(item("i-3", "30.00"))), 0L, now);
+        boolean pulled = restaurantRepository.pullMenuItem("r-1", "c-1", "i-1", 1L, now);
+
+        // Then
+        assertTrue(pushed);
+        assertFalse(stalePush);
+        assertTrue(pulled);
+        assertTrue(restaurantRepository.findWithMenuItem("i-1").isEmpty());
+        assertTrue(restaurantRepository.findWithMenuItem("i-3").isEmpty());
+
+        RestaurantEntity context = restaurantRepository.findWithMenuItem("i-2").orElseThrow();
+        assertEquals(2L, context.getVersion());
+        assertEquals(now, restaurantRepository.findById("r-1").orElseThrow().getLastUpdate());
+        assertEquals(1, context.getMenu().size());
+        assertEquals(List.of("i-2"), context.getMenu().get(0).getItems().stream().map(MenuItemEntity::getId).toList());
+    }
+
+    @Test
+    void shouldUpdateMenuItemOnlyOnExpectedVersionAndKeepNullFlags() {
+        // Given
+        restaurantRepository.save(restaurant("r-1", true, item("i-1", "20.00")));
+        MenuItemEntity changes = MenuItemEntity.builder().id("i-1").name("Prato novo").price(new BigDecimal("25.00")).build();
+
+        // When
+        var stale = restaurantRepository.updateMenuItem("r-1", "c-1", changes, 5L, LocalDateTime.now());
+        MenuItemEntity updated = restaurantRepository.updateMenuItem("r-1", "c-1", changes, 0L, LocalDateTime.now()).orElseThrow();
+
+        // Then
+        assertTrue(stale.isEmpty());
+        assertEquals("Prato novo", updated.getName());
+        assertEquals(new BigDecimal("25.00"), updated.getPrice());
+        assertTrue(updated.getIsActive());
+        assertEquals("1", restaurantRepository.findVersionByMenuItemId("i-1").map(r -> r.getVersion().toString()).orElseThrow());
+    }
+
+    @Test
+    void shouldStopOrderedInsertAtFirstDuplicate() {
+        // Given
+        restaurantRepository.save(restaurant("r-2", true));
+        List<RestaurantEntity> batch = List.of(restaurant("r-1", true), restaurant("r-2", true), restaurant("r-3", true));
+
+        // When
+        Map<Integer, String> errors = restaurantRepository.insertRestaurants(batch, true);
+
+        // Then
+        assertEquals(List.of(1), List.copyOf(errors.keySet()));
+        assertTrue(restaurantRepository.existsById("r-1"));
+        assertFalse(restaurantRepository.existsById("r-3"));
+    }
+
+    @Test
+    void shouldCountFacetsOverTheWholeFilter() {
+        // Given
+        restaurantRepository.save(restaurant("r-1", true, item("i-1", "20.00")));
+        restaurantRepository.save(restaurant("r-2", true, item("i-2", "70.00")));
+        restaurantRepository.save(restaurant("r-3", false));
+
+        // When
+        FacetedRestaurants result = restaurantRepository.findFacetedPage(new RestaurantFacetFilter(null, null, null),
+            null, 1, List.of(new BigDecimal("30"), new BigDecimal("60"), new BigDecimal("100")), true);
+
+        // Then
+        assertEquals(List.of("r-1"), result.restaurants().stream().map(RestaurantEntity::getId).toList());
+        assertEquals(List.of(new RestaurantFacetCount("kt-1", "Brasileira", 3)), result.facets().kitchenTypes());
+        assertEquals(List.of(new RestaurantFacetCount("true", "true", 2), new RestaurantFacetCount("false", "false", 1)),
+            result.facets().activeStatus());
+        assertEquals(List.of("0-30", "60-100", "none"),
+            result.facets().priceBands().stream().map(RestaurantFacetCount::value).toList());
+    }
+
+    @Test
+    void shouldReconcileKitchenTypeCountsFromIndexes() {
+        // Given
+        kitchenTypeRepository.save(KitchenTypeDocumentEntity.builder().id("kt-1").name("Brasileira").build());
+        restaurantRepository.save(restaurant("r-1", true));
+        restaurantRepository.save(restaurant("r-2", false));
+
+        // When
+        long corrected = kitchenTypeRepository.reconcileRestaurantCounts();
+
+        // Then
+        KitchenTypeDocumentEntity kitchenTypeDocument = kitchenTypeRepository.findByNameIgnoreCase("BRASILEIRA").orElseThrow();
+        assertEquals(1, corrected);
+        assertEquals(2L, kitchenTypeDocument.getRestaurantCount());
+        assertEquals(1L, kitchenTypeDocument.getActiveRestaurantCount());
+        assertTrue(restaurantRepository.existsByKitchenTypeId("kt-1"));
+        assertFalse(kitchenTypeRepository.existsByNameIgnoreCaseAndIdNot("brasileira", "kt-1"));
+    }
+
+    @Test
+    void shouldFindByExampleWithNestedPropertiesAndStringMatchers() {
+        // Given
+        restaurantRepository.save(restaurant("r-1", true));
+        restaurantRepository.save(restaurant("r-2", false));
+        restaurantRepository.save(restaurant("r-3", true));
+        RestaurantEntity byKitchenType = RestaurantEntity.builder()
+            .kitchenType(KitchenTypeEntity.builder().name("brasil").build())
+            .isActive(true)
+            .build();
+        ExampleMatcher startingIgnoringCase = ExampleMatcher.matching()
+            .withMatcher("kitchenType.name", matcher -> matcher.startsWith().ignoreCase());
+
+        // When
+        Example<RestaurantEntity> example = Example.of(byKitchenType, startingIgnoringCase);
+        List<RestaurantEntity> found = restaurantRepository.findAll(example, Sort.by(Sort.Direction.DESC, "id"));
+        Page<RestaurantEntity> firstPage = restaurantRepository.findAll(example, PageRequest.of(0, 1, Sort.by("id")));
+
+        // Then
+        assertEquals(List.of("r-3", "r-1"), found.stream().map(RestaurantEntity::getId).toList());
+        assertEquals(List.of("r-1"), firstPage.getContent().stream().map(RestaurantEntity::getId).toList());
+        assertEquals(2, firstPage.getTotalElements());
+        assertEquals(2, restaurantRepository.count(example));
+        assertTrue(restaurantRepository.exists(example));
+        // Sem o matcher o nome do tipo precisa ser igual
+        assertFalse(restaurantRepository.exists(Example.of(byKitchenType)));
+        assertEquals("r-2", restaurantRepository.findOne(Example.of(RestaurantEntity.builder().isActive(false).build()))
+            .map(RestaurantEntity::getId).orElseThrow());
+        // Qualquer condição basta com matchingAny
+        assertEquals(3, restaurantRepository.count(Example.of(RestaurantEntity.builder().id("r-2").isActive(true).build(),
+            ExampleMatcher.matchingAny())));
+    }
+
+    @Test
+    void shouldRunFluentQueriesByExample() {
+        // Given
+        restaurantRepository.save(restaurant("r-1", true));
+        restaurantRepository.save(restaurant("r-2", true));
+        restaurantRepository.save(restaurant("r-3", false));
+        Example<RestaurantEntity> active = Example.of(RestaurantEntity.builder().isActive(true).build());
+
+        // When
+        RestaurantEntity last = restaurantRepository.findBy(active,
+            query -> query.sortBy(Sort.by(Sort.Direction.DESC, "id")).firstValue());
+        List<RestaurantEntity> projected = restaurantRepository.findBy(active,
+            query -> query.project("name").limit(1).all());
+        long activeCount = restaurantRepository.findBy(active, FluentQuery.FetchableFluentQuery::count);
+
+        // Then
+        assertEquals("r-2", last.getId());
+        assertEquals(1, projected.size());
+        assertEquals("r-1", projected.get(0).getId());
+        assertEquals("Restaurante r-1", projected.get(0).getName());
+        assertNull(projected.get(0).getAddress());
+        assertEquals(2, activeCount);
+        assertThrows(IncorrectResultSizeDataAccessException.class,
+            () -> restaurantRepository.findBy(active, FluentQuery.FetchableFluentQuery::oneValue));
+        // O documento guardado não perde os campos fora da projeção
+        assertEquals("Rua A, 1", restaurantRepository.findById("r-1").orElseThrow().getAddress());
+    }
+
+    private RestaurantEntity restaurant(String id, boolean active, MenuItemEntity... items) {
+        return RestaurantEntity.builder()
+            .id(id)
+            .name("Restaurante " + id)
+            .address("Rua A, 1")
+            .kitchenType(kitchenType)
+            .isActive(active)
+            .menu(new ArrayList<>(List.of(MenuCategoryEntity.builder()
+                .id("c-1")
+                .type("Pratos")
+                .items(new ArrayList<>(List.of(items)))
+                .build())))
+            .build();
+    }
+
+    private static MenuItemEntity item(String id, String price) {
+        return MenuItemEntity.builder()
+            .id(id)
+            .name("Prato " + id)
+            .price(new BigDecimal(price))
+            .onlyForLocalConsumption(false)
+            .isActive(true)
+            .build();
+    }
+}
@@ -2,7 +2,9 @@ package com.fiap.itmoura.tech_challenge_restaurant.application.usecases;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
 import java.time.LocalDateTime;
@@ -150,18 +152,37 @@ class KitchenTypeUseCaseTest {
             .description("Cozinha italiana premium")
             .build();
 
-        when(kitchenTypeRepository.findById(kitchenTypeId)).thenReturn(Optional.of(kitchenTypeEntity));
         when(kitchenTypeRepository.existsByNameIgnoreCaseAndIdNot("Italiana Premium", kitchenTypeId)).thenReturn(false);
-        when(kitchenTypeRepository.save(any(KitchenTypeDocumentEntity.class))).thenReturn(kitchenTypeEntity);
+        when(kitchenTypeRepository.updateDetails(eq(kitchenTypeId), eq("Italiana Premium"), eq("Cozinha italiana premium"), any(LocalDateTime.class)))
+            .thenReturn(Optional.of(kitchenTypeEntity));
 
         // When
         KitchenTypeResponse response = kitchenTypeUseCase.updateKitchenType(kitchenTypeId, updateRequest);
 
         // Then
         assertNotNull(response);
-        verify(kitchenTypeRepository).findById(kitchenTypeId);
         verify(kitchenTypeRepository).existsByNameIgnoreCaseAndIdNot("Italiana Premium", kitchenTypeId);
-        verify(kitchenTypeRepository).save(any(KitchenTypeDocumentEntity.class));
+        verify(kitchenTypeRepository).updateDetails(eq(kitchenTypeId), eq("Italiana Premium"), eq("Cozinha italiana premium"), any(LocalDateTime.class));
+        verify(kitchenTypeRepository, never()).save(any());
+    }
+
+    @Test
+    void shouldThrowNotFoundExceptionWhenUpdatingMissingKitchenType() {
+        // Given
+        KitchenTypeRequest updateRequest = KitchenTypeRequest.builder()
+            .name("Italiana Premium")
+            .build();
+
+        when(kitchenTypeRepository.existsByNameIgnoreCaseAndIdNot("Italiana Premium", kitchenTypeId)).thenReturn(false);
+        when(kitchenTypeRepository.updateDetails(eq(kitchenTypeId), eq("Italiana Premium"), isNull(), any(LocalDateTime.class)))
+            .thenReturn(Optional.empty());
+
+        // When & Then
+        NotFoundException exception = assertThrows(NotFoundException.class, () -> {
+            kitchenTypeUseCase.updateKitchenType(kitchenTypeId, updateRequest);
+        });
+
+        assertEquals("Kitchen type not found with id: " + kitchenTypeId, exception.getMessage());
     }
 
     @Test
@@ -172,7 +193,6 @@ class KitchenTypeUseCaseTest {
             .description("Cozinha japonesa")
             .build();
 
-        when(kitchenTypeRepository.findById(kitchenTypeId)).thenReturn(Optional.of(kitchenTypeEntity));
         when(kitchenTypeRepository.existsByNameIgnoreCaseAndIdNot("Japonesa", kitchenTypeId)).thenReturn(true);
 
         // When & Then
@@ -181,9 +201,8 @@ class KitchenTypeUseCaseTest {
         });
 
         assertEquals("Kitchen type with name 'Japonesa' already exists", exception.getMessage());
-        verify(kitchenTypeRepository).findById(kitchenTypeId);
         verify(kitchenTypeRepository).existsByNameIgnoreCaseAndIdNot("Japonesa", kitchenTypeId);
-        verify(kitchenTypeRepository, never()).save(any());
+        verify(kitchenTypeRepository, never()).updateDetails(any(), any(), any(), any());
     }
 
     @Test
@@ -206,6 +225,78 @@ class KitchenTypeUseCaseTest {
         verify(kitchenTypeRepository).deleteById(kitchenTypeId);
     }
 
+    @Test
+    void shouldRejectDeleteFromRestaurantCountWithoutScanningRestaurants() {
+        // Given
+        kitchenTypeEntity.setRestaurantCount(2L);
+        when(kitchenTypeRepository.findById(kitchenTypeId)).thenReturn(Optional.of(kitchenTypeEntity));
+
+        // When & Then
+        assertThrows(ConflictRequestException.class, () -> {
+            kitchenTypeUseCase.deleteKitchenType(kitchenTypeId);
+        });
+
+        verify(restaurantRepository, never()).existsByKitchenTypeId(any());
+        verify(kitchenTypeRepository, never()).deleteById(any());
+    }
+
+    @Test
+    void shouldDeleteKitchenTypeWithZeroRestaurantCount() {
+        // Given
+        kitchenTypeEntity.setRestaurantCount(0L);
+        when(kitchenTypeRepository.findById(kitchenTypeId)).thenReturn(Optional.of(kitchenTypeEntity));
+        when(restaurantRepository.existsByKitchenTypeId(kitchenTypeId)).thenReturn(false);
+
+        // When
+        kitchenTypeUseCase.deleteKitchenType(kitchenTypeId);
+
+        // Then
+        verify(restaurantRepository).existsByKitchenTypeId(kitchenTypeId);
+        verify(kitchenTypeRepository).deleteById(kitchenTypeId);
+    }
+
+    @Test
+    void shouldRejectDeleteWhenRestaurantsExistDespiteStaleZeroCount() {
+        // Given
+        kitchenTypeEntity.setRestaurantCount(0L);
+        when(kitchenTypeRepository.findById(kitchenTypeId)).thenReturn(Optional.of(kitchenTypeEntity));
+        when(restaurantRepository.existsByKitchenTypeId(kitchenTypeId)).thenReturn(true);
+
+        // When & Then
+        assertThrows(ConflictRequestException.class, () -> {
+            kitchenTypeUseCase.deleteKitchenType(kitchenTypeId);
+        });
+
+        verify(kitchenTypeRepository, never()).deleteById(any());
+    }
+
+    @Test
+    void shouldIncrementRestaurantCountsByKitchenTypeDelta() {
+        // Given
+        String otherKitchenTypeId = UUID.randomUUID().toString();
+        RestaurantEntity before = restaurant(kitchenTypeId, true);
+        RestaurantEntity movedAndDisabled = restaurant(otherKitchenTypeId, false);
+        RestaurantEntity unchanged = restaurant(kitchenTypeId, true);
+
+        // When
+        kitchenTypeUseCase.updateRestaurantCounts(List.of(before, unchanged), List.of(movedAndDisabled, unchanged));
+
+        // Then
+        verify(kitchenTypeRepository).incrementRestaurantCounts(kitchenTypeId, -1, -1);
+        verify(kitchenTypeRepository).incrementRestaurantCounts(otherKitchenTypeId, 1, 0);
+        verifyNoMoreInteractions(kitchenTypeRepository);
+    }
+
+    @Test
+    void shouldSkipIncrementWhenRestaurantKeepsKitchenTypeAndStatus() {
+        // When
+        kitchenTypeUseCase.updateRestaurantCounts(List.of(restaurant(kitchenTypeId, true)),
+            List.of(restaurant(kitchenTypeId, true)));
+
+        // Then
+        verify(kitchenTypeRepository, never()).incrementRestaurantCounts(any(), anyLong(), anyLong());
+    }
+
     @Test
     void shouldGetKitchenTypeByIdOrNameWithName() {
         // Given
@@ -234,4 +325,51 @@ class KitchenTypeUseCaseTest {
 
         verify(kitchenTypeRepository).findByNameIgnoreCase(name);
     }
+
+    @Test
+    void shouldResolveKitchenTypesFromCatalogWithoutDatabaseLookups() {
+        // Given
+        when(kitchenTypeRepository.findAll()).thenReturn(List.of(kitchenTypeEntity));
+
+        // When
+        KitchenTypeResponse byId = kitchenTypeUseCase.getKitchenTypeById(kitchenTypeId);
+        KitchenTypeResponse byIdAgain = kitchenTypeUseCase.getKitchenTypeById(kitchenTypeId);
+        KitchenTypeResponse byName = kitchenTypeUseCase.getKitchenTypeByIdOrName(" ITALIANA ");
+
+        // Then
+        assertEquals(kitchenTypeId, byId.getId());
+        assertEquals(kitchenTypeId, byIdAgain.getId());
+        assertEquals(kitchenTypeId, byName.getId());
+        assertNotSame(byId, byIdAgain);
+
+        verify(kitchenTypeRepository, times(1)).findAll();
+        verify(kitchenTypeRepository, never()).findById(any());
+        verify(kitchenTypeRepository, never()).findByNameIgnoreCase(any());
+    }
+
+    @Test
+    void shouldRefreshCatalogAfterCreatingKitchenType() {
+        // Given
+        when(kitchenTypeRepository.findAll()).thenReturn(List.of()).thenReturn(List.of(kitchenTypeEntity));
+        when(kitchenTypeRepository.existsByNameIgnoreCase("Italiana")).thenReturn(false);
+        when(kitchenTypeRepository.save(any(KitchenTypeDocumentEntity.class))).thenReturn(kitchenTypeEntity);
+        assertTrue(kitchenTypeUseCase.getAllKitchenTypes().isEmpty());
+
+        // When
+        kitchenTypeUseCase.createKitchenType(kitchenTypeRequest);
+        KitchenTypeResponse response = kitchenTypeUseCase.getKitchenTypeById(kitchenTypeId);
+
+        // Then
+        assertEquals("Italiana", response.getName());
+        verify(kitchenTypeRepository, times(2)).findAll();
+        verify(kitchenTypeRepository, never()).findById(any());
+    }
+
+    private static RestaurantEntity restaurant(String kitchenTypeId, boolean active) {
+        return RestaurantEntity.builder()
+            .id(UUID.randomUUID().toString())
+            .kitchenType(KitchenTypeEntity.builder().id(kitchenTypeId).name("Italiana").build())
+            .isActive(active)
+            .build();
+    }
 }
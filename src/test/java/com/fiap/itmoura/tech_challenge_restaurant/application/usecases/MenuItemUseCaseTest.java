@@ -2,24 +2,40 @@ package com.fiap.itmoura.tech_challenge_restaurant.application.usecases;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.util.unit.DataSize;
+
+import com.fiap.itmoura.tech_challenge_restaurant.application.cache.RestaurantCache;
+import com.fiap.itmoura.tech_challenge_restaurant.application.cache.RestaurantCacheProperties;
+import com.fiap.itmoura.tech_challenge_restaurant.application.concurrency.OptimisticWriteRetry;
+import com.fiap.itmoura.tech_challenge_restaurant.application.concurrency.WriteRetryProperties;
+import com.fiap.itmoura.tech_challenge_restaurant.application.models.menu.MenuItemBulkEntry;
+import com.fiap.itmoura.tech_challenge_restaurant.application.models.menu.MenuItemBulkRequest;
+import com.fiap.itmoura.tech_challenge_restaurant.application.models.menu.MenuItemBulkResponse;
+import com.fiap.itmoura.tech_challenge_restaurant.application.models.menu.MenuItemBulkResult;
 import com.fiap.itmoura.tech_challenge_restaurant.application.models.menu.MenuItemRequest;
 import com.fiap.itmoura.tech_challenge_restaurant.application.models.menu.MenuItemResponse;
 import com.fiap.itmoura.tech_challenge_restaurant.application.models.menu.MenuItemWithContextDTO;
+import com.fiap.itmoura.tech_challenge_restaurant.application.models.versioning.Versioned;
 import com.fiap.itmoura.tech_challenge_restaurant.application.ports.out.RestaurantRepository;
 import com.fiap.itmoura.tech_challenge_restaurant.domain.entities.DayEnum;
 import com.fiap.itmoura.tech_challenge_restaurant.domain.entities.KitchenTypeEntity;
@@ -27,7 +43,12 @@ import com.fiap.itmoura.tech_challenge_restaurant.domain.entities.MenuCategoryEn
 import com.fiap.itmoura.tech_challenge_restaurant.domain.entities.MenuItemEntity;
 import com.fiap.itmoura.tech_challenge_restaurant.domain.entities.OperationDaysTimeData;
 import com.fiap.itmoura.tech_challenge_restaurant.domain.entities.RestaurantEntity;
+import com.fiap.itmoura.tech_challenge_restaurant.domain.events.RestaurantChangedEvent;
 import com.fiap.itmoura.tech_challenge_restaurant.domain.exceptions.NotFoundException;
+import com.fiap.itmoura.tech_challenge_restaurant.domain.exceptions.PreconditionFailedException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.Validation;
 
 @ExtendWith(MockitoExtension.class)
 class MenuItemUseCaseTest {
@@ -35,7 +56,10 @@ class MenuItemUseCaseTest {
     @Mock
     private RestaurantRepository restaurantRepository;
 
-    @InjectMocks
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private RestaurantCache restaurantCache;
     private MenuItemUseCase menuItemUseCase;
 
     private RestaurantEntity restaurantEntity;
@@ -48,6 +72,12 @@ class MenuItemUseCaseTest {
 
     @BeforeEach
     void setUp() {
+        restaurantCache = new RestaurantCache(restaurantRepository,
+            new RestaurantCacheProperties(1_000, Duration.ofMinutes(5), 1_000, DataSize.ofMegabytes(1)), new SimpleMeterRegistry());
+        menuItemUseCase = new MenuItemUseCase(restaurantRepository, restaurantCache, eventPublisher,
+            new OptimisticWriteRetry(new WriteRetryProperties(3, Duration.ZERO, Duration.ZERO), new SimpleMeterRegistry()),
+            Validation.buildDefaultValidatorFactory().getValidator());
+
         restaurantId = UUID.randomUUID().toString();
         menuId = UUID.randomUUID().toString();
         itemId = UUID.randomUUID().toString();
@@ -96,14 +126,15 @@ class MenuItemUseCaseTest {
             .menu(List.of(menuCategory))
             .lastUpdate(LocalDateTime.now())
             .createdAt(LocalDateTime.now())
+            .version(1L)
             .build();
     }
 
     @Test
     void shouldCreateMenuItemSuccessfully() {
         // Given
-        when(restaurantRepository.findById(restaurantId)).thenReturn(Optional.of(restaurantEntity));
-        when(restaurantRepository.save(any(RestaurantEntity.class))).thenReturn(restaurantEntity);
+        when(restaurantRepository.pushMenuItem(eq(restaurantId), eq(menuId), any(MenuItemEntity.class), any(LocalDateTime.class)))
+            .thenReturn(true);
 
         // When
         MenuItemResponse response = menuItemUseCase.createMenuItem(restaurantId, menuId, menuItemRequest);
@@ -120,37 +151,42 @@ class MenuItemUseCaseTest {
         assertEquals(menuId, response.getCategoryId());
         assertNotNull(response.getId());
 
-        verify(restaurantRepository).findById(restaurantId);
-        verify(restaurantRepository).save(any(RestaurantEntity.class));
+        verify(restaurantRepository, never()).findById(any());
+        verify(restaurantRepository, never()).save(any());
+        verify(eventPublisher).publishEvent(new RestaurantChangedEvent(restaurantId));
     }
 
     @Test
     void shouldThrowNotFoundExceptionWhenRestaurantNotExistsForCreateItem() {
         // Given
-        when(restaurantRepository.findById(restaurantId)).thenReturn(Optional.empty());
+        when(restaurantRepository.pushMenuItem(eq(restaurantId), eq(menuId), any(MenuItemEntity.class), any(LocalDateTime.class)))
+            .thenReturn(false);
+        when(restaurantRepository.findVersionById(restaurantId)).thenReturn(Optional.empty());
 
         // When & Then
-        assertThrows(NotFoundException.class, () -> {
+        NotFoundException exception = assertThrows(NotFoundException.class, () -> {
             menuItemUseCase.createMenuItem(restaurantId, menuId, menuItemRequest);
         });
 
-        verify(restaurantRepository).findById(restaurantId);
-        verify(restaurantRepository, never()).save(any());
+        assertEquals("Restaurant not found with ID: " + restaurantId, exception.getMessage());
+        verify(eventPublisher, never()).publishEvent(any());
     }
 
     @Test
     void shouldThrowNotFoundExceptionWhenMenuCategoryNotExistsForCreateItem() {
         // Given
         String nonExistentMenuId = UUID.randomUUID().toString();
-        when(restaurantRepository.findById(restaurantId)).thenReturn(Optional.of(restaurantEntity));
+        when(restaurantRepository.pushMenuItem(eq(restaurantId), eq(nonExistentMenuId), any(MenuItemEntity.class), any(LocalDateTime.class)))
+            .thenReturn(false);
+        when(restaurantRepository.findVersionById(restaurantId)).thenReturn(Optional.of(restaurantEntity));
 
         // When & Then
-        assertThrows(NotFoundException.class, () -> {
+        NotFoundException exception = assertThrows(NotFoundException.class, () -> {
             menuItemUseCase.createMenuItem(restaurantId, nonExistentMenuId, menuItemRequest);
         });
 
-        verify(restaurantRepository).findById(restaurantId);
-        verify(restaurantRepository, never()).save(any());
+        assertEquals("Menu category not found with ID: " + nonExistentMenuId, exception.getMessage());
+        verify(eventPublisher, never()).publishEvent(any());
     }
 
     @Test
@@ -165,8 +201,18 @@ class MenuItemUseCaseTest {
             .isActive(true)
             .build();
 
-        when(restaurantRepository.findById(restaurantId)).thenReturn(Optional.of(restaurantEntity));
-        when(restaurantRepository.save(any(RestaurantEntity.class))).thenReturn(restaurantEntity);
+        MenuItemEntity updatedItem = MenuItemEntity.builder()
+            .id(itemId)
+            .name("Hambúrguer Premium")
+            .description("Hambúrguer premium com ingredientes especiais")
+            .price(new BigDecimal("35.90"))
+            .onlyForLocalConsumption(true)
+            .imagePath("/images/hamburguer-premium.jpg")
+            .isActive(true)
+            .build();
+
+        when(restaurantRepository.updateMenuItem(eq(restaurantId), eq(menuId), any(MenuItemEntity.class), isNull(), any(LocalDateTime.class)))
+            .thenReturn(Optional.of(updatedItem));
 
         // When
         MenuItemResponse response = menuItemUseCase.updateMenuItem(restaurantId, menuId, itemId, updateRequest);
@@ -180,61 +226,68 @@ class MenuItemUseCaseTest {
         assertEquals("/images/hamburguer-premium.jpg", response.getImagePath());
         assertEquals(itemId, response.getId());
 
-        verify(restaurantRepository).findById(restaurantId);
-        verify(restaurantRepository).save(any(RestaurantEntity.class));
+        verify(restaurantRepository, never()).findById(any());
+        verify(restaurantRepository, never()).save(any());
+        verify(eventPublisher).publishEvent(new RestaurantChangedEvent(restaurantId));
     }
 
     @Test
     void shouldThrowNotFoundExceptionWhenMenuItemNotExistsForUpdate() {
         // Given
         String nonExistentItemId = UUID.randomUUID().toString();
-        when(restaurantRepository.findById(restaurantId)).thenReturn(Optional.of(restaurantEntity));
+        when(restaurantRepository.updateMenuItem(eq(restaurantId), eq(menuId), any(MenuItemEntity.class), isNull(), any(LocalDateTime.class)))
+            .thenReturn(Optional.empty());
+        when(restaurantRepository.findVersionById(restaurantId)).thenReturn(Optional.of(restaurantEntity));
+        when(restaurantRepository.existsByIdAndMenuId(restaurantId, menuId)).thenReturn(true);
 
         // When & Then
-        assertThrows(NotFoundException.class, () -> {
+        NotFoundException exception = assertThrows(NotFoundException.class, () -> {
             menuItemUseCase.updateMenuItem(restaurantId, menuId, nonExistentItemId, menuItemRequest);
         });
 
-        verify(restaurantRepository).findById(restaurantId);
-        verify(restaurantRepository, never()).save(any());
+        assertEquals("Menu item not found with ID: " + nonExistentItemId, exception.getMessage());
+        verify(eventPublisher, never()).publishEvent(any());
     }
 
     @Test
     void shouldDeleteMenuItemSuccessfully() {
         // Given
-        when(restaurantRepository.findById(restaurantId)).thenReturn(Optional.of(restaurantEntity));
-        when(restaurantRepository.save(any(RestaurantEntity.class))).thenReturn(restaurantEntity);
+        when(restaurantRepository.pullMenuItem(eq(restaurantId), eq(menuId), eq(itemId), isNull(), any(LocalDateTime.class)))
+            .thenReturn(true);
 
         // When
         menuItemUseCase.deleteMenuItem(restaurantId, menuId, itemId);
 
         // Then
-        verify(restaurantRepository).findById(restaurantId);
-        verify(restaurantRepository).save(any(RestaurantEntity.class));
+        verify(restaurantRepository).pullMenuItem(eq(restaurantId), eq(menuId), eq(itemId), isNull(), any(LocalDateTime.class));
+        verify(restaurantRepository, never()).save(any());
+        verify(eventPublisher).publishEvent(new RestaurantChangedEvent(restaurantId));
     }
 
     @Test
     void shouldThrowNotFoundExceptionWhenMenuItemNotExistsForDelete() {
         // Given
         String nonExistentItemId = UUID.randomUUID().toString();
-        when(restaurantRepository.findById(restaurantId)).thenReturn(Optional.of(restaurantEntity));
+        when(restaurantRepository.pullMenuItem(eq(restaurantId), eq(menuId), eq(nonExistentItemId), isNull(), any(LocalDateTime.class)))
+            .thenReturn(false);
+        when(restaurantRepository.findVersionById(restaurantId)).thenReturn(Optional.of(restaurantEntity));
+        when(restaurantRepository.existsByIdAndMenuId(restaurantId, menuId)).thenReturn(true);
 
         // When & Then
         assertThrows(NotFoundException.class, () -> {
             menuItemUseCase.deleteMenuItem(restaurantId, menuId, nonExistentItemId);
         });
 
-        verify(restaurantRepository).findById(restaurantId);
-        verify(restaurantRepository, never()).save(any());
+        verify(eventPublisher, never()).publishEvent(any());
     }
 
     @Test
     void shouldGetMenuItemByIdSuccessfully() {
         // Given
-        when(restaurantRepository.findByMenuItemId(itemId)).thenReturn(Optional.of(restaurantEntity));
+        when(restaurantRepository.findWithMenuItem(itemId)).thenReturn(Optional.of(restaurantEntity));
 
         // When
-        MenuItemWithContextDTO response = menuItemUseCase.getMenuItemById(itemId);
+        MenuItemWithContextDTO response = menuItemUseCase.getMenuItemById(itemId).body();
 
         // Then
         assertNotNull(response);
@@ -252,21 +305,21 @@ class MenuItemUseCaseTest {
         assertEquals("Burger House", response.getRestaurant().getName());
         assertEquals("Rua dos Pinheiros, 789", response.getRestaurant().getAddress());
 
-        verify(restaurantRepository).findByMenuItemId(itemId);
+        verify(restaurantRepository).findWithMenuItem(itemId);
     }
 
     @Test
     void shouldThrowNotFoundExceptionWhenMenuItemNotExistsForGet() {
         // Given
         String nonExistentItemId = UUID.randomUUID().toString();
-        when(restaurantRepository.findByMenuItemId(nonExistentItemId)).thenReturn(Optional.empty());
+        when(restaurantRepository.findWithMenuItem(nonExistentItemId)).thenReturn(Optional.empty());
 
         // When & Then
         assertThrows(NotFoundException.class, () -> {
             menuItemUseCase.getMenuItemById(nonExistentItemId);
         });
 
-        verify(restaurantRepository).findByMenuItemId(nonExistentItemId);
+        verify(restaurantRepository).findWithMenuItem(nonExistentItemId);
     }
 
     @Test
@@ -281,8 +334,8 @@ class MenuItemUseCaseTest {
             .isActive(null) // Should default to true
             .build();
 
-        when(restaurantRepository.findById(restaurantId)).thenReturn(Optional.of(restaurantEntity));
-        when(restaurantRepository.save(any(RestaurantEntity.class))).thenReturn(restaurantEntity);
+        when(restaurantRepository.pushMenuItem(eq(restaurantId), eq(menuId), any(MenuItemEntity.class), any(LocalDateTime.class)))
+            .thenReturn(true);
 
         // When
         MenuItemResponse response = menuItemUseCase.createMenuItem(restaurantId, menuId, requestWithNulls);
@@ -293,45 +346,225 @@ class MenuItemUseCaseTest {
         assertEquals(false, response.getOnlyForLocalConsumption()); // Default value
         assertEquals(true, response.getIsActive()); // Default value
 
-        verify(restaurantRepository).findById(restaurantId);
-        verify(restaurantRepository).save(any(RestaurantEntity.class));
+        ArgumentCaptor<MenuItemEntity> pushed = ArgumentCaptor.forClass(MenuItemEntity.class);
+        verify(restaurantRepository).pushMenuItem(eq(restaurantId), eq(menuId), pushed.capture(), any(LocalDateTime.class));
+        assertEquals(false, pushed.getValue().getOnlyForLocalConsumption());
+        assertEquals(true, pushed.getValue().getIsActive());
     }
 
     @Test
-    void shouldCreateMenuItemInCategoryWithoutExistingItems() {
+    void shouldKeepFlagsWhenUpdateRequestOmitsThem() {
         // Given
-        MenuCategoryEntity emptyCategory = MenuCategoryEntity.builder()
-            .id(menuId)
-            .type("Sobremesa")
-            .items(null) // Sem itens existentes
+        MenuItemRequest requestWithoutFlags = MenuItemRequest.builder()
+            .name("X-Bacon Duplo")
+            .price(new BigDecimal("29.90"))
             .build();
 
-        RestaurantEntity restaurantWithEmptyCategory = RestaurantEntity.builder()
+        when(restaurantRepository.updateMenuItem(eq(restaurantId), eq(menuId), any(MenuItemEntity.class), isNull(), any(LocalDateTime.class)))
+            .thenAnswer(invocation -> Optional.of(invocation.getArgument(2)));
+
+        // When
+        menuItemUseCase.updateMenuItem(restaurantId, menuId, itemId, requestWithoutFlags);
+
+        // Then
+        ArgumentCaptor<MenuItemEntity> changes = ArgumentCaptor.forClass(MenuItemEntity.class);
+        verify(restaurantRepository).updateMenuItem(eq(restaurantId), eq(menuId), changes.capture(), isNull(), any(LocalDateTime.class));
+        assertEquals(itemId, changes.getValue().getId());
+        assertNull(changes.getValue().getOnlyForLocalConsumption());
+        assertNull(changes.getValue().getIsActive());
+    }
+
+    @Test
+    void shouldServeRepeatedMenuItemLookupsFromCache() {
+        // Given
+        when(restaurantRepository.findWithMenuItem(itemId)).thenReturn(Optional.of(restaurantEntity));
+
+        // When
+        menuItemUseCase.getMenuItemById(itemId);
+        MenuItemWithContextDTO response = menuItemUseCase.getMenuItemById(itemId).body();
+
+        // Then
+        assertEquals(itemId, response.getId());
+        verify(restaurantRepository, times(1)).findWithMenuItem(itemId);
+    }
+
+    @Test
+    void shouldReloadMenuItemContextAfterRestaurantChanges() {
+        // Given
+        when(restaurantRepository.findWithMenuItem(itemId)).thenReturn(Optional.of(restaurantEntity));
+        menuItemUseCase.getMenuItemById(itemId);
+
+        // When
+        restaurantCache.onRestaurantChanged(new RestaurantChangedEvent(restaurantId));
+        menuItemUseCase.getMenuItemById(itemId);
+
+        // Then
+        verify(restaurantRepository, times(2)).findWithMenuItem(itemId);
+        verify(restaurantRepository, never()).findById(any());
+    }
+
+    @Test
+    void shouldNotCacheMenuItemContextLoadedBeforeConcurrentChange() {
+        // Given
+        when(restaurantRepository.findWithMenuItem(itemId)).thenAnswer(invocation -> {
+            restaurantCache.onRestaurantChanged(new RestaurantChangedEvent(restaurantId));
+            return Optional.of(restaurantEntity);
+        }).thenReturn(Optional.of(restaurantEntity));
+
+        // When
+        MenuItemWithContextDTO response = menuItemUseCase.getMenuItemById(itemId).body();
+        menuItemUseCase.getMenuItemById(itemId);
+        menuItemUseCase.getMenuItemById(itemId);
+
+        // Then
+        assertEquals(itemId, response.getId());
+        verify(restaurantRepository, times(2)).findWithMenuItem(itemId);
+    }
+
+    @Test
+    void shouldTouchLastUpdateWhenMenuItemChanges() {
+        // Given
+        LocalDateTime before = LocalDateTime.now();
+        when(restaurantRepository.pullMenuItem(eq(restaurantId), eq(menuId), eq(itemId), isNull(), any(LocalDateTime.class)))
+            .thenReturn(true);
+
+        // When
+        menuItemUseCase.deleteMenuItem(restaurantId, menuId, itemId);
+
+        // Then
+        ArgumentCaptor<LocalDateTime> lastUpdate = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(restaurantRepository).pullMenuItem(eq(restaurantId), eq(menuId), eq(itemId), isNull(), lastUpdate.capture());
+        assertFalse(lastUpdate.getValue().isBefore(before));
+    }
+
+    @Test
+    void shouldResolveMenuItemVersionFromProjection() {
+        // Given
+        RestaurantEntity projection = RestaurantEntity.builder()
             .id(restaurantId)
-            .name("Restaurante Teste")
-            .address("Rua Teste, 123")
-            .kitchenType(KitchenTypeEntity.builder().id(kitchenTypeId).name("Brasileira").build())
-            .daysOperation(List.of(new OperationDaysTimeData(DayEnum.MONDAY, "08:00", "18:00")))
-            .ownerId(ownerId)
-            .isActive(true)
-            .menu(List.of(emptyCategory))
-            .lastUpdate(LocalDateTime.now())
-            .createdAt(LocalDateTime.now())
+            .version(restaurantEntity.getVersion())
             .build();
+        when(restaurantRepository.findVersionByMenuItemId(itemId)).thenReturn(Optional.of(projection));
+
+        // When
+        Optional<String> version = menuItemUseCase.getMenuItemVersion(itemId);
 
-        when(restaurantRepository.findById(restaurantId)).thenReturn(Optional.of(restaurantWithEmptyCategory));
-        when(restaurantRepository.save(any(RestaurantEntity.class))).thenReturn(restaurantWithEmptyCategory);
+        // Then
+        assertEquals(Optional.of(Versioned.versionOf(restaurantEntity)), version);
+        verify(restaurantRepository, never()).findWithMenuItem(any());
+    }
+
+    @Test
+    void shouldRejectItemDeleteWhenIfMatchVersionIsStale() {
+        // Given
+        restaurantEntity.setVersion(5L);
+        when(restaurantRepository.pullMenuItem(eq(restaurantId), eq(menuId), eq(itemId), eq(4L), any(LocalDateTime.class)))
+            .thenReturn(false);
+        when(restaurantRepository.findVersionById(restaurantId)).thenReturn(Optional.of(restaurantEntity));
+
+        // When & Then
+        assertThrows(PreconditionFailedException.class, () -> {
+            menuItemUseCase.deleteMenuItem(restaurantId, menuId, itemId, 4L);
+        });
+
+        verify(restaurantRepository, never()).existsByIdAndMenuId(any(), any());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    void shouldCreateValidItemsAndRejectInvalidOnesInBulk() {
+        // Given
+        String unknownMenuId = UUID.randomUUID().toString();
+        MenuItemRequest withoutPrice = MenuItemRequest.builder().name("Sem preço").build();
+        MenuItemBulkRequest request = MenuItemBulkRequest.builder()
+            .items(List.of(
+                new MenuItemBulkEntry(menuId, menuItemRequest),
+                new MenuItemBulkEntry(menuId, withoutPrice),
+                new MenuItemBulkEntry(unknownMenuId, menuItemRequest),
+                new MenuItemBulkEntry(menuId, menuItemRequest)))
+            .build();
+        when(restaurantRepository.findMenuCategoryIds(restaurantId)).thenReturn(Optional.of(restaurantEntity));
+        when(restaurantRepository.pushMenuItems(eq(restaurantId), anyMap(), eq(1L), any(LocalDateTime.class)))
+            .thenReturn(true);
 
         // When
-        MenuItemResponse response = menuItemUseCase.createMenuItem(restaurantId, menuId, menuItemRequest);
+        MenuItemBulkResponse response = menuItemUseCase.createMenuItems(restaurantId, request);
 
         // Then
-        assertNotNull(response);
-        assertEquals("Hambúrguer Artesanal", response.getName());
-        assertEquals(restaurantId, response.getRestaurantId());
-        assertEquals(menuId, response.getCategoryId());
+        assertEquals(2, response.getCreated());
+        assertEquals(2, response.getRejected());
+        assertEquals(MenuItemBulkResult.Status.CREATED, response.getResults().get(0).getStatus());
+        assertEquals(List.of("price: Preço é obrigatório"), response.getResults().get(1).getErrors());
+        assertEquals(List.of("menuId: Menu category not found with ID: " + unknownMenuId), response.getResults().get(2).getErrors());
+        assertEquals(3, response.getResults().get(3).getIndex());
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Map<String, List<MenuItemEntity>>> captor = ArgumentCaptor.forClass(Map.class);
+        verify(restaurantRepository).pushMenuItems(eq(restaurantId), captor.capture(), eq(1L), any(LocalDateTime.class));
+        assertEquals(2, captor.getValue().get(menuId).size());
+        verify(restaurantRepository, never()).save(any());
+        verify(eventPublisher).publishEvent(new RestaurantChangedEvent(restaurantId));
+    }
+
+    @Test
+    void shouldNotWriteWhenEveryBulkItemIsRejected() {
+        // Given
+        MenuItemBulkRequest request = MenuItemBulkRequest.builder()
+            .items(List.of(new MenuItemBulkEntry(menuId, null)))
+            .build();
+        when(restaurantRepository.findMenuCategoryIds(restaurantId)).thenReturn(Optional.of(restaurantEntity));
+
+        // When
+        MenuItemBulkResponse response = menuItemUseCase.createMenuItems(restaurantId, request);
+
+        // Then
+        assertEquals(0, response.getCreated());
+        assertEquals(1, response.getRejected());
+        verify(restaurantRepository, never()).pushMenuItems(any(), anyMap(), any(), any());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    void shouldRevalidateBulkWhenRestaurantChangesBeforeWrite() {
+        // Given
+        MenuItemBulkRequest request = MenuItemBulkRequest.builder()
+            .items(List.of(new MenuItemBulkEntry(menuId, menuItemRequest)))
+            .build();
+        RestaurantEntity changed = RestaurantEntity.builder()
+            .id(restaurantId)
+            .menu(restaurantEntity.getMenu())
+            .version(2L)
+            .build();
+        when(restaurantRepository.findMenuCategoryIds(restaurantId))
+            .thenReturn(Optional.of(restaurantEntity)).thenReturn(Optional.of(changed));
+        when(restaurantRepository.pushMenuItems(eq(restaurantId), anyMap(), eq(1L), any(LocalDateTime.class)))
+            .thenReturn(false);
+        when(restaurantRepository.pushMenuItems(eq(restaurantId), anyMap(), eq(2L), any(LocalDateTime.class)))
+            .thenReturn(true);
+
+        // When
+        MenuItemBulkResponse response = menuItemUseCase.createMenuItems(restaurantId, request);
+
+        // Then
+        assertEquals(1, response.getCreated());
+        verify(restaurantRepository, times(2)).findMenuCategoryIds(restaurantId);
+        verify(eventPublisher).publishEvent(new RestaurantChangedEvent(restaurantId));
+    }
+
+    @Test
+    void shouldThrowNotFoundExceptionWhenRestaurantNotExistsForBulk() {
+        // Given
+        MenuItemBulkRequest request = MenuItemBulkRequest.builder()
+            .items(List.of(new MenuItemBulkEntry(menuId, menuItemRequest)))
+            .build();
+        when(restaurantRepository.findMenuCategoryIds(restaurantId)).thenReturn(Optional.empty());
+
+        // When & Then
+        NotFoundException exception = assertThrows(NotFoundException.class, () -> {
+            menuItemUseCase.createMenuItems(restaurantId, request);
+        });
 
-        verify(restaurantRepository).findById(restaurantId);
-        verify(restaurantRepository).save(any(RestaurantEntity.class));
+        assertEquals("Restaurant not found with ID: " + restaurantId, exception.getMessage());
+        verify(eventPublisher, never()).publishEvent(any());
     }
 }
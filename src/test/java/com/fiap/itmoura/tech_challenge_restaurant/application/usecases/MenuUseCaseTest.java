@@ -2,8 +2,11 @@ package com.fiap.itmoura.tech_challenge_restaurant.application.usecases;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
@@ -12,10 +15,16 @@ import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.util.unit.DataSize;
 
+import com.fiap.itmoura.tech_challenge_restaurant.application.cache.RestaurantCache;
+import com.fiap.itmoura.tech_challenge_restaurant.application.cache.RestaurantCacheProperties;
+import com.fiap.itmoura.tech_challenge_restaurant.application.concurrency.OptimisticWriteRetry;
+import com.fiap.itmoura.tech_challenge_restaurant.application.concurrency.WriteRetryProperties;
 import com.fiap.itmoura.tech_challenge_restaurant.application.models.menu.MenuCategoryRequest;
 import com.fiap.itmoura.tech_challenge_restaurant.application.models.menu.MenuCategoryResponse;
 import com.fiap.itmoura.tech_challenge_restaurant.application.ports.out.RestaurantRepository;
@@ -24,7 +33,11 @@ import com.fiap.itmoura.tech_challenge_restaurant.domain.entities.KitchenTypeEnt
 import com.fiap.itmoura.tech_challenge_restaurant.domain.entities.MenuCategoryEntity;
 import com.fiap.itmoura.tech_challenge_restaurant.domain.entities.OperationDaysTimeData;
 import com.fiap.itmoura.tech_challenge_restaurant.domain.entities.RestaurantEntity;
+import com.fiap.itmoura.tech_challenge_restaurant.domain.events.RestaurantChangedEvent;
 import com.fiap.itmoura.tech_challenge_restaurant.domain.exceptions.NotFoundException;
+import com.fiap.itmoura.tech_challenge_restaurant.domain.exceptions.PreconditionFailedException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 @ExtendWith(MockitoExtension.class)
 class MenuUseCaseTest {
@@ -32,7 +45,10 @@ class MenuUseCaseTest {
     @Mock
     private RestaurantRepository restaurantRepository;
 
-    @InjectMocks
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private RestaurantCache restaurantCache;
     private MenuUseCase menuUseCase;
 
     private RestaurantEntity restaurantEntity;
@@ -44,6 +60,11 @@ class MenuUseCaseTest {
 
     @BeforeEach
     void setUp() {
+        restaurantCache = new RestaurantCache(restaurantRepository,
+            new RestaurantCacheProperties(1_000, Duration.ofMinutes(5), 1_000, DataSize.ofMegabytes(1)), new SimpleMeterRegistry());
+        menuUseCase = new MenuUseCase(restaurantRepository, restaurantCache, eventPublisher,
+            new OptimisticWriteRetry(new WriteRetryProperties(3, Duration.ZERO, Duration.ZERO), new SimpleMeterRegistry()));
+
         restaurantId = UUID.randomUUID().toString();
         menuId = UUID.randomUUID().toString();
         kitchenTypeId = UUID.randomUUID().toString();
@@ -76,14 +97,15 @@ class MenuUseCaseTest {
             .menu(List.of(existingCategory))
             .lastUpdate(LocalDateTime.now())
             .createdAt(LocalDateTime.now())
+            .version(1L)
             .build();
     }
 
     @Test
     void shouldCreateMenuCategorySuccessfully() {
         // Given
-        when(restaurantRepository.findById(restaurantId)).thenReturn(Optional.of(restaurantEntity));
-        when(restaurantRepository.save(any(RestaurantEntity.class))).thenReturn(restaurantEntity);
+        when(restaurantRepository.pushMenuCategory(eq(restaurantId), any(MenuCategoryEntity.class), any(LocalDateTime.class)))
+            .thenReturn(true);
 
         // When
         MenuCategoryResponse response = menuUseCase.createMenuCategory(restaurantId, menuCategoryRequest);
@@ -95,22 +117,23 @@ class MenuUseCaseTest {
         assertNotNull(response.getId());
         assertNotNull(response.getItems());
 
-        verify(restaurantRepository).findById(restaurantId);
-        verify(restaurantRepository).save(any(RestaurantEntity.class));
+        verify(restaurantRepository, never()).findById(any());
+        verify(restaurantRepository, never()).save(any());
+        verify(eventPublisher).publishEvent(new RestaurantChangedEvent(restaurantId));
     }
 
     @Test
     void shouldThrowNotFoundExceptionWhenRestaurantNotExistsForCreate() {
         // Given
-        when(restaurantRepository.findById(restaurantId)).thenReturn(Optional.empty());
+        when(restaurantRepository.pushMenuCategory(eq(restaurantId), any(MenuCategoryEntity.class), any(LocalDateTime.class)))
+            .thenReturn(false);
 
         // When & Then
         assertThrows(NotFoundException.class, () -> {
             menuUseCase.createMenuCategory(restaurantId, menuCategoryRequest);
         });
 
-        verify(restaurantRepository).findById(restaurantId);
-        verify(restaurantRepository, never()).save(any());
+        verify(eventPublisher, never()).publishEvent(any());
     }
 
     @Test
@@ -120,8 +143,14 @@ class MenuUseCaseTest {
             .type("Lanche Atualizado")
             .build();
 
-        when(restaurantRepository.findById(restaurantId)).thenReturn(Optional.of(restaurantEntity));
-        when(restaurantRepository.save(any(RestaurantEntity.class))).thenReturn(restaurantEntity);
+        MenuCategoryEntity updatedCategory = MenuCategoryEntity.builder()
+            .id(menuId)
+            .type("Lanche Atualizado")
+            .items(List.of())
+            .build();
+
+        when(restaurantRepository.updateMenuCategoryType(eq(restaurantId), eq(menuId), eq("Lanche Atualizado"), isNull(), any(LocalDateTime.class)))
+            .thenReturn(Optional.of(updatedCategory));
 
         // When
         MenuCategoryResponse response = menuUseCase.updateMenuCategory(restaurantId, menuId, updateRequest);
@@ -132,61 +161,67 @@ class MenuUseCaseTest {
         assertEquals(restaurantId, response.getRestaurantId());
         assertEquals(menuId, response.getId());
 
-        verify(restaurantRepository).findById(restaurantId);
-        verify(restaurantRepository).save(any(RestaurantEntity.class));
+        verify(restaurantRepository, never()).findById(any());
+        verify(restaurantRepository, never()).save(any());
+        verify(eventPublisher).publishEvent(new RestaurantChangedEvent(restaurantId));
     }
 
     @Test
     void shouldThrowNotFoundExceptionWhenMenuCategoryNotExistsForUpdate() {
         // Given
         String nonExistentMenuId = UUID.randomUUID().toString();
-        when(restaurantRepository.findById(restaurantId)).thenReturn(Optional.of(restaurantEntity));
+        when(restaurantRepository.updateMenuCategoryType(eq(restaurantId), eq(nonExistentMenuId), any(), isNull(), any(LocalDateTime.class)))
+            .thenReturn(Optional.empty());
+        when(restaurantRepository.findVersionById(restaurantId)).thenReturn(Optional.of(restaurantEntity));
 
         // When & Then
-        assertThrows(NotFoundException.class, () -> {
+        NotFoundException exception = assertThrows(NotFoundException.class, () -> {
             menuUseCase.updateMenuCategory(restaurantId, nonExistentMenuId, menuCategoryRequest);
         });
 
-        verify(restaurantRepository).findById(restaurantId);
-        verify(restaurantRepository, never()).save(any());
+        assertEquals("Menu category not found with ID: " + nonExistentMenuId, exception.getMessage());
+        verify(eventPublisher, never()).publishEvent(any());
     }
 
     @Test
     void shouldDeleteMenuCategorySuccessfully() {
         // Given
-        when(restaurantRepository.findById(restaurantId)).thenReturn(Optional.of(restaurantEntity));
-        when(restaurantRepository.save(any(RestaurantEntity.class))).thenReturn(restaurantEntity);
+        when(restaurantRepository.pullMenuCategory(eq(restaurantId), eq(menuId), isNull(), any(LocalDateTime.class)))
+            .thenReturn(true);
 
         // When
         menuUseCase.deleteMenuCategory(restaurantId, menuId);
 
         // Then
-        verify(restaurantRepository).findById(restaurantId);
-        verify(restaurantRepository).save(any(RestaurantEntity.class));
+        verify(restaurantRepository).pullMenuCategory(eq(restaurantId), eq(menuId), isNull(), any(LocalDateTime.class));
+        verify(restaurantRepository, never()).save(any());
+        verify(eventPublisher).publishEvent(new RestaurantChangedEvent(restaurantId));
     }
 
     @Test
     void shouldThrowNotFoundExceptionWhenMenuCategoryNotExistsForDelete() {
         // Given
         String nonExistentMenuId = UUID.randomUUID().toString();
-        when(restaurantRepository.findById(restaurantId)).thenReturn(Optional.of(restaurantEntity));
+        when(restaurantRepository.pullMenuCategory(eq(restaurantId), eq(nonExistentMenuId), isNull(), any(LocalDateTime.class)))
+            .thenReturn(false);
+        when(restaurantRepository.findVersionById(restaurantId)).thenReturn(Optional.empty());
 
         // When & Then
-        assertThrows(NotFoundException.class, () -> {
+        NotFoundException exception = assertThrows(NotFoundException.class, () -> {
             menuUseCase.deleteMenuCategory(restaurantId, nonExistentMenuId);
         });
 
-        verify(restaurantRepository).findById(restaurantId);
-        verify(restaurantRepository, never()).save(any());
+        assertEquals("Restaurant not found with ID: " + restaurantId, exception.getMessage());
+        verify(eventPublisher, never()).publishEvent(any());
     }
 
     @Test
     void shouldGetMenuCategorySuccessfully() {
         // Given
-        when(restaurantRepository.findById(restaurantId)).thenReturn(Optional.of(restaurantEntity));
+        when(restaurantRepository.findWithMenuCategory(restaurantId, menuId)).thenReturn(Optional.of(restaurantEntity));
 
         // When
-        MenuCategoryResponse response = menuUseCase.getMenuCategory(restaurantId, menuId);
+        MenuCategoryResponse response = menuUseCase.getMenuCategory(restaurantId, menuId).body();
 
         // Then
         assertNotNull(response);
@@ -194,64 +229,104 @@ class MenuUseCaseTest {
         assertEquals(restaurantId, response.getRestaurantId());
         assertEquals(menuId, response.getId());
 
-        verify(restaurantRepository).findById(restaurantId);
+        verify(restaurantRepository).findWithMenuCategory(restaurantId, menuId);
+        verify(restaurantRepository, never()).findById(any());
     }
 
     @Test
     void shouldThrowNotFoundExceptionWhenRestaurantNotExistsForGet() {
         // Given
-        when(restaurantRepository.findById(restaurantId)).thenReturn(Optional.empty());
+        when(restaurantRepository.findWithMenuCategory(restaurantId, menuId)).thenReturn(Optional.empty());
 
         // When & Then
         assertThrows(NotFoundException.class, () -> {
             menuUseCase.getMenuCategory(restaurantId, menuId);
         });
 
-        verify(restaurantRepository).findById(restaurantId);
+        verify(restaurantRepository).findWithMenuCategory(restaurantId, menuId);
     }
 
     @Test
     void shouldThrowNotFoundExceptionWhenMenuCategoryNotExistsForGet() {
         // Given
         String nonExistentMenuId = UUID.randomUUID().toString();
-        when(restaurantRepository.findById(restaurantId)).thenReturn(Optional.of(restaurantEntity));
+        RestaurantEntity projection = RestaurantEntity.builder()
+            .id(restaurantId)
+            .version(restaurantEntity.getVersion())
+            .build();
+        when(restaurantRepository.findWithMenuCategory(restaurantId, nonExistentMenuId)).thenReturn(Optional.of(projection));
 
         // When & Then
-        assertThrows(NotFoundException.class, () -> {
+        NotFoundException exception = assertThrows(NotFoundException.class, () -> {
             menuUseCase.getMenuCategory(restaurantId, nonExistentMenuId);
         });
 
-        verify(restaurantRepository).findById(restaurantId);
+        assertEquals("Menu category not found with ID: " + nonExistentMenuId, exception.getMessage());
     }
 
     @Test
-    void shouldCreateMenuCategoryInRestaurantWithoutExistingMenu() {
+    void shouldCreateMenuCategoryWithEmptyItemList() {
         // Given
-        RestaurantEntity restaurantWithoutMenu = RestaurantEntity.builder()
-            .id(restaurantId)
-            .name("Restaurante Novo")
-            .address("Rua Nova, 456")
-            .kitchenType(KitchenTypeEntity.builder().id(kitchenTypeId).name("Italiana").build())
-            .daysOperation(List.of(new OperationDaysTimeData(DayEnum.MONDAY, "08:00", "18:00")))
-            .ownerId(ownerId)
-            .isActive(true)
-            .menu(null) // Sem menu existente
-            .lastUpdate(LocalDateTime.now())
-            .createdAt(LocalDateTime.now())
-            .build();
+        when(restaurantRepository.pushMenuCategory(eq(restaurantId), any(MenuCategoryEntity.class), any(LocalDateTime.class)))
+            .thenReturn(true);
+
+        // When
+        menuUseCase.createMenuCategory(restaurantId, menuCategoryRequest);
+
+        // Then
+        ArgumentCaptor<MenuCategoryEntity> pushed = ArgumentCaptor.forClass(MenuCategoryEntity.class);
+        verify(restaurantRepository).pushMenuCategory(eq(restaurantId), pushed.capture(), any(LocalDateTime.class));
+        assertEquals("Lanche", pushed.getValue().getType());
+        assertEquals(List.of(), pushed.getValue().getItems());
+    }
 
-        when(restaurantRepository.findById(restaurantId)).thenReturn(Optional.of(restaurantWithoutMenu));
-        when(restaurantRepository.save(any(RestaurantEntity.class))).thenReturn(restaurantWithoutMenu);
+    @Test
+    void shouldServeMenuCategoryFromCachedRestaurantUntilItChanges() {
+        // Given
+        when(restaurantRepository.findById(restaurantId)).thenReturn(Optional.of(restaurantEntity));
+        when(restaurantRepository.findWithMenuCategory(restaurantId, menuId)).thenReturn(Optional.of(restaurantEntity));
+        restaurantCache.findById(restaurantId);
 
         // When
-        MenuCategoryResponse response = menuUseCase.createMenuCategory(restaurantId, menuCategoryRequest);
+        menuUseCase.getMenuCategory(restaurantId, menuId);
+        menuUseCase.getMenuCategory(restaurantId, menuId);
+        restaurantCache.onRestaurantChanged(new RestaurantChangedEvent(restaurantId));
+        menuUseCase.getMenuCategory(restaurantId, menuId);
 
         // Then
-        assertNotNull(response);
-        assertEquals("Lanche", response.getType());
-        assertEquals(restaurantId, response.getRestaurantId());
+        verify(restaurantRepository, times(1)).findById(restaurantId);
+        verify(restaurantRepository, times(1)).findWithMenuCategory(restaurantId, menuId);
+    }
+
+    @Test
+    void shouldTouchLastUpdateWhenMenuCategoryChanges() {
+        // Given
+        LocalDateTime before = LocalDateTime.now();
+        when(restaurantRepository.pullMenuCategory(eq(restaurantId), eq(menuId), isNull(), any(LocalDateTime.class)))
+            .thenReturn(true);
+
+        // When
+        menuUseCase.deleteMenuCategory(restaurantId, menuId);
+
+        // Then
+        ArgumentCaptor<LocalDateTime> lastUpdate = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(restaurantRepository).pullMenuCategory(eq(restaurantId), eq(menuId), isNull(), lastUpdate.capture());
+        assertFalse(lastUpdate.getValue().isBefore(before));
+    }
+
+    @Test
+    void shouldRejectCategoryUpdateWhenIfMatchVersionIsStale() {
+        // Given
+        restaurantEntity.setVersion(5L);
+        when(restaurantRepository.updateMenuCategoryType(eq(restaurantId), eq(menuId), any(), eq(4L), any(LocalDateTime.class)))
+            .thenReturn(Optional.empty());
+        when(restaurantRepository.findVersionById(restaurantId)).thenReturn(Optional.of(restaurantEntity));
+
+        // When & Then
+        assertThrows(PreconditionFailedException.class, () -> {
+            menuUseCase.updateMenuCategory(restaurantId, menuId, menuCategoryRequest, 4L);
+        });
 
-        verify(restaurantRepository).findById(restaurantId);
-        verify(restaurantRepository).save(any(RestaurantEntity.class));
+        verify(eventPublisher, never()).publishEvent(any());
     }
 }
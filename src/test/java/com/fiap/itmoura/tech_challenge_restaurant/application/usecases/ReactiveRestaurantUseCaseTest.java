@@ -0,0 +1,230 @@
+package com.fiap.itmoura.tech_challenge_restaurant.application.usecases;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+import com.fiap.itmoura.tech_challenge_restaurant.application.models.pagination.CursorPageRequest;
+import com.fiap.itmoura.tech_challenge_restaurant.application.ports.out.ReactiveRestaurantRepository;
+import com.fiap.itmoura.tech_challenge_restaurant.domain.entities.KitchenTypeEntity;
+import com.fiap.itmoura.tech_challenge_restaurant.domain.entities.MenuCategoryEntity;
+import com.fiap.itmoura.tech_challenge_restaurant.domain.entities.MenuItemEntity;
+import com.fiap.itmoura.tech_challenge_restaurant.domain.entities.RestaurantEntity;
+import com.fiap.itmoura.tech_challenge_restaurant.domain.exceptions.BadRequestException;
+import com.fiap.itmoura.tech_challenge_restaurant.domain.exceptions.NotFoundException;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveRestaurantUseCaseTest {
+
+    @Mock
+    private ReactiveRestaurantRepository restaurantRepository;
+
+    private ReactiveRestaurantUseCase reactiveRestaurantUseCase;
+
+    private RestaurantEntity restaurantEntity;
+    private String restaurantId;
+    private String menuId;
+    private String itemId;
+
+    @BeforeEach
+    void setUp() {
+        reactiveRestaurantUseCase = new ReactiveRestaurantUseCase(restaurantRepository);
+
+        restaurantId = UUID.randomUUID().toString();
+        menuId = UUID.randomUUID().toString();
+        itemId = UUID.randomUUID().toString();
+
+        MenuItemEntity item = MenuItemEntity.builder()
+            .id(itemId)
+            .name("X-Bacon")
+            .description("Hambúrguer com bacon")
+            .price(new BigDecimal("22.50"))
+            .onlyForLocalConsumption(false)
+            .isActive(true)
+            .build();
+
+        restaurantEntity = RestaurantEntity.builder()
+            .id(restaurantId)
+            .name("Burger House")
+            .address("Rua dos Pinheiros, 789")
+            .kitchenType(KitchenTypeEntity.builder().id(UUID.randomUUID().toString()).name("Americana").build())
+            .ownerId(UUID.randomUUID().toString())
+            .isActive(true)
+            .menu(List.of(MenuCategoryEntity.builder()
+                .id(menuId)
+                .type("Lanche")
+                .items(List.of(item))
+                .build()))
+            .lastUpdate(LocalDateTime.now())
+            .createdAt(LocalDateTime.now())
+            .version(3L)
+            .build();
+    }
+
+    @Test
+    void shouldReturnPageWithNextCursorFromLimitPlusOneWindow() {
+        // Given
+        RestaurantEntity nextRestaurant = restaurantWithId(restaurantId + "-next");
+        when(restaurantRepository.findBasicBy(any(Pageable.class)))
+            .thenReturn(Flux.just(restaurantEntity, nextRestaurant));
+
+        // When & Then
+        StepVerifier.create(reactiveRestaurantUseCase.getAllRestaurants(null, 1))
+            .assertNext(page -> {
+                assertEquals(1, page.items().size());
+                assertEquals(restaurantId, page.items().get(0).id());
+                assertEquals(CursorPageRequest.encode(restaurantId), page.nextCursor());
+            })
+            .verifyComplete();
+
+        ArgumentCaptor<Pageable> pageable = ArgumentCaptor.forClass(Pageable.class);
+        verify(restaurantRepository).findBasicBy(pageable.capture());
+        assertEquals(2, pageable.getValue().getPageSize());
+    }
+
+    @Test
+    void shouldContinueFromCursorOnActiveRestaurants() {
+        // Given
+        String cursor = CursorPageRequest.encode(restaurantId);
+        when(restaurantRepository.findBasicByIsActiveTrueAndIdGreaterThan(eq(restaurantId), any(Pageable.class)))
+            .thenReturn(Flux.empty());
+
+        // When & Then
+        StepVerifier.create(reactiveRestaurantUseCase.getAllActiveRestaurants(cursor, 10))
+            .assertNext(page -> {
+                assertTrue(page.items().isEmpty());
+                assertFalse(page.hasNext());
+            })
+            .verifyComplete();
+
+        verify(restaurantRepository, never()).findBasicByIsActiveTrue(any(Pageable.class));
+    }
+
+    @Test
+    void shouldRejectInvalidLimit() {
+        // When & Then
+        assertThrows(BadRequestException.class, () -> reactiveRestaurantUseCase.getAllRestaurants(null, 0));
+        verifyNoInteractions(restaurantRepository);
+    }
+
+    @Test
+    void shouldReturnRestaurantWithVersion() {
+        // Given
+        when(restaurantRepository.findById(restaurantId)).thenReturn(Mono.just(restaurantEntity));
+
+        // When & Then
+        StepVerifier.create(reactiveRestaurantUseCase.getRestaurantById(restaurantId))
+            .assertNext(response -> {
+                assertEquals("3", response.version());
+                assertEquals("Burger House", response.body().name());
+            })
+            .verifyComplete();
+    }
+
+    @Test
+    void shouldSignalNotFoundWhenRestaurantNotExists() {
+        // Given
+        when(restaurantRepository.findById(restaurantId)).thenReturn(Mono.empty());
+
+        // When & Then
+        StepVerifier.create(reactiveRestaurantUseCase.getRestaurantById(restaurantId))
+            .expectError(NotFoundException.class)
+            .verify();
+    }
+
+    @Test
+    void shouldReturnMenuCategoryFromProjection() {
+        // Given
+        when(restaurantRepository.findWithMenuCategory(restaurantId, menuId)).thenReturn(Mono.just(restaurantEntity));
+
+        // When & Then
+        StepVerifier.create(reactiveRestaurantUseCase.getMenuCategory(restaurantId, menuId))
+            .assertNext(response -> {
+                assertEquals("3", response.version());
+                assertEquals("Lanche", response.body().getType());
+            })
+            .verifyComplete();
+    }
+
+    @Test
+    void shouldSignalNotFoundWhenMenuCategoryNotExists() {
+        // Given
+        RestaurantEntity withoutCategory = restaurantWithId(restaurantId);
+        withoutCategory.setMenu(null);
+        when(restaurantRepository.findWithMenuCategory(restaurantId, menuId)).thenReturn(Mono.just(withoutCategory));
+
+        // When & Then
+        StepVerifier.create(reactiveRestaurantUseCase.getMenuCategory(restaurantId, menuId))
+            .expectErrorMatches(error -> error instanceof NotFoundException
+                && error.getMessage().contains("Menu category"))
+            .verify();
+    }
+
+    @Test
+    void shouldReturnMenuItemWithContext() {
+        // Given
+        when(restaurantRepository.findWithMenuItem(itemId)).thenReturn(Mono.just(restaurantEntity));
+
+        // When & Then
+        StepVerifier.create(reactiveRestaurantUseCase.getMenuItemById(itemId))
+            .assertNext(response -> {
+                assertEquals("3", response.version());
+                assertEquals(itemId, response.body().getId());
+                assertEquals(menuId, response.body().getCategory().getId());
+                assertEquals("Burger House", response.body().getRestaurant().getName());
+            })
+            .verifyComplete();
+    }
+
+    @Test
+    void shouldSignalNotFoundWhenMenuItemNotExists() {
+        // Given
+        when(restaurantRepository.findWithMenuItem(itemId)).thenReturn(Mono.empty());
+
+        // When & Then
+        StepVerifier.create(reactiveRestaurantUseCase.getMenuItemById(itemId))
+            .expectError(NotFoundException.class)
+            .verify();
+    }
+
+    @Test
+    void shouldStreamRestaurantsWithMenu() {
+        // Given
+        when(restaurantRepository.findAll()).thenReturn(Flux.just(restaurantEntity, restaurantWithId("other")));
+
+        // When & Then
+        StepVerifier.create(reactiveRestaurantUseCase.streamAllRestaurantsWithMenu())
+            .assertNext(response -> assertEquals(1, response.menu().size()))
+            .assertNext(response -> assertEquals("other", response.id()))
+            .verifyComplete();
+    }
+
+    private RestaurantEntity restaurantWithId(String id) {
+        return RestaurantEntity.builder()
+            .id(id)
+            .name("Outro Restaurante")
+            .address("Rua B, 2")
+            .kitchenType(restaurantEntity.getKitchenType())
+            .isActive(true)
+            .version(1L)
+            .build();
+    }
+}
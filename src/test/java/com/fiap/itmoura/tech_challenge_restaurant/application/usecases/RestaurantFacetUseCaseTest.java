@@ -0,0 +1,149 @@
+package com.fiap.itmoura.tech_challenge_restaurant.application.usecases;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.fiap.itmoura.tech_challenge_restaurant.application.cache.RestaurantFacetCache;
+import com.fiap.itmoura.tech_challenge_restaurant.application.cache.RestaurantFacetProperties;
+import com.fiap.itmoura.tech_challenge_restaurant.application.models.restaurant.RestaurantFacetCount;
+import com.fiap.itmoura.tech_challenge_restaurant.application.models.restaurant.RestaurantFacetFilter;
+import com.fiap.itmoura.tech_challenge_restaurant.application.models.restaurant.RestaurantFacets;
+import com.fiap.itmoura.tech_challenge_restaurant.application.ports.out.RestaurantRepository;
+import com.fiap.itmoura.tech_challenge_restaurant.application.ports.out.RestaurantRepositoryCustom.FacetedRestaurants;
+import com.fiap.itmoura.tech_challenge_restaurant.domain.entities.DayEnum;
+import com.fiap.itmoura.tech_challenge_restaurant.domain.entities.KitchenTypeEntity;
+import com.fiap.itmoura.tech_challenge_restaurant.domain.entities.RestaurantEntity;
+import com.fiap.itmoura.tech_challenge_restaurant.domain.events.RestaurantChangedEvent;
+import com.fiap.itmoura.tech_challenge_restaurant.domain.exceptions.BadRequestException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class RestaurantFacetUseCaseTest {
+
+    private static final List<BigDecimal> PRICE_BANDS = List.of(new BigDecimal("30"), new BigDecimal("60"));
+
+    @Mock
+    private RestaurantRepository restaurantRepository;
+
+    private RestaurantFacetCache facetCache;
+    private RestaurantFacetUseCase restaurantFacetUseCase;
+
+    private RestaurantFacets facets;
+
+    @BeforeEach
+    void setUp() {
+        RestaurantFacetProperties properties = new RestaurantFacetProperties(Duration.ofMinutes(1), 100, PRICE_BANDS);
+        facetCache = new RestaurantFacetCache(properties, new SimpleMeterRegistry());
+        restaurantFacetUseCase = new RestaurantFacetUseCase(restaurantRepository, facetCache, properties);
+
+        facets = new RestaurantFacets(
+            List.of(new RestaurantFacetCount(UUID.randomUUID().toString(), "Japonesa", 2)),
+            List.of(new RestaurantFacetCount("MONDAY", "MONDAY", 2)),
+            List.of(new RestaurantFacetCount("true", "true", 2)),
+            List.of(new RestaurantFacetCount("30-60", "30-60", 1), new RestaurantFacetCount("none", "none", 1)));
+    }
+
+    @Test
+    void shouldReturnPageAndFacetsFromSingleAggregationThenReuseCachedFacets() {
+        // Given
+        RestaurantFacetFilter filter = new RestaurantFacetFilter(null, DayEnum.MONDAY, true);
+        when(restaurantRepository.findFacetedPage(filter, null, 51, PRICE_BANDS, true))
+            .thenReturn(new FacetedRestaurants(List.of(restaurant("a"), restaurant("b")), facets));
+        when(restaurantRepository.findFacetedPage(filter, null, 51, PRICE_BANDS, false))
+            .thenReturn(new FacetedRestaurants(List.of(restaurant("a"), restaurant("b")), null));
+
+        // When
+        RestaurantFacetUseCase.FacetedPage first = restaurantFacetUseCase.getFacetedRestaurants(null, null, " ", "monday", true);
+        RestaurantFacetUseCase.FacetedPage second = restaurantFacetUseCase.getFacetedRestaurants(null, null, null, "MONDAY", true);
+
+        // Then
+        assertEquals(List.of("a", "b"), first.page().items().stream().map(restaurant -> restaurant.id()).toList());
+        assertFalse(first.page().hasNext());
+        assertEquals(facets, first.facets());
+        assertEquals(facets, second.facets());
+        verify(restaurantRepository, times(1)).findFacetedPage(filter, null, 51, PRICE_BANDS, true);
+        verify(restaurantRepository, times(1)).findFacetedPage(filter, null, 51, PRICE_BANDS, false);
+    }
+
+    @Test
+    void shouldReturnNextCursorWhenThereAreMoreRestaurants() {
+        // Given
+        when(restaurantRepository.findFacetedPage(any(), isNull(), eq(2), anyList(), anyBoolean()))
+            .thenReturn(new FacetedRestaurants(List.of(restaurant("a"), restaurant("b")), facets));
+
+        // When
+        RestaurantFacetUseCase.FacetedPage result = restaurantFacetUseCase.getFacetedRestaurants(null, 1, null, null, null);
+
+        // Then
+        assertEquals(1, result.page().items().size());
+        assertTrue(result.page().hasNext());
+    }
+
+    @Test
+    void shouldRecomputeFacetsAfterRestaurantChange() {
+        // Given
+        when(restaurantRepository.findFacetedPage(any(), isNull(), anyInt(), anyList(), eq(true)))
+            .thenReturn(new FacetedRestaurants(List.of(restaurant("a")), facets));
+        restaurantFacetUseCase.getFacetedRestaurants(null, null, null, null, null);
+
+        // When
+        facetCache.onRestaurantChanged(new RestaurantChangedEvent("a"));
+        restaurantFacetUseCase.getFacetedRestaurants(null, null, null, null, null);
+
+        // Then
+        verify(restaurantRepository, times(2)).findFacetedPage(any(), isNull(), anyInt(), anyList(), eq(true));
+    }
+
+    @Test
+    void shouldNotCacheFacetsComputedDuringWrite() {
+        // Given
+        RestaurantFacetFilter filter = new RestaurantFacetFilter(null, null, null);
+        when(restaurantRepository.findFacetedPage(any(), isNull(), anyInt(), anyList(), eq(true))).thenAnswer(invocation -> {
+            // Escrita concluída enquanto a agregação ainda rodava
+            facetCache.onRestaurantChanged(new RestaurantChangedEvent("a"));
+            return new FacetedRestaurants(List.of(restaurant("a")), facets);
+        });
+
+        // When
+        RestaurantFacetUseCase.FacetedPage result = restaurantFacetUseCase.getFacetedRestaurants(null, null, null, null, null);
+
+        // Then
+        assertEquals(facets, result.facets());
+        assertTrue(facetCache.getIfPresent(filter).isEmpty());
+    }
+
+    @Test
+    void shouldRejectInvalidDay() {
+        // When & Then
+        assertThrows(BadRequestException.class,
+            () -> restaurantFacetUseCase.getFacetedRestaurants(null, null, null, "FUNDAY", null));
+        verify(restaurantRepository, never()).findFacetedPage(any(), any(), anyInt(), anyList(), anyBoolean());
+    }
+
+    private static RestaurantEntity restaurant(String id) {
+        return RestaurantEntity.builder()
+            .id(id)
+            .name("Restaurante " + id)
+            .kitchenType(KitchenTypeEntity.builder().id(UUID.randomUUID().toString()).name("Japonesa").build())
+            .isActive(true)
+            .build();
+    }
+}
@@ -0,0 +1,189 @@
+package com.fiap.itmoura.tech_challenge_restaurant.application.usecases;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.util.unit.DataSize;
+
+import com.fiap.itmoura.tech_challenge_restaurant.application.cache.RestaurantCache;
+import com.fiap.itmoura.tech_challenge_restaurant.application.cache.RestaurantCacheProperties;
+import com.fiap.itmoura.tech_challenge_restaurant.application.cache.RestaurantResponseCache;
+import com.fiap.itmoura.tech_challenge_restaurant.application.concurrency.OptimisticWriteRetry;
+import com.fiap.itmoura.tech_challenge_restaurant.application.concurrency.WriteRetryProperties;
+import com.fiap.itmoura.tech_challenge_restaurant.application.imports.RestaurantImportProperties;
+import com.fiap.itmoura.tech_challenge_restaurant.application.openinghours.OpenRestaurantsCache;
+import com.fiap.itmoura.tech_challenge_restaurant.application.models.kitchentype.KitchenTypeResponse;
+import com.fiap.itmoura.tech_challenge_restaurant.application.models.restaurant.RestaurantImportLine;
+import com.fiap.itmoura.tech_challenge_restaurant.application.models.restaurant.RestaurantImportSummary;
+import com.fiap.itmoura.tech_challenge_restaurant.application.ports.out.RestaurantRepository;
+import com.fiap.itmoura.tech_challenge_restaurant.application.search.RestaurantSearchIndex;
+import com.fiap.itmoura.tech_challenge_restaurant.domain.entities.RestaurantEntity;
+import com.fiap.itmoura.tech_challenge_restaurant.domain.exceptions.NotFoundException;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.Validation;
+
+@ExtendWith(MockitoExtension.class)
+class RestaurantImportUseCaseTest {
+
+    private static final String VALID = "{\"name\":\"%s\",\"address\":\"Rua das Flores, 123\","
+        + "\"kitchenType\":{\"name\":\"%s\"},\"daysOperation\":[{\"day\":\"MONDAY\",\"openingHours\":\"08:00\","
+        + "\"closingHours\":\"18:00\"}],\"ownerId\":\"" + UUID.randomUUID() + "\"}";
+
+    @Mock
+    private RestaurantRepository restaurantRepository;
+
+    @Mock
+    private KitchenTypeUseCase kitchenTypeUseCase;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private RestaurantSearchIndex searchIndex;
+
+    @Mock
+    private OpenRestaurantsCache openRestaurantsCache;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    private List<RestaurantImportLine> report;
+
+    @BeforeEach
+    void setUp() {
+        report = new ArrayList<>();
+    }
+
+    @Test
+    void shouldReportEveryLineAndInsertValidRestaurantsInBatches() {
+        // Given
+        String ndjson = String.join("\n",
+            VALID.formatted("Sushi Bar", "Japonesa"),
+            "{\"name\":\"Sem dono\",\"address\":\"Rua A\",\"kitchenType\":{\"name\":\"Japonesa\"},\"daysOperation\":[]}",
+            "{\"name\":\"Tipo errado\",\"isActive\":\"talvez\"}",
+            VALID.formatted("Disco Voador", "Marciana"),
+            VALID.formatted("Temaki House", "Japonesa"));
+        when(kitchenTypeUseCase.getKitchenTypeByIdOrName("Japonesa")).thenReturn(japonesa());
+        when(kitchenTypeUseCase.getKitchenTypeByIdOrName("Marciana"))
+            .thenThrow(new NotFoundException("Kitchen type not found with name: Marciana"));
+        when(restaurantRepository.insertRestaurants(anyList(), eq(false))).thenReturn(Map.of());
+
+        // When
+        RestaurantImportSummary summary = importUseCase(2).importRestaurants(body(ndjson), false, report::add);
+
+        // Then
+        assertEquals(new RestaurantImportSummary(5, 2, 3, 0, true), summary);
+        assertEquals(List.of(1L, 2L, 3L, 4L, 5L), report.stream().map(RestaurantImportLine::line).toList());
+        assertEquals(RestaurantImportLine.Status.CREATED, report.get(0).status());
+        assertEquals(List.of("ownerId: ID do dono é obrigatório"), report.get(1).errors());
+        assertEquals(RestaurantImportLine.Status.REJECTED, report.get(2).status());
+        assertEquals(List.of("kitchenType: Kitchen type not found with name: Marciana"), report.get(3).errors());
+        assertEquals(RestaurantImportLine.Status.CREATED, report.get(4).status());
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<RestaurantEntity>> captor = ArgumentCaptor.forClass(List.class);
+        verify(restaurantRepository, times(2)).insertRestaurants(captor.capture(), eq(false));
+        RestaurantEntity inserted = captor.getAllValues().get(0).get(0);
+        assertEquals(report.get(0).id(), inserted.getId());
+        assertEquals(0L, inserted.getVersion());
+        assertEquals("Japonesa", inserted.getKitchenType().getName());
+        // Um lookup por tipo de cozinha distinto em cada lote com linhas válidas
+        verify(kitchenTypeUseCase, times(2)).getKitchenTypeByIdOrName("Japonesa");
+        verify(kitchenTypeUseCase).updateRestaurantCounts(List.of(), List.of(inserted));
+        verify(searchIndex).index(List.of(inserted));
+        verify(restaurantRepository, never()).save(any());
+    }
+
+    @Test
+    void shouldStopOrderedImportAtFirstRejectedInsert() {
+        // Given
+        String ndjson = String.join("\n",
+            VALID.formatted("Duplicado", "Japonesa"),
+            VALID.formatted("Depois da falha", "Japonesa"),
+            VALID.formatted("Próximo lote", "Japonesa"));
+        when(kitchenTypeUseCase.getKitchenTypeByIdOrName("Japonesa")).thenReturn(japonesa());
+        when(restaurantRepository.insertRestaurants(anyList(), eq(true)))
+            .thenReturn(Map.of(0, "E11000 duplicate key error"));
+
+        // When
+        RestaurantImportSummary summary = importUseCase(2).importRestaurants(body(ndjson), true, report::add);
+
+        // Then
+        assertEquals(new RestaurantImportSummary(2, 0, 0, 2, false), summary);
+        assertEquals(List.of("E11000 duplicate key error"), report.get(0).errors());
+        assertEquals(List.of("Not inserted: ordered import stopped at line 1"), report.get(1).errors());
+        verify(restaurantRepository, times(1)).insertRestaurants(anyList(), eq(true));
+        verify(kitchenTypeUseCase, never()).updateRestaurantCounts(anyList(), anyList());
+        verify(searchIndex, never()).index(anyList());
+    }
+
+    @Test
+    void shouldKeepLinesReadBeforeMalformedJson() {
+        // Given
+        String ndjson = VALID.formatted("Sushi Bar", "Japonesa") + "\n{\"name\": \"Quebrado\",,}\n"
+            + VALID.formatted("Nunca lido", "Japonesa");
+        when(kitchenTypeUseCase.getKitchenTypeByIdOrName("Japonesa")).thenReturn(japonesa());
+        when(restaurantRepository.insertRestaurants(anyList(), eq(false))).thenReturn(Map.of());
+
+        // When
+        RestaurantImportSummary summary = importUseCase(1).importRestaurants(body(ndjson), false, report::add);
+
+        // Then
+        assertFalse(summary.completed());
+        assertEquals(1, summary.created());
+        assertEquals(1, summary.failed());
+        assertEquals(RestaurantImportLine.Status.FAILED, report.get(1).status());
+        assertEquals(2L, report.get(1).line());
+        verify(restaurantRepository, times(1)).insertRestaurants(anyList(), eq(false));
+    }
+
+    private RestaurantImportUseCase importUseCase(int batchSize) {
+        RestaurantCacheProperties cacheProperties =
+            new RestaurantCacheProperties(1_000, Duration.ofMinutes(5), 1_000, DataSize.ofMegabytes(1));
+        RestaurantCache restaurantCache = new RestaurantCache(restaurantRepository, cacheProperties, new SimpleMeterRegistry());
+        RestaurantUseCase restaurantUseCase = new RestaurantUseCase(restaurantRepository, kitchenTypeUseCase, restaurantCache,
+            new RestaurantResponseCache(restaurantCache, objectMapper, cacheProperties, new SimpleMeterRegistry()), eventPublisher,
+            new OptimisticWriteRetry(new WriteRetryProperties(3, Duration.ZERO, Duration.ZERO), new SimpleMeterRegistry()),
+            openRestaurantsCache);
+
+        return new RestaurantImportUseCase(restaurantRepository, restaurantUseCase, kitchenTypeUseCase, searchIndex, objectMapper,
+            Validation.buildDefaultValidatorFactory().getValidator(), new RestaurantImportProperties(batchSize, 4),
+            new SimpleAsyncTaskExecutor("restaurant-import-"));
+    }
+
+    private static ByteArrayInputStream body(String ndjson) {
+        return new ByteArrayInputStream(ndjson.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static KitchenTypeResponse japonesa() {
+        return KitchenTypeResponse.builder()
+            .id(UUID.randomUUID().toString())
+            .name("Japonesa")
+            .description("Cozinha Japonesa")
+            .createdAt(LocalDateTime.now())
+            .lastUpdate(LocalDateTime.now())
+            .build();
+    }
+}
@@ -0,0 +1,181 @@
+package com.fiap.itmoura.tech_challenge_restaurant.application.usecases;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.fiap.itmoura.tech_challenge_restaurant.application.models.search.RestaurantSearchFacet;
+import com.fiap.itmoura.tech_challenge_restaurant.application.models.search.RestaurantSearchHit;
+import com.fiap.itmoura.tech_challenge_restaurant.application.models.search.RestaurantSearchIndexStatus;
+import com.fiap.itmoura.tech_challenge_restaurant.application.models.search.RestaurantSearchResponse;
+import com.fiap.itmoura.tech_challenge_restaurant.application.ports.out.RestaurantRepository;
+import com.fiap.itmoura.tech_challenge_restaurant.application.search.RestaurantSearchIndex;
+import com.fiap.itmoura.tech_challenge_restaurant.application.search.RestaurantSearchProperties;
+import com.fiap.itmoura.tech_challenge_restaurant.domain.entities.KitchenTypeEntity;
+import com.fiap.itmoura.tech_challenge_restaurant.domain.entities.MenuCategoryEntity;
+import com.fiap.itmoura.tech_challenge_restaurant.domain.entities.MenuItemEntity;
+import com.fiap.itmoura.tech_challenge_restaurant.domain.entities.RestaurantEntity;
+import com.fiap.itmoura.tech_challenge_restaurant.domain.events.RestaurantChangedEvent;
+import com.fiap.itmoura.tech_challenge_restaurant.domain.exceptions.BadRequestException;
+
+@ExtendWith(MockitoExtension.class)
+class RestaurantSearchUseCaseTest {
+
+    @Mock
+    private RestaurantRepository restaurantRepository;
+
+    private RestaurantSearchIndex searchIndex;
+    private RestaurantSearchUseCase restaurantSearchUseCase;
+
+    private RestaurantEntity cantina;
+    private RestaurantEntity sushiBar;
+
+    @BeforeEach
+    void setUp() {
+        RestaurantSearchProperties properties = new RestaurantSearchProperties(2, 1, 20, 100, 20);
+        searchIndex = new RestaurantSearchIndex(restaurantRepository, properties);
+        restaurantSearchUseCase = new RestaurantSearchUseCase(searchIndex, properties);
+
+        cantina = restaurant("Cantina da Nona", "Rua das Flores, 123", "Italiana",
+            item("Lasanha à bolonhesa", "Massa fresca com molho de carne", false),
+            item("Espaguete ao pesto", "Manjericão, pinoli e parmesão", true));
+        sushiBar = restaurant("Sushi Bar", "Avenida Paulista, 900", "Japonesa",
+            item("Temaki de salmão", "Salmão fresco com cebolinha", false));
+    }
+
+    @AfterEach
+    void tearDown() {
+        searchIndex.close();
+    }
+
+    @Test
+    void shouldFindMenuItemsWithPortugueseStemmingAndTypos() {
+        // Given
+        rebuildWith(cantina, sushiBar);
+
+        // When
+        RestaurantSearchResponse plural = restaurantSearchUseCase.search("lasanhas", null, null, null);
+        RestaurantSearchResponse typo = restaurantSearchUseCase.search("lasnha", null, null, null);
+
+        // Then
+        for (RestaurantSearchResponse response : List.of(plural, typo)) {
+            RestaurantSearchHit hit = response.hits().get(0);
+            assertEquals(RestaurantSearchHit.Type.MENU_ITEM, hit.type());
+            assertEquals("Lasanha à bolonhesa", hit.menuItemName());
+            assertEquals(cantina.getId(), hit.restaurantId());
+            assertEquals("Italiana", hit.kitchenType());
+            assertEquals(new BigDecimal("42.50"), hit.price());
+        }
+    }
+
+    @Test
+    void shouldCountFacetsAndApplyFilters() {
+        // Given
+        rebuildWith(cantina, sushiBar);
+
+        // When
+        RestaurantSearchResponse all = restaurantSearchUseCase.search("fresco", null, null, null);
+        RestaurantSearchResponse localOnly = restaurantSearchUseCase.search("fresco", null, true, null);
+        RestaurantSearchResponse japonesa = restaurantSearchUseCase.search("fresco", "Japonesa", null, null);
+
+        // Then
+        assertEquals(2, all.total());
+        assertEquals(List.of(new RestaurantSearchFacet("Italiana", 1), new RestaurantSearchFacet("Japonesa", 1)),
+            all.facets().get(RestaurantSearchIndex.KITCHEN_TYPE_FACET).stream()
+                .sorted((a, b) -> a.value().compareTo(b.value())).toList());
+        assertEquals(List.of(new RestaurantSearchFacet("false", 2)),
+            all.facets().get(RestaurantSearchIndex.LOCAL_CONSUMPTION_FACET));
+
+        assertEquals(0, localOnly.total());
+        assertEquals(1, japonesa.total());
+        assertEquals("Temaki de salmão", japonesa.hits().get(0).menuItemName());
+    }
+
+    @Test
+    void shouldUpdateIndexWhenRestaurantChanges() {
+        // Given
+        rebuildWith(cantina, sushiBar);
+        cantina.setIsActive(false);
+        when(restaurantRepository.findById(cantina.getId())).thenReturn(Optional.of(cantina));
+
+        // When
+        searchIndex.onRestaurantChanged(new RestaurantChangedEvent(cantina.getId()));
+        searchIndex.onRestaurantChanged(new RestaurantChangedEvent(cantina.getId()));
+        long beforeApplying = restaurantSearchUseCase.search("cantina", null, null, null).total();
+        searchIndex.applyPendingChanges();
+
+        // Then
+        // O evento só enfileira; as duas escritas no mesmo restaurante viram uma releitura na rodada seguinte
+        assertEquals(3, beforeApplying);
+        verify(restaurantRepository, times(1)).findById(cantina.getId());
+        assertEquals(0, restaurantSearchUseCase.search("cantina", null, null, null).total());
+        // O restaurante e o item: ambos carregam o nome do restaurante
+        assertEquals(2, restaurantSearchUseCase.search("sushi", null, null, null).total());
+    }
+
+    @Test
+    void shouldSwapToRebuiltIndex() {
+        // Given
+        rebuildWith(cantina);
+        assertEquals(0, restaurantSearchUseCase.search("temaki", null, null, null).total());
+
+        // When
+        RestaurantSearchIndexStatus status = rebuildWith(sushiBar);
+
+        // Then
+        assertEquals(1, status.restaurants());
+        assertEquals(2, status.documents());
+        assertEquals(1, restaurantSearchUseCase.search("temaki", null, null, null).total());
+        assertEquals(0, restaurantSearchUseCase.search("lasanha", null, null, null).total());
+    }
+
+    @Test
+    void shouldRejectBlankQuery() {
+        // When & Then
+        assertThrows(BadRequestException.class, () -> restaurantSearchUseCase.search("  ", null, null, null));
+        assertThrows(BadRequestException.class, () -> restaurantSearchUseCase.search("pizza", null, null, 0));
+    }
+
+    private RestaurantSearchIndexStatus rebuildWith(RestaurantEntity... restaurants) {
+        when(restaurantRepository.streamAllBy()).thenReturn(Stream.of(restaurants));
+        return restaurantSearchUseCase.rebuildIndex();
+    }
+
+    private static RestaurantEntity restaurant(String name, String address, String kitchenType, MenuItemEntity... items) {
+        return RestaurantEntity.builder()
+            .id(UUID.randomUUID().toString())
+            .name(name)
+            .address(address)
+            .kitchenType(KitchenTypeEntity.builder().id(UUID.randomUUID().toString()).name(kitchenType).build())
+            .isActive(true)
+            .menu(List.of(MenuCategoryEntity.builder()
+                .id(UUID.randomUUID().toString())
+                .type("Pratos")
+                .items(List.of(items))
+                .build()))
+            .build();
+    }
+
+    private static MenuItemEntity item(String name, String description, boolean onlyForLocalConsumption) {
+        return MenuItemEntity.builder()
+            .id(UUID.randomUUID().toString())
+            .name(name)
+            .description(description)
+            .price(new BigDecimal("42.50"))
+            .onlyForLocalConsumption(onlyForLocalConsumption)
+            .isActive(true)
+            .build();
+    }
+}
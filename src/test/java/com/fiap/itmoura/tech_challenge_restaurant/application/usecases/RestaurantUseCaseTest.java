@@ -2,36 +2,78 @@ package com.fiap.itmoura.tech_challenge_restaurant.application.usecases;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
+import java.io.ByteArrayInputStream;
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.geo.Distance;
+import org.springframework.data.geo.GeoResult;
+import org.springframework.data.geo.Metrics;
+import org.springframework.data.mongodb.core.geo.GeoJsonPoint;
+import org.springframework.util.unit.DataSize;
+
+import com.fiap.itmoura.tech_challenge_restaurant.application.cache.RestaurantCache;
+import com.fiap.itmoura.tech_challenge_restaurant.application.cache.RestaurantCacheProperties;
+import com.fiap.itmoura.tech_challenge_restaurant.application.cache.RestaurantResponseCache;
+import com.fiap.itmoura.tech_challenge_restaurant.application.cache.SerializedResponse;
+import com.fiap.itmoura.tech_challenge_restaurant.application.concurrency.OptimisticWriteRetry;
+import com.fiap.itmoura.tech_challenge_restaurant.application.concurrency.WriteRetryProperties;
+import com.fiap.itmoura.tech_challenge_restaurant.application.openinghours.OpenRestaurantsCache;
+import com.fiap.itmoura.tech_challenge_restaurant.application.openinghours.OpeningHoursProperties;
 import com.fiap.itmoura.tech_challenge_restaurant.application.models.kitchentype.KitchenTypeDTO;
 import com.fiap.itmoura.tech_challenge_restaurant.application.models.kitchentype.KitchenTypeResponse;
 import com.fiap.itmoura.tech_challenge_restaurant.application.models.menu.MenuCategoryDTO;
 import com.fiap.itmoura.tech_challenge_restaurant.application.models.menu.MenuItemNestedDTO;
+import com.fiap.itmoura.tech_challenge_restaurant.application.models.pagination.CursorPage;
+import com.fiap.itmoura.tech_challenge_restaurant.application.models.pagination.CursorPageRequest;
+import com.fiap.itmoura.tech_challenge_restaurant.application.models.restaurant.GeoPointDTO;
+import com.fiap.itmoura.tech_challenge_restaurant.application.models.restaurant.NearbyRestaurantsRequest;
 import com.fiap.itmoura.tech_challenge_restaurant.application.models.restaurant.RestaurantBasicResponse;
 import com.fiap.itmoura.tech_challenge_restaurant.application.models.restaurant.RestaurantFullResponse;
 import com.fiap.itmoura.tech_challenge_restaurant.application.models.restaurant.RestaurantRequest;
+import com.fiap.itmoura.tech_challenge_restaurant.application.models.versioning.Versioned;
 import com.fiap.itmoura.tech_challenge_restaurant.application.ports.out.RestaurantRepository;
 import com.fiap.itmoura.tech_challenge_restaurant.domain.entities.DayEnum;
 import com.fiap.itmoura.tech_challenge_restaurant.domain.entities.KitchenTypeEntity;
 import com.fiap.itmoura.tech_challenge_restaurant.domain.entities.MenuCategoryEntity;
 import com.fiap.itmoura.tech_challenge_restaurant.domain.entities.MenuItemEntity;
+import com.fiap.itmoura.tech_challenge_restaurant.domain.entities.OpeningIntervalEntity;
 import com.fiap.itmoura.tech_challenge_restaurant.domain.entities.OperationDaysTimeData;
 import com.fiap.itmoura.tech_challenge_restaurant.domain.entities.RestaurantEntity;
+import com.fiap.itmoura.tech_challenge_restaurant.domain.events.RestaurantChangedEvent;
+import com.fiap.itmoura.tech_challenge_restaurant.domain.exceptions.BadRequestException;
+import com.fiap.itmoura.tech_challenge_restaurant.domain.exceptions.ConflictRequestException;
 import com.fiap.itmoura.tech_challenge_restaurant.domain.exceptions.NotFoundException;
+import com.fiap.itmoura.tech_challenge_restaurant.domain.exceptions.PreconditionFailedException;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 @ExtendWith(MockitoExtension.class)
 class RestaurantUseCaseTest {
@@ -42,8 +84,15 @@ class RestaurantUseCaseTest {
     @Mock
     private KitchenTypeUseCase kitchenTypeUseCase;
 
-    @InjectMocks
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    private RestaurantCache restaurantCache;
+    private RestaurantResponseCache restaurantResponseCache;
     private RestaurantUseCase restaurantUseCase;
+    private OpenRestaurantsCache openRestaurantsCache;
 
     private RestaurantRequest restaurantRequest;
     private RestaurantEntity restaurantEntity;
@@ -56,6 +105,16 @@ class RestaurantUseCaseTest {
 
     @BeforeEach
     void setUp() {
+        RestaurantCacheProperties cacheProperties =
+            new RestaurantCacheProperties(1_000, Duration.ofMinutes(5), 1_000, DataSize.ofMegabytes(1));
+        restaurantCache = new RestaurantCache(restaurantRepository, cacheProperties, new SimpleMeterRegistry());
+        restaurantResponseCache = new RestaurantResponseCache(restaurantCache, objectMapper, cacheProperties, new SimpleMeterRegistry());
+        openRestaurantsCache = new OpenRestaurantsCache(restaurantRepository, new OpeningHoursProperties(ZoneId.of("America/Sao_Paulo")));
+        restaurantUseCase = new RestaurantUseCase(restaurantRepository, kitchenTypeUseCase, restaurantCache,
+            restaurantResponseCache, eventPublisher,
+            new OptimisticWriteRetry(new WriteRetryProperties(3, Duration.ZERO, Duration.ZERO), new SimpleMeterRegistry()),
+            openRestaurantsCache);
+
         restaurantId = UUID.randomUUID().toString();
         ownerId = UUID.randomUUID().toString();
         kitchenTypeId = UUID.randomUUID().toString();
@@ -95,6 +154,7 @@ class RestaurantUseCaseTest {
         restaurantRequest = new RestaurantRequest(
             "Restaurante do João",
             "Rua das Flores, 123",
+            new GeoPointDTO("Point", List.of(-46.6333, -23.5505)),
             kitchenTypeDTO,
             List.of(new OperationDaysTimeData(DayEnum.MONDAY, "08:00", "18:00")),
             ownerId,
@@ -130,6 +190,7 @@ class RestaurantUseCaseTest {
             .id(restaurantId)
             .name("Restaurante do João")
             .address("Rua das Flores, 123")
+            .location(new GeoJsonPoint(-46.6333, -23.5505))
             .kitchenType(kitchenTypeEntity)
             .daysOperation(List.of(new OperationDaysTimeData(DayEnum.MONDAY, "08:00", "18:00")))
             .ownerId(ownerId)
@@ -137,6 +198,7 @@ class RestaurantUseCaseTest {
             .menu(List.of(menuCategoryEntity))
             .lastUpdate(LocalDateTime.now())
             .createdAt(LocalDateTime.now())
+            .version(3L)
             .build();
     }
 
@@ -162,41 +224,113 @@ class RestaurantUseCaseTest {
 
         verify(kitchenTypeUseCase).getKitchenTypeById(kitchenTypeId);
         verify(restaurantRepository).save(any(RestaurantEntity.class));
+        verify(kitchenTypeUseCase).updateRestaurantCounts(List.of(), List.of(restaurantEntity));
     }
 
     @Test
     void shouldGetAllRestaurantsWithoutMenu() {
         // Given
-        when(restaurantRepository.findAll()).thenReturn(List.of(restaurantEntity));
+        when(restaurantRepository.findBasicBy(any(Pageable.class))).thenReturn(List.of(restaurantEntity));
 
         // When
-        List<RestaurantBasicResponse> response = restaurantUseCase.getAllRestaurants();
+        CursorPage<RestaurantBasicResponse> response = restaurantUseCase.getAllRestaurants(null, null);
 
         // Then
         assertNotNull(response);
-        assertEquals(1, response.size());
-        assertEquals("Restaurante do João", response.get(0).name());
-        assertEquals("Rua das Flores, 123", response.get(0).address());
+        assertEquals(1, response.items().size());
+        assertEquals("Restaurante do João", response.items().get(0).name());
+        assertEquals("Rua das Flores, 123", response.items().get(0).address());
+        assertFalse(response.hasNext());
 
-        verify(restaurantRepository).findAll();
+        verify(restaurantRepository).findBasicBy(any(Pageable.class));
+        verify(restaurantRepository, never()).findAllBy(any(Pageable.class));
     }
 
     @Test
     void shouldGetAllRestaurantsWithMenu() {
         // Given
-        when(restaurantRepository.findAll()).thenReturn(List.of(restaurantEntity));
+        when(restaurantRepository.findAllBy(any(Pageable.class))).thenReturn(List.of(restaurantEntity));
 
         // When
-        List<RestaurantFullResponse> response = restaurantUseCase.getAllRestaurantsWithMenu();
+        CursorPage<RestaurantFullResponse> response = restaurantUseCase.getAllRestaurantsWithMenu(null, null);
 
         // Then
         assertNotNull(response);
-        assertEquals(1, response.size());
-        assertEquals("Restaurante do João", response.get(0).name());
-        assertNotNull(response.get(0).menu());
-        assertEquals(1, response.get(0).menu().size());
+        assertEquals(1, response.items().size());
+        assertEquals("Restaurante do João", response.items().get(0).name());
+        assertNotNull(response.items().get(0).menu());
+        assertEquals(1, response.items().get(0).menu().size());
+
+        verify(restaurantRepository).findAllBy(any(Pageable.class));
+    }
+
+    @Test
+    void shouldReturnNextCursorWhenThereAreMoreRestaurants() {
+        // Given
+        RestaurantEntity nextRestaurant = RestaurantEntity.builder()
+            .id(UUID.randomUUID().toString())
+            .name("Outro Restaurante")
+            .kitchenType(restaurantEntity.getKitchenType())
+            .isActive(true)
+            .build();
+
+        when(restaurantRepository.findBasicBy(any(Pageable.class))).thenReturn(List.of(restaurantEntity, nextRestaurant));
+
+        // When
+        CursorPage<RestaurantBasicResponse> response = restaurantUseCase.getAllRestaurants(null, 1);
+
+        // Then
+        assertEquals(1, response.items().size());
+        assertTrue(response.hasNext());
+        assertEquals(CursorPageRequest.encode(restaurantId), response.nextCursor());
+    }
+
+    @Test
+    void shouldFetchRestaurantsAfterCursor() {
+        // Given
+        String cursor = CursorPageRequest.encode(restaurantId);
+        when(restaurantRepository.findBasicByIdGreaterThan(eq(restaurantId), any(Pageable.class))).thenReturn(List.of());
+
+        // When
+        CursorPage<RestaurantBasicResponse> response = restaurantUseCase.getAllRestaurants(cursor, 10);
+
+        // Then
+        assertTrue(response.items().isEmpty());
+        assertFalse(response.hasNext());
+
+        verify(restaurantRepository).findBasicByIdGreaterThan(eq(restaurantId), any(Pageable.class));
+        verify(restaurantRepository, never()).findBasicBy(any(Pageable.class));
+    }
+
+    @Test
+    void shouldThrowBadRequestExceptionWhenLimitIsInvalid() {
+        // When & Then
+        assertThrows(BadRequestException.class, () -> {
+            restaurantUseCase.getAllRestaurants(null, 0);
+        });
+
+        verifyNoInteractions(restaurantRepository);
+    }
+
+    @Test
+    void shouldStreamAllRestaurantsWithMenuAndCloseCursor() {
+        // Given
+        AtomicBoolean cursorClosed = new AtomicBoolean(false);
+        when(restaurantRepository.streamAllBy())
+            .thenReturn(Stream.of(restaurantEntity).onClose(() -> cursorClosed.set(true)));
+        List<RestaurantFullResponse> streamed = new java.util.ArrayList<>();
+
+        // When
+        restaurantUseCase.streamAllRestaurantsWithMenu(streamed::add);
+
+        // Then
+        assertEquals(1, streamed.size());
+        assertEquals(restaurantId, streamed.get(0).id());
+        assertEquals(1, streamed.get(0).menu().size());
+        assertTrue(cursorClosed.get());
 
-        verify(restaurantRepository).findAll();
+        verify(restaurantRepository).streamAllBy();
+        verify(restaurantRepository, never()).findAll();
     }
 
     @Test
@@ -205,7 +339,7 @@ class RestaurantUseCaseTest {
         when(restaurantRepository.findById(restaurantId)).thenReturn(Optional.of(restaurantEntity));
 
         // When
-        RestaurantFullResponse response = restaurantUseCase.getRestaurantById(restaurantId);
+        RestaurantFullResponse response = restaurantUseCase.getRestaurantById(restaurantId).body();
 
         // Then
         assertNotNull(response);
@@ -215,6 +349,172 @@ class RestaurantUseCaseTest {
         verify(restaurantRepository).findById(restaurantId);
     }
 
+    @Test
+    void shouldServeRepeatedRestaurantLookupsFromCache() {
+        // Given
+        when(restaurantRepository.findById(restaurantId)).thenReturn(Optional.of(restaurantEntity));
+
+        // When
+        restaurantUseCase.getRestaurantById(restaurantId);
+        RestaurantFullResponse response = restaurantUseCase.getRestaurantById(restaurantId).body();
+
+        // Then
+        assertEquals(restaurantId, response.id());
+        verify(restaurantRepository, times(1)).findById(restaurantId);
+    }
+
+    @Test
+    void shouldReloadRestaurantAfterChangeEvent() {
+        // Given
+        when(restaurantRepository.findById(restaurantId)).thenReturn(Optional.of(restaurantEntity));
+        restaurantUseCase.getRestaurantById(restaurantId);
+
+        // When
+        restaurantCache.onRestaurantChanged(new RestaurantChangedEvent(restaurantId));
+        restaurantUseCase.getRestaurantById(restaurantId);
+
+        // Then
+        verify(restaurantRepository, times(2)).findById(restaurantId);
+    }
+
+    @Test
+    void shouldNotCacheMissingRestaurants() {
+        // Given
+        when(restaurantRepository.findById(restaurantId)).thenReturn(Optional.empty());
+
+        // When & Then
+        assertThrows(NotFoundException.class, () -> restaurantUseCase.getRestaurantById(restaurantId));
+        assertThrows(NotFoundException.class, () -> restaurantUseCase.getRestaurantById(restaurantId));
+
+        verify(restaurantRepository, times(2)).findById(restaurantId);
+    }
+
+    @Test
+    void shouldReturnRestaurantVersionFromVersionField() {
+        // Given
+        when(restaurantRepository.findById(restaurantId)).thenReturn(Optional.of(restaurantEntity));
+
+        // When
+        Versioned<RestaurantFullResponse> response = restaurantUseCase.getRestaurantById(restaurantId);
+
+        // Then
+        assertEquals("3", response.version());
+    }
+
+    @Test
+    void shouldResolveRestaurantVersionFromProjectionWithoutLoadingMenu() {
+        // Given
+        RestaurantEntity projection = RestaurantEntity.builder()
+            .id(restaurantId)
+            .version(restaurantEntity.getVersion())
+            .build();
+        when(restaurantRepository.findVersionById(restaurantId)).thenReturn(Optional.of(projection));
+
+        // When
+        Optional<String> version = restaurantUseCase.getRestaurantVersion(restaurantId);
+
+        // Then
+        assertEquals(Optional.of(Versioned.versionOf(restaurantEntity)), version);
+        verify(restaurantRepository, never()).findById(any());
+    }
+
+    @Test
+    void shouldResolveRestaurantVersionFromCacheWithoutQuery() {
+        // Given
+        when(restaurantRepository.findById(restaurantId)).thenReturn(Optional.of(restaurantEntity));
+        restaurantUseCase.getRestaurantById(restaurantId);
+
+        // When
+        Optional<String> version = restaurantUseCase.getRestaurantVersion(restaurantId);
+
+        // Then
+        assertTrue(version.isPresent());
+        verify(restaurantRepository, never()).findVersionById(any());
+    }
+
+    @Test
+    void shouldNotReturnVersionWhenRestaurantHasNoVersion() {
+        // Given
+        RestaurantEntity projection = RestaurantEntity.builder().id(restaurantId).build();
+        when(restaurantRepository.findVersionById(restaurantId)).thenReturn(Optional.of(projection));
+
+        // When
+        Optional<String> version = restaurantUseCase.getRestaurantVersion(restaurantId);
+
+        // Then
+        assertTrue(version.isEmpty());
+    }
+
+    @Test
+    void shouldServeSerializedRestaurantFromCacheWithoutReserializing() throws Exception {
+        // Given
+        when(restaurantRepository.findById(restaurantId)).thenReturn(Optional.of(restaurantEntity));
+
+        // When
+        Versioned<SerializedResponse> first = restaurantUseCase.getSerializedRestaurantById(restaurantId);
+        Versioned<SerializedResponse> second = restaurantUseCase.getSerializedRestaurantById(restaurantId);
+
+        // Then
+        JsonNode response = objectMapper.readTree(first.body().json());
+        assertEquals(restaurantId, response.get("id").asText());
+        assertEquals("Restaurante do João", response.get("name").asText());
+        assertEquals(Versioned.versionOf(restaurantEntity), first.version());
+        assertSame(first.body().json(), second.body().json());
+
+        verify(restaurantRepository, times(1)).findById(restaurantId);
+    }
+
+    @Test
+    void shouldPrecompressLargeSerializedRestaurants() throws Exception {
+        // Given
+        List<MenuItemEntity> items = new java.util.ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            items.add(MenuItemEntity.builder()
+                .id(UUID.randomUUID().toString())
+                .name("Item " + i)
+                .description("Descrição do item " + i)
+                .price(new BigDecimal("19.90"))
+                .onlyForLocalConsumption(false)
+                .isActive(true)
+                .build());
+        }
+        restaurantEntity.setMenu(List.of(MenuCategoryEntity.builder().id(categoryId).type("Pratos").items(items).build()));
+        when(restaurantRepository.findById(restaurantId)).thenReturn(Optional.of(restaurantEntity));
+
+        // When
+        SerializedResponse serialized = restaurantUseCase.getSerializedRestaurantById(restaurantId).body();
+
+        // Then
+        assertNotNull(serialized.gzip());
+        assertTrue(serialized.gzip().length < serialized.json().length);
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(serialized.gzip()))) {
+            assertArrayEquals(serialized.json(), gzip.readAllBytes());
+        }
+    }
+
+    @Test
+    void shouldReserializeRestaurantAfterChangeEvent() {
+        // Given
+        when(restaurantRepository.findById(restaurantId)).thenReturn(Optional.of(restaurantEntity));
+        restaurantUseCase.getSerializedRestaurantById(restaurantId);
+
+        // When
+        restaurantResponseCache.onRestaurantChanged(new RestaurantChangedEvent(restaurantId));
+        restaurantUseCase.getSerializedRestaurantById(restaurantId);
+
+        // Then
+        verify(restaurantRepository, times(2)).findById(restaurantId);
+    }
+
+    @Test
+    void shouldThrowNotFoundExceptionWhenSerializedRestaurantNotExists() {
+        // Given
+        when(restaurantRepository.findById(restaurantId)).thenReturn(Optional.empty());
+
+        // When & Then
+        assertThrows(NotFoundException.class, () -> restaurantUseCase.getSerializedRestaurantById(restaurantId));
+    }
+
     @Test
     void shouldThrowNotFoundExceptionWhenRestaurantNotExists() {
         // Given
@@ -246,33 +546,153 @@ class RestaurantUseCaseTest {
         verify(restaurantRepository).findById(restaurantId);
         verify(kitchenTypeUseCase).getKitchenTypeById(kitchenTypeId);
         verify(restaurantRepository).save(any(RestaurantEntity.class));
+        verify(kitchenTypeUseCase).updateRestaurantCounts(List.of(restaurantEntity), List.of(restaurantEntity));
+        verify(eventPublisher).publishEvent(new RestaurantChangedEvent(restaurantId));
     }
 
     @Test
     void shouldDeleteRestaurantSuccessfully() {
         // Given
-        when(restaurantRepository.existsById(restaurantId)).thenReturn(true);
+        when(restaurantRepository.removeById(restaurantId)).thenReturn(Optional.of(restaurantEntity));
 
         // When
         restaurantUseCase.deleteRestaurant(restaurantId);
 
         // Then
-        verify(restaurantRepository).existsById(restaurantId);
-        verify(restaurantRepository).deleteById(restaurantId);
+        verify(restaurantRepository).removeById(restaurantId);
+        verify(kitchenTypeUseCase).updateRestaurantCounts(List.of(restaurantEntity), List.of());
+        verify(eventPublisher).publishEvent(new RestaurantChangedEvent(restaurantId));
     }
 
     @Test
     void shouldThrowNotFoundExceptionWhenDeletingNonExistentRestaurant() {
         // Given
-        when(restaurantRepository.existsById(restaurantId)).thenReturn(false);
+        when(restaurantRepository.removeById(restaurantId)).thenReturn(Optional.empty());
 
         // When & Then
         assertThrows(NotFoundException.class, () -> {
             restaurantUseCase.deleteRestaurant(restaurantId);
         });
 
-        verify(restaurantRepository).existsById(restaurantId);
-        verify(restaurantRepository, never()).deleteById(any());
+        verify(restaurantRepository).removeById(restaurantId);
+        verify(kitchenTypeUseCase, never()).updateRestaurantCounts(any(), any());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    void shouldCarryLoadedVersionWhenUpdatingRestaurant() {
+        // Given
+        when(restaurantRepository.findById(restaurantId)).thenReturn(Optional.of(restaurantEntity));
+        when(kitchenTypeUseCase.getKitchenTypeById(kitchenTypeId)).thenReturn(kitchenTypeResponse);
+        when(kitchenTypeUseCase.getKitchenTypeByIdOrName("Japonesa")).thenReturn(kitchenTypeResponse);
+        when(restaurantRepository.save(any(RestaurantEntity.class))).thenReturn(restaurantEntity);
+
+        // When
+        restaurantUseCase.updateRestaurant(restaurantId, restaurantRequest, 3L);
+
+        // Then
+        ArgumentCaptor<RestaurantEntity> saved = ArgumentCaptor.forClass(RestaurantEntity.class);
+        verify(restaurantRepository).save(saved.capture());
+        assertEquals(3L, saved.getValue().getVersion());
+    }
+
+    @Test
+    void shouldRetryUpdateAfterVersionConflict() {
+        // Given
+        when(restaurantRepository.findById(restaurantId)).thenReturn(Optional.of(restaurantEntity));
+        when(kitchenTypeUseCase.getKitchenTypeById(kitchenTypeId)).thenReturn(kitchenTypeResponse);
+        when(kitchenTypeUseCase.getKitchenTypeByIdOrName("Japonesa")).thenReturn(kitchenTypeResponse);
+        when(restaurantRepository.save(any(RestaurantEntity.class)))
+            .thenThrow(new OptimisticLockingFailureException("version changed"))
+            .thenReturn(restaurantEntity);
+
+        // When
+        RestaurantFullResponse response = restaurantUseCase.updateRestaurant(restaurantId, restaurantRequest);
+
+        // Then
+        assertNotNull(response);
+        verify(restaurantRepository, times(2)).findById(restaurantId);
+        verify(restaurantRepository, times(2)).save(any(RestaurantEntity.class));
+        verify(eventPublisher).publishEvent(new RestaurantChangedEvent(restaurantId));
+    }
+
+    @Test
+    void shouldFailWithConflictWhenUpdateRetriesAreExhausted() {
+        // Given
+        when(restaurantRepository.findById(restaurantId)).thenReturn(Optional.of(restaurantEntity));
+        when(kitchenTypeUseCase.getKitchenTypeById(kitchenTypeId)).thenReturn(kitchenTypeResponse);
+        when(kitchenTypeUseCase.getKitchenTypeByIdOrName("Japonesa")).thenReturn(kitchenTypeResponse);
+        when(restaurantRepository.save(any(RestaurantEntity.class)))
+            .thenThrow(new OptimisticLockingFailureException("version changed"));
+
+        // When & Then
+        assertThrows(ConflictRequestException.class, () -> {
+            restaurantUseCase.updateRestaurant(restaurantId, restaurantRequest);
+        });
+
+        verify(restaurantRepository, times(3)).save(any(RestaurantEntity.class));
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    void shouldRejectUpdateWhenIfMatchVersionIsStale() {
+        // Given
+        when(restaurantRepository.findById(restaurantId)).thenReturn(Optional.of(restaurantEntity));
+
+        // When & Then
+        assertThrows(PreconditionFailedException.class, () -> {
+            restaurantUseCase.updateRestaurant(restaurantId, restaurantRequest, 2L);
+        });
+
+        verify(restaurantRepository, never()).save(any());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    void shouldNotRetryUpdateWhenIfMatchLosesTheRace() {
+        // Given
+        when(restaurantRepository.findById(restaurantId)).thenReturn(Optional.of(restaurantEntity));
+        when(kitchenTypeUseCase.getKitchenTypeById(kitchenTypeId)).thenReturn(kitchenTypeResponse);
+        when(kitchenTypeUseCase.getKitchenTypeByIdOrName("Japonesa")).thenReturn(kitchenTypeResponse);
+        when(restaurantRepository.save(any(RestaurantEntity.class)))
+            .thenThrow(new OptimisticLockingFailureException("version changed"));
+
+        // When & Then
+        assertThrows(PreconditionFailedException.class, () -> {
+            restaurantUseCase.updateRestaurant(restaurantId, restaurantRequest, 3L);
+        });
+
+        verify(restaurantRepository, times(1)).save(any(RestaurantEntity.class));
+    }
+
+    @Test
+    void shouldDeleteRestaurantWhenIfMatchVersionIsCurrent() {
+        // Given
+        when(restaurantRepository.removeByIdAndVersion(restaurantId, 3L)).thenReturn(Optional.of(restaurantEntity));
+
+        // When
+        restaurantUseCase.deleteRestaurant(restaurantId, 3L);
+
+        // Then
+        verify(restaurantRepository, never()).removeById(any());
+        verify(kitchenTypeUseCase).updateRestaurantCounts(List.of(restaurantEntity), List.of());
+        verify(eventPublisher).publishEvent(new RestaurantChangedEvent(restaurantId));
+    }
+
+    @Test
+    void shouldRejectDeleteWhenIfMatchVersionIsStale() {
+        // Given
+        RestaurantEntity projection = RestaurantEntity.builder().id(restaurantId).version(4L).build();
+        when(restaurantRepository.removeByIdAndVersion(restaurantId, 3L)).thenReturn(Optional.empty());
+        when(restaurantRepository.findVersionById(restaurantId)).thenReturn(Optional.of(projection));
+
+        // When & Then
+        assertThrows(PreconditionFailedException.class, () -> {
+            restaurantUseCase.deleteRestaurant(restaurantId, 3L);
+        });
+
+        verify(kitchenTypeUseCase, never()).updateRestaurantCounts(any(), any());
+        verify(eventPublisher, never()).publishEvent(any());
     }
 
     @Test
@@ -281,6 +701,7 @@ class RestaurantUseCaseTest {
         RestaurantRequest requestWithoutMenu = new RestaurantRequest(
             "Restaurante Simples",
             "Rua Simples, 456",
+            null, // Sem localização
             new KitchenTypeDTO(kitchenTypeId, "Italiana", "Cozinha Italiana"),
             List.of(new OperationDaysTimeData(DayEnum.TUESDAY, "09:00", "22:00")),
             ownerId,
@@ -321,18 +742,34 @@ class RestaurantUseCaseTest {
     @Test
     void shouldGetAllActiveRestaurants() {
         // Given
-        when(restaurantRepository.findAll()).thenReturn(List.of(restaurantEntity));
+        when(restaurantRepository.findBasicByIsActiveTrue(any(Pageable.class))).thenReturn(List.of(restaurantEntity));
 
         // When
-        List<RestaurantBasicResponse> response = restaurantUseCase.getAllActiveRestaurants();
+        CursorPage<RestaurantBasicResponse> response = restaurantUseCase.getAllActiveRestaurants(null, null);
 
         // Then
         assertNotNull(response);
-        assertEquals(1, response.size());
-        assertEquals("Restaurante do João", response.get(0).name());
-        assertTrue(response.get(0).isActive());
+        assertEquals(1, response.items().size());
+        assertEquals("Restaurante do João", response.items().get(0).name());
+        assertTrue(response.items().get(0).isActive());
+
+        verify(restaurantRepository).findBasicByIsActiveTrue(any(Pageable.class));
+        verify(restaurantRepository, never()).findAll();
+    }
+
+    @Test
+    void shouldGetActiveRestaurantsAfterCursor() {
+        // Given
+        String cursor = CursorPageRequest.encode(restaurantId);
+        when(restaurantRepository.findBasicByIsActiveTrueAndIdGreaterThan(eq(restaurantId), any(Pageable.class)))
+            .thenReturn(List.of());
 
-        verify(restaurantRepository).findAll();
+        // When
+        CursorPage<RestaurantBasicResponse> response = restaurantUseCase.getAllActiveRestaurants(cursor, 20);
+
+        // Then
+        assertTrue(response.items().isEmpty());
+        verify(restaurantRepository).findBasicByIsActiveTrueAndIdGreaterThan(eq(restaurantId), any(Pageable.class));
     }
 
     @Test
@@ -341,6 +778,7 @@ class RestaurantUseCaseTest {
         RestaurantRequest requestWithNullIsActive = new RestaurantRequest(
             "Restaurante Atualizado",
             "Rua Atualizada, 789",
+            null, // Localização null - deve manter a existente
             new KitchenTypeDTO(kitchenTypeId, "Brasileira", "Cozinha Brasileira"),
             List.of(new OperationDaysTimeData(DayEnum.WEDNESDAY, "10:00", "21:00")),
             ownerId,
@@ -360,8 +798,200 @@ class RestaurantUseCaseTest {
         assertNotNull(response);
         assertTrue(response.isActive()); // Deve manter o valor original (true)
 
+        ArgumentCaptor<RestaurantEntity> saved = ArgumentCaptor.forClass(RestaurantEntity.class);
         verify(restaurantRepository).findById(restaurantId);
         verify(kitchenTypeUseCase).getKitchenTypeById(kitchenTypeId);
-        verify(restaurantRepository).save(any(RestaurantEntity.class));
+        verify(restaurantRepository).save(saved.capture());
+        assertEquals(restaurantEntity.getLocation(), saved.getValue().getLocation());
+    }
+
+    @Test
+    void shouldStoreLocationFromRequestAsGeoJsonPoint() {
+        // Given
+        when(kitchenTypeUseCase.getKitchenTypeById(kitchenTypeId)).thenReturn(kitchenTypeResponse);
+        when(kitchenTypeUseCase.getKitchenTypeByIdOrName("Japonesa")).thenReturn(kitchenTypeResponse);
+        when(restaurantRepository.save(any(RestaurantEntity.class))).thenReturn(restaurantEntity);
+
+        // When
+        RestaurantFullResponse response = restaurantUseCase.createRestaurant(restaurantRequest);
+
+        // Then
+        ArgumentCaptor<RestaurantEntity> saved = ArgumentCaptor.forClass(RestaurantEntity.class);
+        verify(restaurantRepository).save(saved.capture());
+        assertEquals(-46.6333, saved.getValue().getLocation().getX());
+        assertEquals(-23.5505, saved.getValue().getLocation().getY());
+        assertEquals(List.of(-46.6333, -23.5505), response.location().coordinates());
+    }
+
+    @Test
+    void shouldReturnNearbyRestaurantsWithDistanceInMeters() {
+        // Given
+        GeoResult<RestaurantEntity> nearby = new GeoResult<>(restaurantEntity, new Distance(0.85, Metrics.KILOMETERS));
+        when(restaurantRepository.findNearby(any(GeoJsonPoint.class), eq(2_000.0), eq(kitchenTypeId), eq(10)))
+            .thenReturn(List.of(nearby));
+
+        // When
+        List<RestaurantBasicResponse> response =
+            restaurantUseCase.getNearbyRestaurants(-23.55, -46.63, 2_000.0, 10, kitchenTypeId);
+
+        // Then
+        assertEquals(1, response.size());
+        assertEquals(restaurantId, response.get(0).id());
+        assertEquals(850.0, response.get(0).distanceMeters(), 0.001);
+
+        ArgumentCaptor<GeoJsonPoint> point = ArgumentCaptor.forClass(GeoJsonPoint.class);
+        verify(restaurantRepository).findNearby(point.capture(), eq(2_000.0), eq(kitchenTypeId), eq(10));
+        // GeoJSON: x = longitude, y = latitude
+        assertEquals(-46.63, point.getValue().getX());
+        assertEquals(-23.55, point.getValue().getY());
+    }
+
+    @Test
+    void shouldApplyNearbyDefaultsAndCaps() {
+        // Given
+        when(restaurantRepository.findNearby(any(GeoJsonPoint.class), anyDouble(), any(), anyInt())).thenReturn(List.of());
+
+        // When
+        restaurantUseCase.getNearbyRestaurants(-23.55, -46.63, null, null, " ");
+        restaurantUseCase.getNearbyRestaurants(-23.55, -46.63, 1_000_000.0, 10_000, null);
+
+        // Then
+        verify(restaurantRepository).findNearby(any(GeoJsonPoint.class),
+            eq(NearbyRestaurantsRequest.DEFAULT_RADIUS_METERS), isNull(), eq(NearbyRestaurantsRequest.DEFAULT_LIMIT));
+        verify(restaurantRepository).findNearby(any(GeoJsonPoint.class),
+            eq(NearbyRestaurantsRequest.MAX_RADIUS_METERS), isNull(), eq(NearbyRestaurantsRequest.MAX_LIMIT));
+    }
+
+    @Test
+    void shouldRejectInvalidNearbyParameters() {
+        // When & Then
+        assertThrows(BadRequestException.class, () -> restaurantUseCase.getNearbyRestaurants(null, -46.63, null, null, null));
+        assertThrows(BadRequestException.class, () -> restaurantUseCase.getNearbyRestaurants(91.0, -46.63, null, null, null));
+        assertThrows(BadRequestException.class, () -> restaurantUseCase.getNearbyRestaurants(-23.55, -46.63, 0.0, null, null));
+        assertThrows(BadRequestException.class, () -> restaurantUseCase.getNearbyRestaurants(-23.55, -46.63, null, 0, null));
+
+        verify(restaurantRepository, never()).findNearby(any(), anyDouble(), any(), anyInt());
+    }
+
+    @Test
+    void shouldNormalizeScheduleIntoMinuteOfWeekIntervals() {
+        // Given
+        RestaurantRequest request = new RestaurantRequest("Bar da Noite", "Rua Augusta, 500", null,
+            new KitchenTypeDTO(kitchenTypeId, "Japonesa", "Cozinha Japonesa"),
+            List.of(new OperationDaysTimeData(DayEnum.MONDAY, "08:00", "18:00"),
+                new OperationDaysTimeData(DayEnum.FRIDAY, "18:00", "02:00"),
+                new OperationDaysTimeData(DayEnum.SUNDAY, "20:00", "01:00")),
+            ownerId, true, null);
+        when(kitchenTypeUseCase.getKitchenTypeById(kitchenTypeId)).thenReturn(kitchenTypeResponse);
+        when(kitchenTypeUseCase.getKitchenTypeByIdOrName("Japonesa")).thenReturn(kitchenTypeResponse);
+        when(restaurantRepository.save(any(RestaurantEntity.class))).thenReturn(restaurantEntity);
+
+        // When
+        restaurantUseCase.createRestaurant(request);
+
+        // Then
+        ArgumentCaptor<RestaurantEntity> saved = ArgumentCaptor.forClass(RestaurantEntity.class);
+        verify(restaurantRepository).save(saved.capture());
+        // Sexta 18:00 fecha sábado 02:00; domingo 20:00 continua na segunda 00:00-01:00
+        assertEquals(List.of(
+                new OpeningIntervalEntity(0, 60),
+                new OpeningIntervalEntity(480, 1080),
+                new OpeningIntervalEntity(4 * 1440 + 1080, 5 * 1440 + 120),
+                new OpeningIntervalEntity(6 * 1440 + 1200, 7 * 1440)),
+            saved.getValue().getOpeningIntervals());
+    }
+
+    @Test
+    void shouldRejectInvalidOperationHours() {
+        // Given
+        RestaurantRequest request = new RestaurantRequest("Restaurante do João", "Rua das Flores, 123", null,
+            new KitchenTypeDTO(kitchenTypeId, "Japonesa", "Cozinha Japonesa"),
+            List.of(new OperationDaysTimeData(DayEnum.MONDAY, "8h", "18:00")),
+            ownerId, true, null);
+        when(kitchenTypeUseCase.getKitchenTypeById(kitchenTypeId)).thenReturn(kitchenTypeResponse);
+        when(kitchenTypeUseCase.getKitchenTypeByIdOrName("Japonesa")).thenReturn(kitchenTypeResponse);
+
+        // When & Then
+        assertThrows(BadRequestException.class, () -> restaurantUseCase.createRestaurant(request));
+        assertThrows(BadRequestException.class, () -> restaurantUseCase.updateRestaurant(restaurantId, request));
+        verify(restaurantRepository, never()).save(any());
+    }
+
+    @Test
+    void shouldListRestaurantsOpenAtGivenTimeWithIndexedQuery() {
+        // Given
+        when(restaurantRepository.findBasicOpenAt(anyInt(), any(Pageable.class))).thenReturn(List.of(restaurantEntity));
+
+        // When
+        // Segunda-feira, 20:30
+        CursorPage<RestaurantBasicResponse> response =
+            restaurantUseCase.getAllRestaurants(null, null, LocalDateTime.of(2025, 1, 6, 20, 30), null);
+
+        // Then
+        assertEquals(1, response.items().size());
+        verify(restaurantRepository).findBasicOpenAt(eq(20 * 60 + 30), any(Pageable.class));
+        verify(restaurantRepository, never()).findBasicBy(any(Pageable.class));
+    }
+
+    @Test
+    void shouldPageOpenNowRestaurantsFromMinuteBucket() {
+        // Given
+        when(restaurantRepository.findIdsOpenAt(anyInt()))
+            .thenReturn(List.of(restaurantWithId("c"), restaurantWithId("a"), restaurantWithId("b")));
+        when(restaurantRepository.findBasicByIdIn(List.of("a", "b"), Sort.by(Sort.Direction.ASC, "id")))
+            .thenReturn(List.of(restaurantWithId("a"), restaurantWithId("b")));
+        when(restaurantRepository.findBasicByIdIn(List.of("b", "c"), Sort.by(Sort.Direction.ASC, "id")))
+            .thenReturn(List.of(restaurantWithId("b"), restaurantWithId("c")));
+
+        // When
+        CursorPage<RestaurantBasicResponse> first = restaurantUseCase.getAllActiveRestaurants(null, 1, null, true);
+        CursorPage<RestaurantBasicResponse> second =
+            restaurantUseCase.getAllActiveRestaurants(first.nextCursor(), 1, null, true);
+
+        // Then
+        assertEquals("a", first.items().get(0).id());
+        assertTrue(first.hasNext());
+        assertEquals("b", second.items().get(0).id());
+        verify(restaurantRepository, never()).findBasicByIsActiveTrue(any(Pageable.class));
+    }
+
+    @Test
+    void shouldReuseOpenBucketAndApplyRestaurantChanges() {
+        // Given
+        when(restaurantRepository.findIdsOpenAt(600)).thenReturn(List.of(restaurantWithId("a"), restaurantWithId("b")));
+        assertEquals(List.of("a", "b"), openRestaurantsCache.findOpenIds(600, null, 10));
+
+        RestaurantEntity disabled = restaurantWithId("a");
+        disabled.setIsActive(false);
+        disabled.setOpeningIntervals(List.of(new OpeningIntervalEntity(480, 1080)));
+        RestaurantEntity opened = restaurantWithId("c");
+        opened.setIsActive(true);
+        opened.setOpeningIntervals(List.of(new OpeningIntervalEntity(480, 1080)));
+        when(restaurantRepository.findOpeningIntervalsById("a")).thenReturn(Optional.of(disabled));
+        when(restaurantRepository.findOpeningIntervalsById("c")).thenReturn(Optional.of(opened));
+
+        // When
+        openRestaurantsCache.onRestaurantChanged(new RestaurantChangedEvent("a"));
+        openRestaurantsCache.onRestaurantChanged(new RestaurantChangedEvent("c"));
+
+        // Then
+        assertEquals(List.of("b", "c"), openRestaurantsCache.findOpenIds(600, null, 10));
+        verify(restaurantRepository, times(1)).findIdsOpenAt(600);
+    }
+
+    @Test
+    void shouldRejectOpenAtTogetherWithOpenNow() {
+        // When & Then
+        assertThrows(BadRequestException.class,
+            () -> restaurantUseCase.getAllRestaurants(null, null, LocalDateTime.now(), true));
+    }
+
+    private RestaurantEntity restaurantWithId(String id) {
+        return RestaurantEntity.builder()
+            .id(id)
+            .name("Restaurante " + id)
+            .kitchenType(restaurantEntity.getKitchenType())
+            .isActive(true)
+            .build();
     }
 }
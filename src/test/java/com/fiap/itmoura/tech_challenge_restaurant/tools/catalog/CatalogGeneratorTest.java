@@ -0,0 +1,76 @@
+package com.fiap.itmoura.tech_challenge_restaurant.tools.catalog;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.fiap.itmoura.tech_challenge_restaurant.domain.entities.KitchenTypeEntity;
+import com.fiap.itmoura.tech_challenge_restaurant.domain.entities.RestaurantEntity;
+
+class CatalogGeneratorTest {
+
+    private static CatalogGenerator generator(long seed) {
+        CatalogOptions options = CatalogOptions.parse(new String[] {
+            "--seed", String.valueOf(seed), "--restaurants", "1000", "--max-menu-items", "200"
+        });
+        return new CatalogGenerator(options, CatalogGenerator.defaultKitchenTypes());
+    }
+
+    @Test
+    void shouldGenerateSameRestaurantForSameSeedAndIndex() {
+        // Given
+        CatalogGenerator first = generator(7);
+        CatalogGenerator second = generator(7);
+
+        // When
+        RestaurantEntity fromFirst = first.restaurant(123);
+        RestaurantEntity fromSecond = second.restaurant(123);
+
+        // Then
+        assertEquals(fromFirst, fromSecond);
+        assertNotNull(fromFirst.getId());
+        assertFalse(fromFirst.getMenu().isEmpty());
+    }
+
+    @Test
+    void shouldNotDependOnGenerationOrder() {
+        // Given
+        CatalogGenerator generator = generator(7);
+        RestaurantEntity expected = generator(7).restaurant(500);
+
+        // When
+        generator.restaurant(499);
+        generator.restaurant(10);
+        RestaurantEntity actual = generator.restaurant(500);
+
+        // Then
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    void shouldGenerateDifferentRestaurantsForDifferentSeedsOrIndexes() {
+        // Given
+        CatalogGenerator generator = generator(7);
+
+        // When
+        RestaurantEntity restaurant = generator.restaurant(1);
+
+        // Then
+        assertNotEquals(restaurant.getId(), generator.restaurant(2).getId());
+        assertNotEquals(restaurant.getId(), generator(8).restaurant(1).getId());
+    }
+
+    @Test
+    void shouldKeepKitchenTypeIdsStableAcrossCalls() {
+        // When
+        List<KitchenTypeEntity> first = CatalogGenerator.defaultKitchenTypes();
+        List<KitchenTypeEntity> second = CatalogGenerator.defaultKitchenTypes();
+
+        // Then
+        assertEquals(CatalogVocabulary.KITCHEN_TYPES.size(), first.size());
+        assertEquals(first.stream().map(KitchenTypeEntity::getId).toList(),
+            second.stream().map(KitchenTypeEntity::getId).toList());
+    }
+}
@@ -0,0 +1,74 @@
+package com.fiap.itmoura.tech_challenge_restaurant.tools.catalog;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+class ZipfDistributionTest {
+
+    private static final int SAMPLES = 200_000;
+
+    private static int[] histogram(int maximum, double exponent) {
+        ZipfDistribution distribution = new ZipfDistribution(maximum, exponent);
+        SplittableRandom random = new SplittableRandom(42);
+        int[] counts = new int[maximum + 1];
+        for (int i = 0; i < SAMPLES; i++) {
+            counts[distribution.sample(random)]++;
+        }
+        return counts;
+    }
+
+    @Test
+    void shouldSampleOnlyWithinOneToMaximum() {
+        // Given
+        ZipfDistribution distribution = new ZipfDistribution(50, 1.0);
+        SplittableRandom random = new SplittableRandom(1);
+
+        // When & Then
+        for (int i = 0; i < SAMPLES; i++) {
+            int sample = distribution.sample(random);
+            assertTrue(sample >= 1 && sample <= 50, "sample out of range: " + sample);
+        }
+    }
+
+    @Test
+    void shouldFollowInversePowerOfRank() {
+        // When
+        int[] counts = histogram(100, 1.0);
+
+        // Then: P(1) = 1 / H(100) ≈ 0,193 e P(k) ≈ P(1) / k
+        double harmonic = 0;
+        for (int rank = 1; rank <= 100; rank++) {
+            harmonic += 1.0 / rank;
+        }
+        assertEquals(1 / harmonic, counts[1] / (double) SAMPLES, 0.01);
+        assertEquals(2.0, counts[1] / (double) counts[2], 0.15);
+        assertEquals(10.0, counts[1] / (double) counts[10], 1.5);
+        assertTrue(counts[1] > counts[2] && counts[2] > counts[3] && counts[3] > counts[10]);
+    }
+
+    @Test
+    void shouldShortenTailWithLargerExponent() {
+        // When
+        int[] flat = histogram(100, 0.5);
+        int[] steep = histogram(100, 2.0);
+
+        // Then
+        assertTrue(steep[1] > flat[1]);
+        assertTrue(steep[100] < flat[100]);
+    }
+
+    @Test
+    void shouldAlwaysReturnOneWhenMaximumIsOne() {
+        // Given
+        ZipfDistribution distribution = new ZipfDistribution(1, 1.0);
+        SplittableRandom random = new SplittableRandom(3);
+
+        // When & Then
+        for (int i = 0; i < 1_000; i++) {
+            assertEquals(1, distribution.sample(random));
+        }
+    }
+}
@@ -0,0 +1,271 @@
+package com.fiap.itmoura.tech_challenge_restaurant.tools.catalog;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.function.ToIntFunction;
+import java.util.random.RandomGenerator;
+
+import org.springframework.data.mongodb.core.geo.GeoJsonPoint;
+
+import com.fiap.itmoura.tech_challenge_restaurant.application.openinghours.OpeningHours;
+import com.fiap.itmoura.tech_challenge_restaurant.domain.entities.DayEnum;
+import com.fiap.itmoura.tech_challenge_restaurant.domain.entities.KitchenTypeEntity;
+import com.fiap.itmoura.tech_challenge_restaurant.domain.entities.MenuCategoryEntity;
+import com.fiap.itmoura.tech_challenge_restaurant.domain.entities.MenuItemEntity;
+import com.fiap.itmoura.tech_challenge_restaurant.domain.entities.OperationDaysTimeData;
+import com.fiap.itmoura.tech_challenge_restaurant.domain.entities.RestaurantEntity;
+import com.fiap.itmoura.tech_challenge_restaurant.tools.catalog.CatalogVocabulary.Category;
+import com.fiap.itmoura.tech_challenge_restaurant.tools.catalog.CatalogVocabulary.City;
+import com.fiap.itmoura.tech_challenge_restaurant.tools.catalog.CatalogVocabulary.KitchenTypeProfile;
+import com.fiap.itmoura.tech_challenge_restaurant.tools.catalog.CatalogVocabulary.Schedule;
+
+// Restaurante de índice i é função só de (seed, i): lotes podem ser gerados em qualquer ordem e uma nova execução
+// com a mesma semente reproduz os mesmos IDs, nomes, menus e horários
+final class CatalogGenerator {
+
+    // Datas fixas em vez de now() para que o catálogo não mude entre execuções
+    private static final LocalDateTime CREATED_FROM = LocalDateTime.of(2024, 1, 1, 0, 0);
+    private static final int CREATED_WINDOW_MINUTES = 365 * 24 * 60;
+    private static final double WITHOUT_LOCATION_RATIO = 0.1;
+    // Desvio do deslocamento em graus em torno do centro da cidade (~5,5 km)
+    private static final double CITY_SPREAD_DEGREES = 0.05;
+    private static final double PRICE_SIGMA = 0.35;
+
+    private final CatalogOptions options;
+    private final List<KitchenTypeEntity> kitchenTypes;
+    private final ZipfDistribution menuSizes;
+    private final Weighted<Integer> kitchenTypeIndexes;
+    private final Weighted<City> cities;
+    private final int owners;
+
+    // kitchenTypes na mesma ordem de CatalogVocabulary.KITCHEN_TYPES (ver defaultKitchenTypes)
+    CatalogGenerator(CatalogOptions options, List<KitchenTypeEntity> kitchenTypes) {
+        this.options = options;
+        this.kitchenTypes = List.copyOf(kitchenTypes);
+        this.menuSizes = new ZipfDistribution(options.maxMenuItems(), options.zipfExponent());
+        List<Integer> indexes = new ArrayList<>();
+        for (int i = 0; i < CatalogVocabulary.KITCHEN_TYPES.size(); i++) {
+            indexes.add(i);
+        }
+        this.kitchenTypeIndexes = new Weighted<>(indexes, i -> CatalogVocabulary.KITCHEN_TYPES.get(i).weight());
+        this.cities = new Weighted<>(CatalogVocabulary.CITIES, City::weight);
+        // Em média três restaurantes por dono
+        this.owners = Math.max(1, options.restaurants() / 3);
+    }
+
+    // IDs derivados do nome: estáveis entre execuções e entre os alvos mongo e ndjson
+    static List<KitchenTypeEntity> defaultKitchenTypes() {
+        return CatalogVocabulary.KITCHEN_TYPES.stream()
+            .map(profile -> KitchenTypeEntity.builder()
+                .id(nameUuid("kitchen-type:" + profile.name()))
+                .name(profile.name())
+                .description(profile.description())
+                .createdAt(CREATED_FROM)
+                .lastUpdate(CREATED_FROM)
+                .build())
+            .toList();
+    }
+
+    RestaurantEntity restaurant(long index) {
+        RandomGenerator random = new SplittableRandom(options.seed() ^ (index * 0x9E3779B97F4A7C15L));
+
+        int kitchenTypeIndex = kitchenTypeIndexes.pick(random);
+        KitchenTypeProfile profile = CatalogVocabulary.KITCHEN_TYPES.get(kitchenTypeIndex);
+        List<OperationDaysTimeData> daysOperation = daysOperation(profile, random);
+        LocalDateTime createdAt = CREATED_FROM.plusMinutes(random.nextInt(CREATED_WINDOW_MINUTES));
+
+        return RestaurantEntity.builder()
+            .id(uuid(random))
+            .name(pick(CatalogVocabulary.NAME_PREFIXES, random) + " " + pick(CatalogVocabulary.NAME_SUFFIXES, random))
+            .address(address(random))
+            .location(random.nextDouble() < WITHOUT_LOCATION_RATIO ? null : location(random))
+            .kitchenType(kitchenTypes.get(kitchenTypeIndex))
+            .daysOperation(daysOperation)
+            .openingIntervals(OpeningHours.toIntervals(daysOperation))
+            .ownerId(nameUuid("owner:" + options.seed() + ":" + random.nextInt(owners)))
+            .isActive(random.nextDouble() >= options.inactiveRatio())
+            .menu(menu(profile, menuSizes.sample(random), random))
+            .createdAt(createdAt)
+            .lastUpdate(createdAt.plusMinutes(random.nextInt(30 * 24 * 60)))
+            .version(0L)
+            .build();
+    }
+
+    private String address(RandomGenerator random) {
+        return pick(CatalogVocabulary.STREET_TYPES, random) + " " + pick(CatalogVocabulary.STREET_NAMES, random)
+            + ", " + (1 + random.nextInt(4000));
+    }
+
+    private GeoJsonPoint location(RandomGenerator random) {
+        City city = cities.pick(random);
+        double latitude = city.latitude() + random.nextGaussian() * CITY_SPREAD_DEGREES;
+        double longitude = city.longitude()
+            + random.nextGaussian() * CITY_SPREAD_DEGREES / Math.cos(Math.toRadians(city.latitude()));
+        return new GeoJsonPoint(round(longitude), round(latitude));
+    }
+
+    // Modelo de horário do tipo de cozinha com até meia hora de deslocamento e, às vezes, uma folga semanal
+    private List<OperationDaysTimeData> daysOperation(KitchenTypeProfile profile, RandomGenerator random) {
+        List<Schedule> allowed = CatalogVocabulary.SCHEDULES.stream()
+            .filter(schedule -> profile.schedules().contains(schedule.name()))
+            .toList();
+        Schedule schedule = new Weighted<>(allowed, Schedule::weight).pick(random);
+
+        List<DayEnum> days = new ArrayList<>(schedule.days());
+        if (days.size() == DayEnum.values().length && random.nextDouble() < 0.3) {
+            days.remove(random.nextInt(days.size()));
+        }
+
+        int shift = (random.nextInt(5) - 2) * 15;
+        List<OperationDaysTimeData> daysOperation = new ArrayList<>();
+        for (DayEnum day : days) {
+            for (String[] hours : schedule.shifts()) {
+                daysOperation.add(OperationDaysTimeData.builder()
+                    .day(day)
+                    .openingHours(LocalTime.parse(hours[0]).plusMinutes(shift).toString())
+                    .closingHours(LocalTime.parse(hours[1]).plusMinutes(shift).toString())
+                    .build());
+            }
+        }
+        return daysOperation;
+    }
+
+    // Cada item vai para uma categoria com peso decrescente na ordem do perfil; categorias vazias são omitidas
+    private List<MenuCategoryEntity> menu(KitchenTypeProfile profile, int size, RandomGenerator random) {
+        List<Category> categories = profile.categories();
+        int[] counts = new int[categories.size()];
+        int totalWeight = categories.size() * (categories.size() + 1) / 2;
+        for (int i = 0; i < size; i++) {
+            int target = random.nextInt(totalWeight);
+            int category = 0;
+            for (int weight = categories.size(); target >= weight; weight--) {
+                target -= weight;
+                category++;
+            }
+            counts[category]++;
+        }
+
+        List<MenuCategoryEntity> menu = new ArrayList<>();
+        for (int c = 0; c < categories.size(); c++) {
+            if (counts[c] == 0) {
+                continue;
+            }
+            Category category = categories.get(c);
+            double priceFactor = priceFactor(category.type());
+            List<MenuItemEntity> items = new ArrayList<>(counts[c]);
+            for (int i = 0; i < counts[c]; i++) {
+                items.add(menuItem(itemName(category.dishes(), i), profile.medianPrice() * priceFactor, random));
+            }
+            menu.add(MenuCategoryEntity.builder()
+                .id(uuid(random))
+                .type(category.type())
+                .items(items)
+                .build());
+        }
+        return menu;
+    }
+
+    private MenuItemEntity menuItem(String name, double medianPrice, RandomGenerator random) {
+        String id = uuid(random);
+        return MenuItemEntity.builder()
+            .id(id)
+            .name(name)
+            .description(description(random))
+            .price(price(medianPrice, random))
+            .onlyForLocalConsumption(random.nextDouble() < 0.05)
+            .imagePath(random.nextDouble() < 0.6 ? "/images/menu/" + id + ".jpg" : null)
+            .isActive(random.nextDouble() < 0.95)
+            .build();
+    }
+
+    // Nomes base primeiro; depois do último, o mesmo prato com uma variação ("Pizza Calabresa Grande")
+    private static String itemName(List<String> dishes, int position) {
+        String dish = dishes.get(position % dishes.size());
+        int round = position / dishes.size();
+        if (round == 0) {
+            return dish;
+        }
+        List<String> variations = CatalogVocabulary.VARIATIONS;
+        String name = dish + " " + variations.get((round - 1) % variations.size());
+        int edition = (round - 1) / variations.size();
+        return edition == 0 ? name : name + " " + (edition + 1);
+    }
+
+    private static String description(RandomGenerator random) {
+        List<String> ingredients = CatalogVocabulary.INGREDIENTS;
+        String first = pick(ingredients, random);
+        String second = pick(ingredients, random);
+        return second.equals(first)
+            ? "Preparado com " + first
+            : "Preparado com " + first + " e " + second;
+    }
+
+    // Log-normal em torno da mediana do tipo de cozinha, com final ",90"
+    private static BigDecimal price(double median, RandomGenerator random) {
+        double price = Math.exp(Math.log(median) + random.nextGaussian() * PRICE_SIGMA);
+        return BigDecimal.valueOf(Math.max(1, Math.floor(price))).add(new BigDecimal("0.90"))
+            .setScale(2, RoundingMode.UNNECESSARY);
+    }
+
+    private static double priceFactor(String categoryType) {
+        return switch (categoryType) {
+            case "Bebidas" -> 0.2;
+            case "Sobremesas", "Acompanhamentos", "Quitandas", "Tapiocas" -> 0.45;
+            case "Porções", "Esfihas", "Saladas" -> 0.7;
+            case "Combinados" -> 1.6;
+            default -> 1;
+        };
+    }
+
+    private static <T> T pick(List<T> values, RandomGenerator random) {
+        return values.get(random.nextInt(values.size()));
+    }
+
+    private static double round(double coordinate) {
+        return Math.round(coordinate * 1_000_000) / 1_000_000d;
+    }
+
+    // UUID v4 a partir do gerador da semente, em vez de UUID.randomUUID()
+    private static String uuid(RandomGenerator random) {
+        long most = (random.nextLong() & ~0xF000L) | 0x4000L;
+        long least = (random.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(most, least).toString();
+    }
+
+    private static String nameUuid(String name) {
+        return UUID.nameUUIDFromBytes(name.getBytes(StandardCharsets.UTF_8)).toString();
+    }
+
+    // Escolha ponderada por busca linear na soma acumulada; as listas têm no máximo algumas dezenas de entradas
+    private static final class Weighted<T> {
+
+        private final List<T> values;
+        private final int[] cumulative;
+
+        Weighted(List<T> values, ToIntFunction<T> weight) {
+            this.values = values;
+            this.cumulative = new int[values.size()];
+            int total = 0;
+            for (int i = 0; i < values.size(); i++) {
+                total += weight.applyAsInt(values.get(i));
+                cumulative[i] = total;
+            }
+        }
+
+        T pick(RandomGenerator random) {
+            int target = random.nextInt(cumulative[cumulative.length - 1]);
+            int i = 0;
+            while (cumulative[i] <= target) {
+                i++;
+            }
+            return values.get(i);
+        }
+    }
+}
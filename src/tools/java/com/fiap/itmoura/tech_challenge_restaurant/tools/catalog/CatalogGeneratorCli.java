@@ -0,0 +1,110 @@
+package com.fiap.itmoura.tech_challenge_restaurant.tools.catalog;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import com.fiap.itmoura.tech_challenge_restaurant.domain.entities.MenuCategoryEntity;
+import com.fiap.itmoura.tech_challenge_restaurant.domain.entities.RestaurantEntity;
+
+// Gerador de catálogo sintético para testes de escala: ./gradlew generateCatalog --args='--help'
+public final class CatalogGeneratorCli {
+
+    private static final long PROGRESS_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(5);
+
+    private CatalogGeneratorCli() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        CatalogOptions options;
+        try {
+            options = CatalogOptions.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println();
+            System.err.print(CatalogOptions.USAGE);
+            System.exit(2);
+            return;
+        }
+        if (options.help()) {
+            System.out.print(CatalogOptions.USAGE);
+            return;
+        }
+
+        System.out.printf("Generating %,d restaurants (seed %d, target %s, menu size zipf(%d, %.2f))%n",
+            options.restaurants(), options.seed(), options.target().name().toLowerCase(),
+            options.maxMenuItems(), options.zipfExponent());
+
+        int[] menuSizes = new int[options.restaurants()];
+        long active = 0;
+        long withLocation = 0;
+        long started = System.nanoTime();
+        long lastProgress = started;
+
+        CatalogWriter writer = options.target() == CatalogOptions.Target.MONGO
+            ? new MongoCatalogWriter(options)
+            : new NdjsonCatalogWriter(options);
+        try {
+            CatalogGenerator generator = new CatalogGenerator(options,
+                writer.prepare(CatalogGenerator.defaultKitchenTypes()));
+
+            for (int from = 0; from < options.restaurants(); from += options.batchSize()) {
+                int to = Math.min(options.restaurants(), from + options.batchSize());
+                List<RestaurantEntity> batch = new ArrayList<>(to - from);
+                for (int index = from; index < to; index++) {
+                    RestaurantEntity restaurant = generator.restaurant(index);
+                    menuSizes[index] = menuSize(restaurant);
+                    active += Boolean.TRUE.equals(restaurant.getIsActive()) ? 1 : 0;
+                    withLocation += restaurant.getLocation() != null ? 1 : 0;
+                    batch.add(restaurant);
+                }
+                writer.write(batch);
+
+                long now = System.nanoTime();
+                if (now - lastProgress >= PROGRESS_INTERVAL_NANOS) {
+                    lastProgress = now;
+                    System.out.printf("  %,d/%,d restaurants (%.0f/s)%n", to, options.restaurants(), rate(to, now - started));
+                }
+            }
+            System.out.println("Waiting for pending writes" + (options.target() == CatalogOptions.Target.MONGO
+                ? ", building indexes and reconciling kitchen type counters" : ""));
+        } finally {
+            // Espera os lotes em voo: o resumo e skipped() só valem depois do close
+            writer.close();
+        }
+
+        long elapsed = System.nanoTime() - started;
+        Arrays.sort(menuSizes);
+        long menuItems = Arrays.stream(menuSizes).asLongStream().sum();
+
+        System.out.printf("Done in %.1fs: %,d restaurants (%.0f/s) into %s%n",
+            elapsed / 1e9, options.restaurants(), rate(options.restaurants(), elapsed), writer.destination());
+        System.out.printf("  active: %,d, inactive: %,d, with location: %,d%n",
+            active, options.restaurants() - active, withLocation);
+        System.out.printf("  menu items: %,d total, per restaurant p50 %d, p90 %d, p99 %d, max %d%n",
+            menuItems, percentile(menuSizes, 0.50), percentile(menuSizes, 0.90), percentile(menuSizes, 0.99),
+            menuSizes[menuSizes.length - 1]);
+        if (writer.skipped() > 0) {
+            System.out.printf("  skipped %,d restaurants already present (same seed without --drop)%n", writer.skipped());
+        }
+    }
+
+    private static int menuSize(RestaurantEntity restaurant) {
+        int size = 0;
+        for (MenuCategoryEntity category : restaurant.getMenu()) {
+            size += category.getItems().size();
+        }
+        return size;
+    }
+
+    // Nearest-rank sobre o vetor já ordenado
+    private static int percentile(int[] sorted, double quantile) {
+        int rank = (int) Math.ceil(quantile * sorted.length);
+        return sorted[Math.max(0, rank - 1)];
+    }
+
+    private static double rate(long count, long nanos) {
+        return nanos > 0 ? count / (nanos / 1e9) : 0;
+    }
+}
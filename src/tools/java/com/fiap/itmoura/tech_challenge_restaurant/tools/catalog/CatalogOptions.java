@@ -0,0 +1,122 @@
+package com.fiap.itmoura.tech_challenge_restaurant.tools.catalog;
+
+import java.nio.file.Path;
+
+// Opções de linha de comando do gerador; valores inválidos viram IllegalArgumentException com a mensagem para o usuário
+record CatalogOptions(
+    Target target,
+    int restaurants,
+    long seed,
+    int maxMenuItems,
+    double zipfExponent,
+    double inactiveRatio,
+    int batchSize,
+    int parallelism,
+    String mongoUri,
+    Path output,
+    boolean drop,
+    boolean help
+) {
+
+    enum Target { MONGO, NDJSON }
+
+    static final String USAGE = """
+        Uso: ./gradlew generateCatalog --args='[opções]'
+
+          --target mongo|ndjson   destino: insertMany direto no MongoDB ou arquivos para a API (padrão: ndjson)
+          --restaurants N         quantidade de restaurantes (padrão: 10000)
+          --seed N                semente; a mesma semente gera o mesmo catálogo (padrão: 42)
+          --max-menu-items N      maior menu possível; o tamanho segue uma Zipf em [1, N] (padrão: 5000)
+          --zipf-exponent X       expoente da Zipf; maior = cauda mais curta (padrão: 1.0)
+          --inactive-ratio X      fração de restaurantes inativos, de 0 a 1 (padrão: 0.1)
+          --batch-size N          restaurantes por insertMany (padrão: 1000)
+          --parallelism N         insertMany simultâneos no alvo mongo (padrão: 4)
+          --mongo-uri URI         conexão do alvo mongo (padrão: $MONGO_URI ou o do application.yml)
+          --output DIR            diretório do alvo ndjson (padrão: build/catalog)
+          --drop                  apaga restaurants e kitchen_types antes de inserir (alvo mongo)
+          --help                  mostra esta ajuda
+        """;
+
+    private static final String DEFAULT_MONGO_URI = "mongodb://localhost:27017/tech_challenge_restaurants";
+
+    static CatalogOptions parse(String[] args) {
+        Target target = Target.NDJSON;
+        int restaurants = 10_000;
+        long seed = 42;
+        int maxMenuItems = 5_000;
+        double zipfExponent = 1.0;
+        double inactiveRatio = 0.1;
+        int batchSize = 1_000;
+        int parallelism = 4;
+        String mongoUri = System.getenv().getOrDefault("MONGO_URI", DEFAULT_MONGO_URI);
+        Path output = Path.of("build", "catalog");
+        boolean drop = false;
+        boolean help = false;
+
+        for (int i = 0; i < args.length; i++) {
+            String option = args[i];
+            switch (option) {
+                case "--drop" -> drop = true;
+                case "--help", "-h" -> help = true;
+                case "--target" -> target = parseTarget(value(args, ++i, option));
+                case "--restaurants" -> restaurants = positiveInt(value(args, ++i, option), option);
+                case "--seed" -> seed = parseLong(value(args, ++i, option), option);
+                case "--max-menu-items" -> maxMenuItems = positiveInt(value(args, ++i, option), option);
+                case "--zipf-exponent" -> zipfExponent = parseDouble(value(args, ++i, option), option, 0, 10);
+                case "--inactive-ratio" -> inactiveRatio = parseDouble(value(args, ++i, option), option, 0, 1);
+                case "--batch-size" -> batchSize = positiveInt(value(args, ++i, option), option);
+                case "--parallelism" -> parallelism = positiveInt(value(args, ++i, option), option);
+                case "--mongo-uri" -> mongoUri = value(args, ++i, option);
+                case "--output" -> output = Path.of(value(args, ++i, option));
+                default -> throw new IllegalArgumentException("Unknown option: " + option);
+            }
+        }
+
+        return new CatalogOptions(target, restaurants, seed, maxMenuItems, zipfExponent, inactiveRatio, batchSize,
+            parallelism, mongoUri, output, drop, help);
+    }
+
+    private static String value(String[] args, int index, String option) {
+        if (index >= args.length) {
+            throw new IllegalArgumentException("Missing value for " + option);
+        }
+        return args[index];
+    }
+
+    private static Target parseTarget(String value) {
+        try {
+            return Target.valueOf(value.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid --target: " + value + " (expected mongo or ndjson)");
+        }
+    }
+
+    private static int positiveInt(String value, String option) {
+        long parsed = parseLong(value, option);
+        if (parsed < 1 || parsed > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException(option + " must be between 1 and " + Integer.MAX_VALUE + ": " + value);
+        }
+        return (int) parsed;
+    }
+
+    private static long parseLong(String value, String option) {
+        try {
+            return Long.parseLong(value.replace("_", ""));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid number for " + option + ": " + value);
+        }
+    }
+
+    private static double parseDouble(String value, String option, double min, double max) {
+        double parsed;
+        try {
+            parsed = Double.parseDouble(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid number for " + option + ": " + value);
+        }
+        if (!(parsed >= min && parsed <= max)) {
+            throw new IllegalArgumentException(option + " must be between " + min + " and " + max + ": " + value);
+        }
+        return parsed;
+    }
+}
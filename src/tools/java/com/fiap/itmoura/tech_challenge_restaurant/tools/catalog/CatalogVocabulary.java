@@ -0,0 +1,183 @@
+package com.fiap.itmoura.tech_challenge_restaurant.tools.catalog;
+
+import java.util.List;
+
+import com.fiap.itmoura.tech_challenge_restaurant.domain.entities.DayEnum;
+
+// Vocabulário e pesos do catálogo sintético: proporções de tipos de cozinha, horários e cidades próximas de um
+// marketplace de delivery brasileiro. Os pesos são relativos dentro de cada lista
+final class CatalogVocabulary {
+
+    private CatalogVocabulary() {
+    }
+
+    record KitchenTypeProfile(String name, String description, int weight, double medianPrice,
+                              List<Category> categories, List<String> schedules) {
+    }
+
+    // Categorias na ordem de relevância: as primeiras recebem mais itens nos menus grandes
+    record Category(String type, List<String> dishes) {
+    }
+
+    // Um ou mais turnos nos dias indicados; fechamento antes da abertura atravessa a meia-noite
+    record Schedule(String name, int weight, List<DayEnum> days, List<String[]> shifts) {
+    }
+
+    record City(String name, double latitude, double longitude, int weight) {
+    }
+
+    private static final List<DayEnum> ALL_DAYS = List.of(DayEnum.values());
+    private static final List<DayEnum> WEEKDAYS = List.of(DayEnum.MONDAY, DayEnum.TUESDAY, DayEnum.WEDNESDAY,
+        DayEnum.THURSDAY, DayEnum.FRIDAY);
+    private static final List<DayEnum> MONDAY_TO_SATURDAY = List.of(DayEnum.MONDAY, DayEnum.TUESDAY, DayEnum.WEDNESDAY,
+        DayEnum.THURSDAY, DayEnum.FRIDAY, DayEnum.SATURDAY);
+    private static final List<DayEnum> TUESDAY_TO_SUNDAY = List.of(DayEnum.TUESDAY, DayEnum.WEDNESDAY, DayEnum.THURSDAY,
+        DayEnum.FRIDAY, DayEnum.SATURDAY, DayEnum.SUNDAY);
+
+    static final List<Schedule> SCHEDULES = List.of(
+        new Schedule("almoco", 20, MONDAY_TO_SATURDAY, List.<String[]>of(new String[] { "11:00", "15:00" })),
+        new Schedule("jantar", 25, TUESDAY_TO_SUNDAY, List.<String[]>of(new String[] { "18:00", "23:30" })),
+        new Schedule("almoco-e-jantar", 20, ALL_DAYS,
+            List.of(new String[] { "11:30", "15:00" }, new String[] { "18:30", "23:00" })),
+        new Schedule("dia-todo", 20, ALL_DAYS, List.<String[]>of(new String[] { "10:00", "22:00" })),
+        new Schedule("madrugada", 8, ALL_DAYS, List.<String[]>of(new String[] { "18:00", "03:00" })),
+        new Schedule("comercial", 7, WEEKDAYS, List.<String[]>of(new String[] { "07:00", "18:00" })));
+
+    private static final List<String> DRINKS = List.of("Refrigerante Lata", "Suco de Laranja", "Suco de Maracujá",
+        "Água Mineral", "Água com Gás", "Chá Gelado", "Limonada Suíça", "Cerveja Long Neck", "Guaraná", "Caldo de Cana");
+    private static final List<String> DESSERTS = List.of("Pudim de Leite", "Mousse de Maracujá", "Brigadeiro",
+        "Pavê", "Petit Gâteau", "Sorvete", "Quindim", "Romeu e Julieta", "Torta de Limão", "Brownie");
+
+    static final List<KitchenTypeProfile> KITCHEN_TYPES = List.of(
+        new KitchenTypeProfile("Brasileira", "Comida caseira brasileira", 22, 32,
+            List.of(category("Pratos Executivos", "Bife Acebolado", "Frango Grelhado", "Feijoada", "Strogonoff de Frango",
+                    "Picadinho", "Filé de Tilápia", "Omelete", "Parmegiana de Frango", "Costela no Bafo", "Escondidinho"),
+                category("Porções", "Batata Frita", "Mandioca Frita", "Calabresa Acebolada", "Frango a Passarinho",
+                    "Torresmo", "Polenta Frita", "Isca de Peixe"),
+                category("Bebidas", DRINKS),
+                category("Sobremesas", DESSERTS)),
+            List.of("almoco", "almoco-e-jantar", "comercial")),
+        new KitchenTypeProfile("Pizzaria", "Pizzas tradicionais e especiais", 14, 58,
+            List.of(category("Pizzas Salgadas", "Pizza Margherita", "Pizza Calabresa", "Pizza Portuguesa", "Pizza Quatro Queijos",
+                    "Pizza Frango com Catupiry", "Pizza Napolitana", "Pizza Pepperoni", "Pizza Muçarela", "Pizza Atum",
+                    "Pizza Rúcula com Tomate Seco"),
+                category("Pizzas Doces", "Pizza de Chocolate", "Pizza Romeu e Julieta", "Pizza de Banana com Canela",
+                    "Pizza de Prestígio"),
+                category("Esfihas", "Esfiha de Carne", "Esfiha de Queijo", "Esfiha de Frango", "Esfiha de Calabresa"),
+                category("Bebidas", DRINKS)),
+            List.of("jantar", "madrugada")),
+        new KitchenTypeProfile("Japonesa", "Sushi, sashimi e pratos quentes japoneses", 12, 65,
+            List.of(category("Sushis", "Niguiri de Salmão", "Uramaki Filadélfia", "Hossomaki de Pepino", "Hot Roll",
+                    "Temaki de Salmão", "Joe de Salmão", "Uramaki Skin"),
+                category("Sashimis", "Sashimi de Salmão", "Sashimi de Atum", "Sashimi de Peixe Branco"),
+                category("Pratos Quentes", "Yakisoba", "Lámen", "Guioza", "Tempurá de Legumes", "Teppan de Frango"),
+                category("Combinados", "Combinado Tradicional", "Combinado Salmão", "Combinado Hot", "Barca Especial"),
+                category("Bebidas", DRINKS)),
+            List.of("jantar", "almoco-e-jantar")),
+        new KitchenTypeProfile("Lanches", "Hambúrgueres, sanduíches e salgados", 12, 30,
+            List.of(category("Hambúrgueres", "X-Burguer", "X-Salada", "X-Bacon", "X-Tudo", "Smash Burger", "Cheddar Burger",
+                    "Burger de Costela", "Burger Vegetariano"),
+                category("Sanduíches", "Bauru", "Misto Quente", "Beirute", "Sanduíche Natural", "Pão com Linguiça"),
+                category("Acompanhamentos", "Batata Frita", "Onion Rings", "Batata Rústica", "Nuggets"),
+                category("Bebidas", DRINKS),
+                category("Sobremesas", DESSERTS)),
+            List.of("jantar", "madrugada", "dia-todo")),
+        new KitchenTypeProfile("Italiana", "Massas, risotos e cantina italiana", 8, 62,
+            List.of(category("Massas", "Espaguete à Bolonhesa", "Lasanha", "Nhoque ao Sugo", "Fettuccine Alfredo",
+                    "Penne ao Pesto", "Talharim à Carbonara", "Ravióli de Queijo", "Capeletti in Brodo"),
+                category("Risotos", "Risoto de Funghi", "Risoto de Camarão", "Risoto de Limão Siciliano"),
+                category("Carnes", "Filé à Parmegiana", "Saltimbocca", "Ossobuco"),
+                category("Bebidas", DRINKS),
+                category("Sobremesas", DESSERTS)),
+            List.of("almoco-e-jantar", "jantar")),
+        new KitchenTypeProfile("Árabe", "Esfihas, kibes e pratos árabes", 6, 36,
+            List.of(category("Esfihas", "Esfiha de Carne", "Esfiha de Queijo", "Esfiha de Zaatar", "Esfiha de Escarola"),
+                category("Pratos", "Kibe Frito", "Kibe Cru", "Charuto de Uva", "Kafta", "Shawarma", "Falafel", "Homus", "Tabule"),
+                category("Bebidas", DRINKS),
+                category("Sobremesas", "Baklava", "Malabie", "Ataif")),
+            List.of("dia-todo", "almoco-e-jantar")),
+        new KitchenTypeProfile("Churrascaria", "Carnes na brasa e rodízio", 6, 78,
+            List.of(category("Carnes", "Picanha", "Fraldinha", "Maminha", "Costela", "Cupim", "Alcatra", "Linguiça Toscana",
+                    "Coração de Frango"),
+                category("Acompanhamentos", "Farofa", "Vinagrete", "Arroz Branco", "Pão de Alho", "Mandioca Cozida"),
+                category("Bebidas", DRINKS),
+                category("Sobremesas", DESSERTS)),
+            List.of("almoco-e-jantar", "almoco")),
+        new KitchenTypeProfile("Mineira", "Culinária de Minas Gerais", 5, 34,
+            List.of(category("Pratos Típicos", "Tutu de Feijão", "Frango com Quiabo", "Feijão Tropeiro", "Vaca Atolada",
+                    "Leitão à Pururuca", "Angu com Couve"),
+                category("Quitandas", "Pão de Queijo", "Biscoito de Polvilho", "Broa de Milho", "Rosca"),
+                category("Bebidas", DRINKS),
+                category("Sobremesas", "Doce de Leite", "Goiabada com Queijo", "Ambrosia", "Doce de Abóbora")),
+            List.of("almoco", "comercial")),
+        new KitchenTypeProfile("Nordestina", "Sabores do Nordeste", 4, 38,
+            List.of(category("Pratos Típicos", "Baião de Dois", "Carne de Sol", "Escondidinho de Charque", "Buchada",
+                    "Moqueca Baiana", "Acarajé", "Sarapatel"),
+                category("Tapiocas", "Tapioca de Queijo Coalho", "Tapioca de Carne de Sol", "Tapioca de Coco"),
+                category("Bebidas", DRINKS),
+                category("Sobremesas", "Cocada", "Bolo de Rolo", "Cartola", "Queijadinha")),
+            List.of("almoco", "almoco-e-jantar")),
+        new KitchenTypeProfile("Chinesa", "Culinária chinesa", 4, 40,
+            List.of(category("Pratos", "Frango Xadrez", "Carne com Brócolis", "Chop Suey", "Yakisoba de Carne",
+                    "Arroz Chop Suey", "Rolinho Primavera", "Porco Agridoce"),
+                category("Bebidas", DRINKS)),
+            List.of("almoco-e-jantar", "dia-todo")),
+        new KitchenTypeProfile("Vegetariana", "Pratos vegetarianos e veganos", 3, 36,
+            List.of(category("Pratos", "Moqueca de Banana-da-Terra", "Risoto de Cogumelos", "Bowl de Grãos", "Quibe de Abóbora",
+                    "Hambúrguer de Grão-de-Bico", "Lasanha de Berinjela", "Curry de Legumes"),
+                category("Saladas", "Salada Caesar Vegana", "Salada de Quinoa", "Salada Tropical"),
+                category("Bebidas", DRINKS),
+                category("Sobremesas", DESSERTS)),
+            List.of("almoco", "comercial")),
+        new KitchenTypeProfile("Mexicana", "Tacos, burritos e nachos", 2, 44,
+            List.of(category("Pratos", "Taco de Carne", "Burrito de Frango", "Quesadilla", "Nachos com Guacamole",
+                    "Chili com Carne", "Enchilada"),
+                category("Bebidas", DRINKS)),
+            List.of("jantar", "madrugada")),
+        new KitchenTypeProfile("Frutos do Mar", "Peixes e frutos do mar", 2, 85,
+            List.of(category("Pratos", "Moqueca Capixaba", "Camarão na Moranga", "Bobó de Camarão", "Peixe Grelhado",
+                    "Casquinha de Siri", "Lula à Dorê", "Paella"),
+                category("Porções", "Isca de Peixe", "Camarão Empanado", "Bolinho de Bacalhau"),
+                category("Bebidas", DRINKS)),
+            List.of("almoco-e-jantar", "almoco")));
+
+    // Sufixos que multiplicam os nomes base quando o menu tem mais itens que a categoria
+    static final List<String> VARIATIONS = List.of("Tradicional", "Especial", "da Casa", "Individual",
+        "para Dois", "Grande", "Média", "Completo", "Light", "com Queijo", "Gratinado", "Picante", "Premium", "Família");
+
+    static final List<String> INGREDIENTS = List.of("alho", "cebola", "tomate", "queijo muçarela", "requeijão", "bacon",
+        "manjericão", "azeite", "pimenta", "cheiro-verde", "creme de leite", "cogumelos", "batata palha", "farofa",
+        "arroz", "feijão", "salada", "molho especial", "limão", "coentro", "gengibre", "gergelim", "parmesão", "mel");
+
+    static final List<String> NAME_PREFIXES = List.of("Restaurante", "Cantina", "Casa", "Bistrô", "Boteco", "Empório",
+        "Cozinha", "Sabor", "Recanto", "Espaço", "Armazém", "Tempero", "Quintal", "Panela");
+
+    static final List<String> NAME_SUFFIXES = List.of("da Maria", "do João", "da Vó Lúcia", "do Zé", "da Ana", "do Chef",
+        "Mineiro", "Paulista", "Carioca", "da Esquina", "da Vila", "do Porto", "Central", "da Praça", "do Bairro",
+        "Bom Gosto", "Brasil", "da Serra", "do Sul", "Nordeste", "da Fazenda", "Imperial", "Dona Benta", "Seu Antônio");
+
+    static final List<String> STREET_TYPES = List.of("Rua", "Rua", "Rua", "Avenida", "Avenida", "Alameda", "Travessa", "Praça");
+
+    static final List<String> STREET_NAMES = List.of("das Flores", "Augusta", "Paulista", "Sete de Setembro",
+        "XV de Novembro", "Tiradentes", "Dom Pedro II", "Santos Dumont", "Rio Branco", "Getúlio Vargas", "das Palmeiras",
+        "dos Andradas", "Marechal Deodoro", "Barão de Mauá", "São João", "da Liberdade", "Oscar Freire", "Brigadeiro Faria Lima",
+        "Afonso Pena", "Boa Viagem", "Atlântica", "dos Bandeirantes", "Princesa Isabel", "Castro Alves", "Ipiranga");
+
+    static final List<City> CITIES = List.of(
+        new City("São Paulo", -23.5505, -46.6333, 40),
+        new City("Rio de Janeiro", -22.9068, -43.1729, 20),
+        new City("Belo Horizonte", -19.9167, -43.9345, 9),
+        new City("Salvador", -12.9777, -38.5016, 7),
+        new City("Curitiba", -25.4284, -49.2733, 7),
+        new City("Porto Alegre", -30.0346, -51.2177, 6),
+        new City("Recife", -8.0476, -34.8770, 6),
+        new City("Fortaleza", -3.7319, -38.5267, 5));
+
+    private static Category category(String type, String... dishes) {
+        return new Category(type, List.of(dishes));
+    }
+
+    private static Category category(String type, List<String> dishes) {
+        return new Category(type, dishes);
+    }
+}
@@ -0,0 +1,21 @@
+package com.fiap.itmoura.tech_challenge_restaurant.tools.catalog;
+
+import java.util.List;
+
+import com.fiap.itmoura.tech_challenge_restaurant.domain.entities.KitchenTypeEntity;
+import com.fiap.itmoura.tech_challenge_restaurant.domain.entities.RestaurantEntity;
+
+// Destino do catálogo; write é chamado pela thread principal na ordem dos lotes
+interface CatalogWriter extends AutoCloseable {
+
+    // Grava os tipos de cozinha e devolve os que os restaurantes devem referenciar (mesma ordem)
+    List<KitchenTypeEntity> prepare(List<KitchenTypeEntity> kitchenTypes) throws Exception;
+
+    void write(List<RestaurantEntity> restaurants) throws Exception;
+
+    // Restaurantes que já existiam no destino (mesma semente sem --drop)
+    long skipped();
+
+    // Onde o catálogo foi gravado, para o resumo
+    String destination();
+}
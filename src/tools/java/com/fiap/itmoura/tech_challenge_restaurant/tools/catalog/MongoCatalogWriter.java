@@ -0,0 +1,166 @@
+package com.fiap.itmoura.tech_challenge_restaurant.tools.catalog;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.bson.Document;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+import com.fiap.itmoura.tech_challenge_restaurant.application.ports.out.KitchenTypeRepositoryCustomImpl;
+import com.fiap.itmoura.tech_challenge_restaurant.domain.entities.KitchenTypeDocumentEntity;
+import com.fiap.itmoura.tech_challenge_restaurant.domain.entities.KitchenTypeEntity;
+import com.fiap.itmoura.tech_challenge_restaurant.domain.entities.RestaurantEntity;
+import com.mongodb.ConnectionString;
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.InsertManyOptions;
+
+// insertMany não ordenado direto na coleção, com até parallelism lotes em voo. Os documentos saem do mesmo
+// MappingMongoConverter da aplicação, então o formato é o que os repositórios leem. IDs repetidos (mesma semente
+// sem --drop) são contados como ignorados; os contadores dos tipos de cozinha são recalculados ao final
+final class MongoCatalogWriter implements CatalogWriter {
+
+    private static final String DEFAULT_DATABASE = "tech_challenge_restaurants";
+    private static final int DUPLICATE_KEY = 11000;
+
+    private final CatalogOptions options;
+    private final MongoClient client;
+    private final MongoTemplate mongoTemplate;
+    private final MongoCollection<Document> restaurants;
+    private final String destination;
+    private final ExecutorService executor;
+    private final Semaphore inFlight;
+    private final AtomicLong skipped = new AtomicLong();
+    private final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+    MongoCatalogWriter(CatalogOptions options) {
+        ConnectionString connectionString = new ConnectionString(options.mongoUri());
+        this.options = options;
+        this.client = MongoClients.create(connectionString);
+        this.mongoTemplate = new MongoTemplate(client,
+            connectionString.getDatabase() != null ? connectionString.getDatabase() : DEFAULT_DATABASE);
+        this.restaurants = mongoTemplate.getCollection(mongoTemplate.getCollectionName(RestaurantEntity.class));
+        this.destination = restaurants.getNamespace().getFullName();
+        this.executor = Executors.newFixedThreadPool(options.parallelism());
+        this.inFlight = new Semaphore(options.parallelism());
+    }
+
+    @Override
+    public List<KitchenTypeEntity> prepare(List<KitchenTypeEntity> kitchenTypes) {
+        if (options.drop()) {
+            mongoTemplate.dropCollection(RestaurantEntity.class);
+            mongoTemplate.dropCollection(KitchenTypeDocumentEntity.class);
+        }
+        ensureIndexes(KitchenTypeDocumentEntity.class);
+
+        // Tipo já cadastrado com o mesmo nome é reaproveitado, para não violar o índice único de nome
+        List<KitchenTypeEntity> resolved = new ArrayList<>();
+        for (KitchenTypeEntity kitchenType : kitchenTypes) {
+            KitchenTypeDocumentEntity document = mongoTemplate.findOne(
+                Query.query(Criteria.where("name").is(kitchenType.getName())), KitchenTypeDocumentEntity.class);
+            if (document == null) {
+                document = mongoTemplate.insert(KitchenTypeDocumentEntity.builder()
+                    .id(kitchenType.getId())
+                    .name(kitchenType.getName())
+                    .description(kitchenType.getDescription())
+                    .createdAt(kitchenType.getCreatedAt())
+                    .lastUpdate(kitchenType.getLastUpdate())
+                    .restaurantCount(0L)
+                    .activeRestaurantCount(0L)
+                    .build());
+            }
+            resolved.add(KitchenTypeEntity.fromDocument(document));
+        }
+        return resolved;
+    }
+
+    @Override
+    public void write(List<RestaurantEntity> batch) throws InterruptedException {
+        inFlight.acquire();
+        if (failure.get() != null) {
+            inFlight.release();
+            throwIfFailed();
+        }
+        executor.execute(() -> {
+            try {
+                insert(batch);
+            } catch (Throwable e) {
+                failure.compareAndSet(null, e);
+            } finally {
+                inFlight.release();
+            }
+        });
+    }
+
+    @Override
+    public long skipped() {
+        return skipped.get();
+    }
+
+    @Override
+    public String destination() {
+        return destination;
+    }
+
+    // Índices criados depois da carga: construir uma vez sai mais barato que manter a cada insertMany
+    @Override
+    public void close() throws InterruptedException {
+        try {
+            inFlight.acquire(options.parallelism());
+            executor.shutdown();
+            throwIfFailed();
+
+            ensureIndexes(RestaurantEntity.class);
+            new KitchenTypeRepositoryCustomImpl(mongoTemplate).reconcileRestaurantCounts();
+        } finally {
+            executor.shutdownNow();
+            client.close();
+        }
+    }
+
+    private void insert(List<RestaurantEntity> batch) {
+        List<Document> documents = new ArrayList<>(batch.size());
+        for (RestaurantEntity restaurant : batch) {
+            Document document = new Document();
+            mongoTemplate.getConverter().write(restaurant, document);
+            documents.add(document);
+        }
+
+        try {
+            restaurants.insertMany(documents, new InsertManyOptions().ordered(false));
+        } catch (MongoBulkWriteException e) {
+            for (BulkWriteError error : e.getWriteErrors()) {
+                if (error.getCode() != DUPLICATE_KEY) {
+                    throw e;
+                }
+            }
+            skipped.addAndGet(e.getWriteErrors().size());
+        }
+    }
+
+    private void ensureIndexes(Class<?> entity) {
+        IndexOperations indexOperations = mongoTemplate.indexOps(entity);
+        new MongoPersistentEntityIndexResolver(mongoTemplate.getConverter().getMappingContext())
+            .resolveIndexFor(entity)
+            .forEach(indexOperations::createIndex);
+    }
+
+    private void throwIfFailed() {
+        Throwable error = failure.get();
+        if (error != null) {
+            throw new IllegalStateException("Catalog insert failed: " + error.getMessage(), error);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.fiap.itmoura.tech_challenge_restaurant.tools.catalog;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fiap.itmoura.tech_challenge_restaurant.application.models.kitchentype.KitchenTypeDTO;
+import com.fiap.itmoura.tech_challenge_restaurant.application.models.kitchentype.KitchenTypeRequest;
+import com.fiap.itmoura.tech_challenge_restaurant.application.models.menu.MenuCategoryDTO;
+import com.fiap.itmoura.tech_challenge_restaurant.application.models.restaurant.GeoPointDTO;
+import com.fiap.itmoura.tech_challenge_restaurant.application.models.restaurant.RestaurantRequest;
+import com.fiap.itmoura.tech_challenge_restaurant.domain.entities.KitchenTypeEntity;
+import com.fiap.itmoura.tech_challenge_restaurant.domain.entities.RestaurantEntity;
+
+// Arquivos para carregar o catálogo pela API: kitchen-types.json (POST /api/kitchen-types, um por elemento) e
+// restaurants.ndjson (POST /api/restaurants/import). O tipo de cozinha vai por nome, porque a API gera os IDs;
+// os IDs de categoria e de item são preservados pela importação, o do restaurante não
+final class NdjsonCatalogWriter implements CatalogWriter {
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private final Path directory;
+    private final BufferedWriter restaurants;
+
+    NdjsonCatalogWriter(CatalogOptions options) throws IOException {
+        this.directory = options.output();
+        Files.createDirectories(directory);
+        this.restaurants = Files.newBufferedWriter(directory.resolve("restaurants.ndjson"), StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public List<KitchenTypeEntity> prepare(List<KitchenTypeEntity> kitchenTypes) throws IOException {
+        List<KitchenTypeRequest> requests = kitchenTypes.stream()
+            .map(kitchenType -> KitchenTypeRequest.builder()
+                .name(kitchenType.getName())
+                .description(kitchenType.getDescription())
+                .build())
+            .toList();
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(directory.resolve("kitchen-types.json").toFile(), requests);
+        return kitchenTypes;
+    }
+
+    @Override
+    public void write(List<RestaurantEntity> batch) throws IOException {
+        for (RestaurantEntity restaurant : batch) {
+            restaurants.write(objectMapper.writeValueAsString(toRequest(restaurant)));
+            restaurants.newLine();
+        }
+    }
+
+    @Override
+    public long skipped() {
+        return 0;
+    }
+
+    @Override
+    public String destination() {
+        return directory.toAbsolutePath().toString();
+    }
+
+    @Override
+    public void close() throws IOException {
+        restaurants.close();
+    }
+
+    private static RestaurantRequest toRequest(RestaurantEntity restaurant) {
+        return new RestaurantRequest(
+            restaurant.getName(),
+            restaurant.getAddress(),
+            GeoPointDTO.fromGeoJsonPoint(restaurant.getLocation()),
+            new KitchenTypeDTO(null, restaurant.getKitchenType().getName(), null),
+            restaurant.getDaysOperation(),
+            restaurant.getOwnerId(),
+            restaurant.getIsActive(),
+            restaurant.getMenu().stream().map(MenuCategoryDTO::fromEntity).toList());
+    }
+}
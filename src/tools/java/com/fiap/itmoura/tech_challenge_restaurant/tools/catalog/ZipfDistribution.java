@@ -0,0 +1,27 @@
+package com.fiap.itmoura.tech_challenge_restaurant.tools.catalog;
+
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+// Zipf em [1, maximum]: P(k) proporcional a 1 / k^exponent, amostrado por busca binária na CDF pré-calculada
+final class ZipfDistribution {
+
+    private final double[] cumulative;
+
+    ZipfDistribution(int maximum, double exponent) {
+        cumulative = new double[maximum];
+        double total = 0;
+        for (int rank = 1; rank <= maximum; rank++) {
+            total += 1 / Math.pow(rank, exponent);
+            cumulative[rank - 1] = total;
+        }
+        for (int index = 0; index < maximum; index++) {
+            cumulative[index] /= total;
+        }
+    }
+
+    int sample(RandomGenerator random) {
+        int index = Arrays.binarySearch(cumulative, random.nextDouble());
+        return (index >= 0 ? index : -index - 1) + 1;
+    }
+}
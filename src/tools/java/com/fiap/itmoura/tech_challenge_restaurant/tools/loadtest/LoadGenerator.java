@@ -0,0 +1,124 @@
+package com.fiap.itmoura.tech_challenge_restaurant.tools.loadtest;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.random.RandomGenerator;
+
+// Modelo aberto: as chegadas seguem um relógio próprio (--rate, --arrival) e não esperam as respostas; cada
+// requisição roda em uma virtual thread. Uma única thread sorteia chegadas, operações e alvos a partir da
+// semente, então a sequência de requisições é a mesma entre execuções
+final class LoadGenerator {
+
+    private static final long START_DELAY_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final long PROGRESS_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(10);
+
+    private final HttpClient client;
+    private final ExecutorService executor;
+    private final LoadTestOptions options;
+    private final List<Target> targets;
+    private final Semaphore inFlight;
+    private final Map<Operation, OperationStats> stats = new EnumMap<>(Operation.class);
+
+    private long maxDispatchLagNanos;
+    private long measuredNanos;
+
+    LoadGenerator(HttpClient client, ExecutorService executor, LoadTestOptions options, List<Target> targets) {
+        this.client = client;
+        this.executor = executor;
+        this.options = options;
+        this.targets = targets;
+        this.inFlight = new Semaphore(options.maxInFlight());
+        options.mix().weights().keySet().forEach(operation -> stats.put(operation, new OperationStats()));
+    }
+
+    // Retorna depois que a última requisição terminou (ou estourou o timeout)
+    void run() {
+        RandomGenerator random = new SplittableRandom(options.seed());
+        double meanIntervalNanos = TimeUnit.SECONDS.toNanos(1) / options.rate();
+        long start = System.nanoTime() + START_DELAY_NANOS;
+        long measureFrom = start + options.warmup().toNanos();
+        long end = measureFrom + options.duration().toNanos();
+        long nextProgress = start + PROGRESS_INTERVAL_NANOS;
+        long dispatched = 0;
+
+        // Offset acumulado em double para que o arredondamento de cada intervalo não desloque a taxa
+        double offsetNanos = 0;
+        long intended = start;
+        while (intended < end) {
+            long wait = intended - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            // Atraso do próprio gerador em relação ao relógio planejado; alto = a máquina de carga saturou
+            maxDispatchLagNanos = Math.max(maxDispatchLagNanos, System.nanoTime() - intended);
+
+            Operation operation = options.mix().pick(random);
+            Target target = targets.get(random.nextInt(targets.size()));
+            HttpRequest request = operation.build(options.baseUrl(), target, random, options.timeout());
+            long intendedStart = intended;
+            OperationStats operationStats = intendedStart >= measureFrom ? stats.get(operation) : null;
+            executor.execute(() -> send(request, intendedStart, operationStats));
+            dispatched++;
+
+            if (intended >= nextProgress) {
+                nextProgress += PROGRESS_INTERVAL_NANOS;
+                System.out.printf("  %,d requests dispatched, %,d in flight%s%n", dispatched,
+                    options.maxInFlight() - inFlight.availablePermits(), intended < measureFrom ? " (warmup)" : "");
+            }
+
+            offsetNanos += options.arrival() == LoadTestOptions.Arrival.CONSTANT
+                ? meanIntervalNanos
+                : -Math.log(1 - random.nextDouble()) * meanIntervalNanos;
+            intended = start + (long) offsetNanos;
+        }
+        measuredNanos = end - measureFrom;
+
+        executor.close();
+    }
+
+    Map<Operation, OperationStats> stats() {
+        return stats;
+    }
+
+    long maxDispatchLagNanos() {
+        return maxDispatchLagNanos;
+    }
+
+    long measuredNanos() {
+        return measuredNanos;
+    }
+
+    // Aquecimento: operationStats nulo, a requisição é enviada mas não registrada
+    private void send(HttpRequest request, long intendedStart, OperationStats operationStats) {
+        inFlight.acquireUninterruptibly();
+        long sent = System.nanoTime();
+        String outcome;
+        try {
+            outcome = Integer.toString(client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode());
+        } catch (HttpTimeoutException e) {
+            outcome = OperationStats.TIMEOUT;
+        } catch (IOException e) {
+            outcome = OperationStats.IO_ERROR;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        } finally {
+            inFlight.release();
+        }
+
+        if (operationStats != null) {
+            operationStats.record(intendedStart, sent, System.nanoTime(), outcome);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.fiap.itmoura.tech_challenge_restaurant.tools.loadtest;
+
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+// Teste de carga com mistura de operações e percentis HdrHistogram: ./gradlew loadTest --args='--help'
+public final class LoadTestCli {
+
+    private LoadTestCli() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options;
+        try {
+            options = LoadTestOptions.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println();
+            System.err.print(LoadTestOptions.USAGE);
+            System.exit(2);
+            return;
+        }
+        if (options.help()) {
+            System.out.print(LoadTestOptions.USAGE);
+            return;
+        }
+
+        // HTTP/1.1 como os clientes da API; sem isso o cliente tenta upgrade para h2c em cada conexão nova.
+        // O executor interno do cliente fica separado do das requisições, que é fechado ao final da carga
+        HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(options.timeout())
+            .build();
+
+        List<Target> targets = loadTargets(client, options);
+        Files.createDirectories(options.output());
+        Files.write(options.output().resolve("targets.txt"), targets.stream().map(Target::format).toList(),
+            StandardCharsets.UTF_8);
+
+        System.out.printf("Running %s at %.1f req/s (%s) for %ds after %ds of warmup against %s, %,d targets%n",
+            options.mix(), options.rate(), options.arrival().name().toLowerCase(), options.duration().toSeconds(),
+            options.warmup().toSeconds(), options.baseUrl(), targets.size());
+
+        Instant startedAt = Instant.now();
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        LoadGenerator generator = new LoadGenerator(client, executor, options, targets);
+        generator.run();
+
+        LoadTestReport report = LoadTestReport.of(options, startedAt, targets.size(), generator);
+        report.write(options.output(), generator);
+        report.print(System.out);
+        System.out.println("Report written to " + options.output().toAbsolutePath().resolve("report.json"));
+    }
+
+    private static List<Target> loadTargets(HttpClient client, LoadTestOptions options) throws Exception {
+        if (options.targets() != null) {
+            List<Target> targets = Files.readAllLines(options.targets(), StandardCharsets.UTF_8).stream()
+                .filter(line -> !line.isBlank())
+                .map(Target::parse)
+                .toList();
+            if (targets.isEmpty()) {
+                throw new IllegalArgumentException("No targets in " + options.targets());
+            }
+            System.out.printf("Loaded %,d targets from %s%n", targets.size(), options.targets());
+            return targets;
+        }
+
+        System.out.printf("Discovering up to %,d restaurants at %s%n", options.restaurants(), options.baseUrl());
+        List<Target> targets = new TargetDiscovery(client, options).discover();
+        System.out.printf("Discovered %,d menu items; reuse them with --targets %s%n", targets.size(),
+            options.output().resolve("targets.txt"));
+        return targets;
+    }
+}
@@ -0,0 +1,156 @@
+package com.fiap.itmoura.tech_challenge_restaurant.tools.loadtest;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+
+// Opções de linha de comando do teste de carga; valores inválidos viram IllegalArgumentException com a mensagem para o usuário
+record LoadTestOptions(
+    URI baseUrl,
+    double rate,
+    Arrival arrival,
+    Duration duration,
+    Duration warmup,
+    OperationMix mix,
+    int restaurants,
+    int itemsPerRestaurant,
+    Path targets,
+    long seed,
+    int maxInFlight,
+    Duration timeout,
+    Path output,
+    String label,
+    boolean help
+) {
+
+    // constant: intervalo fixo de 1/rate; poisson: intervalos exponenciais com a mesma média
+    enum Arrival { CONSTANT, POISSON }
+
+    static final String USAGE = """
+        Uso: ./gradlew loadTest --args='[opções]'
+
+          --base-url URL              API alvo (padrão: http://localhost:8081)
+          --rate N                    chegadas por segundo, independentes das respostas (padrão: 100)
+          --arrival poisson|constant  distribuição dos intervalos entre chegadas (padrão: poisson)
+          --duration S                segundos medidos, depois do aquecimento (padrão: 60)
+          --warmup S                  segundos de carga descartados no início (padrão: 10)
+          --mix OP=PESO,...           mistura de operações (padrão: %s)
+                                      operações: %s
+          --restaurants N             restaurantes descobertos pela API para sortear IDs (padrão: 1000)
+          --items-per-restaurant N    itens do menu sorteados por restaurante descoberto (padrão: 5)
+          --targets FILE              usa "restaurantId menuId itemId [nome]" por linha em vez da descoberta
+          --seed N                    semente das chegadas, operações e IDs (padrão: 42)
+          --max-in-flight N           requisições simultâneas; as excedentes esperam e o tempo conta (padrão: 10000)
+          --timeout S                 timeout de cada requisição (padrão: 10)
+          --output DIR                diretório do relatório (padrão: build/loadtest)
+          --label TEXTO               identificação da execução no relatório (ex.: commit ou build)
+          --help                      mostra esta ajuda
+        """.formatted(OperationMix.DEFAULT, Operation.names());
+
+    static LoadTestOptions parse(String[] args) {
+        URI baseUrl = URI.create("http://localhost:8081");
+        double rate = 100;
+        Arrival arrival = Arrival.POISSON;
+        Duration duration = Duration.ofSeconds(60);
+        Duration warmup = Duration.ofSeconds(10);
+        OperationMix mix = OperationMix.parse(OperationMix.DEFAULT);
+        int restaurants = 1_000;
+        int itemsPerRestaurant = 5;
+        Path targets = null;
+        long seed = 42;
+        int maxInFlight = 10_000;
+        Duration timeout = Duration.ofSeconds(10);
+        Path output = Path.of("build", "loadtest");
+        String label = "";
+        boolean help = false;
+
+        for (int i = 0; i < args.length; i++) {
+            String option = args[i];
+            switch (option) {
+                case "--help", "-h" -> help = true;
+                case "--base-url" -> baseUrl = parseBaseUrl(value(args, ++i, option));
+                case "--rate" -> rate = parseDouble(value(args, ++i, option), option, 0.001, 1_000_000);
+                case "--arrival" -> arrival = parseArrival(value(args, ++i, option));
+                case "--duration" -> duration = Duration.ofSeconds(positiveInt(value(args, ++i, option), option));
+                case "--warmup" -> warmup = Duration.ofSeconds(nonNegativeInt(value(args, ++i, option), option));
+                case "--mix" -> mix = OperationMix.parse(value(args, ++i, option));
+                case "--restaurants" -> restaurants = positiveInt(value(args, ++i, option), option);
+                case "--items-per-restaurant" -> itemsPerRestaurant = positiveInt(value(args, ++i, option), option);
+                case "--targets" -> targets = Path.of(value(args, ++i, option));
+                case "--seed" -> seed = parseLong(value(args, ++i, option), option);
+                case "--max-in-flight" -> maxInFlight = positiveInt(value(args, ++i, option), option);
+                case "--timeout" -> timeout = Duration.ofSeconds(positiveInt(value(args, ++i, option), option));
+                case "--output" -> output = Path.of(value(args, ++i, option));
+                case "--label" -> label = value(args, ++i, option);
+                default -> throw new IllegalArgumentException("Unknown option: " + option);
+            }
+        }
+
+        return new LoadTestOptions(baseUrl, rate, arrival, duration, warmup, mix, restaurants, itemsPerRestaurant,
+            targets, seed, maxInFlight, timeout, output, label, help);
+    }
+
+    private static String value(String[] args, int index, String option) {
+        if (index >= args.length) {
+            throw new IllegalArgumentException("Missing value for " + option);
+        }
+        return args[index];
+    }
+
+    private static URI parseBaseUrl(String value) {
+        try {
+            URI uri = URI.create(value.endsWith("/") ? value.substring(0, value.length() - 1) : value);
+            if (uri.getScheme() == null || uri.getHost() == null) {
+                throw new IllegalArgumentException("Invalid --base-url: " + value);
+            }
+            return uri;
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid --base-url: " + value);
+        }
+    }
+
+    private static Arrival parseArrival(String value) {
+        try {
+            return Arrival.valueOf(value.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid --arrival: " + value + " (expected poisson or constant)");
+        }
+    }
+
+    private static int positiveInt(String value, String option) {
+        int parsed = nonNegativeInt(value, option);
+        if (parsed == 0) {
+            throw new IllegalArgumentException(option + " must be greater than zero");
+        }
+        return parsed;
+    }
+
+    private static int nonNegativeInt(String value, String option) {
+        long parsed = parseLong(value, option);
+        if (parsed < 0 || parsed > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException(option + " must be between 0 and " + Integer.MAX_VALUE + ": " + value);
+        }
+        return (int) parsed;
+    }
+
+    private static long parseLong(String value, String option) {
+        try {
+            return Long.parseLong(value.replace("_", ""));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid number for " + option + ": " + value);
+        }
+    }
+
+    private static double parseDouble(String value, String option, double min, double max) {
+        double parsed;
+        try {
+            parsed = Double.parseDouble(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid number for " + option + ": " + value);
+        }
+        if (!(parsed >= min && parsed <= max)) {
+            throw new IllegalArgumentException(option + " must be between " + min + " and " + max + ": " + value);
+        }
+        return parsed;
+    }
+}
@@ -0,0 +1,137 @@
+package com.fiap.itmoura.tech_challenge_restaurant.tools.loadtest;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+import org.HdrHistogram.Histogram;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+// Relatório comparável entre builds: report.json (vazão, erros e percentis por operação, em ms) e um .hgrm por
+// operação com a distribuição completa, no formato do plotter do HdrHistogram
+record LoadTestReport(
+    String label,
+    Instant startedAt,
+    String baseUrl,
+    double rate,
+    String arrival,
+    long warmupSeconds,
+    long durationSeconds,
+    String mix,
+    long seed,
+    int targets,
+    double maxDispatchLagMs,
+    List<OperationReport> operations,
+    OperationReport total
+) {
+
+    // Microssegundos registrados para milissegundos no relatório
+    private static final double MICROS_PER_MILLI = 1000.0;
+
+    record OperationReport(
+        String operation,
+        String endpoint,
+        long requests,
+        long errors,
+        double throughput,
+        Map<String, Long> outcomes,
+        Percentiles latencyMs,
+        Percentiles serviceTimeMs
+    ) {
+    }
+
+    record Percentiles(double p50, double p90, double p99, double p999, double p9999, double max, double mean) {
+
+        static Percentiles of(Histogram histogram) {
+            return new Percentiles(
+                millis(histogram.getValueAtPercentile(50)),
+                millis(histogram.getValueAtPercentile(90)),
+                millis(histogram.getValueAtPercentile(99)),
+                millis(histogram.getValueAtPercentile(99.9)),
+                millis(histogram.getValueAtPercentile(99.99)),
+                millis(histogram.getMaxValue()),
+                Math.round(histogram.getMean()) / MICROS_PER_MILLI);
+        }
+
+        private static double millis(long micros) {
+            return micros / MICROS_PER_MILLI;
+        }
+    }
+
+    static LoadTestReport of(LoadTestOptions options, Instant startedAt, int targets, LoadGenerator generator) {
+        double measuredSeconds = generator.measuredNanos() / (double) TimeUnit.SECONDS.toNanos(1);
+        Histogram totalLatency = new Histogram(3);
+        Histogram totalService = new Histogram(3);
+        Map<String, Long> totalOutcomes = new TreeMap<>();
+        long totalErrors = 0;
+
+        List<OperationReport> operations = new ArrayList<>();
+        for (Map.Entry<Operation, OperationStats> entry : generator.stats().entrySet()) {
+            OperationStats stats = entry.getValue();
+            operations.add(operationReport(entry.getKey().id(), entry.getKey().endpoint(), stats.latency(),
+                stats.service(), stats.outcomes(), stats.errors(), measuredSeconds));
+
+            totalLatency.add(stats.latency());
+            totalService.add(stats.service());
+            stats.outcomes().forEach((outcome, count) -> totalOutcomes.merge(outcome, count, Long::sum));
+            totalErrors += stats.errors();
+        }
+
+        return new LoadTestReport(options.label(), startedAt, options.baseUrl().toString(), options.rate(),
+            options.arrival().name().toLowerCase(), options.warmup().toSeconds(), options.duration().toSeconds(),
+            options.mix().toString(), options.seed(), targets,
+            TimeUnit.NANOSECONDS.toMicros(generator.maxDispatchLagNanos()) / MICROS_PER_MILLI,
+            operations,
+            operationReport("total", "", totalLatency, totalService, totalOutcomes, totalErrors, measuredSeconds));
+    }
+
+    private static OperationReport operationReport(String operation, String endpoint, Histogram latency,
+                                                   Histogram service, Map<String, Long> outcomes, long errors,
+                                                   double measuredSeconds) {
+        return new OperationReport(operation, endpoint, latency.getTotalCount(), errors,
+            Math.round(latency.getTotalCount() / measuredSeconds * 10) / 10.0, outcomes,
+            Percentiles.of(latency), Percentiles.of(service));
+    }
+
+    void write(Path directory, LoadGenerator generator) throws IOException {
+        Files.createDirectories(directory);
+        Jackson2ObjectMapperBuilder.json()
+            .featuresToEnable(SerializationFeature.INDENT_OUTPUT)
+            .build()
+            .writeValue(directory.resolve("report.json").toFile(), this);
+
+        for (Map.Entry<Operation, OperationStats> entry : generator.stats().entrySet()) {
+            try (PrintStream out = new PrintStream(Files.newOutputStream(directory.resolve(entry.getKey().id() + ".hgrm")),
+                    false, StandardCharsets.UTF_8)) {
+                entry.getValue().latency().outputPercentileDistribution(out, MICROS_PER_MILLI);
+            }
+        }
+    }
+
+    void print(PrintStream out) {
+        out.printf("%-20s %9s %9s %8s %9s %9s %9s %9s %9s%n",
+            "operation", "requests", "req/s", "errors", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        for (OperationReport operation : operations) {
+            printRow(out, operation);
+        }
+        printRow(out, total);
+        out.printf("Max dispatch lag: %.3f ms%s%n", maxDispatchLagMs,
+            maxDispatchLagMs > 10 ? " (load generator could not keep the arrival rate; results overstate latency)" : "");
+    }
+
+    private static void printRow(PrintStream out, OperationReport operation) {
+        out.printf("%-20s %9d %9.1f %8d %9.3f %9.3f %9.3f %9.3f %9.3f%n", operation.operation(), operation.requests(),
+            operation.throughput(), operation.errors(), operation.latencyMs().p50(), operation.latencyMs().p90(),
+            operation.latencyMs().p99(), operation.latencyMs().p999(), operation.latencyMs().max());
+    }
+}
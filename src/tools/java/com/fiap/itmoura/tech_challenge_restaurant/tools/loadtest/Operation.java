@@ -0,0 +1,121 @@
+package com.fiap.itmoura.tech_challenge_restaurant.tools.loadtest;
+
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+import java.util.random.RandomGenerator;
+
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fiap.itmoura.tech_challenge_restaurant.application.models.menu.MenuItemRequest;
+import com.fiap.itmoura.tech_challenge_restaurant.application.models.pagination.CursorPageRequest;
+
+// Operações da mistura; cada uma é um endpoint de RestaurantController, MenuController, MenuItemController ou
+// KitchenTypeController, com os IDs sorteados do catálogo
+enum Operation {
+
+    GET_RESTAURANT("get-restaurant", "GET /api/restaurants/{id}") {
+        @Override
+        HttpRequest.Builder request(URI baseUrl, Target target, RandomGenerator random) {
+            return HttpRequest.newBuilder(baseUrl.resolve("/api/restaurants/" + target.restaurantId())).GET();
+        }
+    },
+
+    // Página de 50 a partir de um restaurante sorteado, para não medir só o início da coleção
+    LIST_RESTAURANTS("list-restaurants", "GET /api/restaurants?cursor&limit=50") {
+        @Override
+        HttpRequest.Builder request(URI baseUrl, Target target, RandomGenerator random) {
+            return HttpRequest.newBuilder(baseUrl.resolve("/api/restaurants?limit=50&cursor="
+                + CursorPageRequest.encode(target.restaurantId()))).GET();
+        }
+    },
+
+    GET_MENU_CATEGORY("get-menu-category", "GET /api/restaurants/{restaurantId}/menu/{menuId}") {
+        @Override
+        HttpRequest.Builder request(URI baseUrl, Target target, RandomGenerator random) {
+            return HttpRequest.newBuilder(baseUrl.resolve("/api/restaurants/" + target.restaurantId()
+                + "/menu/" + target.menuId())).GET();
+        }
+    },
+
+    GET_MENU_ITEM("get-menu-item", "GET /api/restaurants/menu/item/{itemId}") {
+        @Override
+        HttpRequest.Builder request(URI baseUrl, Target target, RandomGenerator random) {
+            return HttpRequest.newBuilder(baseUrl.resolve("/api/restaurants/menu/item/" + target.itemId())).GET();
+        }
+    },
+
+    // Sem If-Match: última escrita vence, como nos clientes que não usam o controle de versão. Mantém o nome do
+    // item e sorteia o preço, para que o catálogo continue utilizável entre execuções
+    UPDATE_MENU_ITEM("update-menu-item", "PUT /api/restaurants/{restaurantId}/menu/{menuId}/item/{itemId}") {
+        @Override
+        HttpRequest.Builder request(URI baseUrl, Target target, RandomGenerator random) {
+            MenuItemRequest body = MenuItemRequest.builder()
+                .name(target.itemName() != null ? target.itemName() : "Item " + target.itemId().substring(0, 8))
+                .description("Atualizado pelo teste de carga")
+                .price(BigDecimal.valueOf(500 + random.nextInt(20_000), 2))
+                .onlyForLocalConsumption(false)
+                .isActive(true)
+                .build();
+            return HttpRequest.newBuilder(baseUrl.resolve("/api/restaurants/" + target.restaurantId()
+                    + "/menu/" + target.menuId() + "/item/" + target.itemId()))
+                .header("Content-Type", "application/json")
+                .PUT(HttpRequest.BodyPublishers.ofString(json(body)));
+        }
+    },
+
+    LIST_KITCHEN_TYPES("list-kitchen-types", "GET /api/kitchen-types") {
+        @Override
+        HttpRequest.Builder request(URI baseUrl, Target target, RandomGenerator random) {
+            return HttpRequest.newBuilder(baseUrl.resolve("/api/kitchen-types")).GET();
+        }
+    };
+
+    private static final ObjectMapper OBJECT_MAPPER = Jackson2ObjectMapperBuilder.json().build();
+
+    private final String id;
+    private final String endpoint;
+
+    Operation(String id, String endpoint) {
+        this.id = id;
+        this.endpoint = endpoint;
+    }
+
+    abstract HttpRequest.Builder request(URI baseUrl, Target target, RandomGenerator random);
+
+    HttpRequest build(URI baseUrl, Target target, RandomGenerator random, Duration timeout) {
+        return request(baseUrl, target, random).timeout(timeout).build();
+    }
+
+    String id() {
+        return id;
+    }
+
+    String endpoint() {
+        return endpoint;
+    }
+
+    static Operation fromId(String id) {
+        return Arrays.stream(values())
+            .filter(operation -> operation.id.equals(id))
+            .findFirst()
+            .orElseThrow(() -> new IllegalArgumentException("Unknown operation: " + id + " (expected one of " + names() + ")"));
+    }
+
+    static String names() {
+        return Arrays.stream(values()).map(Operation::id).collect(Collectors.joining(", "));
+    }
+
+    private static String json(Object body) {
+        try {
+            return OBJECT_MAPPER.writeValueAsString(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize request body", e);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.fiap.itmoura.tech_challenge_restaurant.tools.loadtest;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.random.RandomGenerator;
+
+// Pesos relativos das operações ("get-restaurant=80,get-menu-item=10"); operações ausentes não são enviadas
+final class OperationMix {
+
+    static final String DEFAULT = "get-restaurant=80,get-menu-item=10,update-menu-item=5,list-restaurants=5";
+
+    private final Map<Operation, Integer> weights;
+    private final List<Operation> operations = new ArrayList<>();
+    private final int[] cumulative;
+
+    private OperationMix(Map<Operation, Integer> weights) {
+        this.weights = Collections.unmodifiableMap(weights);
+        this.cumulative = new int[weights.size()];
+        int total = 0;
+        for (Map.Entry<Operation, Integer> entry : weights.entrySet()) {
+            total += entry.getValue();
+            cumulative[operations.size()] = total;
+            operations.add(entry.getKey());
+        }
+    }
+
+    static OperationMix parse(String value) {
+        Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+        for (String entry : value.split(",")) {
+            String[] parts = entry.trim().split("=");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Invalid --mix entry (expected operation=weight): " + entry);
+            }
+            int weight;
+            try {
+                weight = Integer.parseInt(parts[1].trim());
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid --mix weight: " + entry);
+            }
+            if (weight < 0) {
+                throw new IllegalArgumentException("Invalid --mix weight: " + entry);
+            }
+            if (weight > 0) {
+                weights.merge(Operation.fromId(parts[0].trim()), weight, Integer::sum);
+            }
+        }
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("--mix must have at least one operation with weight > 0");
+        }
+        return new OperationMix(weights);
+    }
+
+    Operation pick(RandomGenerator random) {
+        int target = random.nextInt(cumulative[cumulative.length - 1]);
+        int i = 0;
+        while (cumulative[i] <= target) {
+            i++;
+        }
+        return operations.get(i);
+    }
+
+    Map<Operation, Integer> weights() {
+        return weights;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder mix = new StringBuilder();
+        weights.forEach((operation, weight) -> mix.append(mix.isEmpty() ? "" : ",").append(operation.id()).append('=').append(weight));
+        return mix.toString();
+    }
+}
@@ -0,0 +1,57 @@
+package com.fiap.itmoura.tech_challenge_restaurant.tools.loadtest;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+// Histogramas de uma operação, em microssegundos. latency conta a partir do instante planejado da chegada
+// (corrige a coordinated omission: atraso do servidor ou do gerador entra na medida); service conta a partir do
+// envio efetivo e mostra só o tempo de resposta
+final class OperationStats {
+
+    // Sem status HTTP: a requisição não teve resposta
+    static final String TIMEOUT = "timeout";
+    static final String IO_ERROR = "io-error";
+
+    private final Histogram latency = new ConcurrentHistogram(3);
+    private final Histogram service = new ConcurrentHistogram(3);
+    private final Map<String, LongAdder> outcomes = new ConcurrentHashMap<>();
+
+    void record(long intendedStartNanos, long sentNanos, long completedNanos, String outcome) {
+        latency.recordValue(TimeUnit.NANOSECONDS.toMicros(completedNanos - intendedStartNanos));
+        service.recordValue(TimeUnit.NANOSECONDS.toMicros(completedNanos - sentNanos));
+        outcomes.computeIfAbsent(outcome, key -> new LongAdder()).increment();
+    }
+
+    Histogram latency() {
+        return latency;
+    }
+
+    Histogram service() {
+        return service;
+    }
+
+    // Status HTTP (ou timeout / io-error) e quantidade, em ordem
+    Map<String, Long> outcomes() {
+        Map<String, Long> counts = new TreeMap<>();
+        outcomes.forEach((outcome, count) -> counts.put(outcome, count.sum()));
+        return counts;
+    }
+
+    // 2xx e 304 (respostas condicionais) são sucesso; o resto conta como erro
+    long errors() {
+        return outcomes().entrySet().stream()
+            .filter(entry -> !isSuccess(entry.getKey()))
+            .mapToLong(Map.Entry::getValue)
+            .sum();
+    }
+
+    private static boolean isSuccess(String outcome) {
+        return outcome.startsWith("2") || outcome.equals("304");
+    }
+}
@@ -0,0 +1,18 @@
+package com.fiap.itmoura.tech_challenge_restaurant.tools.loadtest;
+
+// Item existente do catálogo; uma linha "restaurantId menuId itemId [nome]" do targets.txt, o mesmo formato
+// dos scripts do wrk
+record Target(String restaurantId, String menuId, String itemId, String itemName) {
+
+    static Target parse(String line) {
+        String[] columns = line.trim().split("\\s+", 4);
+        if (columns.length < 3) {
+            throw new IllegalArgumentException("Invalid target line (expected restaurantId menuId itemId [name]): " + line);
+        }
+        return new Target(columns[0], columns[1], columns[2], columns.length == 4 ? columns[3] : null);
+    }
+
+    String format() {
+        return restaurantId + " " + menuId + " " + itemId + (itemName != null ? " " + itemName : "");
+    }
+}
@@ -0,0 +1,76 @@
+package com.fiap.itmoura.tech_challenge_restaurant.tools.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+// Descobre IDs reais pela própria API: pagina GET /api/restaurants pelo cursor e lê o menu de cada restaurante
+// em GET /api/restaurants/{id}, sorteando alguns itens por restaurante
+final class TargetDiscovery {
+
+    private static final int PAGE_SIZE = 500;
+    private static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+    private final HttpClient client;
+    private final LoadTestOptions options;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    TargetDiscovery(HttpClient client, LoadTestOptions options) {
+        this.client = client;
+        this.options = options;
+    }
+
+    List<Target> discover() throws IOException, InterruptedException {
+        List<String> restaurantIds = new ArrayList<>();
+        String cursor = null;
+        do {
+            HttpResponse<String> page = get("/api/restaurants?limit=" + PAGE_SIZE + (cursor != null ? "&cursor=" + cursor : ""));
+            for (JsonNode restaurant : objectMapper.readTree(page.body())) {
+                if (restaurantIds.size() < options.restaurants()) {
+                    restaurantIds.add(restaurant.path("id").asText());
+                }
+            }
+            cursor = page.headers().firstValue(NEXT_CURSOR_HEADER).orElse(null);
+        } while (cursor != null && restaurantIds.size() < options.restaurants());
+
+        Random random = new Random(options.seed());
+        List<Target> targets = new ArrayList<>();
+        for (String restaurantId : restaurantIds) {
+            JsonNode restaurant = objectMapper.readTree(get("/api/restaurants/" + restaurantId).body());
+            List<Target> items = new ArrayList<>();
+            for (JsonNode category : restaurant.path("menu")) {
+                for (JsonNode item : category.path("items")) {
+                    items.add(new Target(restaurantId, category.path("id").asText(), item.path("id").asText(),
+                        item.path("name").asText(null)));
+                }
+            }
+            Collections.shuffle(items, random);
+            targets.addAll(items.subList(0, Math.min(items.size(), options.itemsPerRestaurant())));
+        }
+
+        if (targets.isEmpty()) {
+            throw new IllegalStateException("No menu items found at " + options.baseUrl()
+                + "; load a catalog first (./gradlew generateCatalog)");
+        }
+        return targets;
+    }
+
+    private HttpResponse<String> get(String path) throws IOException, InterruptedException {
+        URI uri = options.baseUrl().resolve(path);
+        HttpResponse<String> response = client.send(HttpRequest.newBuilder(uri).timeout(options.timeout()).GET().build(),
+            HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("GET " + uri + " returned " + response.statusCode());
+        }
+        return response;
+    }
+}